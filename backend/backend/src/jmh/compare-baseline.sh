@@ -0,0 +1,56 @@
+#!/bin/bash
+# JMH 결과를 커밋된 기준값(src/jmh/baseline.json)과 비교한다.
+# 점수(평균 시간)가 허용 범위(TOLERANCE, 기본 20%)보다 느려지고 두 측정의 오차 구간도 겹치지 않으면 회귀로 보고 1로 종료한다.
+#
+# 사용법 (backend/backend 에서):
+#   mvn -B -Pbenchmark test                        # target/jmh-result.json 생성
+#   src/jmh/compare-baseline.sh                    # 기준값과 비교
+#   TOLERANCE=10 src/jmh/compare-baseline.sh target/jmh-result.json
+# 필요: jq
+set -euo pipefail
+
+SCRIPT_DIR="$(cd "$(dirname "$0")" && pwd)"
+RESULT="${1:-$SCRIPT_DIR/../../target/jmh-result.json}"
+BASELINE="${BASELINE:-$SCRIPT_DIR/baseline.json}"
+TOLERANCE="${TOLERANCE:-20}"
+
+if [ ! -f "$RESULT" ]; then
+    echo "결과 파일이 없습니다: $RESULT (mvn -Pbenchmark test 로 먼저 실행)" >&2
+    exit 2
+fi
+
+# 기준값은 기록한 환경에서만 절대값 비교가 의미 있으므로 JDK가 다르면 알린다
+BASE_JDK=$(jq -r '.[0].vmVersion // empty' "$BASELINE")
+CURRENT_JDK=$(jq -r '.[0].vmVersion // empty' "$RESULT")
+if [ "$BASE_JDK" != "$CURRENT_JDK" ]; then
+    echo "경고: 기준값($BASE_JDK)과 JDK($CURRENT_JDK)가 다릅니다. 이 머신에서 기준값을 다시 기록해 비교하세요. (src/jmh/README.md)" >&2
+fi
+
+REPORT=$(jq -rn --slurpfile base "$BASELINE" --slurpfile current "$RESULT" --argjson tolerance "$TOLERANCE" '
+    def key: (.benchmark | sub("^com\\.friendlyI\\.backend\\."; "")) + (if .params then " " + (.params | to_entries | map("\(.key)=\(.value)") | join(",")) else "" end);
+    def index: map({ (key): .primaryMetric }) | add;
+    ($base[0] | index) as $b
+    | ($current[0] | index) as $c
+    | ($b | keys) as $keys
+    | [ $keys[] | . as $k | $b[$k] as $old | $c[$k] as $new
+        | if $new == null then { key: $k, status: "MISSING" }
+          else
+            (($new.score - $old.score) / $old.score * 100) as $change
+            | { key: $k, unit: $old.scoreUnit, old: $old.score, new: $new.score, change: $change,
+                status: (if $change > $tolerance
+                            and ($new.score - ($new.scoreError | if . == "NaN" then 0 else . end))
+                              > ($old.score + ($old.scoreError | if . == "NaN" then 0 else . end))
+                         then "REGRESSION" else "ok" end) }
+          end ]
+    | (.[] | if .status == "MISSING" then "\(.status)\t\(.key)"
+             else "\(.status)\t\(.key)\t\(.old * 100 | round / 100) -> \(.new * 100 | round / 100) \(.unit)\t\(if .change >= 0 then "+" else "" end)\(.change * 10 | round / 10)%"
+             end),
+      "",
+      "REGRESSIONS=\(map(select(.status == "REGRESSION")) | length)"
+')
+
+echo "$REPORT"
+if ! grep -q "^REGRESSIONS=0$" <<< "$REPORT"; then
+    echo "기준값 대비 ${TOLERANCE}% 넘게 느려진 벤치마크가 있습니다." >&2
+    exit 1
+fi
@@ -0,0 +1,92 @@
+package com.friendlyI.backend;
+
+import com.friendlyI.backend.dto.projection.ReservationRow;
+import com.friendlyI.backend.entity.Location;
+import com.friendlyI.backend.entity.Member;
+import com.friendlyI.backend.entity.MemberGrade;
+import com.friendlyI.backend.entity.Reservation;
+import com.friendlyI.backend.entity.ReservationApplication;
+import com.friendlyI.backend.entity.ReservationStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 벤치마크 공용 데이터 (실행마다 같은 값이 나오도록 고정값만 사용)
+ * 엔티티 ID와 생성/수정 시각은 영속화 없이 리플렉션으로 채운다.
+ */
+public final class BenchmarkFixtures {
+
+    public static final LocalDate DATE = LocalDate.of(2025, 6, 14);
+    public static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 6, 1, 9, 30);
+
+    private BenchmarkFixtures() {
+    }
+
+    public static Member member(long id) {
+        Member member = Member.builder()
+                .loginId("member" + id)
+                .password("$2a$10$abcdefghijklmnopqrstuv")
+                .name("회원" + id)
+                .email("member" + id + "@example.com")
+                .phoneNumber("010-1234-5678")
+                .birthYear(1990 + (int) (id % 20))
+                .grade(MemberGrade.values()[(int) (id % MemberGrade.values().length)])
+                .build();
+        return persisted(member, id);
+    }
+
+    public static Location location(long id) {
+        Location location = Location.builder()
+                .name("회의실 " + id)
+                .address("서울시 강남구 테헤란로 123번길 " + id + "층")
+                .description("프로젝터, 화이트보드")
+                .url("https://naver.me/IgJGvT1Y")
+                .isActive(true)
+                .build();
+        return persisted(location, id);
+    }
+
+    public static Reservation reservation(long id, Location location, Member creator) {
+        Reservation reservation = Reservation.builder()
+                .title("주말 모임 " + id)
+                .description("함께 공부하고 이야기 나누는 모임입니다.")
+                .location(location)
+                .maxCapacity(20)
+                .reservationDate(DATE.plusDays(id % 30))
+                .reservationTime(LocalTime.of(10, 0))
+                .creator(creator)
+                .build();
+        ReflectionTestUtils.setField(reservation, "confirmedCount", 12);
+        ReflectionTestUtils.setField(reservation, "waitingCount", 3);
+        return persisted(reservation, id);
+    }
+
+    public static ReservationRow reservationRow(long id) {
+        return new ReservationRow(id, "주말 모임 " + id, "함께 공부하고 이야기 나누는 모임입니다.",
+                1L, "회의실 1", "서울시 강남구 테헤란로 123번길 1층", "https://naver.me/IgJGvT1Y", true,
+                20, 12, 3, 1L, "관리자", DATE.plusDays(id % 30), LocalTime.of(10, 0), CREATED_AT, CREATED_AT);
+    }
+
+    public static ReservationApplication application(long id, Member member, Reservation reservation) {
+        ReservationApplication application = ReservationApplication.builder()
+                .member(member)
+                .reservation(reservation)
+                .status(ReservationStatus.CONFIRMED)
+                .note("조금 늦을 수 있어요")
+                .build();
+        ReflectionTestUtils.setField(application, "id", id);
+        ReflectionTestUtils.setField(application, "appliedAt", CREATED_AT);
+        ReflectionTestUtils.setField(application, "updatedAt", CREATED_AT);
+        return application;
+    }
+
+    private static <T> T persisted(T entity, long id) {
+        ReflectionTestUtils.setField(entity, "id", id);
+        ReflectionTestUtils.setField(entity, "createdAt", CREATED_AT);
+        ReflectionTestUtils.setField(entity, "updatedAt", CREATED_AT);
+        return entity;
+    }
+}
@@ -0,0 +1,55 @@
+package com.friendlyI.backend.config;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청 메타데이터 추출(클라이언트 IP 결정 포함) 비용
+ * 프록시 뒤(PROXIED)는 X-Forwarded-For를 오른쪽부터 확인하고, 직접 접속(DIRECT)은 원격 주소를 바로 쓴다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms512m", "-Xmx512m", "-XX:+UseParallelGC" })
+@State(Scope.Benchmark)
+public class RequestMetadataBenchmark {
+
+    public enum Client {
+        PROXIED, DIRECT
+    }
+
+    @Param
+    private Client client;
+
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        request = new MockHttpServletRequest("POST", "/api/reservation-applications");
+        request.addHeader("User-Agent", "Mozilla/5.0 (iPhone; CPU iPhone OS 17_5 like Mac OS X)");
+        if (client == Client.PROXIED) {
+            request.setRemoteAddr("172.18.0.5");
+            request.addHeader("X-Forwarded-For", "203.0.113.7, 10.0.0.1");
+        } else {
+            request.setRemoteAddr("192.0.2.10");
+        }
+    }
+
+    @Benchmark
+    public RequestMetadata from() {
+        return RequestMetadata.from(request);
+    }
+}
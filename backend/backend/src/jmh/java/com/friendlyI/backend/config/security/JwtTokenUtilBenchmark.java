@@ -0,0 +1,79 @@
+package com.friendlyI.backend.config.security;
+
+import com.friendlyI.backend.entity.MemberGrade;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 발급/검증 비용
+ * 요청마다 거치는 인증 경로는 검증 캐시 적중(authenticateCached)이고, 처음 보는 토큰은 서명 검증(authenticateUncached)을 한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms512m", "-Xmx512m", "-XX:+UseParallelGC" })
+@State(Scope.Benchmark)
+public class JwtTokenUtilBenchmark {
+
+    private static final String SECRET = "friendly-i-secret-key-for-jwt-token-generation-please-change-in-production";
+
+    private JwtTokenUtil jwtTokenUtil;
+    private JwtTokenUtil uncachedJwtTokenUtil;
+    private String accessToken;
+    private String refreshToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenUtil = jwtTokenUtil(Duration.ofMinutes(10));
+        // 캐시 보관 시간이 0이면 매번 서명을 검증한다
+        uncachedJwtTokenUtil = jwtTokenUtil(Duration.ZERO);
+        accessToken = jwtTokenUtil.generateToken("member42", 42L, MemberGrade.CHICK);
+        refreshToken = jwtTokenUtil.generateRefreshToken("member42", 42L, "family-1");
+        jwtTokenUtil.authenticate(accessToken);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtTokenUtil.generateToken("member42", 42L, MemberGrade.CHICK);
+    }
+
+    @Benchmark
+    public Optional<JwtPrincipal> authenticateCached() {
+        return jwtTokenUtil.authenticate(accessToken);
+    }
+
+    @Benchmark
+    public Optional<JwtPrincipal> authenticateUncached() {
+        return uncachedJwtTokenUtil.authenticate(accessToken);
+    }
+
+    @Benchmark
+    public Optional<RefreshTokenClaims> parseRefreshToken() {
+        return jwtTokenUtil.parseRefreshToken(refreshToken);
+    }
+
+    private static JwtTokenUtil jwtTokenUtil(Duration claimsCacheMaxTtl) {
+        JwtTokenUtil util = new JwtTokenUtil();
+        ReflectionTestUtils.setField(util, "secretKey", SECRET);
+        ReflectionTestUtils.setField(util, "expirationTime", 86_400_000L);
+        ReflectionTestUtils.setField(util, "refreshExpirationTime", 604_800_000L);
+        ReflectionTestUtils.setField(util, "claimsCacheMaximumSize", 10_000L);
+        ReflectionTestUtils.setField(util, "claimsCacheMaxTtl", claimsCacheMaxTtl);
+        util.init();
+        return util;
+    }
+}
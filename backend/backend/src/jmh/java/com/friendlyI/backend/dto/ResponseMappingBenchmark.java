@@ -0,0 +1,68 @@
+package com.friendlyI.backend.dto;
+
+import com.friendlyI.backend.BenchmarkFixtures;
+import com.friendlyI.backend.dto.projection.ReservationRow;
+import com.friendlyI.backend.entity.Location;
+import com.friendlyI.backend.entity.Member;
+import com.friendlyI.backend.entity.Reservation;
+import com.friendlyI.backend.entity.ReservationApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티/프로젝션 → 응답 DTO 변환 비용
+ * 목록 조회는 항목마다 이 변환을 거치므로 항목 하나당 비용을 잰다. (서비스가 쓰는 응답 DTO의 from 팩터리)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms512m", "-Xmx512m", "-XX:+UseParallelGC" })
+@State(Scope.Benchmark)
+public class ResponseMappingBenchmark {
+
+    private Member member;
+    private Reservation reservation;
+    private ReservationRow reservationRow;
+    private ReservationApplication application;
+
+    @Setup
+    public void setUp() {
+        Member creator = BenchmarkFixtures.member(1);
+        Location location = BenchmarkFixtures.location(1);
+        member = BenchmarkFixtures.member(42);
+        reservation = BenchmarkFixtures.reservation(7, location, creator);
+        reservationRow = BenchmarkFixtures.reservationRow(7);
+        application = BenchmarkFixtures.application(100, member, reservation);
+    }
+
+    @Benchmark
+    public ReservationResponse reservationFromEntity() {
+        return ReservationResponse.from(reservation);
+    }
+
+    @Benchmark
+    public ReservationResponse reservationFromRow() {
+        return ReservationResponse.from(reservationRow);
+    }
+
+    @Benchmark
+    public ReservationApplicationResponse application() {
+        return ReservationApplicationResponse.from(application);
+    }
+
+    @Benchmark
+    public MemberResponse member() {
+        return MemberResponse.from(member);
+    }
+}
@@ -0,0 +1,119 @@
+package com.friendlyI.backend.dto.common;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.friendlyI.backend.BenchmarkFixtures;
+import com.friendlyI.backend.dto.LocationSummary;
+import com.friendlyI.backend.dto.MemberResponse;
+import com.friendlyI.backend.dto.ReservationResponse;
+import com.friendlyI.backend.entity.MemberGrade;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * 페이지 응답 JSON 직렬화 비용 (페이지 크기별)
+ * ObjectMapper는 애플리케이션과 같은 설정(스프링 기본 + 날짜 문자열 출력)으로 만든다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = { "-Xms512m", "-Xmx512m", "-XX:+UseParallelGC" })
+@State(Scope.Benchmark)
+public class PageResponseSerializationBenchmark {
+
+    @Param({ "20", "100" })
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private PageResponse<ReservationResponse> reservations;
+    private PageResponse<MemberResponse> members;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS,
+                        SerializationFeature.FAIL_ON_EMPTY_BEANS)
+                .build();
+        PageRequest pageable = PageRequest.of(0, size);
+        reservations = PageResponse.of(new PageImpl<>(
+                LongStream.rangeClosed(1, size).mapToObj(PageResponseSerializationBenchmark::reservation).toList(),
+                pageable, 10_000));
+        members = PageResponse.of(new PageImpl<>(
+                LongStream.rangeClosed(1, size).mapToObj(PageResponseSerializationBenchmark::member).toList(),
+                pageable, 10_000));
+    }
+
+    @Benchmark
+    public byte[] reservationPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(reservations);
+    }
+
+    @Benchmark
+    public byte[] memberPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(members);
+    }
+
+    private static ReservationResponse reservation(long id) {
+        ReservationResponse response = new ReservationResponse();
+        response.setId(id);
+        response.setTitle("주말 모임 " + id);
+        response.setDescription("함께 공부하고 이야기 나누는 모임입니다.");
+        response.setLocation(LocationSummary.builder()
+                .id(1L)
+                .name("회의실 1")
+                .address("서울시 강남구 테헤란로 123번길 1층")
+                .url("https://naver.me/IgJGvT1Y")
+                .isActive(true)
+                .build());
+        response.setMaxCapacity(20);
+        response.setReservationDate(BenchmarkFixtures.DATE.plusDays(id % 30));
+        response.setReservationTime(LocalTime.of(10, 0));
+        response.setConfirmedCount(12);
+        response.setWaitingCount(3);
+        response.setAvailableSlots(8);
+        response.setFullyBooked(false);
+        response.setCreatorId(1L);
+        response.setCreatorName("관리자");
+        response.setCreatedAt(BenchmarkFixtures.CREATED_AT);
+        response.setUpdatedAt(BenchmarkFixtures.CREATED_AT);
+        return response;
+    }
+
+    private static MemberResponse member(long id) {
+        MemberGrade grade = MemberGrade.values()[(int) (id % MemberGrade.values().length)];
+        MemberResponse response = new MemberResponse();
+        response.setId(id);
+        response.setLoginId("member" + id);
+        response.setName("회원" + id);
+        response.setEmail("member" + id + "@example.com");
+        response.setPhoneNumber("010-1234-5678");
+        response.setBirthYear(1990 + (int) (id % 20));
+        response.setGrade(grade);
+        response.setGradeEmoji(grade.getEmoji());
+        response.setGradeDescription(grade.getDescription());
+        response.setAge(35);
+        response.setAdmin(false);
+        response.setCreatedAt(BenchmarkFixtures.CREATED_AT);
+        response.setUpdatedAt(BenchmarkFixtures.CREATED_AT);
+        return response;
+    }
+}
@@ -1,29 +1,85 @@
 package com.friendlyI.backend.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
-import java.util.concurrent.Executor;
-
+/**
+ * 비동기 실행기 설정
+ * spring.threads.virtual.enabled=true (가상 스레드 모드) 이면 톰캣 요청 처리와 함께 기본 비동기 실행기,
+ * 신청 대기열 워커도 가상 스레드로 실행한다. 비밀번호 해시는 CPU 작업이라 모드와 관계없이 코어 수만큼의 플랫폼 스레드로 제한한다.
+ */
 @Slf4j
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
-    @Bean(name = "activityLogExecutor")
-    public Executor activityLogExecutor() {
+    /**
+     * 기본 비동기 실행기 (@Async, MVC 비동기 요청 처리)
+     * 전용 실행기 빈이 있으면 스프링 부트가 applicationTaskExecutor를 만들지 않으므로 직접 등록한다.
+     */
+    @Bean(name = { "applicationTaskExecutor", "taskExecutor" })
+    public AsyncTaskExecutor applicationTaskExecutor(
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("Async-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setThreadNamePrefix("Async-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 예약 신청 대기열 워커 전용 스레드 (워커 수만큼 상시 실행)
+     */
+    @Bean(name = "admissionQueueExecutor")
+    public TaskExecutor admissionQueueExecutor(
+            @Value("${app.reservation.admission.workers:1}") int workers,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads) {
+            // 워커는 JDBC와 예약별 락(ReentrantLock)에서 대기하므로 가상 스레드가 캐리어 스레드를 놓아준다
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("AdmissionQueue-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(workers);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("AdmissionQueue-");
+        // 종료 시 실행 중인 작업(상시 워커)이 끝나길 기다리므로 대기열(ReservationAdmissionQueue)이 먼저 멈춰야 한다
+        executor.setPhase(SmartLifecycle.DEFAULT_PHASE - 4096);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 비밀번호 해시 전용 스레드 (CPU 코어 수만큼, 대기열 초과 시 즉시 거절)
+     */
+    @Bean(name = "passwordHashingExecutor")
+    public ThreadPoolTaskExecutor passwordHashingExecutor(
+            @Value("${app.security.password.hashing-threads:0}") int threads,
+            @Value("${app.security.password.queue-capacity:64}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(2);
-        executor.setMaxPoolSize(5);
-        executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("ActivityLog-");
-        executor.setRejectedExecutionHandler((runnable, taskExecutor) -> {
-            log.warn("활동 로그 작업이 거부되었습니다. 큐가 가득 참.");
-        });
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("PasswordHash-");
         executor.initialize();
+        log.info("비밀번호 해시 스레드 풀: threads={}, queueCapacity={}", poolSize, queueCapacity);
         return executor;
     }
-}
\ No newline at end of file
+}
@@ -1,66 +1,235 @@
 package com.friendlyI.backend.config;
 
+import com.friendlyI.backend.config.caching.ExpectedFailureCaffeineCache;
+import com.friendlyI.backend.config.caching.RedisCacheInvalidationBus;
+import com.friendlyI.backend.config.caching.TwoLevelCache;
+import com.friendlyI.backend.config.caching.TwoLevelCacheManager;
+import com.github.benmanes.caffeine.cache.AsyncCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
 /**
  * 개선된 캐시 설정 - Caffeine 사용
+ * 캐시별 크기/TTL은 app.cache.specs.<캐시 이름> 에 Caffeine 명세 문자열로 지정한다. (없으면 app.cache.default-spec)
+ * app.cache.redis.enabled=true 이면 Caffeine을 노드별 L1, Redis를 공유 L2로 쓰는 2단 캐시로 동작하고,
+ * 한 노드의 저장/삭제는 Redis pub/sub 으로 다른 노드의 L1에 전파된다.
+ * 모든 캐시는 통계를 기록하며 cache.gets/cache.evictions/cache.load.duration 등으로 Micrometer에 노출된다.
+ * 가상 스레드 모드(spring.threads.virtual.enabled=true)에서는 캐시 미스 적재를 가상 스레드에서 실행하는 비동기 캐시로 만든다.
+ * (동기 적재는 Caffeine 내부 락 안에서 원본 조회(JDBC)를 하므로 그동안 가상 스레드가 캐리어 스레드에 고정된다)
+ * 캐시 어드바이스는 트랜잭션 어드바이스 바깥에서 동작한다. 캐시 적중이면 트랜잭션(커넥션)을 열지 않고,
+ * 미스 적재는 적재 스레드에서 자기 트랜잭션을 연다.
  */
 @Slf4j
 @Configuration
-@EnableCaching
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE - 1)
+@RequiredArgsConstructor
 public class CacheConfig {
 
+    private static final String SPEC_PROPERTY_PREFIX = "app.cache.specs.";
+    private static final String DEFAULT_SPEC = "maximumSize=1000,expireAfterWrite=30m,expireAfterAccess=10m";
+
+    private static final List<String> CACHE_NAMES = List.of(
+            CacheNames.MEMBERS,
+            CacheNames.MEMBERS_BY_LOGIN_ID,
+            CacheNames.MEMBER_LISTS,
+            CacheNames.MEMBER_STATS,
+            CacheNames.RESERVATIONS,
+            CacheNames.RESERVATIONS_BY_DATE,
+            CacheNames.RESERVATION_LISTS,
+            CacheNames.RESERVATION_STATS,
+            CacheNames.ACTIVITY_LOGS);
+
+    // 장기 캐시 (통계, 설정값 등)
+    private static final List<String> LONG_TERM_CACHE_NAMES = List.of(
+            "dailyStats",
+            "monthlyStats",
+            "systemConfig");
+
+    // 캐시 미스 적재 실행기 (가상 스레드 모드에서만 사용, 적재마다 새 가상 스레드)
+    private static final Executor VIRTUAL_LOAD_EXECUTOR = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("cache-load-", 0).factory());
+
+    private final Environment environment;
+
     @Bean
     @Primary
+    @ConditionalOnProperty(name = "app.cache.redis.enabled", havingValue = "false", matchIfMissing = true)
     public CacheManager cacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        return caffeineCacheManager(CACHE_NAMES);
+    }
 
-        // 기본 캐시 설정
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-                .maximumSize(1000)
-                .expireAfterWrite(30, TimeUnit.MINUTES)
-                .expireAfterAccess(10, TimeUnit.MINUTES)
-                .recordStats()
-                .removalListener((key, value, cause) -> {
-                    log.debug("캐시 제거: key={}, cause={}", key, cause);
-                }));
-
-        // 캐시 이름들 설정
-        cacheManager.setCacheNames(java.util.Arrays.asList(
-                "members", // 회원 정보 (30분)
-                "memberStats", // 회원 통계 (1시간)
-                "reservations", // 예약 정보 (15분)
-                "reservationStats", // 예약 통계 (1시간)
-                "activityLogs" // 활동 로그 (5분)
-        ));
+    /**
+     * 2단 캐시 (L1: Caffeine, L2: Redis)
+     */
+    @Bean(name = "cacheManager")
+    @Primary
+    @ConditionalOnProperty(name = "app.cache.redis.enabled", havingValue = "true")
+    public CacheManager twoLevelCacheManager(RedisConnectionFactory connectionFactory,
+            StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer cacheInvalidationListenerContainer,
+            @Value("${app.cache.redis.ttl:30m}") Duration remoteTtl,
+            @Value("${app.cache.redis.invalidation-channel:cache:invalidation}") String invalidationChannel,
+            @Value("${app.cache.redis.evict-again-delay:500ms}") Duration evictAgainDelay) {
+        // 값은 JDK 직렬화 (Page 같은 스프링 데이터 타입도 그대로 저장)
+        RedisCacheConfiguration remoteDefaults = RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(remoteTtl)
+                .prefixCacheNameWith("cache:");
+        // 캐시별 L2 TTL (app.cache.redis.ttls.<캐시 이름>, 없으면 app.cache.redis.ttl)
+        Map<String, RedisCacheConfiguration> remoteConfigs = new HashMap<>();
+        for (String cacheName : CACHE_NAMES) {
+            remoteConfigs.put(cacheName, remoteDefaults.entryTtl(
+                    environment.getProperty("app.cache.redis.ttls." + cacheName, Duration.class, remoteTtl)));
+        }
+        RedisCacheManager remote = RedisCacheManager.builder(connectionFactory)
+                .cacheDefaults(remoteDefaults)
+                .withInitialCacheConfigurations(remoteConfigs)
+                .build();
 
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(this::localCacheSpec, remote,
+                new RedisCacheInvalidationBus(redisTemplate, cacheInvalidationListenerContainer, invalidationChannel),
+                CACHE_NAMES, virtualThreads(), evictAgainDelay);
+        log.info("2단 캐시 사용 (L1 Caffeine + L2 Redis), 노드 ID: {}", cacheManager.getNodeId());
         return cacheManager;
     }
 
+    @Bean
+    @ConditionalOnProperty(name = "app.cache.redis.enabled", havingValue = "true")
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
     @Bean("longTermCacheManager")
     public CacheManager longTermCacheManager() {
-        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        return caffeineCacheManager(LONG_TERM_CACHE_NAMES);
+    }
 
-        // 장기 캐시 설정 (통계, 설정값 등)
-        cacheManager.setCaffeine(Caffeine.newBuilder()
-                .maximumSize(500)
-                .expireAfterWrite(2, TimeUnit.HOURS)
-                .recordStats());
+    /**
+     * 2단 캐시의 L1(Caffeine) 통계를 Micrometer에 연결 (CaffeineCache는 스프링 부트가 기본으로 연결)
+     */
+    @Bean
+    public CacheMeterBinderProvider<TwoLevelCache> twoLevelCacheMeterBinderProvider() {
+        return (cache, tags) -> new CaffeineCacheMetrics<>(cache.getNativeCache(), cache.getName(), tags);
+    }
 
-        cacheManager.setCacheNames(java.util.Arrays.asList(
-                "dailyStats",
-                "monthlyStats",
-                "systemConfig"));
+    /**
+     * Caffeine 적재 통계(cache.load, cache.load.duration) 등록
+     * Micrometer는 LoadingCache에만 적재 통계를 붙이는데, 로컬 캐시는 @Cacheable(sync = true)가 일반 Cache로 값을 적재하므로 따로 붙인다.
+     * (2단 캐시의 L1은 LoadingCache라 CaffeineCacheMetrics가 이미 등록)
+     */
+    @Bean
+    public MeterBinder caffeineCacheLoadMetrics(Map<String, CacheManager> cacheManagers) {
+        return registry -> cacheManagers.forEach((beanName, manager) -> {
+            // 스프링 부트 캐시 메트릭과 같은 태그 (cache.manager는 빈 이름에서 CacheManager 접미사를 뗀 값)
+            String managerTag = beanName.length() > "CacheManager".length() && beanName.endsWith("CacheManager")
+                    ? beanName.substring(0, beanName.length() - "CacheManager".length())
+                    : beanName;
+            for (String cacheName : manager.getCacheNames()) {
+                org.springframework.cache.Cache cache = manager.getCache(cacheName);
+                if (cache == null || !(cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> local)
+                        || local instanceof LoadingCache) {
+                    continue;
+                }
+                Tags tags = Tags.of("cache", cacheName, "name", cacheName, "cache.manager", managerTag);
+                FunctionCounter.builder("cache.load", local, c -> c.stats().loadSuccessCount())
+                        .tags(tags).tag("result", "success")
+                        .description("캐시 미스로 원본에서 값을 적재한 횟수")
+                        .register(registry);
+                FunctionCounter.builder("cache.load", local, c -> c.stats().loadFailureCount())
+                        .tags(tags).tag("result", "failure")
+                        .description("캐시 미스로 원본 적재에 실패한 횟수")
+                        .register(registry);
+                TimeGauge.builder("cache.load.duration", local, TimeUnit.NANOSECONDS, c -> c.stats().totalLoadTime())
+                        .tags(tags)
+                        .description("원본 적재에 쓴 누적 시간")
+                        .register(registry);
+            }
+        });
+    }
 
+    /**
+     * 이름이 고정된 Caffeine 캐시 매니저 (캐시마다 자기 명세로 생성)
+     */
+    private CaffeineCacheManager caffeineCacheManager(List<String> cacheNames) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected org.springframework.cache.Cache adaptCaffeineCache(String name, AsyncCache<Object, Object> cache) {
+                // 적재 중 난 예상된 예외(회원 없음 등)는 Caffeine 적재 실패 경고 없이 호출자에게 전달
+                return new ExpectedFailureCaffeineCache(name, cache, isAllowNullValues());
+            }
+        };
+        boolean asyncLoading = virtualThreads();
+        cacheManager.setAsyncCacheMode(asyncLoading);
+        // 이름을 고정(목록 외 캐시는 만들지 않음)한 뒤 캐시별 설정으로 교체
+        cacheManager.setCacheNames(cacheNames);
+        for (String cacheName : cacheNames) {
+            if (cacheSpec(cacheName).contains("refreshAfterWrite")) {
+                // @Cacheable 캐시에는 값을 다시 만들 CacheLoader가 없으므로 갱신할 원본이 있는 2단 캐시에서만 허용
+                throw new IllegalStateException("refreshAfterWrite는 2단 캐시(app.cache.redis.enabled=true)에서만 사용할 수 있습니다: "
+                        + cacheName);
+            }
+            if (asyncLoading) {
+                cacheManager.registerCustomCache(cacheName, localCacheSpec(cacheName).buildAsync());
+            } else {
+                cacheManager.registerCustomCache(cacheName, localCacheSpec(cacheName).build());
+            }
+        }
         return cacheManager;
     }
-}
\ No newline at end of file
+
+    private Caffeine<Object, Object> localCacheSpec(String cacheName) {
+        String spec = cacheSpec(cacheName);
+        log.debug("캐시 설정: {} = {}", cacheName, spec);
+        Caffeine<Object, Object> builder = Caffeine.from(spec)
+                .recordStats()
+                .removalListener((key, value, cause) -> {
+                    log.debug("캐시 제거: cache={}, key={}, cause={}", cacheName, key, cause);
+                });
+        if (virtualThreads()) {
+            // 비동기 캐시의 적재와 refreshAfterWrite 갱신, 제거 알림을 가상 스레드에서 실행
+            builder.executor(VIRTUAL_LOAD_EXECUTOR);
+        }
+        return builder;
+    }
+
+    private boolean virtualThreads() {
+        return environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+    }
+
+    private String cacheSpec(String cacheName) {
+        return environment.getProperty(SPEC_PROPERTY_PREFIX + cacheName,
+                environment.getProperty("app.cache.default-spec", DEFAULT_SPEC));
+    }
+}
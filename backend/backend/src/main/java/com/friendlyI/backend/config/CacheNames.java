@@ -0,0 +1,33 @@
+package com.friendlyI.backend.config;
+
+/**
+ * 캐시 이름 (CacheConfig에서 생성하고, @Cacheable/무효화 코드가 같은 이름을 쓰도록 한 곳에 모음)
+ */
+public final class CacheNames {
+
+    /** 회원 단건 (키: 회원 ID) */
+    public static final String MEMBERS = "members";
+
+    /** 회원 단건 (키: 로그인 ID) */
+    public static final String MEMBERS_BY_LOGIN_ID = "membersByLoginId";
+
+    /** 회원 목록 (전체/등급별/페이지), 회원이 하나라도 바뀌면 통째로 비운다 */
+    public static final String MEMBER_LISTS = "memberLists";
+
+    public static final String MEMBER_STATS = "memberStats";
+
+    /** 예약 단건 (키: 예약 ID) */
+    public static final String RESERVATIONS = "reservations";
+
+    /** 날짜별 예약 목록 (키: 예약 날짜) */
+    public static final String RESERVATIONS_BY_DATE = "reservationsByDate";
+
+    /** 예약 목록 (전체/예약 가능/미래), 예약이 하나라도 바뀌면 통째로 비운다 */
+    public static final String RESERVATION_LISTS = "reservationLists";
+
+    public static final String RESERVATION_STATS = "reservationStats";
+    public static final String ACTIVITY_LOGS = "activityLogs";
+
+    private CacheNames() {
+    }
+}
@@ -5,6 +5,7 @@ import com.friendlyI.backend.entity.Member;
 import com.friendlyI.backend.entity.MemberGrade;
 import com.friendlyI.backend.repository.LocationRepository;
 import com.friendlyI.backend.repository.MemberRepository;
+import com.friendlyI.backend.service.ReservationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
@@ -24,15 +25,28 @@ public class DataLoader implements CommandLineRunner {
         private final LocationRepository locationRepository;
         private final PasswordEncoder passwordEncoder;
         private final Environment environment;
+        private final ReservationService reservationService;
 
         @Override
         public void run(String... args) throws Exception {
                 createDefaultLocations();
                 createDefaultAdminUser();
                 createSampleUsers();
+                if (environment.getProperty("app.reservation.recalculate-counters-on-startup", Boolean.class, false)) {
+                        synchronizeReservationCounters();
+                }
                 log.info("초기 데이터 로딩 완료");
         }
 
+        /**
+         * 예약 신청 카운터 보정 (카운터 컬럼 추가 이전 데이터를 ddl-auto=update 환경에서 한 번만 옮길 때 켬)
+         * 운영은 db/postgresql/reservation-counters.sql 로 옮긴다. 전체 예약을 다시 세므로 상시로 켜 두지 않는다.
+         */
+        private void synchronizeReservationCounters() {
+                int updated = reservationService.synchronizeApplicationCounters();
+                log.info("예약 신청 카운터 동기화 완료: {}건", updated);
+        }
+
         /**
          * 기본 장소 데이터 생성
          */
@@ -0,0 +1,60 @@
+package com.friendlyI.backend.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.Map;
+
+/**
+ * IDENTITY -> SEQUENCE 전환 후 PostgreSQL ID 시퀀스 위치 보정
+ * ddl-auto=update 환경에서는 Hibernate가 시퀀스를 1부터 새로 만들기 때문에, 기존 데이터가 있으면
+ * 시퀀스를 최대 ID 이후로 옮겨야 한다. 초기 데이터 로딩(DataLoader)보다 먼저 실행된다.
+ * 운영 스키마는 db/postgresql/id-sequences.sql 로 미리 만들고, 여기서는 뒤처진 시퀀스만 앞으로 옮긴다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "app.jpa.align-id-sequences", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class IdSequenceAligner implements CommandLineRunner {
+
+        private static final Map<String, String> SEQUENCES = Map.of(
+                        "members", "members_seq",
+                        "locations", "locations_seq",
+                        "reservations", "reservations_seq",
+                        "reservation_applications", "reservation_applications_seq",
+                        "activity_logs", "activity_logs_seq");
+
+        private final DataSource dataSource;
+
+        @Override
+        public void run(String... args) throws Exception {
+                String product = JdbcUtils.extractDatabaseMetaData(dataSource,
+                                DatabaseMetaData::getDatabaseProductName);
+                if (!"PostgreSQL".equals(product)) {
+                        return;
+                }
+
+                JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+                SEQUENCES.forEach((table, sequence) -> {
+                        // 시퀀스가 최대 ID 이하일 때만 setval (다른 인스턴스가 이미 받아 간 구간은 되돌리지 않는다)
+                        Long aligned = jdbcTemplate.query(String.format(
+                                        "SELECT setval('%1$s', m.max_id) FROM (SELECT MAX(id) AS max_id FROM %2$s) m "
+                                                        + "WHERE m.max_id >= (SELECT last_value FROM %1$s)",
+                                        sequence, table),
+                                        rs -> rs.next() ? rs.getLong(1) : null);
+                        if (aligned != null) {
+                                log.info("ID 시퀀스 보정: {} -> {}", sequence, aligned);
+                        }
+                });
+        }
+}
@@ -0,0 +1,405 @@
+package com.friendlyI.backend.config;
+
+import com.friendlyI.backend.entity.ActivityLog;
+import com.friendlyI.backend.entity.MemberGrade;
+import com.friendlyI.backend.entity.ReservationStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.LongFunction;
+
+/**
+ * 부하 테스트용 대용량 데이터 생성 (loadtest 프로필 + app.seed.enabled=true)
+ * 회원/장소/예약/신청/활동 로그를 설정한 건수만큼 JDBC 배치 INSERT로 넣는다. (H2, PostgreSQL)
+ * - 같은 random-seed면 같은 데이터가 만들어진다.
+ * - ID는 각 테이블의 최대 ID와 시퀀스 위치 이후부터 직접 부여하고, 끝나면 시퀀스를 마지막 ID 이후로 옮긴다.
+ *   (시드 이후 애플리케이션이 만드는 엔티티와 ID가 겹치지 않음)
+ * - 예약의 확정/대기 인원 카운터는 생성한 신청 상태와 맞춰 넣는다.
+ * - 시드 회원(lt0000001 ~)은 모두 같은 비밀번호(app.seed.member-password)로 로그인할 수 있다.
+ * - 이미 시드 회원이 있으면 건너뛴다. exit-after-seed=true면 생성 후 애플리케이션을 종료한다.
+ */
+@Slf4j
+@Component
+@Profile("loadtest")
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class LoadTestDataSeeder implements CommandLineRunner {
+
+        public static final String LOGIN_ID_PREFIX = "lt";
+
+        private static final int ALLOCATION_SIZE = 50; // 엔티티 @SequenceGenerator allocationSize
+
+        private static final String[] SURNAMES = { "김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "서", "신", "권" };
+        private static final String[] GIVEN_NAMES = { "민준", "서연", "도윤", "하은", "시우", "지유", "예준", "서윤", "하준", "지우",
+                        "주원", "수아", "지호", "하린", "준서", "지민", "현우", "채원", "건우", "다은" };
+        private static final String[] TOPICS = { "독서 모임", "보드게임", "러닝 크루", "스터디", "육아 모임", "사진 산책", "요리 교실", "영어 회화" };
+        private static final String[] USER_AGENTS = {
+                        "Mozilla/5.0 (iPhone; CPU iPhone OS 17_5 like Mac OS X) AppleWebKit/605.1.15 Mobile/15E148",
+                        "Mozilla/5.0 (Linux; Android 14; SM-S918N) AppleWebKit/537.36 Chrome/126.0 Mobile Safari/537.36",
+                        "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 Chrome/126.0 Safari/537.36" };
+
+        private final JdbcTemplate jdbcTemplate;
+        private final TransactionTemplate transactionTemplate;
+        private final PasswordEncoder passwordEncoder;
+        private final ConfigurableApplicationContext applicationContext;
+
+        private final long members;
+        private final int locations;
+        private final long reservations;
+        private final long applications;
+        private final long activityLogs;
+        private final int batchSize;
+        private final long randomSeed;
+        private final String memberPassword;
+        private final boolean enabled;
+        private final boolean exitAfterSeed;
+
+        public LoadTestDataSeeder(DataSource dataSource, PlatformTransactionManager transactionManager,
+                        PasswordEncoder passwordEncoder, ConfigurableApplicationContext applicationContext,
+                        @Value("${app.seed.members:100000}") long members,
+                        @Value("${app.seed.locations:50}") int locations,
+                        @Value("${app.seed.reservations:50000}") long reservations,
+                        @Value("${app.seed.applications:2000000}") long applications,
+                        @Value("${app.seed.activity-logs:10000000}") long activityLogs,
+                        @Value("${app.seed.batch-size:1000}") int batchSize,
+                        @Value("${app.seed.random-seed:20250101}") long randomSeed,
+                        @Value("${app.seed.member-password:loadtest2025!}") String memberPassword,
+                        @Value("${app.seed.enabled:false}") boolean enabled,
+                        @Value("${app.seed.exit-after-seed:false}") boolean exitAfterSeed) {
+                if (members <= 0 || locations <= 0 || batchSize <= 0) {
+                        throw new IllegalArgumentException(String.format(
+                                        "시드 회원/장소 수와 배치 크기는 1 이상이어야 합니다: members=%d, locations=%d, batchSize=%d",
+                                        members, locations, batchSize));
+                }
+                this.jdbcTemplate = new JdbcTemplate(dataSource);
+                this.transactionTemplate = new TransactionTemplate(transactionManager);
+                this.passwordEncoder = passwordEncoder;
+                this.applicationContext = applicationContext;
+                this.members = members;
+                this.locations = locations;
+                this.reservations = reservations;
+                this.applications = applications;
+                this.activityLogs = activityLogs;
+                this.batchSize = batchSize;
+                this.randomSeed = randomSeed;
+                this.memberPassword = memberPassword;
+                this.enabled = enabled;
+                this.exitAfterSeed = exitAfterSeed;
+        }
+
+        @Override
+        public void run(String... args) {
+                if (!enabled) {
+                        return;
+                }
+                seed();
+                if (exitAfterSeed) {
+                        log.info("시드 완료 후 종료 (app.seed.exit-after-seed=true)");
+                        System.exit(SpringApplication.exit(applicationContext, () -> 0));
+                }
+        }
+
+        /**
+         * 설정한 건수만큼 데이터 생성 (시드 회원이 이미 있으면 건너뜀)
+         */
+        public void seed() {
+                Integer existing = jdbcTemplate.queryForObject(
+                                "SELECT COUNT(*) FROM members WHERE login_id = ?", Integer.class, loginId(1));
+                if (existing != null && existing > 0) {
+                        log.info("시드 데이터가 이미 있어 건너뜁니다 ({} 존재)", loginId(1));
+                        return;
+                }
+
+                long started = System.nanoTime();
+                log.info("부하 테스트 데이터 생성 시작: members={}, locations={}, reservations={}, applications={}, activityLogs={}",
+                                members, locations, reservations, applications, activityLogs);
+
+                Random random = new Random(randomSeed);
+                LocalDateTime now = LocalDateTime.now().withNano(0);
+
+                long memberBase = nextIdBase("members", "members_seq");
+                String encodedPassword = passwordEncoder.encode(memberPassword);
+                insert("members", "INSERT INTO members (id, login_id, password, name, email, phone_number, birth_year, grade, "
+                                + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                                members, i -> {
+                                        Timestamp createdAt = Timestamp.valueOf(now.minusDays(random.nextInt(730)));
+                                        return new Object[] { memberBase + i, loginId(i + 1),
+                                                        encodedPassword, memberName(random),
+                                                        loginId(i + 1) + "@example.com",
+                                                        String.format("010-%04d-%04d", random.nextInt(10000), random.nextInt(10000)),
+                                                        1960 + random.nextInt(50), memberGrade(random).name(), createdAt, createdAt };
+                                });
+                realignSequence("members_seq", memberBase + members);
+
+                long locationBase = nextIdBase("locations", "locations_seq");
+                insert("locations", "INSERT INTO locations (id, name, address, description, url, is_active, created_at, updated_at) "
+                                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                                locations, i -> new Object[] { locationBase + i, "시드 장소 " + (i + 1),
+                                                "서울시 강남구 테헤란로 " + (100 + i) + "길", "부하 테스트용 장소",
+                                                "https://naver.me/IgJGvT1Y", i % 10 != 9, Timestamp.valueOf(now), Timestamp.valueOf(now) });
+                realignSequence("locations_seq", locationBase + locations);
+
+                // 예약별 신청 수와 확정/대기 인원을 먼저 정해 예약 카운터와 신청 상태를 맞춘다
+                int[] capacities = new int[(int) reservations];
+                int[] applicationCounts = distribute(applications, reservations, members, random);
+                long reservationBase = nextIdBase("reservations", "reservations_seq");
+                LocalDate today = now.toLocalDate();
+                insert("reservations", "INSERT INTO reservations (id, creator_member_id, title, description, location_id, "
+                                + "max_capacity, reservation_date, reservation_time, confirmed_count, waiting_count, "
+                                + "created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                                reservations, i -> {
+                                        int r = (int) i;
+                                        capacities[r] = 5 + random.nextInt(46);
+                                        int[] counts = statusCounts(applicationCounts[r], capacities[r]);
+                                        Timestamp createdAt = Timestamp.valueOf(now.minusDays(random.nextInt(200)));
+                                        return new Object[] { reservationBase + i, memberBase + random.nextInt((int) members),
+                                                        TOPICS[random.nextInt(TOPICS.length)] + " #" + (i + 1),
+                                                        "부하 테스트용 예약입니다.", locationBase + random.nextInt(locations),
+                                                        capacities[r], today.plusDays(random.nextInt(361) - 180),
+                                                        LocalTime.of(9 + random.nextInt(12), random.nextBoolean() ? 0 : 30),
+                                                        counts[0], counts[1], createdAt, createdAt, 0L };
+                                });
+                realignSequence("reservations_seq", reservationBase + reservations);
+
+                long applicationBase = nextIdBase("reservation_applications", "reservation_applications_seq");
+                ApplicationCursor cursor = new ApplicationCursor(applicationCounts, capacities, members, random);
+                insert("reservation_applications", "INSERT INTO reservation_applications (id, member_id, reservation_id, status, "
+                                + "note, applied_at, updated_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                                applications, i -> {
+                                        cursor.advance();
+                                        Timestamp appliedAt = Timestamp.valueOf(now.minusDays(30).plusSeconds(i % 2_592_000));
+                                        return new Object[] { applicationBase + i, memberBase + cursor.memberIndex(),
+                                                        reservationBase + cursor.reservation, cursor.status().name(), null,
+                                                        appliedAt, appliedAt, 0L };
+                                });
+                realignSequence("reservation_applications_seq", applicationBase + applications);
+
+                long activityLogBase = nextIdBase("activity_logs", "activity_logs_seq");
+                ActivityLog.ActivityType[] types = ActivityLog.ActivityType.values();
+                insert("activity_logs", "INSERT INTO activity_logs (id, member_id, member_login_id, activity_type, description, "
+                                + "ip_address, user_agent, request_uri, http_method, details, created_at) "
+                                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                                activityLogs, i -> {
+                                        int member = random.nextInt((int) members);
+                                        ActivityLog.ActivityType type = types[random.nextInt(types.length)];
+                                        return new Object[] { activityLogBase + i, memberBase + member, loginId(member + 1),
+                                                        type.name(), type.getDescription(),
+                                                        "10." + random.nextInt(256) + "." + random.nextInt(256) + "." + random.nextInt(256),
+                                                        USER_AGENTS[random.nextInt(USER_AGENTS.length)], "/api/reservations",
+                                                        "GET", null,
+                                                        Timestamp.valueOf(now.minusSeconds(random.nextInt(180 * 86_400))) };
+                                });
+                realignSequence("activity_logs_seq", activityLogBase + activityLogs);
+
+                log.info("부하 테스트 데이터 생성 완료: {}초", (System.nanoTime() - started) / 1_000_000_000);
+        }
+
+        public static String loginId(long sequence) {
+                return String.format("%s%07d", LOGIN_ID_PREFIX, sequence);
+        }
+
+        /**
+         * rows 건을 batchSize씩 묶어 트랜잭션 하나에 배치 INSERT
+         */
+        private void insert(String table, String sql, long rows, LongFunction<Object[]> row) {
+                long started = System.nanoTime();
+                long reportEvery = Math.max(rows / 10, batchSize);
+                List<Object[]> batch = new ArrayList<>(batchSize);
+                for (long i = 0; i < rows; i++) {
+                        batch.add(row.apply(i));
+                        if (batch.size() == batchSize || i == rows - 1) {
+                                List<Object[]> chunk = batch;
+                                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(sql, chunk));
+                                batch = new ArrayList<>(batchSize);
+                        }
+                        if ((i + 1) % reportEvery == 0) {
+                                double seconds = (System.nanoTime() - started) / 1e9;
+                                log.info("{}: {}/{} ({}건/초)", table, i + 1, rows, Math.round((i + 1) / seconds));
+                        }
+                }
+        }
+
+        /**
+         * 새로 넣을 ID의 시작값 (기존 최대 ID와 이미 나눠 준 시퀀스 구간 모두 이후)
+         */
+        private long nextIdBase(String table, String sequence) {
+                Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + table, Long.class);
+                Long sequenceValue = jdbcTemplate.queryForObject(isPostgreSql()
+                                ? "SELECT nextval('" + sequence + "')"
+                                : "SELECT NEXT VALUE FOR " + sequence, Long.class);
+                return Math.max(maxId != null ? maxId : 0, sequenceValue != null ? sequenceValue : 0) + 1;
+        }
+
+        /**
+         * 다음 시퀀스 구간이 마지막 ID 이후에서 시작하도록 이동 (pooled 최적화: 값 V는 V-49 ~ V 구간)
+         */
+        private void realignSequence(String sequence, long nextId) {
+                jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + (nextId - 1 + ALLOCATION_SIZE));
+        }
+
+        private boolean isPostgreSql() {
+                try {
+                        return "PostgreSQL".equals(JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(),
+                                        DatabaseMetaData::getDatabaseProductName));
+                } catch (MetaDataAccessException e) {
+                        throw new IllegalStateException("DB 종류를 확인하지 못했습니다.", e);
+                }
+        }
+
+        /**
+         * total 건을 buckets개로 나눔 (무작위 가중치, 버킷당 최대 maxPerBucket)
+         */
+        private static int[] distribute(long total, long buckets, long maxPerBucket, Random random) {
+                int[] counts = new int[(int) buckets];
+                if (total == 0) {
+                        return counts;
+                }
+                if (total > buckets * maxPerBucket) {
+                        throw new IllegalArgumentException(String.format(
+                                        "신청 수(%d)는 예약 수 x 회원 수(%d)를 넘을 수 없습니다. (회원은 예약마다 한 번만 신청)",
+                                        total, buckets * maxPerBucket));
+                }
+                double[] weights = new double[(int) buckets];
+                double weightSum = 0;
+                for (int i = 0; i < buckets; i++) {
+                        weights[i] = 0.2 + random.nextDouble() * 1.6;
+                        weightSum += weights[i];
+                }
+                long assigned = 0;
+                double cumulative = 0;
+                for (int i = 0; i < buckets; i++) {
+                        cumulative += weights[i];
+                        long target = Math.round(total * cumulative / weightSum);
+                        counts[i] = (int) Math.min(target - assigned, maxPerBucket);
+                        assigned += counts[i];
+                }
+                // 상한으로 잘린 나머지는 여유 있는 예약에 채운다
+                for (int i = 0; assigned < total; i = (i + 1) % (int) buckets) {
+                        if (counts[i] < maxPerBucket) {
+                                counts[i]++;
+                                assigned++;
+                        }
+                }
+                return counts;
+        }
+
+        /**
+         * 신청 수와 정원으로 [확정, 대기] 인원 계산 (열 번째 신청마다 취소)
+         */
+        private static int[] statusCounts(int applicationCount, int capacity) {
+                int active = applicationCount - applicationCount / 10;
+                return new int[] { Math.min(active, capacity), Math.max(0, active - capacity) };
+        }
+
+        private static String memberName(Random random) {
+                return SURNAMES[random.nextInt(SURNAMES.length)] + GIVEN_NAMES[random.nextInt(GIVEN_NAMES.length)];
+        }
+
+        private static MemberGrade memberGrade(Random random) {
+                int roll = random.nextInt(100);
+                if (roll < 50) {
+                        return MemberGrade.EGG;
+                }
+                if (roll < 75) {
+                        return MemberGrade.HATCHING;
+                }
+                if (roll < 90) {
+                        return MemberGrade.CHICK;
+                }
+                return MemberGrade.YOUNG_BIRD;
+        }
+
+        /**
+         * 신청 행을 예약 순서대로 만들어 가는 위치
+         * 예약마다 시작 회원과 회원 수와 서로소인 보폭을 골라, 한 예약 안에서 회원이 겹치지 않게 한다.
+         * 신청 순서대로 열 번째마다 취소, 나머지는 정원까지 확정 그 뒤로 대기 (statusCounts와 같은 규칙)
+         */
+        private static final class ApplicationCursor {
+
+                private final int[] counts;
+                private final int[] capacities;
+                private final long members;
+                private final Random random;
+
+                private int reservation = -1;
+                private int index;
+                private int active;
+                private long start;
+                private long stride;
+                private ReservationStatus status;
+
+                private ApplicationCursor(int[] counts, int[] capacities, long members, Random random) {
+                        this.counts = counts;
+                        this.capacities = capacities;
+                        this.members = members;
+                        this.random = random;
+                        this.index = 0;
+                }
+
+                void advance() {
+                        index++;
+                        while (reservation < 0 || index >= counts[reservation]) {
+                                reservation++;
+                                index = 0;
+                                active = 0;
+                                start = random.nextLong(members);
+                                stride = coprimeStride();
+                                if (counts[reservation] > 0) {
+                                        break;
+                                }
+                        }
+                        if ((index + 1) % 10 == 0) {
+                                status = ReservationStatus.CANCELLED;
+                        } else {
+                                status = active < capacities[reservation] ? ReservationStatus.CONFIRMED
+                                                : ReservationStatus.WAITING;
+                                active++;
+                        }
+                }
+
+                long memberIndex() {
+                        return (start + index * stride) % members;
+                }
+
+                ReservationStatus status() {
+                        return status;
+                }
+
+                private long coprimeStride() {
+                        if (members == 1) {
+                                return 1;
+                        }
+                        while (true) {
+                                long candidate = 1 + random.nextLong(members - 1);
+                                if (gcd(candidate, members) == 1) {
+                                        return candidate;
+                                }
+                        }
+                }
+
+                private static long gcd(long a, long b) {
+                        return b == 0 ? a : gcd(b, a % b);
+                }
+        }
+}
@@ -0,0 +1,57 @@
+package com.friendlyI.backend.config;
+
+import com.friendlyI.backend.config.metrics.HandlerServerRequestObservationConvention;
+import com.friendlyI.backend.config.metrics.RequestMetricsFilter;
+import com.friendlyI.backend.config.metrics.RequestSqlStatistics;
+import com.friendlyI.backend.config.metrics.SqlDiagnostics;
+import com.friendlyI.backend.config.metrics.SqlShapeInspector;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.List;
+
+/**
+ * 엔드포인트 메트릭 설정
+ * - http.server.requests 타이머에 컨트롤러 메서드 태그 추가 (백분위 히스토그램은 application.properties)
+ * - 요청별 Hibernate SQL 문 수 / 엔티티 로드 수 분포와 요청 요약 로그 (RequestMetricsFilter)
+ * - SQL 진단이 켜져 있으면 SQL 형태 기록(SqlShapeInspector)으로 느린 SQL / 반복 SQL 감지 (SqlDiagnostics)
+ */
+@Configuration
+public class MetricsConfig {
+
+    private static final String INTEGRATOR_PROVIDER = "hibernate.integrator_provider";
+
+    @Bean
+    public HandlerServerRequestObservationConvention serverRequestObservationConvention() {
+        return new HandlerServerRequestObservationConvention();
+    }
+
+    @Bean
+    public FilterRegistrationBean<RequestMetricsFilter> requestMetricsFilter(MeterRegistry meterRegistry,
+            SqlDiagnostics sqlDiagnostics) {
+        FilterRegistrationBean<RequestMetricsFilter> registration = new FilterRegistrationBean<>(
+                new RequestMetricsFilter(meterRegistry, sqlDiagnostics));
+        // 요청 메타데이터 바로 다음, 보안 필터(JWT 인증 조회 포함)보다 바깥에서 집계
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registration;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer requestSqlStatisticsCustomizer(SqlDiagnostics sqlDiagnostics) {
+        return properties -> {
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+                    RequestSqlStatistics.StatementListener.class.getName());
+            properties.put(INTEGRATOR_PROVIDER,
+                    (IntegratorProvider) () -> List.of(new RequestSqlStatistics.EntityLoadIntegrator()));
+            if (sqlDiagnostics.isEnabled()) {
+                properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlShapeInspector());
+            }
+        };
+    }
+}
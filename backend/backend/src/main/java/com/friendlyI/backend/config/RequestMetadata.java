@@ -0,0 +1,106 @@
+package com.friendlyI.backend.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * 요청 메타데이터 스냅샷 (클라이언트 IP, User-Agent, URI, HTTP 메서드)
+ * 서블릿 스레드에서 RequestMetadataFilter가 한 번 만들어 두며, 요청 객체가 재사용되거나
+ * 다른 스레드로 작업이 넘어가도 값이 바뀌지 않는다.
+ */
+public record RequestMetadata(String ipAddress, String userAgent, String requestUri, String httpMethod) {
+
+    /**
+     * 요청 컨텍스트가 없는 스레드(스케줄러, 대기열 워커 등)용 빈 메타데이터
+     */
+    public static final RequestMetadata NONE = new RequestMetadata(null, null, null, null);
+
+    /**
+     * 신뢰하는 프록시 주소 (루프백, 사설망, 링크 로컬 - 톰캣 RemoteIpValve 기본값과 같은 범위)
+     * 앞단 nginx와 도커 네트워크가 이 범위에 있으며, 여기서 온 요청의 X-Forwarded-For만 믿는다.
+     */
+    private static final Pattern TRUSTED_PROXY = Pattern.compile(
+            "10\\.\\d{1,3}\\.\\d{1,3}\\.\\d{1,3}"
+                    + "|192\\.168\\.\\d{1,3}\\.\\d{1,3}"
+                    + "|169\\.254\\.\\d{1,3}\\.\\d{1,3}"
+                    + "|127\\.\\d{1,3}\\.\\d{1,3}\\.\\d{1,3}"
+                    + "|172\\.(1[6-9]|2\\d|3[01])\\.\\d{1,3}\\.\\d{1,3}"
+                    + "|0:0:0:0:0:0:0:1|::1"
+                    + "|[fF][cCdD][0-9a-fA-F]{0,2}:[0-9a-fA-F:]*");
+
+    private static final ThreadLocal<RequestMetadata> CURRENT = new ThreadLocal<>();
+
+    /**
+     * 요청에서 메타데이터 추출 (클라이언트 IP는 resolveClientIp 참고)
+     */
+    public static RequestMetadata from(HttpServletRequest request) {
+        return new RequestMetadata(resolveClientIp(request), request.getHeader("User-Agent"),
+                request.getRequestURI(), request.getMethod());
+    }
+
+    /**
+     * 현재 스레드에 연결된 메타데이터 (없으면 NONE)
+     */
+    public static RequestMetadata current() {
+        RequestMetadata metadata = CURRENT.get();
+        return metadata != null ? metadata : NONE;
+    }
+
+    /**
+     * 다른 스레드에서 캡처해 둔 메타데이터를 연결한 상태로 작업 실행
+     */
+    public static <T> T callWith(RequestMetadata metadata, Supplier<T> action) {
+        RequestMetadata previous = CURRENT.get();
+        CURRENT.set(metadata);
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    static void bind(RequestMetadata metadata) {
+        CURRENT.set(metadata);
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    /**
+     * 클라이언트 IP 결정
+     * 신뢰하는 프록시를 거친 요청만 X-Forwarded-For를 오른쪽(가까운 hop)부터 보며 신뢰하지 않는 첫 주소를 쓴다.
+     * 가장 왼쪽 값은 클라이언트가 임의로 넣을 수 있으므로 로그인 IP 차단 등의 키로 쓰지 않는다.
+     */
+    static String resolveClientIp(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (forwardedFor == null || forwardedFor.isBlank() || !isTrustedProxy(remoteAddr)) {
+            return remoteAddr;
+        }
+
+        String[] hops = forwardedFor.split(",");
+        String client = remoteAddr;
+        for (int i = hops.length - 1; i >= 0; i--) {
+            String hop = hops[i].trim();
+            if (hop.isEmpty() || "unknown".equalsIgnoreCase(hop)) {
+                break;
+            }
+            client = hop;
+            if (!isTrustedProxy(hop)) {
+                break;
+            }
+        }
+        return client;
+    }
+
+    private static boolean isTrustedProxy(String address) {
+        return address != null && TRUSTED_PROXY.matcher(address).matches();
+    }
+}
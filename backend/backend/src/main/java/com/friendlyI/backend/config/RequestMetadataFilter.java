@@ -0,0 +1,32 @@
+package com.friendlyI.backend.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 서블릿 스레드에서 요청 메타데이터 스냅샷을 만들어 현재 스레드에 연결
+ * 활동 로그처럼 요청 이후 비동기로 처리되는 작업은 요청 객체 대신 이 스냅샷을 사용한다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestMetadataFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestMetadata.bind(RequestMetadata.from(request));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestMetadata.clear();
+        }
+    }
+}
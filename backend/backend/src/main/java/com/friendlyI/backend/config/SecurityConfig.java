@@ -1,5 +1,10 @@
 package com.friendlyI.backend.config;
 
+import com.friendlyI.backend.config.security.BCryptCostCalibrator;
+import com.friendlyI.backend.config.security.JwtAuthenticationFilter;
+import com.friendlyI.backend.config.security.JwtTokenUtil;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -7,15 +12,21 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.security.web.header.writers.ReferrerPolicyHeaderWriter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 
 import static org.springframework.security.config.Customizer.withDefaults;
 
@@ -24,13 +35,32 @@ import static org.springframework.security.config.Customizer.withDefaults;
 @EnableMethodSecurity(prePostEnabled = true)
 public class SecurityConfig {
 
+        /**
+         * BCrypt 비용 (strength 를 지정하지 않으면 기동 시 목표 지연 시간에 맞춰 측정)
+         */
         @Bean
-        public PasswordEncoder passwordEncoder() {
-                return new BCryptPasswordEncoder(12);
+        public Integer bcryptCost(
+                        @Value("${app.security.password.bcrypt-strength:0}") int strength,
+                        @Value("${app.security.password.target-latency:100ms}") Duration targetLatency,
+                        @Value("${app.security.password.min-strength:10}") int minStrength,
+                        @Value("${app.security.password.max-strength:14}") int maxStrength) {
+                return strength > 0 ? strength : BCryptCostCalibrator.calibrate(targetLatency, minStrength, maxStrength);
         }
 
+        /**
+         * 알고리즘 접두어({bcrypt})로 위임하는 인코더
+         * 접두어가 없는 기존 해시도 검증하며, 로그인 시 현재 설정으로 다시 해시된다.
+         */
         @Bean
-        public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+        public PasswordEncoder passwordEncoder(Integer bcryptCost) {
+                BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptCost);
+                DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+                encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+                return encoder;
+        }
+
+        @Bean
+        public SecurityFilterChain filterChain(HttpSecurity http, JwtTokenUtil jwtTokenUtil) throws Exception {
                 http
                                 // ✅ CORS 활성화 (아래 corsConfigurationSource()와 세트)
                                 .cors(withDefaults())
@@ -52,15 +82,28 @@ public class SecurityConfig {
                                 // 세션 Stateless
                                 .sessionManagement(s -> s.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 
+                                // JWT 인증 (요청당 한 번 검증해 SecurityContext에 보관), 인증 없이 보호 경로 접근 시 401
+                                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenUtil),
+                                                UsernamePasswordAuthenticationFilter.class)
+                                .exceptionHandling(e -> e
+                                                .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
+
                                 // 권한
                                 .authorizeHttpRequests(auth -> auth
                                                 // ✅ CORS Preflight 허용
                                                 .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                                                // 비동기 응답(내보내기 스트리밍)의 재디스패치는 최초 요청에서 이미 권한을 확인함
+                                                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
 
                                                 // Swagger / H2 / Actuator
                                                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
                                                 .requestMatchers("/h2-console/**").permitAll()
                                                 .requestMatchers("/actuator/health", "/actuator/info").permitAll()
+                                                // 메트릭/Prometheus 스크레이프는 관리자만 (엔드포인트, 핸들러, SQL/캐시 지표 노출)
+                                                .requestMatchers("/actuator/**").hasRole("ADMIN")
+
+                                                // 관리자 API (데이터 내보내기 등)
+                                                .requestMatchers("/api/admin/**").hasRole("ADMIN")
 
                                                 // ✅ API 공개 범위
                                                 .requestMatchers("/api/locations/**").permitAll()
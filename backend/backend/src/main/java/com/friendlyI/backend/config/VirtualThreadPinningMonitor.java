@@ -0,0 +1,123 @@
+package com.friendlyI.backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드 고정(pinning) 감시
+ * 가상 스레드가 synchronized 블록이나 네이티브 호출 안에서 대기하면 캐리어 스레드를 놓지 못하고 고정된다.
+ * JFR jdk.VirtualThreadPinned 이벤트를 구독해 임계 시간 이상 고정된 경우를 스택과 함께 경고 로그로 남기고,
+ * 고정 시간을 jvm.threads.virtual.pinned 타이머로 기록한다. (같은 스택은 처음 한 번만 경고, 이후는 DEBUG)
+ * 가상 스레드 모드(spring.threads.virtual.enabled=true)에서만 동작한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(name = "app.threads.pinning-monitor.enabled", havingValue = "true", matchIfMissing = true)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private final Duration threshold;
+    private final int stackDepth;
+    private final Timer pinned;
+    private final Set<String> reportedStacks = ConcurrentHashMap.newKeySet();
+
+    private volatile RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+            @Value("${app.threads.pinning-monitor.threshold:20ms}") Duration threshold,
+            @Value("${app.threads.pinning-monitor.stack-depth:12}") int stackDepth) {
+        this.threshold = threshold;
+        this.stackDepth = stackDepth;
+        this.pinned = Timer.builder("jvm.threads.virtual.pinned")
+                .description("가상 스레드가 캐리어 스레드에 고정된 시간 (임계 시간 이상만)")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (stream != null) {
+            return;
+        }
+        try {
+            RecordingStream recording = new RecordingStream();
+            recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+            recording.onEvent(PINNED_EVENT, this::onPinned);
+            recording.startAsync();
+            stream = recording;
+            log.info("가상 스레드 고정 감시 시작: threshold={}", threshold);
+        } catch (RuntimeException e) {
+            // JFR을 쓸 수 없는 런타임이면 감시 없이 동작
+            log.warn("가상 스레드 고정 감시를 시작하지 못했습니다: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        Duration duration = event.getDuration();
+        pinned.record(duration);
+
+        String thread = threadName(event);
+        List<String> frames = frames(event.getStackTrace());
+        String signature = String.join("|", frames);
+        if (reportedStacks.add(signature)) {
+            log.warn("가상 스레드 고정: {}ms, thread={}\n\tat {}", duration.toMillis(), thread,
+                    String.join("\n\tat ", frames));
+        } else if (log.isDebugEnabled()) {
+            // 이미 스택을 남긴 고정은 타이머로만 집계 (반복될 때마다 경고하지 않음)
+            log.debug("가상 스레드 고정: {}ms, thread={}, at {}", duration.toMillis(), thread,
+                    frames.isEmpty() ? "?" : frames.get(0));
+        }
+    }
+
+    private static String threadName(RecordedEvent event) {
+        if (event.getThread() == null) {
+            return "unknown";
+        }
+        String name = event.getThread().getJavaName();
+        // 이름 없는 가상 스레드는 스레드 ID로 표시
+        return name == null || name.isEmpty() ? "#" + event.getThread().getJavaThreadId() : name;
+    }
+
+    private List<String> frames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return List.of();
+        }
+        return stackTrace.getFrames().stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .limit(stackDepth)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                        + ":" + frame.getLineNumber())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,15 @@
+package com.friendlyI.backend.config.caching;
+
+/**
+ * 노드 간 L1 캐시 무효화 메시지
+ *
+ * @param origin    메시지를 보낸 노드 ID (자기 메시지는 무시)
+ * @param cacheName 캐시 이름
+ * @param key       무효화할 키 (null이면 캐시 전체)
+ */
+public record CacheInvalidation(String origin, String cacheName, String key) {
+
+    public boolean isClear() {
+        return key == null;
+    }
+}
@@ -0,0 +1,13 @@
+package com.friendlyI.backend.config.caching;
+
+import java.util.function.Consumer;
+
+/**
+ * L1 캐시 무효화 메시지 전달 통로 (운영: Redis pub/sub, 테스트: 메모리 구현)
+ */
+public interface CacheInvalidationBus {
+
+    void publish(CacheInvalidation invalidation);
+
+    void subscribe(Consumer<CacheInvalidation> listener);
+}
@@ -0,0 +1,34 @@
+package com.friendlyI.backend.config.caching;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 비동기 Caffeine 캐시 (가상 스레드 모드의 로컬 캐시)
+ * 적재 중 난 예상된 예외는 적재 실패 경고 없이 호출자에게 전달하고 캐시에 남기지 않는다. ({@link ExpectedLoadFailure} 참고)
+ */
+public class ExpectedFailureCaffeineCache extends CaffeineCache {
+
+    public ExpectedFailureCaffeineCache(String name, AsyncCache<Object, Object> cache, boolean allowNullValues) {
+        super(name, cache, allowNullValues);
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        Object value = super.lookup(key);
+        return value instanceof ExpectedLoadFailure ? null : value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object value = super.get(key, ExpectedLoadFailure.capturing(valueLoader));
+        if (value instanceof ExpectedLoadFailure failure) {
+            getNativeCache().asMap().remove(key, failure);
+            throw new ValueRetrievalException(key, valueLoader, failure.exception());
+        }
+        return (T) value;
+    }
+}
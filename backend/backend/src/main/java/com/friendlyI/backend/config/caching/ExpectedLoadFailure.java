@@ -0,0 +1,51 @@
+package com.friendlyI.backend.config.caching;
+
+import com.friendlyI.backend.exception.MemberNotFoundException;
+import com.friendlyI.backend.exception.ReservationNotFoundException;
+import com.friendlyI.backend.exception.ResourceNotFoundException;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+
+/**
+ * 캐시 적재 중 난 예상된 예외(없는 회원/예약 조회 등)를 담는 값
+ * 비동기 캐시는 적재가 예외로 끝나면 Caffeine이 경고 로그를 남기므로, 예상된 예외는 이 값으로 정상 완료시킨 뒤
+ * 캐시에서 지우고 호출자에게 다시 던진다. 그 밖의 예외는 그대로 적재 실패로 두어 경고 로그에 남긴다.
+ */
+public record ExpectedLoadFailure(Exception exception) {
+
+    private static final List<Class<? extends Exception>> EXPECTED = List.of(
+            MemberNotFoundException.class,
+            ReservationNotFoundException.class,
+            ResourceNotFoundException.class);
+
+    /**
+     * 예상된 예외는 ExpectedLoadFailure로 돌려주는 적재 함수
+     */
+    public static Callable<Object> capturing(Callable<?> valueLoader) {
+        return () -> {
+            try {
+                return valueLoader.call();
+            } catch (Exception e) {
+                if (isExpected(e)) {
+                    return new ExpectedLoadFailure(e);
+                }
+                throw e;
+            }
+        };
+    }
+
+    /**
+     * 예외 또는 그 원인이 예상된 예외인지 (캐시 어드바이스는 메서드 예외를 감싸서 던짐)
+     */
+    static boolean isExpected(Throwable e) {
+        for (Throwable current = e; current != null; current = current.getCause()) {
+            for (Class<? extends Exception> type : EXPECTED) {
+                if (type.isInstance(current)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,55 @@
+package com.friendlyI.backend.config.caching;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Redis pub/sub 기반 캐시 무효화 전달
+ * 메시지 유실(구독 재연결 중 등)에 대비해 L1 캐시에는 짧은 만료 시간을 함께 둔다.
+ */
+@Slf4j
+public class RedisCacheInvalidationBus implements CacheInvalidationBus {
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ChannelTopic topic;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public RedisCacheInvalidationBus(StringRedisTemplate redisTemplate,
+            RedisMessageListenerContainer listenerContainer, String channel) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.topic = new ChannelTopic(channel);
+    }
+
+    @Override
+    public void publish(CacheInvalidation invalidation) {
+        try {
+            redisTemplate.convertAndSend(topic.getTopic(), objectMapper.writeValueAsString(invalidation));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("캐시 무효화 메시지를 만들 수 없습니다.", e);
+        } catch (RuntimeException e) {
+            // 전달에 실패해도 다른 노드의 L1은 만료 시간이 지나면 L2에서 다시 읽는다
+            log.warn("캐시 무효화 메시지 발행 실패: {} {}", invalidation.cacheName(), e.getMessage());
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidation> listener) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            try {
+                listener.accept(objectMapper.readValue(
+                        new String(message.getBody(), StandardCharsets.UTF_8), CacheInvalidation.class));
+            } catch (Exception e) {
+                log.warn("캐시 무효화 메시지 처리 실패: {}", e.getMessage());
+            }
+        }, topic);
+    }
+}
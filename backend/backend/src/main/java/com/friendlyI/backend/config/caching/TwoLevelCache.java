@@ -0,0 +1,222 @@
+package com.friendlyI.backend.config.caching;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * L1(노드 로컬 Caffeine) + L2(공유 Redis) 2단 캐시
+ * - 조회: L1 → L2 → (없으면) 원본, L2에서 찾은 값은 L1에 채운다.
+ * - 저장/삭제: L2를 먼저 바꾸고 L1에 반영한 뒤, 다른 노드에 L1 무효화를 알린다.
+ * - L2 장애 시에는 L1만으로 동작한다. (요청은 실패시키지 않음)
+ * - L1에 refreshAfterWrite가 설정되어 있으면 그 주기로 L1 값을 L2에서 다시 읽는다.
+ *   (무효화 메시지를 놓친 노드도 주기 안에 L2 값으로 맞춰짐, L2 조회 실패 시 기존 값 유지)
+ * L1 키는 L2(Redis) 키와 같은 문자열 표현을 사용해 무효화 메시지로 그대로 전달한다.
+ * asyncLoading 이면 L1을 비동기 캐시로 만들어 미스 적재(L2 조회, 원본 조회)를 L1 설정의 executor에서 실행한다.
+ * (가상 스레드 모드에서 적재가 Caffeine 내부 락을 잡은 채 JDBC를 기다리며 캐리어 스레드를 고정하지 않도록)
+ * 적재 중 난 예상된 예외는 L1/L2에 남기지 않고 호출자에게 그대로 던진다. ({@link ExpectedLoadFailure} 참고)
+ * 원본 조회와 L2 저장 사이에 다른 요청이 값을 바꾸고 지우면 옛 값이 L2에 다시 써질 수 있다.
+ * - 적재 중에 이 노드에서 저장/삭제/무효화가 일어났으면 적재한 값을 L2에 쓰지 않는다. (무효화 세대 비교)
+ * - 무효화 메시지가 늦게 도착하는 다른 노드의 적재는 막을 수 없으므로, 저장/삭제 후 evictAgainDelay 뒤에
+ *   L2와 모든 노드의 L1에서 한 번 더 지운다. (0이면 다시 지우지 않음)
+ */
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final LoadingCache<String, Object> local;
+    private final Cache remote;
+    private final Consumer<CacheInvalidation> publisher;
+    private final String nodeId;
+    private final Duration evictAgainDelay;
+    // 저장/삭제/무효화마다 증가 (적재 중에 바뀌었으면 적재한 값을 캐시에 쓰지 않음)
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public TwoLevelCache(String name, Caffeine<Object, Object> localSpec, Cache remote,
+            String nodeId, Consumer<CacheInvalidation> publisher) {
+        this(name, localSpec, remote, nodeId, publisher, false, Duration.ZERO);
+    }
+
+    public TwoLevelCache(String name, Caffeine<Object, Object> localSpec, Cache remote,
+            String nodeId, Consumer<CacheInvalidation> publisher, boolean asyncLoading, Duration evictAgainDelay) {
+        super(true);
+        this.name = name;
+        this.remote = remote;
+        this.nodeId = nodeId;
+        this.publisher = publisher;
+        this.evictAgainDelay = evictAgainDelay;
+        this.local = asyncLoading
+                ? localSpec.buildAsync(this::reloadFromRemote).synchronous()
+                : localSpec.build(this::reloadFromRemote);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public LoadingCache<String, Object> getNativeCache() {
+        return local;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String localKey = localKey(key);
+        Object value = local.getIfPresent(localKey);
+        if (value != null && !(value instanceof ExpectedLoadFailure)) {
+            return value;
+        }
+        long generation = invalidations.get();
+        ValueWrapper remoteValue = remoteGet(key);
+        if (remoteValue == null) {
+            return null;
+        }
+        Object storeValue = toStoreValue(remoteValue.get());
+        if (invalidations.get() == generation) {
+            local.put(localKey, storeValue);
+        }
+        return storeValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        Object storeValue = local.get(localKey, k -> {
+            ValueWrapper remoteValue = remoteGet(key);
+            if (remoteValue != null) {
+                return toStoreValue(remoteValue.get());
+            }
+            try {
+                long generation = invalidations.get();
+                Object loaded = ExpectedLoadFailure.capturing(valueLoader).call();
+                if (loaded instanceof ExpectedLoadFailure) {
+                    return loaded;
+                }
+                if (invalidations.get() == generation) {
+                    remotePut(key, loaded);
+                } else {
+                    log.debug("적재 중 무효화되어 L2에 쓰지 않음: {} {}", name, key);
+                }
+                return toStoreValue(loaded);
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+        });
+        if (storeValue instanceof ExpectedLoadFailure failure) {
+            local.asMap().remove(localKey, failure);
+            throw new ValueRetrievalException(key, valueLoader, failure.exception());
+        }
+        return (T) fromStoreValue(storeValue);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        invalidations.incrementAndGet();
+        remotePut(key, value);
+        String localKey = localKey(key);
+        local.put(localKey, toStoreValue(value));
+        publish(localKey);
+        evictAgainLater(key);
+    }
+
+    @Override
+    public void evict(Object key) {
+        evictEverywhere(key);
+        evictAgainLater(key);
+    }
+
+    @Override
+    public void clear() {
+        invalidations.incrementAndGet();
+        try {
+            remote.clear();
+        } catch (RuntimeException e) {
+            log.warn("L2 캐시 비우기 실패: {} {}", name, e.getMessage());
+        }
+        local.invalidateAll();
+        publish(null);
+    }
+
+    /**
+     * 다른 노드에서 온 무효화 메시지를 L1에 반영
+     */
+    void invalidateLocal(String localKey) {
+        invalidations.incrementAndGet();
+        if (localKey == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(localKey);
+        }
+    }
+
+    private void evictEverywhere(Object key) {
+        invalidations.incrementAndGet();
+        remoteEvict(key);
+        String localKey = localKey(key);
+        local.invalidate(localKey);
+        publish(localKey);
+    }
+
+    /**
+     * 저장/삭제 직전에 원본을 읽은 다른 노드의 적재가 옛 값을 L2에 쓴 경우를 지우기 위해 한 번 더 삭제
+     */
+    private void evictAgainLater(Object key) {
+        if (evictAgainDelay.isZero() || evictAgainDelay.isNegative()) {
+            return;
+        }
+        CompletableFuture.delayedExecutor(evictAgainDelay.toMillis(), TimeUnit.MILLISECONDS)
+                .execute(() -> evictEverywhere(key));
+    }
+
+    /**
+     * L1 refreshAfterWrite 갱신 (L2에 없으면 null을 돌려 L1에서도 제거, 예외는 Caffeine이 기존 값을 유지)
+     */
+    private Object reloadFromRemote(String localKey) {
+        ValueWrapper remoteValue = remote.get(localKey);
+        return remoteValue != null ? toStoreValue(remoteValue.get()) : null;
+    }
+
+    private ValueWrapper remoteGet(Object key) {
+        try {
+            return remote.get(key);
+        } catch (RuntimeException e) {
+            log.warn("L2 캐시 조회 실패: {} {}", name, e.getMessage());
+            return null;
+        }
+    }
+
+    private void remotePut(Object key, Object value) {
+        try {
+            remote.put(key, value);
+        } catch (RuntimeException e) {
+            log.warn("L2 캐시 저장 실패: {} {}", name, e.getMessage());
+        }
+    }
+
+    private void remoteEvict(Object key) {
+        try {
+            remote.evict(key);
+        } catch (RuntimeException e) {
+            log.warn("L2 캐시 삭제 실패: {} {}", name, e.getMessage());
+        }
+    }
+
+    private void publish(String localKey) {
+        publisher.accept(new CacheInvalidation(nodeId, name, localKey));
+    }
+
+    static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,88 @@
+package com.friendlyI.backend.config.caching;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Caffeine(L1, 노드별 근거리 캐시) + 공유 캐시(L2, Redis)를 묶은 CacheManager
+ * 한 노드에서 저장/삭제하면 무효화 메시지를 발행해 다른 노드의 L1에서도 같은 키를 지운다.
+ * L1 설정은 캐시 이름별로 받으며, refreshAfterWrite가 있으면 L1 값을 그 주기로 L2에서 다시 읽는다.
+ * asyncLoading 이면 L1 미스 적재를 L1 설정의 executor에서 실행한다. ({@link TwoLevelCache} 참고)
+ * evictAgainDelay 가 있으면 저장/삭제 후 그만큼 지나 한 번 더 지워, 늦게 끝난 적재가 L2에 쓴 옛 값을 없앤다.
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager {
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Function<String, Caffeine<Object, Object>> localSpec;
+    private final CacheManager remoteCacheManager;
+    private final CacheInvalidationBus invalidationBus;
+    private final boolean asyncLoading;
+    private final Duration evictAgainDelay;
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(Function<String, Caffeine<Object, Object>> localSpec, CacheManager remoteCacheManager,
+            CacheInvalidationBus invalidationBus, Collection<String> cacheNames) {
+        this(localSpec, remoteCacheManager, invalidationBus, cacheNames, false);
+    }
+
+    public TwoLevelCacheManager(Function<String, Caffeine<Object, Object>> localSpec, CacheManager remoteCacheManager,
+            CacheInvalidationBus invalidationBus, Collection<String> cacheNames, boolean asyncLoading) {
+        this(localSpec, remoteCacheManager, invalidationBus, cacheNames, asyncLoading, Duration.ZERO);
+    }
+
+    public TwoLevelCacheManager(Function<String, Caffeine<Object, Object>> localSpec, CacheManager remoteCacheManager,
+            CacheInvalidationBus invalidationBus, Collection<String> cacheNames, boolean asyncLoading,
+            Duration evictAgainDelay) {
+        this.localSpec = localSpec;
+        this.remoteCacheManager = remoteCacheManager;
+        this.invalidationBus = invalidationBus;
+        this.asyncLoading = asyncLoading;
+        this.evictAgainDelay = evictAgainDelay;
+        cacheNames.forEach(this::getCache);
+        invalidationBus.subscribe(this::onInvalidation);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, cacheName -> {
+            Cache remote = remoteCacheManager.getCache(cacheName);
+            if (remote == null) {
+                throw new IllegalStateException("L2 캐시를 만들 수 없습니다: " + cacheName);
+            }
+            return new TwoLevelCache(cacheName, localSpec.apply(cacheName), remote, nodeId, invalidationBus::publish,
+                    asyncLoading, evictAgainDelay);
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private void onInvalidation(CacheInvalidation invalidation) {
+        if (nodeId.equals(invalidation.origin())) {
+            return;
+        }
+        TwoLevelCache cache = caches.get(invalidation.cacheName());
+        if (cache != null) {
+            log.debug("다른 노드 캐시 무효화 반영: {} {}", invalidation.cacheName(),
+                    invalidation.isClear() ? "*" : invalidation.key());
+            cache.invalidateLocal(invalidation.key());
+        }
+    }
+}
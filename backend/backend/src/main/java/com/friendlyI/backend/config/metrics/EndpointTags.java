@@ -0,0 +1,47 @@
+package com.friendlyI.backend.config.metrics;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 엔드포인트 메트릭 태그 값 (http.server.requests와 같은 uri 규칙 + 처리한 컨트롤러 메서드)
+ */
+public final class EndpointTags {
+
+    public static final String NONE = "none";
+
+    private EndpointTags() {
+    }
+
+    /**
+     * 매칭된 URI 패턴 (예: /api/reservations/{id}), 매칭되지 않은 요청은 상태별 고정 값
+     */
+    public static String uri(HttpServletRequest request, HttpServletResponse response) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern instanceof String value && !value.isEmpty()) {
+            return value;
+        }
+        HttpStatus status = HttpStatus.resolve(response.getStatus());
+        if (status == HttpStatus.NOT_FOUND) {
+            return "NOT_FOUND";
+        }
+        if (status != null && status.is3xxRedirection()) {
+            return "REDIRECTION";
+        }
+        return "UNKNOWN";
+    }
+
+    /**
+     * 요청을 처리한 컨트롤러 메서드 (예: ReservationController.getReservationById)
+     */
+    public static String handler(HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod method) {
+            return method.getBeanType().getSimpleName() + "." + method.getMethod().getName();
+        }
+        return NONE;
+    }
+}
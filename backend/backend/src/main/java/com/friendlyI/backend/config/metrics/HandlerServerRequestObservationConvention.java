@@ -0,0 +1,17 @@
+package com.friendlyI.backend.config.metrics;
+
+import io.micrometer.common.KeyValues;
+import org.springframework.http.server.observation.DefaultServerRequestObservationConvention;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+
+/**
+ * http.server.requests 타이머에 처리한 컨트롤러 메서드(handler) 태그 추가
+ */
+public class HandlerServerRequestObservationConvention extends DefaultServerRequestObservationConvention {
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(ServerRequestObservationContext context) {
+        return super.getLowCardinalityKeyValues(context)
+                .and("handler", EndpointTags.handler(context.getCarrier()));
+    }
+}
@@ -0,0 +1,29 @@
+package com.friendlyI.backend.config.metrics;
+
+import java.util.List;
+
+/**
+ * 같은 형태의 SQL이 임계값 이상 반복됨 (N+1 의심, app.sql.diagnostics.fail-fast=true일 때만 발생)
+ */
+public class RepeatedQueryException extends IllegalStateException {
+
+    private final String scope;
+    private final List<RequestSqlStatistics.RepeatedQuery> repeatedQueries;
+
+    public RepeatedQueryException(String scope, List<RequestSqlStatistics.RepeatedQuery> repeatedQueries) {
+        super(String.format("반복 SQL 감지 (N+1 의심): scope=%s, %s", scope, repeatedQueries.stream()
+                .map(query -> String.format("[count=%d, callSite=%s, sql=%s]", query.count(), query.callSite(),
+                        query.sql()))
+                .toList()));
+        this.scope = scope;
+        this.repeatedQueries = repeatedQueries;
+    }
+
+    public String getScope() {
+        return scope;
+    }
+
+    public List<RequestSqlStatistics.RepeatedQuery> getRepeatedQueries() {
+        return repeatedQueries;
+    }
+}
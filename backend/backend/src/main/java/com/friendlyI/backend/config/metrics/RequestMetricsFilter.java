@@ -0,0 +1,70 @@
+package com.friendlyI.backend.config.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청별 SQL 문 수 / 엔티티 로드 수 기록
+ * http.server.sql.statements, http.server.entity.loads 분포(method, uri, handler 태그)에 남기고,
+ * DEBUG 레벨이면 요청 한 줄 요약을 로그로 남긴다. (쿼리 문자열, 본문, 헤더는 민감정보 가능성 때문에 남기지 않음)
+ * SQL 진단이 켜져 있으면 요청이 끝난 뒤 느린 SQL / 반복 SQL을 보고한다. (SqlDiagnostics)
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final SqlDiagnostics sqlDiagnostics;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestSqlStatistics statistics = sqlDiagnostics.begin();
+        long started = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestSqlStatistics.end();
+            record(request, response, statistics, started);
+        }
+        // 요청이 예외 없이 끝난 경우에만 보고 (fail-fast 예외가 원래 예외를 가리지 않도록)
+        sqlDiagnostics.report(statistics, request.getMethod() + " " + EndpointTags.uri(request, response)
+                + " (" + EndpointTags.handler(request) + ")");
+    }
+
+    private void record(HttpServletRequest request, HttpServletResponse response, RequestSqlStatistics statistics,
+            long started) {
+        String uri = EndpointTags.uri(request, response);
+        Tags tags = Tags.of("method", request.getMethod(), "uri", uri, "handler", EndpointTags.handler(request));
+        DistributionSummary.builder("http.server.sql.statements")
+                .description("요청 하나에서 Hibernate가 실행한 SQL 문 수")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .maximumExpectedValue(1000.0)
+                .register(meterRegistry)
+                .record(statistics.getStatements());
+        DistributionSummary.builder("http.server.entity.loads")
+                .description("요청 하나에서 Hibernate가 로드한 엔티티 수")
+                .tags(tags)
+                .publishPercentileHistogram()
+                .maximumExpectedValue(10000.0)
+                .register(meterRegistry)
+                .record(statistics.getEntityLoads());
+
+        if (log.isDebugEnabled()) {
+            log.debug("REQUEST: {} {} -> {} ({}ms, sql={}, entityLoads={})", request.getMethod(), uri,
+                    response.getStatus(), (System.nanoTime() - started) / 1_000_000,
+                    statistics.getStatements(), statistics.getEntityLoads());
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.friendlyI.backend.config.metrics;
+
+import org.hibernate.SessionEventListener;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청 하나에서 Hibernate가 실행한 SQL 문 수와 엔티티 로드 수
+ * RequestMetricsFilter가 요청 스레드에 연결하고, Hibernate 세션 이벤트 리스너와 로드 이벤트 리스너가 센다.
+ * 요청 스레드 밖(비동기 작업, 가상 스레드 모드의 캐시 적재 등)에서 실행된 SQL은 세지 않는다.
+ * SQL 진단(SqlDiagnostics)이 켜져 있으면 SQL 형태별 실행 수와 느린 SQL도 모은다.
+ */
+public final class RequestSqlStatistics {
+
+    private static final ThreadLocal<RequestSqlStatistics> CURRENT = new ThreadLocal<>();
+
+    private final int repeatThreshold;
+    private final long slowThresholdNanos;
+
+    private int statements;
+    private int entityLoads;
+
+    private final Map<String, ShapeCount> shapes = new LinkedHashMap<>();
+    private final List<SlowQuery> slowQueries = new ArrayList<>();
+    private String lastSql;
+    private long executeStarted;
+
+    private RequestSqlStatistics(int repeatThreshold, long slowThresholdNanos) {
+        this.repeatThreshold = repeatThreshold;
+        this.slowThresholdNanos = slowThresholdNanos;
+    }
+
+    /**
+     * 현재 스레드에서 집계 시작
+     */
+    public static RequestSqlStatistics begin() {
+        return begin(0, 0);
+    }
+
+    /**
+     * 현재 스레드에서 집계 시작 (같은 형태의 SQL이 repeatThreshold번 이상이면 반복, 실행 시간이 slowThresholdNanos 이상이면 느린 SQL, 0이면 끔)
+     */
+    public static RequestSqlStatistics begin(int repeatThreshold, long slowThresholdNanos) {
+        RequestSqlStatistics statistics = new RequestSqlStatistics(repeatThreshold, slowThresholdNanos);
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    /**
+     * 현재 스레드의 집계 (요청 밖이면 null)
+     */
+    public static RequestSqlStatistics current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public int getEntityLoads() {
+        return entityLoads;
+    }
+
+    /**
+     * 임계값 이상 반복된 SQL 형태 (처음 실행된 순서)
+     */
+    public List<RepeatedQuery> getRepeatedQueries() {
+        if (repeatThreshold <= 0) {
+            return List.of();
+        }
+        return shapes.entrySet().stream()
+                .filter(entry -> entry.getValue().count >= repeatThreshold)
+                .map(entry -> new RepeatedQuery(entry.getKey(), entry.getValue().count, entry.getValue().callSite))
+                .toList();
+    }
+
+    public List<SlowQuery> getSlowQueries() {
+        return slowQueries;
+    }
+
+    /**
+     * 실행 직전 SQL 기록 (SqlShapeInspector), 임계값에 도달한 형태는 그 시점의 호출 위치를 남긴다
+     */
+    void inspected(String sql) {
+        lastSql = sql;
+        if (repeatThreshold <= 0) {
+            return;
+        }
+        ShapeCount shape = shapes.computeIfAbsent(SqlShapeInspector.normalize(sql), key -> new ShapeCount());
+        if (++shape.count == repeatThreshold) {
+            shape.callSite = SqlShapeInspector.callSite();
+        }
+    }
+
+    /**
+     * 반복된 SQL 형태, 실행 수, 임계값에 도달했을 때의 애플리케이션 호출 위치
+     */
+    public record RepeatedQuery(String sql, int count, String callSite) {
+    }
+
+    public record SlowQuery(String sql, long millis) {
+    }
+
+    private static final class ShapeCount {
+        private int count;
+        private String callSite;
+    }
+
+    /**
+     * SQL 실행 수와 실행 시간 집계 (hibernate.session.events.auto로 세션마다 생성, 배치 실행은 1회)
+     */
+    public static class StatementListener implements SessionEventListener {
+
+        @Override
+        public void jdbcExecuteStatementStart() {
+            RequestSqlStatistics statistics = CURRENT.get();
+            if (statistics != null) {
+                statistics.statements++;
+                statistics.executeStarted = System.nanoTime();
+            }
+        }
+
+        @Override
+        public void jdbcExecuteStatementEnd() {
+            RequestSqlStatistics statistics = CURRENT.get();
+            if (statistics == null || statistics.slowThresholdNanos <= 0 || statistics.executeStarted == 0) {
+                return;
+            }
+            long elapsed = System.nanoTime() - statistics.executeStarted;
+            statistics.executeStarted = 0;
+            if (elapsed >= statistics.slowThresholdNanos) {
+                statistics.slowQueries.add(new SlowQuery(
+                        statistics.lastSql != null ? SqlShapeInspector.normalize(statistics.lastSql) : "?",
+                        elapsed / 1_000_000));
+            }
+        }
+
+        @Override
+        public void jdbcExecuteBatchStart() {
+            jdbcExecuteStatementStart();
+        }
+
+        @Override
+        public void jdbcExecuteBatchEnd() {
+            jdbcExecuteStatementEnd();
+        }
+    }
+
+    /**
+     * 엔티티 로드 수 집계 (조회 결과로 영속성 컨텍스트에 올라온 엔티티마다 1회)
+     */
+    public static class EntityLoadIntegrator implements Integrator, PostLoadEventListener {
+
+        @Override
+        public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+                SessionFactoryImplementor sessionFactory) {
+            sessionFactory.getServiceRegistry().requireService(EventListenerRegistry.class)
+                    .appendListeners(EventType.POST_LOAD, this);
+        }
+
+        @Override
+        public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        }
+
+        @Override
+        public void onPostLoad(PostLoadEvent event) {
+            RequestSqlStatistics statistics = CURRENT.get();
+            if (statistics != null) {
+                statistics.entityLoads++;
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.friendlyI.backend.config.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * HTTP 요청 밖에서 호출된 서비스 메서드를 SQL 진단 범위로 묶음 (테스트, 스케줄러, 비동기 작업자)
+ * 이미 범위가 있으면(요청 안, 서비스 안의 서비스 호출) 바깥 범위에 합산한다.
+ * 트랜잭션/캐시 프록시보다 바깥에서 실행되어 지연 로딩과 커밋 시점의 SQL까지 포함한다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.sql.diagnostics.enabled", havingValue = "true")
+public class ServiceSqlScopeAspect {
+
+    private final SqlDiagnostics sqlDiagnostics;
+
+    @Around("within(com.friendlyI.backend.service..*) && @within(org.springframework.stereotype.Service) "
+            + "&& execution(public * *(..))")
+    public Object scope(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (RequestSqlStatistics.current() != null) {
+            return joinPoint.proceed();
+        }
+        RequestSqlStatistics statistics = sqlDiagnostics.begin();
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } finally {
+            RequestSqlStatistics.end();
+        }
+        sqlDiagnostics.report(statistics, joinPoint.getSignature().getDeclaringType().getSimpleName() + "."
+                + joinPoint.getSignature().getName());
+        return result;
+    }
+}
@@ -0,0 +1,74 @@
+package com.friendlyI.backend.config.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 느린 SQL / 반복 SQL(N+1) 진단 (app.sql.diagnostics.*, dev/staging 프로필에서 경고, 테스트에서는 fail-fast)
+ * 진단 범위는 HTTP 요청(RequestMetricsFilter) 또는 요청 밖에서 호출된 서비스 메서드(ServiceSqlScopeAspect)다.
+ * 범위가 끝나면 같은 형태의 SQL이 repeat-threshold번 이상 실행된 경우와 slow-threshold 이상 걸린 SQL을
+ * 범위 이름, 호출 위치와 함께 경고 로그로 남기고, fail-fast면 반복 SQL에 대해 RepeatedQueryException을 던진다.
+ */
+@Slf4j
+@Component
+public class SqlDiagnostics {
+
+    private final boolean enabled;
+    private final int repeatThreshold;
+    private final Duration slowThreshold;
+    private final boolean failFast;
+
+    public SqlDiagnostics(@Value("${app.sql.diagnostics.enabled:false}") boolean enabled,
+            @Value("${app.sql.diagnostics.repeat-threshold:5}") int repeatThreshold,
+            @Value("${app.sql.diagnostics.slow-threshold:200ms}") Duration slowThreshold,
+            @Value("${app.sql.diagnostics.fail-fast:false}") boolean failFast) {
+        if (enabled && repeatThreshold < 2) {
+            throw new IllegalArgumentException("app.sql.diagnostics.repeat-threshold는 2 이상이어야 합니다: " + repeatThreshold);
+        }
+        this.enabled = enabled;
+        this.repeatThreshold = repeatThreshold;
+        this.slowThreshold = slowThreshold;
+        this.failFast = failFast;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 현재 스레드에서 집계 시작 (진단이 꺼져 있으면 SQL 수만 센다)
+     */
+    public RequestSqlStatistics begin() {
+        if (!enabled) {
+            return RequestSqlStatistics.begin();
+        }
+        return RequestSqlStatistics.begin(repeatThreshold, slowThreshold.toNanos());
+    }
+
+    /**
+     * 범위가 끝난 집계 보고 (fail-fast면 반복 SQL이 있을 때 RepeatedQueryException)
+     */
+    public void report(RequestSqlStatistics statistics, String scope) {
+        if (!enabled) {
+            return;
+        }
+        for (RequestSqlStatistics.SlowQuery slow : statistics.getSlowQueries()) {
+            log.warn("느린 SQL: scope={}, elapsedMs={}, sql={}", scope, slow.millis(), slow.sql());
+        }
+        List<RequestSqlStatistics.RepeatedQuery> repeated = statistics.getRepeatedQueries();
+        if (repeated.isEmpty()) {
+            return;
+        }
+        for (RequestSqlStatistics.RepeatedQuery query : repeated) {
+            log.warn("반복 SQL 감지 (N+1 의심): scope={}, count={}, statements={}, callSite={}, sql={}",
+                    scope, query.count(), statistics.getStatements(), query.callSite(), query.sql());
+        }
+        if (failFast) {
+            throw new RepeatedQueryException(scope, repeated);
+        }
+    }
+}
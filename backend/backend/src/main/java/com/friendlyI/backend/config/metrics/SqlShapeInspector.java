@@ -0,0 +1,74 @@
+package com.friendlyI.backend.config.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Hibernate가 실행하는 SQL을 현재 요청 집계(RequestSqlStatistics)에 형태별로 기록
+ * SQL 진단이 켜져 있을 때만 hibernate.session_factory.statement_inspector로 등록된다. SQL은 바꾸지 않는다.
+ */
+public class SqlShapeInspector implements StatementInspector {
+
+    private static final String APP_PACKAGE = "com.friendlyI.backend.";
+    private static final int CALL_SITE_DEPTH = 3;
+
+    // 호출 위치에서 제외할 집계/진단 클래스
+    private static final List<String> INTERNAL_CLASSES = List.of(
+            RequestSqlStatistics.class.getName(),
+            SqlShapeInspector.class.getName(),
+            SqlDiagnostics.class.getName(),
+            RequestMetricsFilter.class.getName(),
+            ServiceSqlScopeAspect.class.getName());
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    @Override
+    public String inspect(String sql) {
+        RequestSqlStatistics statistics = RequestSqlStatistics.current();
+        if (statistics != null) {
+            statistics.inspected(sql);
+        }
+        return sql;
+    }
+
+    /**
+     * SQL 형태 (리터럴은 ?, IN 목록은 길이와 관계없이 in (?), 공백은 하나로)
+     */
+    public static String normalize(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("in (?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+
+    /**
+     * 현재 스택에서 가장 가까운 애플리케이션 호출 위치 (Spring/Hibernate 프록시와 집계 클래스 제외, 최대 3단계)
+     */
+    static String callSite() {
+        String callSite = StackWalker.getInstance().walk(frames -> frames
+                .filter(frame -> isApplicationFrame(frame.getClassName()))
+                .limit(CALL_SITE_DEPTH)
+                .map(frame -> simpleName(frame.getClassName()) + "." + frame.getMethodName() + ":"
+                        + frame.getLineNumber())
+                .collect(Collectors.joining(" <- ")));
+        return callSite.isEmpty() ? "unknown" : callSite;
+    }
+
+    private static boolean isApplicationFrame(String className) {
+        return className.startsWith(APP_PACKAGE)
+                && !className.contains("$$")
+                && !className.contains("$HibernateProxy$")
+                && INTERNAL_CLASSES.stream().noneMatch(internal -> className.equals(internal)
+                        || className.startsWith(internal + "$"));
+    }
+
+    private static String simpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+}
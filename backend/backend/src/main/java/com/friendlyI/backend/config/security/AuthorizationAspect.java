@@ -23,28 +23,28 @@ public class AuthorizationAspect {
     @Before("@annotation(requireAuth)")
     public void checkAuthorization(JoinPoint joinPoint, RequireAuth requireAuth) {
         HttpServletRequest request = getCurrentRequest();
-        String token = extractTokenFromRequest(request);
 
-        if (token == null || !jwtTokenUtil.validateToken(token)) {
-            log.warn("인증되지 않은 요청: {}", request.getRequestURI());
-            throw new UnauthorizedException("인증이 필요합니다.");
-        }
+        // 토큰은 요청당 한 번만 검증하고, 이후 권한 확인은 모두 같은 인증 정보를 사용
+        JwtPrincipal principal = jwtTokenUtil.authenticate(request)
+                .orElseThrow(() -> {
+                    log.warn("인증되지 않은 요청: {}", request.getRequestURI());
+                    return new UnauthorizedException("인증이 필요합니다.");
+                });
 
         // 관리자 권한이 필요한 경우
-        if (requireAuth.adminOnly() && !jwtTokenUtil.isAdmin(token)) {
-            log.warn("관리자 권한이 필요한 요청: {} by {}",
-                    request.getRequestURI(), jwtTokenUtil.getLoginIdFromToken(token));
+        if (requireAuth.adminOnly() && !principal.isAdmin()) {
+            log.warn("관리자 권한이 필요한 요청: {} by {}", request.getRequestURI(), principal.loginId());
             throw new UnauthorizedException("관리자 권한이 필요합니다.");
         }
 
         // 특정 역할이 필요한 경우
         String[] requiredRoles = requireAuth.roles();
         if (requiredRoles.length > 0) {
-            MemberGrade userGrade = jwtTokenUtil.getGradeFromToken(token);
+            MemberGrade userGrade = principal.grade();
             boolean hasRequiredRole = false;
 
             for (String role : requiredRoles) {
-                if (userGrade.name().equals(role)) {
+                if (userGrade != null && userGrade.name().equals(role)) {
                     hasRequiredRole = true;
                     break;
                 }
@@ -57,7 +57,7 @@ public class AuthorizationAspect {
             }
         }
 
-        log.debug("인증 성공: {} by {}", request.getRequestURI(), jwtTokenUtil.getLoginIdFromToken(token));
+        log.debug("인증 성공: {} by {}", request.getRequestURI(), principal.loginId());
     }
 
     private HttpServletRequest getCurrentRequest() {
@@ -67,12 +67,4 @@ public class AuthorizationAspect {
         }
         return attributes.getRequest();
     }
-
-    private String extractTokenFromRequest(HttpServletRequest request) {
-        String bearerToken = request.getHeader("Authorization");
-        if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
-            return bearerToken.substring(7);
-        }
-        return null;
-    }
-}
\ No newline at end of file
+}
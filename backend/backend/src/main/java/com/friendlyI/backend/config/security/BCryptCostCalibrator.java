@@ -0,0 +1,44 @@
+package com.friendlyI.backend.config.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+
+import java.time.Duration;
+
+/**
+ * 서버 성능에 맞춘 BCrypt 비용(cost) 계산
+ * 최소 비용으로 실제 해시 시간을 잰 뒤, 비용이 1 오를 때마다 시간이 두 배가 되는 성질을 이용해
+ * 목표 지연 시간을 넘지 않는 가장 큰 비용을 고른다.
+ */
+@Slf4j
+public final class BCryptCostCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-Password1!";
+
+    private BCryptCostCalibrator() {
+    }
+
+    public static int calibrate(Duration targetLatency, int minCost, int maxCost) {
+        if (minCost < 4 || maxCost > 31 || minCost > maxCost) {
+            throw new IllegalArgumentException(
+                    String.format("BCrypt 비용 범위가 올바르지 않습니다: %d ~ %d", minCost, maxCost));
+        }
+
+        // 첫 실행은 JIT 워밍업이 섞이므로 한 번 버리고 측정
+        BCrypt.hashpw(SAMPLE_PASSWORD, BCrypt.gensalt(minCost));
+        long startedAt = System.nanoTime();
+        BCrypt.hashpw(SAMPLE_PASSWORD, BCrypt.gensalt(minCost));
+        long measuredNanos = Math.max(1, System.nanoTime() - startedAt);
+
+        int cost = minCost;
+        long estimatedNanos = measuredNanos;
+        while (cost < maxCost && estimatedNanos * 2 <= targetLatency.toNanos()) {
+            cost++;
+            estimatedNanos *= 2;
+        }
+
+        log.info("BCrypt 비용 보정: cost={} (cost {} 측정 {}ms, 예상 {}ms, 목표 {}ms)", cost, minCost,
+                measuredNanos / 1_000_000, estimatedNanos / 1_000_000, targetLatency.toMillis());
+        return cost;
+    }
+}
@@ -0,0 +1,53 @@
+package com.friendlyI.backend.config.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bearer 액세스 토큰을 요청당 한 번 검증해 SecurityContext에 인증 정보(JwtPrincipal)를 채우는 필터
+ * 토큰이 없거나 잘못되었거나 리프레시 토큰이면 인증 없이 통과시키고, 접근 가능 여부는 SecurityConfig의 권한 설정이 판단한다.
+ * 빈으로 등록하면 서블릿 필터로도 한 번 더 등록되므로 SecurityConfig에서 직접 생성한다.
+ */
+@RequiredArgsConstructor
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private final JwtTokenUtil jwtTokenUtil;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        jwtTokenUtil.authenticate(request)
+                .ifPresent(principal -> {
+                    UsernamePasswordAuthenticationToken authentication =
+                            UsernamePasswordAuthenticationToken.authenticated(principal, null, authorities(principal));
+                    SecurityContext context = SecurityContextHolder.createEmptyContext();
+                    context.setAuthentication(authentication);
+                    SecurityContextHolder.setContext(context);
+                });
+        filterChain.doFilter(request, response);
+    }
+
+    private static List<GrantedAuthority> authorities(JwtPrincipal principal) {
+        List<GrantedAuthority> authorities = new ArrayList<>(2);
+        if (principal.grade() != null) {
+            authorities.add(new SimpleGrantedAuthority("ROLE_" + principal.grade().name()));
+        }
+        if (principal.isAdmin()) {
+            authorities.add(new SimpleGrantedAuthority("ROLE_ADMIN"));
+        }
+        return authorities;
+    }
+}
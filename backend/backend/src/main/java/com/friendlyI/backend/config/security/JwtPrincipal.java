@@ -0,0 +1,31 @@
+package com.friendlyI.backend.config.security;
+
+import com.friendlyI.backend.entity.MemberGrade;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증을 마친 JWT에서 꺼낸 인증 정보 (불변)
+ * 요청마다 한 번만 만들어 요청 속성에 보관하고, 같은 토큰은 검증 캐시에서 재사용한다.
+ *
+ * @param grade 액세스 토큰이 아니면 null
+ */
+public record JwtPrincipal(String loginId, Long memberId, MemberGrade grade, String tokenType, Instant expiresAt) {
+
+    /**
+     * 요청 속성 이름 (요청 단위로 한 번만 파싱)
+     */
+    public static final String REQUEST_ATTRIBUTE = JwtPrincipal.class.getName();
+
+    public boolean isAdmin() {
+        return grade == MemberGrade.ROOSTER;
+    }
+
+    public boolean isRefreshToken() {
+        return "refresh".equals(tokenType);
+    }
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !expiresAt.isAfter(now);
+    }
+}
@@ -1,14 +1,27 @@
 package com.friendlyI.backend.config.security;
 
 import com.friendlyI.backend.entity.MemberGrade;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
 @Slf4j
 @Component
@@ -23,8 +36,29 @@ public class JwtTokenUtil {
     @Value("${jwt.refresh-expiration:604800000}") // 7일
     private long refreshExpirationTime;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secretKey.getBytes());
+    @Value("${jwt.claims-cache.maximum-size:10000}")
+    private long claimsCacheMaximumSize;
+
+    @Value("${jwt.claims-cache.max-ttl:10m}") // 토큰 만료가 더 이르면 만료 시각까지만 보관
+    private Duration claimsCacheMaxTtl;
+
+    // 비밀키/파서는 한 번만 만들어 재사용 (둘 다 스레드 안전)
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    // 서명 검증을 통과한 토큰의 인증 정보 캐시 (키: 토큰의 SHA-256, 원문 토큰은 보관하지 않음)
+    private Cache<String, JwtPrincipal> verifiedTokens;
+
+    @PostConstruct
+    void init() {
+        this.signingKey = Keys.hmacShaKeyFor(secretKey.getBytes());
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(claimsCacheMaximumSize)
+                .expireAfter(new TokenExpiry(claimsCacheMaxTtl))
+                .build();
     }
 
     /**
@@ -40,93 +74,205 @@ public class JwtTokenUtil {
                 .claim("grade", grade.name())
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
     /**
-     * 리프레시 토큰 생성
+     * 리프레시 토큰 생성 (토큰마다 새 ID를 부여하고, 같은 로그인에서 이어지는 토큰은 묶음 ID를 공유)
      */
-    public String generateRefreshToken(String loginId) {
+    public String generateRefreshToken(String loginId, Long memberId, String familyId) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + refreshExpirationTime);
 
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(loginId)
                 .claim("type", "refresh")
+                .claim("memberId", memberId)
+                .claim("family", familyId)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
+    /**
+     * 리프레시 토큰 검증 (한 번만 쓰이는 토큰이므로 검증 캐시를 거치지 않음)
+     */
+    public Optional<RefreshTokenClaims> parseRefreshToken(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            if (!"refresh".equals(claims.get("type", String.class)) || claims.getId() == null
+                    || claims.get("family", String.class) == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new RefreshTokenClaims(
+                    claims.getSubject(),
+                    claims.get("memberId", Long.class),
+                    claims.getId(),
+                    claims.get("family", String.class),
+                    claims.getExpiration().toInstant()));
+        } catch (Exception e) {
+            log.warn("리프레시 토큰 검증 실패: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 토큰 검증 후 인증 정보 반환 (같은 토큰은 만료 전까지 서명 검증을 다시 하지 않음)
+     */
+    public Optional<JwtPrincipal> authenticate(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(getPrincipal(token));
+        } catch (Exception e) {
+            log.warn("토큰 검증 실패: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 요청의 Bearer 액세스 토큰 인증 정보 (요청당 한 번만 검증하고 요청 속성에 보관)
+     * 리프레시 토큰은 재발급(/api/auth/refresh)에만 쓰이므로 Bearer로 보내면 인증하지 않는다.
+     */
+    public Optional<JwtPrincipal> authenticate(HttpServletRequest request) {
+        Object cached = request.getAttribute(JwtPrincipal.REQUEST_ATTRIBUTE);
+        if (cached instanceof JwtPrincipal principal) {
+            return Optional.of(principal);
+        }
+        Optional<JwtPrincipal> principal = authenticate(extractToken(request))
+                .filter(value -> {
+                    if (value.isRefreshToken()) {
+                        log.warn("리프레시 토큰으로 인증 시도: {}", request.getRequestURI());
+                        return false;
+                    }
+                    return true;
+                });
+        principal.ifPresent(value -> request.setAttribute(JwtPrincipal.REQUEST_ATTRIBUTE, value));
+        return principal;
+    }
+
+    /**
+     * Authorization 헤더에서 Bearer 토큰 추출
+     */
+    public String extractToken(HttpServletRequest request) {
+        String bearerToken = request.getHeader("Authorization");
+        if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
+            return bearerToken.substring(7);
+        }
+        return null;
+    }
+
     /**
      * 토큰에서 로그인 ID 추출
      */
     public String getLoginIdFromToken(String token) {
-        return getClaimsFromToken(token).getSubject();
+        return getPrincipal(token).loginId();
     }
 
     /**
      * 토큰에서 회원 ID 추출
      */
     public Long getMemberIdFromToken(String token) {
-        return getClaimsFromToken(token).get("memberId", Long.class);
+        return getPrincipal(token).memberId();
     }
 
     /**
      * 토큰에서 회원 등급 추출
      */
     public MemberGrade getGradeFromToken(String token) {
-        String grade = getClaimsFromToken(token).get("grade", String.class);
-        return MemberGrade.valueOf(grade);
+        MemberGrade grade = getPrincipal(token).grade();
+        if (grade == null) {
+            throw new IllegalArgumentException("회원 등급 정보가 없는 토큰입니다.");
+        }
+        return grade;
     }
 
     /**
      * 토큰 유효성 검증
      */
     public boolean validateToken(String token) {
-        try {
-            getClaimsFromToken(token);
-            return true;
-        } catch (Exception e) {
-            log.warn("토큰 검증 실패: {}", e.getMessage());
-            return false;
-        }
+        return authenticate(token).isPresent();
     }
 
     /**
      * 토큰 만료 여부 확인
      */
     public boolean isTokenExpired(String token) {
-        try {
-            Date expiration = getClaimsFromToken(token).getExpiration();
-            return expiration.before(new Date());
-        } catch (Exception e) {
-            return true;
-        }
+        return authenticate(token).isEmpty();
     }
 
     /**
-     * 토큰에서 Claims 추출
+     * 관리자 권한 확인
      */
-    private Claims getClaimsFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    public boolean isAdmin(String token) {
+        return authenticate(token).map(JwtPrincipal::isAdmin).orElse(false);
     }
 
     /**
-     * 관리자 권한 확인
+     * 검증 캐시에서 인증 정보 조회 (없거나 만료되었으면 서명 검증 후 캐시)
      */
-    public boolean isAdmin(String token) {
+    private JwtPrincipal getPrincipal(String token) {
+        String key = hash(token);
+        JwtPrincipal principal = verifiedTokens.getIfPresent(key);
+        if (principal != null && !principal.isExpired(Instant.now())) {
+            return principal;
+        }
+
+        principal = toPrincipal(parser.parseSignedClaims(token).getPayload());
+        verifiedTokens.put(key, principal);
+        return principal;
+    }
+
+    private JwtPrincipal toPrincipal(Claims claims) {
+        String grade = claims.get("grade", String.class);
+        Date expiration = claims.getExpiration();
+        return new JwtPrincipal(
+                claims.getSubject(),
+                claims.get("memberId", Long.class),
+                grade != null ? MemberGrade.valueOf(grade) : null,
+                claims.get("type", String.class),
+                expiration != null ? expiration.toInstant() : null);
+    }
+
+    private static String hash(String token) {
         try {
-            MemberGrade grade = getGradeFromToken(token);
-            return grade == MemberGrade.ROOSTER;
-        } catch (Exception e) {
-            return false;
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 캐시 항목을 토큰 만료 시각(최대 maxTtl)까지만 보관
+     */
+    private record TokenExpiry(Duration maxTtl) implements Expiry<String, JwtPrincipal> {
+
+        @Override
+        public long expireAfterCreate(String key, JwtPrincipal principal, long currentTime) {
+            long maxNanos = maxTtl.toNanos();
+            if (principal.expiresAt() == null) {
+                return maxNanos;
+            }
+            long untilExpiry = Duration.between(Instant.now(), principal.expiresAt()).toNanos();
+            return Math.max(0, Math.min(maxNanos, untilExpiry));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, principal, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, JwtPrincipal principal, long currentTime, long currentDuration) {
+            return currentDuration;
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,12 @@
+package com.friendlyI.backend.config.security;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증을 마친 리프레시 토큰 정보
+ *
+ * @param tokenId  토큰마다 새로 발급되는 ID (jti), 재발급 시 폐기 목록에 올라간다
+ * @param familyId 로그인 한 번에서 이어지는 리프레시 토큰 묶음 ID, 로그아웃/재사용 탐지 시 통째로 폐기한다
+ */
+public record RefreshTokenClaims(String loginId, Long memberId, String tokenId, String familyId, Instant expiresAt) {
+}
@@ -0,0 +1,91 @@
+package com.friendlyI.backend.controller;
+
+import com.friendlyI.backend.config.security.RequireAuth;
+import com.friendlyI.backend.service.DataExportService;
+import com.friendlyI.backend.service.DataExportService.ExportFormat;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.function.ToLongFunction;
+
+/**
+ * 관리자용 데이터 내보내기
+ * 응답은 비동기로 스트리밍하며, 오래 걸리는 내보내기에만 긴 제한 시간(app.export.request-timeout)을 준다.
+ */
+@RestController
+@RequestMapping("/api/admin/exports")
+@Tag(name = "데이터 내보내기", description = "회원/예약/활동 로그 전체 내보내기 API (관리자 전용)")
+public class AdminExportController {
+
+    private final DataExportService dataExportService;
+    private final long requestTimeoutMillis;
+
+    public AdminExportController(DataExportService dataExportService,
+            @Value("${app.export.request-timeout:30m}") Duration requestTimeout) {
+        this.dataExportService = dataExportService;
+        this.requestTimeoutMillis = requestTimeout.toMillis();
+    }
+
+    @RequireAuth(adminOnly = true)
+    @Operation(summary = "회원 내보내기 📤", description = "전체 회원을 NDJSON 또는 CSV로 스트리밍합니다. 비밀번호는 포함되지 않습니다.")
+    @GetMapping("/members")
+    public WebAsyncTask<Void> exportMembers(
+            @Parameter(description = "내보내기 형식 (ndjson, csv)") @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletResponse response) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return stream("members", exportFormat, response, out -> dataExportService.exportMembers(exportFormat, out));
+    }
+
+    @RequireAuth(adminOnly = true)
+    @Operation(summary = "예약 내보내기 📤", description = "전체 예약을 장소/생성자 정보와 함께 NDJSON 또는 CSV로 스트리밍합니다.")
+    @GetMapping("/reservations")
+    public WebAsyncTask<Void> exportReservations(
+            @Parameter(description = "내보내기 형식 (ndjson, csv)") @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletResponse response) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return stream("reservations", exportFormat, response,
+                out -> dataExportService.exportReservations(exportFormat, out));
+    }
+
+    @RequireAuth(adminOnly = true)
+    @Operation(summary = "활동 로그 내보내기 📤", description = "전체 활동 로그를 NDJSON 또는 CSV로 스트리밍합니다.")
+    @GetMapping("/activity-logs")
+    public WebAsyncTask<Void> exportActivityLogs(
+            @Parameter(description = "내보내기 형식 (ndjson, csv)") @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletResponse response) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        return stream("activity-logs", exportFormat, response,
+                out -> dataExportService.exportActivityLogs(exportFormat, out));
+    }
+
+    private WebAsyncTask<Void> stream(String name, ExportFormat format, HttpServletResponse response,
+            ToLongFunction<OutputStream> export) {
+        String filename = String.format("%s-%s.%s", name,
+                LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE), format.getExtension());
+        response.setContentType(format.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(filename).build().toString());
+        return new WebAsyncTask<>(requestTimeoutMillis, () -> {
+            export.applyAsLong(response.getOutputStream());
+            response.flushBuffer();
+            return null;
+        });
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleIllegalArgumentException(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(e.getMessage());
+    }
+}
@@ -1,7 +1,10 @@
 package com.friendlyI.backend.controller;
 
+import com.friendlyI.backend.config.security.JwtPrincipal;
 import com.friendlyI.backend.dto.LoginRequest;
 import com.friendlyI.backend.dto.LoginResponse;
+import com.friendlyI.backend.dto.RefreshTokenRequest;
+import com.friendlyI.backend.exception.UnauthorizedException;
 import com.friendlyI.backend.service.AuthService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -9,6 +12,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 /**
@@ -38,26 +42,39 @@ public class AuthController {
         }
     }
 
+    @Operation(summary = "토큰 재발급", description = "리프레시 토큰으로 액세스 토큰과 리프레시 토큰을 새로 발급합니다")
+    @PostMapping("/refresh")
+    public ResponseEntity<LoginResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        return ResponseEntity.ok(authService.refresh(request.getRefreshToken()));
+    }
+
     @Operation(summary = "로그아웃", description = "사용자 로그아웃을 처리합니다")
     @PostMapping("/logout")
-    public ResponseEntity<Void> logout() {
-        // 현재는 단순히 성공 응답만 반환 (JWT 토큰은 클라이언트에서 삭제)
+    public ResponseEntity<Void> logout(@RequestBody(required = false) RefreshTokenRequest request) {
+        // 리프레시 토큰을 함께 보내면 폐기 (액세스 토큰은 클라이언트에서 삭제)
         log.info("로그아웃 요청");
+        if (request != null) {
+            authService.logout(request.getRefreshToken());
+        }
         return ResponseEntity.ok().build();
     }
 
     @Operation(summary = "토큰 검증", description = "현재 토큰의 유효성을 검증합니다")
     @GetMapping("/validate")
-    public ResponseEntity<Void> validateToken() {
-        // 현재는 단순히 성공 응답만 반환 (추후 JWT 토큰 검증 로직 추가)
+    public ResponseEntity<Void> validateToken(@AuthenticationPrincipal JwtPrincipal principal) {
+        // JwtAuthenticationFilter에서 이미 검증된 인증 정보가 있으면 유효
+        if (principal == null) {
+            throw new UnauthorizedException("인증이 필요합니다.");
+        }
         return ResponseEntity.ok().build();
     }
 
     @Operation(summary = "현재 사용자 정보", description = "현재 로그인한 사용자의 정보를 반환합니다")
     @GetMapping("/me")
-    public ResponseEntity<LoginResponse> getCurrentUser() {
-        // 현재는 임시로 admin 사용자 정보 반환 (추후 JWT에서 사용자 정보 추출)
-        LoginResponse response = authService.getCurrentUserInfo();
-        return ResponseEntity.ok(response);
+    public ResponseEntity<LoginResponse.UserInfo> getCurrentUser(@AuthenticationPrincipal JwtPrincipal principal) {
+        if (principal == null) {
+            throw new UnauthorizedException("인증이 필요합니다.");
+        }
+        return ResponseEntity.ok(authService.getCurrentUserInfo(principal));
     }
 }
\ No newline at end of file
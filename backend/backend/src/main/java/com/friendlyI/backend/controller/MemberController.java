@@ -65,15 +65,27 @@ public class MemberController {
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "10") int size,
             @Parameter(description = "정렬 기준") @RequestParam(defaultValue = "createdAt") String sortBy,
-            @Parameter(description = "정렬 방향") @RequestParam(defaultValue = "desc") String sortDir) {
+            @Parameter(description = "정렬 방향") @RequestParam(defaultValue = "desc") String sortDir,
+            @Parameter(description = "전체 건수 포함 여부 (false면 COUNT 쿼리 생략)") @RequestParam(defaultValue = "true") boolean withCount) {
 
         Sort sort = Sort.by(Sort.Direction.fromString(sortDir), sortBy);
         Pageable pageable = PageRequest.of(page, size, sort);
 
+        if (!withCount) {
+            return ResponseEntity.ok(PageResponse.of(memberService.getAllMembersSlice(pageable)));
+        }
         Page<MemberResponse> memberPage = memberService.getAllMembersPaged(pageable);
         return ResponseEntity.ok(PageResponse.of(memberPage));
     }
 
+    @Operation(summary = "회원 목록 커서 조회 📄", description = "회원 ID 순으로 커서 기반 조회합니다. 응답의 nextCursor로 다음 페이지를 요청합니다.")
+    @GetMapping("/cursor")
+    public ResponseEntity<PageResponse<MemberResponse>> getMembersByCursor(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(memberService.getMembersByCursor(cursor, size));
+    }
+
     /**
      * 회원 ID로 조회
      */
@@ -1,9 +1,12 @@
 package com.friendlyI.backend.controller;
 
+import com.friendlyI.backend.dto.AdmissionTicketResponse;
 import com.friendlyI.backend.dto.ReservationApplicationRequest;
 import com.friendlyI.backend.dto.ReservationApplicationResponse;
+import com.friendlyI.backend.dto.common.PageResponse;
 import com.friendlyI.backend.entity.ReservationStatus;
 import com.friendlyI.backend.exception.ReservationApplicationException;
+import com.friendlyI.backend.service.ReservationAdmissionQueue;
 import com.friendlyI.backend.service.ReservationApplicationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -23,6 +26,7 @@ import java.util.List;
 public class ReservationApplicationController {
 
     private final ReservationApplicationService applicationService;
+    private final ReservationAdmissionQueue admissionQueue;
 
     @Operation(summary = "예약 신청 ✋", description = "예약에 신청합니다. 정원이 초과되면 자동으로 대기 상태가 됩니다.")
     @PostMapping
@@ -50,6 +54,22 @@ public class ReservationApplicationController {
         }
     }
 
+    @Operation(summary = "대기열 예약 신청 🎫", description = "선착순 오픈 예약에 대기열로 신청합니다. 티켓 ID를 즉시 반환하며, 신청 결과는 티켓 조회로 확인합니다.")
+    @PostMapping("/tickets")
+    public ResponseEntity<AdmissionTicketResponse> enqueueApplication(
+            @Parameter(description = "예약 신청 요청 정보", required = true) @Valid @RequestBody ReservationApplicationRequest request) {
+        AdmissionTicketResponse ticket = admissionQueue.enqueue(request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ticket);
+    }
+
+    @Operation(summary = "대기열 티켓 조회 🔎", description = "대기 순번 또는 확정/대기 배정 결과를 조회합니다.")
+    @GetMapping("/tickets/{ticketId}")
+    public ResponseEntity<AdmissionTicketResponse> getTicket(@PathVariable String ticketId) {
+        return admissionQueue.getTicket(ticketId)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
     /**
      * 회원별 신청 조회
      */
@@ -60,6 +80,17 @@ public class ReservationApplicationController {
         return ResponseEntity.ok(applications);
     }
 
+    /**
+     * 회원별 신청 커서 조회 (신청 순서)
+     */
+    @GetMapping("/member/{memberId}/cursor")
+    public ResponseEntity<PageResponse<ReservationApplicationResponse>> getApplicationsByMemberCursor(
+            @PathVariable Long memberId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(applicationService.getApplicationsByMember(memberId, cursor, size));
+    }
+
     /**
      * 예약별 신청 조회
      */
@@ -71,6 +102,17 @@ public class ReservationApplicationController {
         return ResponseEntity.ok(applications);
     }
 
+    /**
+     * 예약별 신청 커서 조회 (신청 순서)
+     */
+    @GetMapping("/reservation/{reservationId}/cursor")
+    public ResponseEntity<PageResponse<ReservationApplicationResponse>> getApplicationsByReservationCursor(
+            @PathVariable Long reservationId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(applicationService.getApplicationsByReservation(reservationId, cursor, size));
+    }
+
     /**
      * 예약 신청 취소
      */
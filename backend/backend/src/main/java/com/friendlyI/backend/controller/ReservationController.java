@@ -3,6 +3,7 @@ package com.friendlyI.backend.controller;
 import com.friendlyI.backend.dto.ReservationApplicantDto;
 import com.friendlyI.backend.dto.ReservationCreateRequest;
 import com.friendlyI.backend.dto.ReservationResponse;
+import com.friendlyI.backend.dto.common.PageResponse;
 import com.friendlyI.backend.service.ReservationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -57,6 +58,14 @@ public class ReservationController {
         return ResponseEntity.ok(reservations);
     }
 
+    @Operation(summary = "예약 목록 커서 조회 📄", description = "예약 날짜, ID 순으로 정렬된 예약을 커서 기반으로 조회합니다. 응답의 nextCursor로 다음 페이지를 요청합니다.")
+    @GetMapping("/cursor")
+    public ResponseEntity<PageResponse<ReservationResponse>> getReservationsByCursor(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)") @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(reservationService.getReservationsByCursor(cursor, size));
+    }
+
     /**
      * 예약 ID로 조회
      */
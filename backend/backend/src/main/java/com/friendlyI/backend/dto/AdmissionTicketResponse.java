@@ -0,0 +1,30 @@
+package com.friendlyI.backend.dto;
+
+import com.friendlyI.backend.entity.AdmissionTicketStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대기열 신청 티켓 응답 (처리 전에는 대기 순번, 처리 후에는 신청 결과를 담는다)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdmissionTicketResponse {
+
+    private String ticketId;
+    private Long reservationId;
+    private Long memberId;
+    private AdmissionTicketStatus status;
+    private String statusDescription;
+    private Long queuePosition; // 처리 전까지의 대기 순번 (1부터 시작)
+    private ReservationApplicationResponse application; // 처리 완료 시 신청 결과
+    private String errorMessage; // 처리 실패 사유
+    private LocalDateTime requestedAt;
+    private LocalDateTime processedAt;
+}
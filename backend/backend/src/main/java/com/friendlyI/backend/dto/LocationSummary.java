@@ -3,9 +3,14 @@ package com.friendlyI.backend.dto;
 import lombok.Builder;
 import lombok.Data;
 
+import java.io.Serializable;
+
 @Data
 @Builder
-public class LocationSummary {
+public class LocationSummary implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
     private Long id;
     private String name;
     private String address;
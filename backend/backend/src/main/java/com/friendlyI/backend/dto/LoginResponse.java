@@ -16,6 +16,7 @@ import java.time.LocalDateTime;
 public class LoginResponse {
 
     private String token;
+    private String refreshToken;
     private UserInfo user;
 
     /**
@@ -1,12 +1,16 @@
 package com.friendlyI.backend.dto;
 
+import com.friendlyI.backend.entity.Member;
 import com.friendlyI.backend.entity.MemberGrade;
 import lombok.Data;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
 @Data
-public class MemberResponse {
+public class MemberResponse implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     private Long id;
     private String loginId;
@@ -21,4 +25,25 @@ public class MemberResponse {
     private boolean isAdmin;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    /**
+     * Entity를 Response DTO로 변환
+     */
+    public static MemberResponse from(Member member) {
+        MemberResponse response = new MemberResponse();
+        response.setId(member.getId());
+        response.setLoginId(member.getLoginId());
+        response.setName(member.getName());
+        response.setEmail(member.getEmail());
+        response.setPhoneNumber(member.getPhoneNumber());
+        response.setBirthYear(member.getBirthYear());
+        response.setGrade(member.getGrade());
+        response.setGradeEmoji(member.getGrade().getEmoji());
+        response.setGradeDescription(member.getGrade().getDescription());
+        response.setAge(member.getAge());
+        response.setAdmin(member.isAdmin());
+        response.setCreatedAt(member.getCreatedAt());
+        response.setUpdatedAt(member.getUpdatedAt());
+        return response;
+    }
 }
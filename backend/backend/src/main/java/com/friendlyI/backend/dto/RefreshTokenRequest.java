@@ -0,0 +1,16 @@
+package com.friendlyI.backend.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 토큰 재발급/로그아웃 요청 DTO
+ */
+@Getter
+@Setter
+public class RefreshTokenRequest {
+
+    @NotBlank(message = "리프레시 토큰은 필수입니다")
+    private String refreshToken;
+}
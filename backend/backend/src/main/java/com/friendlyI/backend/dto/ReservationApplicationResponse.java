@@ -1,5 +1,6 @@
 package com.friendlyI.backend.dto;
 
+import com.friendlyI.backend.entity.ReservationApplication;
 import com.friendlyI.backend.entity.ReservationStatus;
 import lombok.Data;
 
@@ -16,4 +17,47 @@ public class ReservationApplicationResponse {
     private String note;
     private LocalDateTime appliedAt;
     private LocalDateTime updatedAt;
+
+    /**
+     * Entity를 Response DTO로 변환 (순환 참조 방지)
+     */
+    public static ReservationApplicationResponse from(ReservationApplication application) {
+        ReservationApplicationResponse response = new ReservationApplicationResponse();
+        response.setId(application.getId());
+
+        // 간단한 회원 정보만 포함 (순환 참조 방지)
+        MemberSummary memberSummary = new MemberSummary();
+        memberSummary.setId(application.getMember().getId());
+        memberSummary.setName(application.getMember().getName());
+        memberSummary.setGradeEmoji(application.getMember().getGrade().getEmoji());
+        memberSummary.setGradeDescription(application.getMember().getGrade().getDescription());
+        response.setMemberSummary(memberSummary);
+
+        // 간단한 예약 정보만 포함 (순환 참조 방지)
+        ReservationSummary reservationSummary = new ReservationSummary();
+        reservationSummary.setId(application.getReservation().getId());
+        reservationSummary.setTitle(application.getReservation().getTitle());
+        reservationSummary.setReservationDate(application.getReservation().getReservationDate());
+
+        // 장소 정보를 LocationSummary로 변환
+        LocationSummary locationSummary = LocationSummary.builder()
+                .id(application.getReservation().getLocation().getId())
+                .name(application.getReservation().getLocation().getName())
+                .address(application.getReservation().getLocation().getAddress())
+                .url(application.getReservation().getLocation().getUrl())
+                .isActive(application.getReservation().getLocation().getIsActive())
+                .build();
+        reservationSummary.setLocation(locationSummary);
+
+        reservationSummary.setMaxCapacity(application.getReservation().getMaxCapacity());
+        reservationSummary.setAvailableSlots(application.getReservation().getAvailableSlots());
+        response.setReservationSummary(reservationSummary);
+
+        response.setStatus(application.getStatus());
+        response.setStatusDescription(application.getStatus().getDescription());
+        response.setNote(application.getNote());
+        response.setAppliedAt(application.getAppliedAt());
+        response.setUpdatedAt(application.getUpdatedAt());
+        return response;
+    }
 }
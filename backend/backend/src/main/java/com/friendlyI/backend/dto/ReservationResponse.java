@@ -1,13 +1,18 @@
 package com.friendlyI.backend.dto;
 
+import com.friendlyI.backend.dto.projection.ReservationRow;
+import com.friendlyI.backend.entity.Reservation;
 import lombok.Data;
 
+import java.io.Serializable;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 
 @Data
-public class ReservationResponse {
+public class ReservationResponse implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     private Long id;
     private String title;
@@ -24,4 +29,73 @@ public class ReservationResponse {
     private boolean isFullyBooked;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+
+    /**
+     * Entity를 Response DTO로 변환
+     */
+    public static ReservationResponse from(Reservation reservation) {
+        ReservationResponse response = new ReservationResponse();
+        response.setId(reservation.getId());
+        response.setTitle(reservation.getTitle());
+        response.setDescription(reservation.getDescription());
+
+        LocationSummary locationSummary = LocationSummary.builder()
+                .id(reservation.getLocation().getId())
+                .name(reservation.getLocation().getName())
+                .address(reservation.getLocation().getAddress())
+                .url(reservation.getLocation().getUrl())
+                .isActive(reservation.getLocation().getIsActive())
+                .build();
+        response.setLocation(locationSummary);
+
+        response.setMaxCapacity(reservation.getMaxCapacity());
+        response.setReservationDate(reservation.getReservationDate());
+        response.setReservationTime(reservation.getReservationTime());
+        response.setConfirmedCount(reservation.getConfirmedCount());
+        response.setWaitingCount(reservation.getWaitingCount());
+        response.setAvailableSlots(reservation.getAvailableSlots());
+        response.setFullyBooked(reservation.isFullyBooked());
+        response.setCreatedAt(reservation.getCreatedAt());
+        response.setUpdatedAt(reservation.getUpdatedAt());
+
+        // ✅ 추가: 생성자 정보 내려주기
+        if (reservation.getCreator() != null) {
+            response.setCreatorId(reservation.getCreator().getId());
+            response.setCreatorName(reservation.getCreator().getName());
+        }
+
+        return response;
+    }
+
+    /**
+     * 프로젝션을 Response DTO로 변환
+     */
+    public static ReservationResponse from(ReservationRow row) {
+        ReservationResponse response = new ReservationResponse();
+        response.setId(row.getId());
+        response.setTitle(row.getTitle());
+        response.setDescription(row.getDescription());
+
+        LocationSummary locationSummary = LocationSummary.builder()
+                .id(row.getLocationId())
+                .name(row.getLocationName())
+                .address(row.getLocationAddress())
+                .url(row.getLocationUrl())
+                .isActive(row.getLocationActive())
+                .build();
+        response.setLocation(locationSummary);
+
+        response.setMaxCapacity(row.getMaxCapacity());
+        response.setReservationDate(row.getReservationDate());
+        response.setReservationTime(row.getReservationTime());
+        response.setConfirmedCount(row.getConfirmedCount());
+        response.setWaitingCount(row.getWaitingCount());
+        response.setAvailableSlots(Math.max(0, row.getMaxCapacity() - row.getConfirmedCount()));
+        response.setFullyBooked(row.getConfirmedCount() >= row.getMaxCapacity());
+        response.setCreatorId(row.getCreatorId());
+        response.setCreatorName(row.getCreatorName());
+        response.setCreatedAt(row.getCreatedAt());
+        response.setUpdatedAt(row.getUpdatedAt());
+        return response;
+    }
 }
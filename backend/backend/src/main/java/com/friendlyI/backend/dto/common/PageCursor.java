@@ -0,0 +1,89 @@
+package com.friendlyI.backend.dto.common;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션용 불투명 커서 (정렬 키 값을 Base64 URL-safe 문자열로 인코딩)
+ */
+public final class PageCursor {
+
+    /**
+     * 커서 페이지 최대 크기
+     */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final String SEPARATOR = "|";
+
+    private final String[] values;
+
+    private PageCursor(String[] values) {
+        this.values = values;
+    }
+
+    /**
+     * 정렬 키 값들로 커서 토큰 생성
+     */
+    public static String encode(Object... keys) {
+        String[] parts = new String[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            parts[i] = String.valueOf(keys[i]);
+        }
+        String raw = String.join(SEPARATOR, parts);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 토큰 해석 (형식이 맞지 않으면 IllegalArgumentException)
+     */
+    public static PageCursor decode(String token, int expectedKeys) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length != expectedKeys) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new PageCursor(parts);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+
+    /**
+     * 요청 페이지 크기를 1 ~ MAX_PAGE_SIZE 범위로 보정
+     */
+    public static int normalizeSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+
+    public static boolean isFirstPage(String token) {
+        return token == null || token.isBlank();
+    }
+
+    public Long getLong(int index) {
+        try {
+            return Long.valueOf(values[index]);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+
+    public LocalDate getDate(int index) {
+        try {
+            return LocalDate.parse(values[index]);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+
+    public LocalDateTime getDateTime(int index) {
+        try {
+            return LocalDateTime.parse(values[index]);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.", e);
+        }
+    }
+}
@@ -1,23 +1,33 @@
 package com.friendlyI.backend.dto.common;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
+import java.util.function.Function;
 
+/**
+ * 페이지 응답
+ * 전체 건수(totalElements, totalPages)는 COUNT 쿼리를 실행한 경우에만 포함되고,
+ * 커서 기반 조회에서는 nextCursor로 다음 페이지를 요청한다.
+ */
 @Getter
 @Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PageResponse<T> {
     private List<T> content;
     private int page;
     private int size;
-    private long totalElements;
-    private int totalPages;
+    private Long totalElements;
+    private Integer totalPages;
     private boolean first;
     private boolean last;
     private boolean hasNext;
     private boolean hasPrevious;
+    private String nextCursor;
 
     public static <T> PageResponse<T> of(Page<T> page) {
         return PageResponse.<T>builder()
@@ -32,4 +42,43 @@ public class PageResponse<T> {
                 .hasPrevious(page.hasPrevious())
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * COUNT 쿼리 없는 페이지 응답
+     */
+    public static <T> PageResponse<T> of(Slice<T> slice) {
+        return PageResponse.<T>builder()
+                .content(slice.getContent())
+                .page(slice.getNumber())
+                .size(slice.getSize())
+                .first(slice.isFirst())
+                .last(slice.isLast())
+                .hasNext(slice.hasNext())
+                .hasPrevious(slice.hasPrevious())
+                .build();
+    }
+
+    /**
+     * 키셋 조회 결과로 커서 페이지 응답 생성
+     *
+     * @param fetched  size + 1 건까지 조회한 결과 (초과분이 있으면 다음 페이지가 있다)
+     * @param size     페이지 크기
+     * @param first    커서 없이 조회한 첫 페이지 여부
+     * @param mapper   응답 DTO 변환
+     * @param cursorOf 마지막 항목의 정렬 키로 다음 커서 생성
+     */
+    public static <E, T> PageResponse<T> ofKeyset(List<E> fetched, int size, boolean first,
+            Function<E, T> mapper, Function<E, String> cursorOf) {
+        boolean hasNext = fetched.size() > size;
+        List<E> pageItems = hasNext ? fetched.subList(0, size) : fetched;
+        return PageResponse.<T>builder()
+                .content(pageItems.stream().map(mapper).toList())
+                .size(size)
+                .first(first)
+                .last(!hasNext)
+                .hasNext(hasNext)
+                .hasPrevious(!first)
+                .nextCursor(hasNext ? cursorOf.apply(pageItems.get(pageItems.size() - 1)) : null)
+                .build();
+    }
+}
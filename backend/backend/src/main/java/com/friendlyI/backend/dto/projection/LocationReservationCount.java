@@ -0,0 +1,14 @@
+package com.friendlyI.backend.dto.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 장소별 활성 예약 수 집계 프로젝션 (여러 장소의 예약 수를 GROUP BY 한 번으로 조회)
+ */
+@Getter
+@AllArgsConstructor
+public class LocationReservationCount {
+    private Long locationId;
+    private Long activeCount;
+}
@@ -0,0 +1,34 @@
+package com.friendlyI.backend.dto.projection;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 예약 목록 조회용 프로젝션 (예약 + 장소 + 생성자 + 신청 카운터를 한 번의 조인 쿼리로 조회)
+ * 엔티티를 로딩하지 않으므로 지연 로딩 컬렉션/연관 엔티티 조회가 발생하지 않는다.
+ */
+@Getter
+@AllArgsConstructor
+public class ReservationRow {
+    private Long id;
+    private String title;
+    private String description;
+    private Long locationId;
+    private String locationName;
+    private String locationAddress;
+    private String locationUrl;
+    private Boolean locationActive;
+    private Integer maxCapacity;
+    private Integer confirmedCount;
+    private Integer waitingCount;
+    private Long creatorId;
+    private String creatorName;
+    private LocalDate reservationDate;
+    private LocalTime reservationTime;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
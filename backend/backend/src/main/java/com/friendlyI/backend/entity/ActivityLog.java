@@ -5,7 +5,6 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.CreationTimestamp;
 
 import java.time.LocalDateTime;
 
@@ -16,7 +15,8 @@ import java.time.LocalDateTime;
 public class ActivityLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "activity_logs_seq")
+    @SequenceGenerator(name = "activity_logs_seq", sequenceName = "activity_logs_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -47,14 +47,14 @@ public class ActivityLog {
     @Column(columnDefinition = "TEXT")
     private String details;
 
-    @CreationTimestamp
+    // 쓰기 지연 버퍼를 거쳐 늦게 저장되므로 기록 요청 시각을 받아 둔다 (저장 시점이 아님)
     @Column(updatable = false)
     private LocalDateTime createdAt;
 
     @Builder
     public ActivityLog(Long memberId, String memberLoginId, ActivityType activityType,
             String description, String ipAddress, String userAgent,
-            String requestUri, String httpMethod, String details) {
+            String requestUri, String httpMethod, String details, LocalDateTime createdAt) {
         this.memberId = memberId;
         this.memberLoginId = memberLoginId;
         this.activityType = activityType;
@@ -64,6 +64,14 @@ public class ActivityLog {
         this.requestUri = requestUri;
         this.httpMethod = httpMethod;
         this.details = details;
+        this.createdAt = createdAt;
+    }
+
+    @PrePersist
+    private void fillCreatedAt() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
     }
 
     public enum ActivityType {
@@ -0,0 +1,20 @@
+package com.friendlyI.backend.entity;
+
+/**
+ * 대기열 신청 티켓 상태를 나타내는 Enum
+ */
+public enum AdmissionTicketStatus {
+    QUEUED("대기열 등록"),
+    COMPLETED("신청 완료"),
+    FAILED("신청 실패");
+
+    private final String description;
+
+    AdmissionTicketStatus(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -8,6 +8,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -18,13 +19,14 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "reservations")
+@Table(name = "reservations", indexes = @Index(name = "idx_reservations_date", columnList = "reservation_date, id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Reservation {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservations_seq")
+    @SequenceGenerator(name = "reservations_seq", sequenceName = "reservations_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -70,6 +72,15 @@ public class Reservation {
     @OneToMany(mappedBy = "reservation", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
     private List<ReservationApplication> applications = new ArrayList<>();
 
+    // 신청 현황 카운터 (ReservationRepository의 조건부 UPDATE로만 변경, 엔티티 수정 시에는 덮어쓰지 않음)
+    @Column(name = "confirmed_count", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private Integer confirmedCount = 0;
+
+    @Column(name = "waiting_count", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private Integer waitingCount = 0;
+
     @CreationTimestamp
     @Column(updatable = false)
     private LocalDateTime createdAt;
@@ -92,23 +103,13 @@ public class Reservation {
         this.creator = creator; // ✅ creator 필드 할당 추가
     }
 
-    // 비즈니스 메서드 (N+1 쿼리 방지를 위해 Repository에서 계산된 값 사용 권장)
+    // 비즈니스 메서드 (신청 컬렉션을 로딩하지 않고 카운터 컬럼 사용)
     public int getConfirmedCount() {
-        if (applications == null || applications.isEmpty()) {
-            return 0;
-        }
-        return (int) applications.stream()
-                .filter(app -> app.getStatus() == ReservationStatus.CONFIRMED)
-                .count();
+        return confirmedCount != null ? confirmedCount : 0;
     }
 
     public int getWaitingCount() {
-        if (applications == null || applications.isEmpty()) {
-            return 0;
-        }
-        return (int) applications.stream()
-                .filter(app -> app.getStatus() == ReservationStatus.WAITING)
-                .count();
+        return waitingCount != null ? waitingCount : 0;
     }
 
     public boolean isFullyBooked() {
@@ -119,6 +120,14 @@ public class Reservation {
         return Math.max(0, maxCapacity - getConfirmedCount());
     }
 
+    /**
+     * 카운터 UPDATE 결과를 현재 영속성 컨텍스트의 엔티티에 반영 (DB에는 다시 쓰이지 않음)
+     */
+    public void applyCounterDelta(int confirmedDelta, int waitingDelta) {
+        this.confirmedCount = getConfirmedCount() + confirmedDelta;
+        this.waitingCount = getWaitingCount() + waitingDelta;
+    }
+
     // Repository를 통한 효율적인 계산을 위한 메서드들
     public boolean isFullyBooked(int confirmedCount) {
         return confirmedCount >= maxCapacity;
@@ -13,13 +13,17 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "reservation_applications", uniqueConstraints = @UniqueConstraint(columnNames = { "member_id",
-        "reservation_id" }))
+        "reservation_id" }), indexes = {
+                @Index(name = "idx_applications_member_applied", columnList = "member_id, applied_at, id"),
+                @Index(name = "idx_applications_reservation_applied", columnList = "reservation_id, applied_at, id")
+        })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ReservationApplication {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reservation_applications_seq")
+    @SequenceGenerator(name = "reservation_applications_seq", sequenceName = "reservation_applications_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
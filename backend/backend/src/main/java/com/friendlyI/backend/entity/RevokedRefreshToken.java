@@ -0,0 +1,69 @@
+package com.friendlyI.backend.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 폐기된 리프레시 토큰 (토큰 ID 또는 토큰 묶음 ID)
+ * 재시작 후에도 폐기 목록을 복원하기 위해 보관하며, 토큰 만료 시각이 지나면 삭제한다.
+ */
+@Entity
+@Table(name = "revoked_refresh_tokens", indexes = {
+        @Index(name = "idx_revoked_refresh_tokens_expires_at", columnList = "expires_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RevokedRefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "revoked_refresh_tokens_seq")
+    @SequenceGenerator(name = "revoked_refresh_tokens_seq", sequenceName = "revoked_refresh_tokens_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "token_id", nullable = false, unique = true, length = 36)
+    private String tokenId;
+
+    @Column(name = "member_id")
+    private Long memberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Reason reason;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @CreationTimestamp
+    @Column(name = "revoked_at", updatable = false)
+    private LocalDateTime revokedAt;
+
+    @Builder
+    public RevokedRefreshToken(String tokenId, Long memberId, Reason reason, LocalDateTime expiresAt) {
+        this.tokenId = tokenId;
+        this.memberId = memberId;
+        this.reason = reason;
+        this.expiresAt = expiresAt;
+    }
+
+    public enum Reason {
+        ROTATED("재발급"),
+        LOGOUT("로그아웃"),
+        REUSE_DETECTED("재사용 탐지");
+
+        private final String description;
+
+        Reason(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.friendlyI.backend.event;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 예약 조회 결과(예약 정보, 신청 인원)가 바뀌었음을 알리는 이벤트
+ * 예약 생성/수정/삭제와 신청/취소/상태 변경에서 발행하고, 커밋 후 예약 캐시 무효화에 쓴다.
+ *
+ * @param reservationId    바뀐 예약 ID (null이면 모든 예약이 바뀐 것으로 본다)
+ * @param reservationDates 바뀐 예약의 날짜 (날짜를 옮긴 수정이면 이전/이후 날짜 모두)
+ */
+public record ReservationChangedEvent(Long reservationId, Set<LocalDate> reservationDates) {
+
+    /**
+     * 예약 한 건의 변경
+     */
+    public static ReservationChangedEvent of(Long reservationId, LocalDate... reservationDates) {
+        return new ReservationChangedEvent(reservationId, Arrays.stream(reservationDates)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toUnmodifiableSet()));
+    }
+
+    /**
+     * 여러 예약에 걸친 변경 (카운터 일괄 보정, 장소/생성자 정보 변경 등)
+     */
+    public static ReservationChangedEvent all() {
+        return new ReservationChangedEvent(null, Set.of());
+    }
+
+    public boolean affectsAll() {
+        return reservationId == null;
+    }
+}
@@ -0,0 +1,10 @@
+package com.friendlyI.backend.exception;
+
+/**
+ * 서버 처리 용량 초과 예외 (잠시 후 재시도 가능, 503)
+ */
+public class ServiceBusyException extends RuntimeException {
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,17 @@
+package com.friendlyI.backend.exception;
+
+import lombok.Getter;
+
+/**
+ * 요청 횟수 제한 초과 예외 (429, Retry-After 초 단위 포함)
+ */
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -1,15 +1,19 @@
 package com.friendlyI.backend.repository;
 
 import com.friendlyI.backend.entity.ActivityLog;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface ActivityLogRepository extends JpaRepository<ActivityLog, Long> {
@@ -33,6 +37,16 @@ public interface ActivityLogRepository extends JpaRepository<ActivityLog, Long>
             @Param("endDate") LocalDateTime endDate,
             Pageable pageable);
 
+    /**
+     * 전체 로그 스트리밍 조회 (내보내기용, 트랜잭션 안에서 사용 후 닫아야 한다)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT a FROM ActivityLog a ORDER BY a.id")
+    Stream<ActivityLog> streamAllOrderById();
+
     /**
      * 특정 IP 주소의 로그 조회
      */
@@ -1,11 +1,13 @@
 package com.friendlyI.backend.repository;
 
+import com.friendlyI.backend.dto.projection.LocationReservationCount;
 import com.friendlyI.backend.entity.Location;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -57,6 +59,14 @@ public interface LocationRepository extends JpaRepository<Location, Long> {
             "(r.reservationDate > CURRENT_DATE OR r.reservationDate = CURRENT_DATE)")
     Long countActiveReservationsByLocation(@Param("locationId") Long locationId);
 
+    /**
+     * 여러 장소의 활성 예약 수를 한 번에 조회 (활성 예약이 없는 장소는 결과에 없음)
+     */
+    @Query("SELECT new com.friendlyI.backend.dto.projection.LocationReservationCount(r.location.id, COUNT(r)) " +
+            "FROM Reservation r WHERE r.location.id IN :locationIds AND r.reservationDate >= CURRENT_DATE " +
+            "GROUP BY r.location.id")
+    List<LocationReservationCount> countActiveReservationsByLocations(@Param("locationIds") Collection<Long> locationIds);
+
     /**
      * 사용 중인 장소들 조회 (활성 예약이 있는 장소)
      */
@@ -2,13 +2,21 @@ package com.friendlyI.backend.repository;
 
 import com.friendlyI.backend.entity.Member;
 import com.friendlyI.backend.entity.MemberGrade;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface MemberRepository extends JpaRepository<Member, Long> {
@@ -18,6 +26,34 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
      */
     Optional<Member> findByLoginId(String loginId);
 
+    /**
+     * 비밀번호 해시 교체 (다른 요청이 그사이 비밀번호를 바꾸지 않았을 때만)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Member m SET m.password = :password WHERE m.id = :id AND m.password = :previous")
+    int replacePasswordHash(@Param("id") Long id, @Param("previous") String previous, @Param("password") String password);
+
+    /**
+     * ID 키셋 페이지 조회 (커서 ID 이후)
+     */
+    List<Member> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    /**
+     * 전체 회원 페이지 조회 (COUNT 쿼리 없음)
+     */
+    Slice<Member> findSliceBy(Pageable pageable);
+
+    /**
+     * 전체 회원 스트리밍 조회 (내보내기용, 트랜잭션 안에서 사용 후 닫아야 한다)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT m FROM Member m ORDER BY m.id")
+    Stream<Member> streamAllOrderById();
+
     /**
      * 로그인 ID 중복 확인
      */
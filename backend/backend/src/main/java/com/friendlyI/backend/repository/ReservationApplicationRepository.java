@@ -4,32 +4,85 @@ import com.friendlyI.backend.entity.Member;
 import com.friendlyI.backend.entity.Reservation;
 import com.friendlyI.backend.entity.ReservationApplication;
 import com.friendlyI.backend.entity.ReservationStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ReservationApplicationRepository extends JpaRepository<ReservationApplication, Long> {
 
+       /**
+        * 응답 변환에 필요한 회원/예약/장소를 함께 조회하는 SELECT 절
+        */
+       String FETCH_SELECT = "SELECT ra FROM ReservationApplication ra " +
+                     "JOIN FETCH ra.member JOIN FETCH ra.reservation r JOIN FETCH r.location ";
+
+       /**
+        * 신청 시각 키셋 조건 ((appliedAt, id) 커서 이후)
+        */
+       String AFTER_CURSOR = "AND (ra.appliedAt > :appliedAt OR (ra.appliedAt = :appliedAt AND ra.id > :id)) ";
+
+       String ARRIVAL_ORDER = "ORDER BY ra.appliedAt ASC, ra.id ASC";
+
+       /**
+        * 신청이 속한 예약 ID 조회
+        */
+       @Query("SELECT ra.reservation.id FROM ReservationApplication ra WHERE ra.id = :id")
+       Optional<Long> findReservationIdById(@Param("id") Long id);
+
        /**
         * 회원별 예약 신청 조회
         */
-       List<ReservationApplication> findByMember(Member member);
+       @Query(FETCH_SELECT + "WHERE ra.member = :member")
+       List<ReservationApplication> findByMember(@Param("member") Member member);
 
        /**
         * 예약별 신청 조회
         */
-       List<ReservationApplication> findByReservation(Reservation reservation);
+       @Query(FETCH_SELECT + "WHERE ra.reservation = :reservation")
+       List<ReservationApplication> findByReservation(@Param("reservation") Reservation reservation);
+
+       /**
+        * 회원별 신청 키셋 첫 페이지 (신청 순서)
+        */
+       @Query(FETCH_SELECT + "WHERE ra.member.id = :memberId " + ARRIVAL_ORDER)
+       List<ReservationApplication> findPageByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+       /**
+        * 회원별 신청 키셋 다음 페이지
+        */
+       @Query(FETCH_SELECT + "WHERE ra.member.id = :memberId " + AFTER_CURSOR + ARRIVAL_ORDER)
+       List<ReservationApplication> findPageByMemberIdAfter(@Param("memberId") Long memberId,
+                     @Param("appliedAt") LocalDateTime appliedAt, @Param("id") Long id, Pageable pageable);
 
        /**
-        * 예약별 신청을 신청 순서대로 조회
+        * 예약별 신청 키셋 첫 페이지 (신청 순서)
         */
-       List<ReservationApplication> findByReservationOrderByAppliedAtAsc(Reservation reservation);
+       @Query(FETCH_SELECT + "WHERE r.id = :reservationId " + ARRIVAL_ORDER)
+       List<ReservationApplication> findPageByReservationId(@Param("reservationId") Long reservationId,
+                     Pageable pageable);
+
+       /**
+        * 예약별 신청 키셋 다음 페이지
+        */
+       @Query(FETCH_SELECT + "WHERE r.id = :reservationId " + AFTER_CURSOR + ARRIVAL_ORDER)
+       List<ReservationApplication> findPageByReservationIdAfter(@Param("reservationId") Long reservationId,
+                     @Param("appliedAt") LocalDateTime appliedAt, @Param("id") Long id, Pageable pageable);
+
+       /**
+        * 예약별 신청을 신청 순서대로 조회 (신청자 목록용으로 회원을 함께 조회)
+        */
+       @Query("SELECT ra FROM ReservationApplication ra JOIN FETCH ra.member " +
+                     "WHERE ra.reservation = :reservation ORDER BY ra.appliedAt ASC")
+       List<ReservationApplication> findByReservationOrderByAppliedAtAsc(@Param("reservation") Reservation reservation);
 
        /**
         * 회원과 예약으로 신청 조회 (중복 신청 체크용)
@@ -68,6 +121,31 @@ public interface ReservationApplicationRepository extends JpaRepository<Reservat
                      "ORDER BY ra.appliedAt ASC")
        List<ReservationApplication> findWaitingApplicationsInOrder(@Param("reservation") Reservation reservation);
 
+       /**
+        * 대기중인 신청 ID를 신청 순서대로 조회 (승격 대상 선정용)
+        */
+       @Query("SELECT ra.id FROM ReservationApplication ra " +
+                     "WHERE ra.reservation.id = :reservationId AND ra.status = 'WAITING' " +
+                     "ORDER BY ra.appliedAt ASC, ra.id ASC")
+       List<Long> findWaitingIdsInOrder(@Param("reservationId") Long reservationId, Pageable pageable);
+
+       /**
+        * 대기중인 신청을 일괄 확정 (그 사이 취소/변경된 신청은 제외, 버전 증가로 동시 수정 감지)
+        */
+       @Modifying(flushAutomatically = true, clearAutomatically = true)
+       @Query("UPDATE ReservationApplication ra SET ra.status = 'CONFIRMED', " +
+                     "ra.version = ra.version + 1, ra.updatedAt = :now " +
+                     "WHERE ra.id IN :ids AND ra.status = 'WAITING'")
+       int confirmWaitingApplications(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+       /**
+        * 주어진 신청 중 확정 상태인 신청 ID 조회
+        */
+       @Query("SELECT ra.id FROM ReservationApplication ra " +
+                     "WHERE ra.id IN :ids AND ra.status = 'CONFIRMED' " +
+                     "ORDER BY ra.appliedAt ASC, ra.id ASC")
+       List<Long> findConfirmedIdsIn(@Param("ids") List<Long> ids);
+
        /**
         * 예약별 확정된 신청 수 조회
         */
@@ -1,17 +1,33 @@
 package com.friendlyI.backend.repository;
 
+import com.friendlyI.backend.dto.projection.ReservationRow;
 import com.friendlyI.backend.entity.Reservation;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ReservationRepository extends JpaRepository<Reservation, Long> {
     
+    /**
+     * 목록 조회용 프로젝션 SELECT 절 (예약 + 장소 + 생성자 조인)
+     */
+    String ROW_SELECT = "SELECT new com.friendlyI.backend.dto.projection.ReservationRow(" +
+           "r.id, r.title, r.description, l.id, l.name, l.address, l.url, l.isActive, " +
+           "r.maxCapacity, r.confirmedCount, r.waitingCount, c.id, c.name, r.reservationDate, r.reservationTime, r.createdAt, r.updatedAt) " +
+           "FROM Reservation r JOIN r.location l LEFT JOIN r.creator c ";
+    
     /**
      * 날짜별 예약 조회
      */
@@ -40,16 +56,113 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
     /**
      * 예약 가능한 슬롯이 있는 예약 조회
      */
-    @Query("SELECT r FROM Reservation r WHERE " +
-           "(SELECT COUNT(ra) FROM ReservationApplication ra " +
-           "WHERE ra.reservation.id = r.id AND ra.status = 'CONFIRMED') < r.maxCapacity")
+    @Query("SELECT r FROM Reservation r WHERE r.confirmedCount < r.maxCapacity")
     List<Reservation> findAvailableReservations();
     
     /**
      * 특정 날짜의 예약 가능한 예약 조회
      */
-    @Query("SELECT r FROM Reservation r WHERE r.reservationDate = :date AND " +
-           "(SELECT COUNT(ra) FROM ReservationApplication ra " +
-           "WHERE ra.reservation.id = r.id AND ra.status = 'CONFIRMED') < r.maxCapacity")
+    @Query("SELECT r FROM Reservation r WHERE r.reservationDate = :date AND r.confirmedCount < r.maxCapacity")
     List<Reservation> findAvailableReservationsByDate(@Param("date") LocalDate date);
+    
+    /**
+     * 예약 ID로 목록용 프로젝션 조회
+     */
+    @Query(ROW_SELECT + "WHERE r.id = :id")
+    Optional<ReservationRow> findRowById(@Param("id") Long id);
+    
+    /**
+     * 전체 예약 프로젝션 조회 (날짜순)
+     */
+    @Query(ROW_SELECT + "ORDER BY r.reservationDate ASC")
+    List<ReservationRow> findAllRowsOrderByReservationDateAsc();
+    
+    /**
+     * 키셋 페이지 첫 페이지 (날짜, ID 순)
+     */
+    @Query(ROW_SELECT + "ORDER BY r.reservationDate ASC, r.id ASC")
+    List<ReservationRow> findRowsOrderByDateAndId(Pageable pageable);
+    
+    /**
+     * 키셋 페이지 다음 페이지 ((날짜, ID) 커서 이후)
+     */
+    @Query(ROW_SELECT + "WHERE r.reservationDate > :date OR (r.reservationDate = :date AND r.id > :id) " +
+           "ORDER BY r.reservationDate ASC, r.id ASC")
+    List<ReservationRow> findRowsAfterCursor(@Param("date") LocalDate date, @Param("id") Long id, Pageable pageable);
+    
+    /**
+     * 전체 예약 프로젝션 스트리밍 조회 (내보내기용, 트랜잭션 안에서 사용 후 닫아야 한다)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(ROW_SELECT + "ORDER BY r.id")
+    Stream<ReservationRow> streamAllRows();
+    
+    /**
+     * 날짜별 예약 프로젝션 조회
+     */
+    @Query(ROW_SELECT + "WHERE r.reservationDate = :date")
+    List<ReservationRow> findRowsByReservationDate(@Param("date") LocalDate date);
+    
+    /**
+     * 특정 날짜 이후의 예약 프로젝션 조회 (미래 예약)
+     */
+    @Query(ROW_SELECT + "WHERE r.reservationDate > :date")
+    List<ReservationRow> findRowsByReservationDateAfter(@Param("date") LocalDate date);
+    
+    /**
+     * 예약 가능한 슬롯이 있는 예약 프로젝션 조회
+     */
+    @Query(ROW_SELECT + "WHERE r.confirmedCount < r.maxCapacity")
+    List<ReservationRow> findAvailableRows();
+    
+    /**
+     * 확정 좌석 선점 (정원 미만일 때만 증가, 1이면 성공 / 0이면 정원 초과)
+     */
+    @Modifying
+    @Query("UPDATE Reservation r SET r.confirmedCount = r.confirmedCount + 1 " +
+           "WHERE r.id = :id AND r.confirmedCount < r.maxCapacity")
+    int claimConfirmedSeat(@Param("id") Long id);
+    
+    /**
+     * 확정 좌석 반환
+     */
+    @Modifying
+    @Query("UPDATE Reservation r SET r.confirmedCount = r.confirmedCount - 1 " +
+           "WHERE r.id = :id AND r.confirmedCount > 0")
+    int releaseConfirmedSeat(@Param("id") Long id);
+    
+    /**
+     * 대기 인원 증가
+     */
+    @Modifying
+    @Query("UPDATE Reservation r SET r.waitingCount = r.waitingCount + 1 WHERE r.id = :id")
+    int incrementWaiting(@Param("id") Long id);
+    
+    /**
+     * 대기 인원 감소
+     */
+    @Modifying
+    @Query("UPDATE Reservation r SET r.waitingCount = r.waitingCount - 1 " +
+           "WHERE r.id = :id AND r.waitingCount > 0")
+    int decrementWaiting(@Param("id") Long id);
+    
+    /**
+     * 대기자를 확정으로 승격 (정원과 대기 인원 범위 내에서만)
+     */
+    @Modifying
+    @Query("UPDATE Reservation r SET r.confirmedCount = r.confirmedCount + :count, " +
+           "r.waitingCount = r.waitingCount - :count " +
+           "WHERE r.id = :id AND r.confirmedCount + :count <= r.maxCapacity AND r.waitingCount >= :count")
+    int promoteWaiting(@Param("id") Long id, @Param("count") int count);
+    
+    /**
+     * 신청 테이블 기준으로 모든 예약의 카운터 재계산 (기존 데이터 마이그레이션/보정용)
+     */
+    @Modifying
+    @Query("UPDATE Reservation r SET " +
+           "r.confirmedCount = (SELECT COUNT(ra) FROM ReservationApplication ra " +
+           "WHERE ra.reservation.id = r.id AND ra.status = 'CONFIRMED'), " +
+           "r.waitingCount = (SELECT COUNT(ra) FROM ReservationApplication ra " +
+           "WHERE ra.reservation.id = r.id AND ra.status = 'WAITING')")
+    int recalculateApplicationCounters();
 }
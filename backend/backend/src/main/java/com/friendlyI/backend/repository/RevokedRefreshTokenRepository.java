@@ -0,0 +1,35 @@
+package com.friendlyI.backend.repository;
+
+import com.friendlyI.backend.entity.RevokedRefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RevokedRefreshTokenRepository extends JpaRepository<RevokedRefreshToken, Long> {
+
+    /**
+     * 아직 만료되지 않은 폐기 항목 (기동 시 메모리 폐기 목록 복원용)
+     */
+    List<RevokedRefreshToken> findByExpiresAtAfter(LocalDateTime now);
+
+    /**
+     * 아직 만료되지 않은 폐기 항목 단건 조회 (메모리에 없는 항목을 다른 인스턴스가 폐기했는지 확인)
+     */
+    Optional<RevokedRefreshToken> findByTokenIdAndExpiresAtAfter(String tokenId, LocalDateTime now);
+
+    /**
+     * 만료된 폐기 항목 일괄 삭제 (만료된 토큰은 서명 검증 단계에서 이미 거절된다)
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RevokedRefreshToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -1,17 +1,14 @@
 package com.friendlyI.backend.service;
 
+import com.friendlyI.backend.config.RequestMetadata;
 import com.friendlyI.backend.entity.ActivityLog;
 import com.friendlyI.backend.repository.ActivityLogRepository;
-import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.context.request.RequestContextHolder;
-import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -22,76 +19,64 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class ActivityLogService {
 
+    // activity_logs 컬럼 길이 (클라이언트가 보낸 헤더 값이 길어도 묶음 INSERT가 실패하지 않도록 잘라서 기록)
+    private static final int DESCRIPTION_LENGTH = 500;
+    private static final int IP_ADDRESS_LENGTH = 45;
+    private static final int USER_AGENT_LENGTH = 500;
+    private static final int REQUEST_URI_LENGTH = 255;
+    private static final int HTTP_METHOD_LENGTH = 10;
+
     private final ActivityLogRepository activityLogRepository;
+    private final ActivityLogWriter activityLogWriter;
 
     /**
-     * 활동 로그 기록 (비동기)
+     * 활동 로그 기록 (쓰기 지연 버퍼에 추가 후 바로 반환)
      */
-    @Async
-    @Transactional
     public void logActivity(Long memberId, String memberLoginId,
             ActivityLog.ActivityType activityType, String description) {
-        try {
-            HttpServletRequest request = getCurrentRequest();
-            String ipAddress = getClientIpAddress(request);
-            String userAgent = request.getHeader("User-Agent");
-            String requestUri = request.getRequestURI();
-            String httpMethod = request.getMethod();
-
-            ActivityLog activityLog = ActivityLog.builder()
-                    .memberId(memberId)
-                    .memberLoginId(memberLoginId)
-                    .activityType(activityType)
-                    .description(description)
-                    .ipAddress(ipAddress)
-                    .userAgent(userAgent)
-                    .requestUri(requestUri)
-                    .httpMethod(httpMethod)
-                    .build();
-
-            activityLogRepository.save(activityLog);
-
-            log.info("활동 로그 기록: {} - {} ({})", memberLoginId, description, activityType);
-        } catch (Exception e) {
-            log.error("활동 로그 기록 실패: {}", e.getMessage(), e);
-        }
+        submit(memberId, memberLoginId, activityType, description, null);
     }
 
     /**
      * 상세 정보와 함께 활동 로그 기록
      */
-    @Async
-    @Transactional
     public void logActivityWithDetails(Long memberId, String memberLoginId,
             ActivityLog.ActivityType activityType,
             String description, String details) {
+        submit(memberId, memberLoginId, activityType, description, details);
+    }
+
+    private void submit(Long memberId, String memberLoginId, ActivityLog.ActivityType activityType,
+            String description, String details) {
         try {
-            HttpServletRequest request = getCurrentRequest();
-            String ipAddress = getClientIpAddress(request);
-            String userAgent = request.getHeader("User-Agent");
-            String requestUri = request.getRequestURI();
-            String httpMethod = request.getMethod();
+            // 요청 객체는 재사용될 수 있으므로 필터가 서블릿 스레드에서 만든 스냅샷만 사용
+            RequestMetadata metadata = RequestMetadata.current();
 
             ActivityLog activityLog = ActivityLog.builder()
                     .memberId(memberId)
                     .memberLoginId(memberLoginId)
                     .activityType(activityType)
-                    .description(description)
-                    .ipAddress(ipAddress)
-                    .userAgent(userAgent)
-                    .requestUri(requestUri)
-                    .httpMethod(httpMethod)
+                    .description(truncate(description, DESCRIPTION_LENGTH))
+                    .ipAddress(truncate(metadata.ipAddress(), IP_ADDRESS_LENGTH))
+                    .userAgent(truncate(metadata.userAgent(), USER_AGENT_LENGTH))
+                    .requestUri(truncate(metadata.requestUri(), REQUEST_URI_LENGTH))
+                    .httpMethod(truncate(metadata.httpMethod(), HTTP_METHOD_LENGTH))
                     .details(details)
+                    .createdAt(LocalDateTime.now())
                     .build();
 
-            activityLogRepository.save(activityLog);
-
-            log.info("활동 로그 기록 (상세): {} - {} ({})", memberLoginId, description, activityType);
+            if (activityLogWriter.submit(activityLog)) {
+                log.info("활동 로그 기록: {} - {} ({})", memberLoginId, description, activityType);
+            }
         } catch (Exception e) {
             log.error("활동 로그 기록 실패: {}", e.getMessage(), e);
         }
     }
 
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+
     /**
      * 특정 회원의 활동 로그 조회
      */
@@ -134,38 +119,4 @@ public class ActivityLogService {
     public List<Object[]> getDailyActivityStats(LocalDateTime since) {
         return activityLogRepository.getDailyActivityStats(since);
     }
-
-    private HttpServletRequest getCurrentRequest() {
-        ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
-        if (attributes != null) {
-            return attributes.getRequest();
-        }
-        throw new IllegalStateException("요청 컨텍스트를 찾을 수 없습니다.");
-    }
-
-    private String getClientIpAddress(HttpServletRequest request) {
-        String[] ipHeaders = {
-                "X-Forwarded-For",
-                "X-Real-IP",
-                "Proxy-Client-IP",
-                "WL-Proxy-Client-IP",
-                "HTTP_X_FORWARDED_FOR",
-                "HTTP_X_FORWARDED",
-                "HTTP_X_CLUSTER_CLIENT_IP",
-                "HTTP_CLIENT_IP",
-                "HTTP_FORWARDED_FOR",
-                "HTTP_FORWARDED",
-                "HTTP_VIA",
-                "REMOTE_ADDR"
-        };
-
-        for (String header : ipHeaders) {
-            String ip = request.getHeader(header);
-            if (ip != null && !ip.isEmpty() && !"unknown".equalsIgnoreCase(ip)) {
-                return ip.split(",")[0].trim();
-            }
-        }
-
-        return request.getRemoteAddr();
-    }
-}
\ No newline at end of file
+}
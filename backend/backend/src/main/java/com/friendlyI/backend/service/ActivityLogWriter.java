@@ -0,0 +1,222 @@
+package com.friendlyI.backend.service;
+
+import com.friendlyI.backend.entity.ActivityLog;
+import com.friendlyI.backend.repository.ActivityLogRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 활동 로그 쓰기 지연(write-behind) 파이프라인
+ * 요청 스레드는 고정 크기 링 버퍼에 로그를 넣고 바로 반환되며, 전용 스레드가 묶음 크기 또는
+ * 플러시 주기마다 한 트랜잭션으로 모아 JDBC 배치 INSERT 한다.
+ * 버퍼가 가득 차면 요청을 막지 않고 로그를 버리며, 버린 건수는 메트릭으로 남긴다.
+ * 종료 시에는 웹 서버가 멈춘 뒤 남은 로그를 모두 기록하고 멈춘다.
+ */
+@Slf4j
+@Component
+public class ActivityLogWriter implements SmartLifecycle {
+
+    private final ActivityLogRepository activityLogRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<ActivityLog> buffer;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final Duration shutdownTimeout;
+    private final boolean virtualThreads;
+
+    private final Counter droppedFull;
+    private final Counter droppedFlushError;
+    private final Counter flushedRows;
+    private final Counter flushFailures;
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public ActivityLogWriter(ActivityLogRepository activityLogRepository,
+            PlatformTransactionManager transactionManager, MeterRegistry meterRegistry,
+            @Value("${app.activity-log.buffer-capacity:8192}") int bufferCapacity,
+            @Value("${app.activity-log.batch-size:50}") int batchSize,
+            @Value("${app.activity-log.flush-interval-ms:500}") long flushIntervalMillis,
+            @Value("${app.activity-log.shutdown-timeout:10s}") Duration shutdownTimeout,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (bufferCapacity <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException(String.format(
+                    "활동 로그 버퍼 크기와 묶음 크기는 1 이상이어야 합니다: capacity=%d, batchSize=%d",
+                    bufferCapacity, batchSize));
+        }
+        this.activityLogRepository = activityLogRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.shutdownTimeout = shutdownTimeout;
+        this.virtualThreads = virtualThreads;
+
+        this.droppedFull = Counter.builder("activity_log.dropped")
+                .description("기록하지 못하고 버린 활동 로그 수")
+                .tag("reason", "buffer_full")
+                .register(meterRegistry);
+        this.droppedFlushError = Counter.builder("activity_log.dropped")
+                .description("기록하지 못하고 버린 활동 로그 수")
+                .tag("reason", "flush_error")
+                .register(meterRegistry);
+        this.flushedRows = Counter.builder("activity_log.flushed")
+                .description("DB에 기록된 활동 로그 수")
+                .register(meterRegistry);
+        this.flushFailures = Counter.builder("activity_log.flush.failures")
+                .description("실패한 묶음 기록 횟수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("activity_log.flush")
+                .description("묶음 기록 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("activity_log.backlog", buffer, BlockingQueue::size)
+                .description("기록 대기 중인 활동 로그 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 활동 로그를 버퍼에 추가 (가득 차면 버리고 false 반환, 호출 스레드는 대기하지 않음)
+     */
+    public boolean submit(ActivityLog activityLog) {
+        if (buffer.offer(activityLog)) {
+            return true;
+        }
+        droppedFull.increment();
+        log.warn("활동 로그 버퍼가 가득 차 로그를 버렸습니다: {} - {}",
+                activityLog.getMemberLoginId(), activityLog.getActivityType());
+        return false;
+    }
+
+    /**
+     * 기록 대기 중인 로그 수
+     */
+    public int getBacklog() {
+        return buffer.size();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        // 가상 스레드 모드에서는 플러시 스레드도 가상 스레드 (JDBC 대기 중 캐리어 스레드를 놓아줌)
+        Thread.Builder builder = virtualThreads ? Thread.ofVirtual() : Thread.ofPlatform().daemon();
+        flusher = builder.name("ActivityLogWriter").start(this::flushLoop);
+        log.info("활동 로그 기록 파이프라인 시작: batchSize={}, flushIntervalMs={}, virtualThread={}",
+                batchSize, flushIntervalMillis, virtualThreads);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            flusher.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (flusher.isAlive()) {
+            log.warn("활동 로그 기록 파이프라인이 제한 시간 안에 종료되지 않았습니다. 남은 로그: {}건", buffer.size());
+        } else {
+            log.info("활동 로그 기록 파이프라인 종료");
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버(그레이스풀 셧다운 포함)가 멈춘 뒤에 멈추도록 더 낮은 단계에서 실행
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void flushLoop() {
+        List<ActivityLog> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                buffer.drainTo(batch);
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 묶음 크기가 찰 때까지 또는 플러시 주기가 지날 때까지 모음
+     */
+    private void collect(List<ActivityLog> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        while (batch.size() < batchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0 || (!running && buffer.isEmpty())) {
+                return;
+            }
+            ActivityLog next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+            buffer.drainTo(batch, batchSize - batch.size());
+        }
+    }
+
+    private void flush(List<ActivityLog> batch) {
+        long startedAt = System.nanoTime();
+        try {
+            transactionTemplate.executeWithoutResult(status -> activityLogRepository.saveAll(batch));
+            flushedRows.increment(batch.size());
+        } catch (RuntimeException e) {
+            flushFailures.increment();
+            log.warn("활동 로그 묶음 기록 실패, 한 건씩 다시 기록: {}건, {}", batch.size(), e.getMessage());
+            flushEach(batch);
+        } finally {
+            flushTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * 묶음이 실패하면 문제 있는 로그만 버리도록 한 건씩 각자의 트랜잭션으로 기록
+     */
+    private void flushEach(List<ActivityLog> batch) {
+        for (ActivityLog activityLog : batch) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> activityLogRepository.save(activityLog));
+                flushedRows.increment();
+            } catch (RuntimeException e) {
+                droppedFlushError.increment();
+                log.error("활동 로그 기록 실패로 유실: {} - {}, {}",
+                        activityLog.getMemberLoginId(), activityLog.getActivityType(), e.getMessage());
+            }
+        }
+    }
+}
@@ -1,16 +1,25 @@
 package com.friendlyI.backend.service;
 
+import com.friendlyI.backend.config.RequestMetadata;
+import com.friendlyI.backend.config.security.JwtPrincipal;
 import com.friendlyI.backend.config.security.JwtTokenUtil;
+import com.friendlyI.backend.config.security.RefreshTokenClaims;
 import com.friendlyI.backend.dto.LoginRequest;
 import com.friendlyI.backend.dto.LoginResponse;
+import com.friendlyI.backend.dto.MemberResponse;
 import com.friendlyI.backend.entity.Member;
+import com.friendlyI.backend.entity.RevokedRefreshToken;
+import com.friendlyI.backend.exception.MemberNotFoundException;
+import com.friendlyI.backend.exception.UnauthorizedException;
 import com.friendlyI.backend.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.UUID;
+
 /**
  * 인증 서비스
  */
@@ -20,30 +29,91 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class AuthService {
 
+        // 존재하지 않는 ID와 틀린 비밀번호를 같은 메시지로 응답해 회원 존재 여부를 숨김
+        private static final String INVALID_CREDENTIALS = "아이디 또는 비밀번호가 일치하지 않습니다";
+        private static final String INVALID_REFRESH_TOKEN = "유효하지 않은 리프레시 토큰입니다. 다시 로그인해 주세요.";
+
         private final MemberRepository memberRepository;
-        private final PasswordEncoder passwordEncoder;
+        private final MemberService memberService;
+        private final PasswordHashingService passwordHashingService;
+        private final LoginGuard loginGuard;
         private final JwtTokenUtil jwtTokenUtil;
+        private final RefreshTokenRevocationStore revocationStore;
 
         /**
          * 로그인 처리
+         * 해시 검증 동안 DB 커넥션을 붙잡지 않도록 트랜잭션 밖에서 실행한다.
          */
-        @Transactional
+        @Transactional(propagation = Propagation.NOT_SUPPORTED)
         public LoginResponse login(LoginRequest request) {
-                // 사용자 조회
-                Member member = memberRepository.findByLoginId(request.getLoginId())
-                                .orElseThrow(() -> new RuntimeException("존재하지 않는 사용자입니다"));
+                String loginId = request.getLoginId();
+                String ipAddress = RequestMetadata.current().ipAddress();
+
+                // 차단 중인 로그인 ID/IP는 DB 조회와 해시 검증 전에 거절
+                loginGuard.checkAllowed(loginId, ipAddress);
+
+                // 사용자 조회 (존재하지 않는 것으로 확인된 ID는 DB 조회 생략)
+                Member member = loginGuard.isKnownUnknown(loginId) ? null
+                                : memberRepository.findByLoginId(loginId).orElse(null);
+                if (member == null) {
+                        loginGuard.rememberUnknown(loginId);
+                        passwordHashingService.matchesDummy(request.getPassword());
+                        loginGuard.recordFailure(loginId, ipAddress);
+                        throw new RuntimeException(INVALID_CREDENTIALS);
+                }
 
                 // 비밀번호 검증
-                if (!passwordEncoder.matches(request.getPassword(), member.getPassword())) {
-                        throw new RuntimeException("비밀번호가 일치하지 않습니다");
+                if (!passwordHashingService.matches(request.getPassword(), member.getPassword())) {
+                        loginGuard.recordFailure(loginId, ipAddress);
+                        throw new RuntimeException(INVALID_CREDENTIALS);
+                }
+                loginGuard.recordSuccess(loginId);
+                rehashIfNeeded(member, request.getPassword());
+
+                // 새 로그인마다 새 리프레시 토큰 묶음 시작
+                return issueTokens(member, UUID.randomUUID().toString());
+        }
+
+        /**
+         * 리프레시 토큰으로 토큰 재발급 (회전)
+         * 사용한 리프레시 토큰은 폐기하고 같은 묶음의 새 토큰을 발급한다.
+         * 이미 폐기된 토큰이 다시 들어오면 탈취로 보고 묶음 전체를 폐기한다.
+         */
+        @Transactional(propagation = Propagation.NOT_SUPPORTED)
+        public LoginResponse refresh(String refreshToken) {
+                RefreshTokenClaims claims = jwtTokenUtil.parseRefreshToken(refreshToken)
+                                .orElseThrow(() -> new UnauthorizedException(INVALID_REFRESH_TOKEN));
+                if (revocationStore.isRevoked(claims.familyId())) {
+                        throw new UnauthorizedException(INVALID_REFRESH_TOKEN);
                 }
+                if (!revocationStore.revoke(claims.tokenId(), claims.memberId(), claims.expiresAt(),
+                                RevokedRefreshToken.Reason.ROTATED)) {
+                        log.warn("폐기된 리프레시 토큰 재사용 탐지, 토큰 묶음 폐기: {}", claims.loginId());
+                        revocationStore.revokeFamily(claims.familyId(), claims.memberId(),
+                                        RevokedRefreshToken.Reason.REUSE_DETECTED);
+                        throw new UnauthorizedException(INVALID_REFRESH_TOKEN);
+                }
+
+                // 등급 변경/탈퇴를 반영하기 위해 회원은 매번 다시 조회
+                Member member = memberRepository.findById(claims.memberId())
+                                .orElseThrow(() -> new UnauthorizedException(INVALID_REFRESH_TOKEN));
+                return issueTokens(member, claims.familyId());
+        }
 
-                // JWT 토큰 생성
-                String token = jwtTokenUtil.generateToken(member.getLoginId(), member.getId(), member.getGrade());
+        /**
+         * 로그아웃 (리프레시 토큰 묶음 폐기, 잘못된 토큰은 무시)
+         */
+        @Transactional(propagation = Propagation.NOT_SUPPORTED)
+        public void logout(String refreshToken) {
+                jwtTokenUtil.parseRefreshToken(refreshToken).ifPresent(claims -> revocationStore.revokeFamily(
+                                claims.familyId(), claims.memberId(), RevokedRefreshToken.Reason.LOGOUT));
+        }
 
-                // 응답 생성
+        private LoginResponse issueTokens(Member member, String familyId) {
                 return LoginResponse.builder()
-                                .token(token)
+                                .token(jwtTokenUtil.generateToken(member.getLoginId(), member.getId(), member.getGrade()))
+                                .refreshToken(jwtTokenUtil.generateRefreshToken(member.getLoginId(), member.getId(),
+                                                familyId))
                                 .user(LoginResponse.UserInfo.builder()
                                                 .id(member.getId())
                                                 .loginId(member.getLoginId())
@@ -59,26 +129,46 @@ public class AuthService {
         }
 
         /**
-         * 현재 사용자 정보 조회 (임시로 admin 사용자 정보 반환)
+         * 현재 사용자 정보 조회
+         * 식별자와 등급은 검증된 토큰에서, 나머지 프로필은 회원 캐시(members)에서 가져와 DB 조회나 토큰 발급 없이 응답한다.
+         * 캐시 적중이면 커넥션이 필요 없으므로 트랜잭션을 열지 않는다. (미스 적재는 회원 조회가 자기 트랜잭션으로 처리)
          */
-        public LoginResponse getCurrentUserInfo() {
-                // 현재는 임시로 admin 사용자 정보 반환
-                Member admin = memberRepository.findByLoginId("admin")
-                                .orElseThrow(() -> new RuntimeException("관리자 계정을 찾을 수 없습니다"));
+        @Transactional(propagation = Propagation.NOT_SUPPORTED)
+        public LoginResponse.UserInfo getCurrentUserInfo(JwtPrincipal principal) {
+                MemberResponse member;
+                try {
+                        member = memberService.getMemberById(principal.memberId());
+                } catch (MemberNotFoundException e) {
+                        throw new UnauthorizedException("존재하지 않는 회원입니다. 다시 로그인해 주세요.");
+                }
 
-                return LoginResponse.builder()
-                                .token(jwtTokenUtil.generateToken(admin.getLoginId(), admin.getId(), admin.getGrade()))
-                                .user(LoginResponse.UserInfo.builder()
-                                                .id(admin.getId())
-                                                .loginId(admin.getLoginId())
-                                                .name(admin.getName())
-                                                .email(admin.getEmail() != null ? admin.getEmail() : "")
-                                                .phoneNumber(admin.getPhoneNumber() != null ? admin.getPhoneNumber()
-                                                                : "")
-                                                .grade(admin.getGrade())
-                                                .createdAt(admin.getCreatedAt())
-                                                .updatedAt(admin.getUpdatedAt())
-                                                .build())
+                return LoginResponse.UserInfo.builder()
+                                .id(principal.memberId())
+                                .loginId(principal.loginId())
+                                .name(member.getName())
+                                .email(member.getEmail() != null ? member.getEmail() : "")
+                                .phoneNumber(member.getPhoneNumber() != null ? member.getPhoneNumber() : "")
+                                .grade(principal.grade())
+                                .createdAt(member.getCreatedAt())
+                                .updatedAt(member.getUpdatedAt())
                                 .build();
         }
-}
\ No newline at end of file
+
+        /**
+         * 기존 해시가 현재 알고리즘/비용과 다르면 로그인에 성공한 평문으로 다시 해시
+         */
+        private void rehashIfNeeded(Member member, String rawPassword) {
+                if (!passwordHashingService.needsRehash(member.getPassword())) {
+                        return;
+                }
+                try {
+                        String rehashed = passwordHashingService.encode(rawPassword);
+                        if (memberRepository.replacePasswordHash(member.getId(), member.getPassword(), rehashed) > 0) {
+                                log.info("비밀번호 해시 갱신: {}", member.getLoginId());
+                        }
+                } catch (RuntimeException e) {
+                        // 해시 갱신은 다음 로그인에 다시 시도하면 되므로 로그인 자체는 성공 처리
+                        log.warn("비밀번호 해시 갱신 실패: {}, {}", member.getLoginId(), e.getMessage());
+                }
+        }
+}
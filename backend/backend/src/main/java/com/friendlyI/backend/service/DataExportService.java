@@ -0,0 +1,245 @@
+package com.friendlyI.backend.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.friendlyI.backend.dto.projection.ReservationRow;
+import com.friendlyI.backend.entity.ActivityLog;
+import com.friendlyI.backend.entity.Member;
+import com.friendlyI.backend.repository.ActivityLogRepository;
+import com.friendlyI.backend.repository.MemberRepository;
+import com.friendlyI.backend.repository.ReservationRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.temporal.TemporalAccessor;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 관리자용 대용량 데이터 내보내기 (NDJSON / CSV)
+ * 읽기 전용 트랜잭션 안에서 JDBC 커서(fetch size)로 한 행씩 읽어 바로 출력하므로
+ * 전체 건수와 관계없이 메모리 사용량이 일정하다.
+ */
+@Slf4j
+@Service
+public class DataExportService {
+
+    private static final int FLUSH_INTERVAL = 1000;
+    private static final char UTF8_BOM = '\uFEFF';
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private static final List<Column<Member>> MEMBER_COLUMNS = List.of(
+            new Column<>("id", Member::getId),
+            new Column<>("loginId", Member::getLoginId),
+            new Column<>("name", Member::getName),
+            new Column<>("email", Member::getEmail),
+            new Column<>("phoneNumber", Member::getPhoneNumber),
+            new Column<>("birthYear", Member::getBirthYear),
+            new Column<>("grade", Member::getGrade),
+            new Column<>("createdAt", Member::getCreatedAt),
+            new Column<>("updatedAt", Member::getUpdatedAt));
+
+    private static final List<Column<ReservationRow>> RESERVATION_COLUMNS = List.of(
+            new Column<>("id", ReservationRow::getId),
+            new Column<>("title", ReservationRow::getTitle),
+            new Column<>("reservationDate", ReservationRow::getReservationDate),
+            new Column<>("reservationTime", ReservationRow::getReservationTime),
+            new Column<>("locationName", ReservationRow::getLocationName),
+            new Column<>("locationAddress", ReservationRow::getLocationAddress),
+            new Column<>("maxCapacity", ReservationRow::getMaxCapacity),
+            new Column<>("confirmedCount", ReservationRow::getConfirmedCount),
+            new Column<>("waitingCount", ReservationRow::getWaitingCount),
+            new Column<>("creatorId", ReservationRow::getCreatorId),
+            new Column<>("creatorName", ReservationRow::getCreatorName),
+            new Column<>("createdAt", ReservationRow::getCreatedAt));
+
+    private static final List<Column<ActivityLog>> ACTIVITY_LOG_COLUMNS = List.of(
+            new Column<>("id", ActivityLog::getId),
+            new Column<>("memberId", ActivityLog::getMemberId),
+            new Column<>("memberLoginId", ActivityLog::getMemberLoginId),
+            new Column<>("activityType", ActivityLog::getActivityType),
+            new Column<>("description", ActivityLog::getDescription),
+            new Column<>("ipAddress", ActivityLog::getIpAddress),
+            new Column<>("userAgent", ActivityLog::getUserAgent),
+            new Column<>("requestUri", ActivityLog::getRequestUri),
+            new Column<>("httpMethod", ActivityLog::getHttpMethod),
+            new Column<>("createdAt", ActivityLog::getCreatedAt));
+
+    private final MemberRepository memberRepository;
+    private final ReservationRepository reservationRepository;
+    private final ActivityLogRepository activityLogRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public DataExportService(MemberRepository memberRepository, ReservationRepository reservationRepository,
+            ActivityLogRepository activityLogRepository, ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager) {
+        this.memberRepository = memberRepository;
+        this.reservationRepository = reservationRepository;
+        this.activityLogRepository = activityLogRepository;
+        this.objectMapper = objectMapper.copy().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+    }
+
+    /**
+     * 내보내기 형식
+     */
+    public enum ExportFormat {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv;charset=UTF-8", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        ExportFormat(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static ExportFormat from(String value) {
+            for (ExportFormat format : values()) {
+                if (format.name().equalsIgnoreCase(value)) {
+                    return format;
+                }
+            }
+            throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value);
+        }
+    }
+
+    /**
+     * 전체 회원 내보내기 (비밀번호 제외)
+     */
+    public long exportMembers(ExportFormat format, OutputStream out) {
+        return export("members", format, out, MEMBER_COLUMNS, memberRepository::streamAllOrderById, true);
+    }
+
+    /**
+     * 전체 예약 내보내기 (장소/생성자 포함 프로젝션)
+     */
+    public long exportReservations(ExportFormat format, OutputStream out) {
+        return export("reservations", format, out, RESERVATION_COLUMNS, reservationRepository::streamAllRows, false);
+    }
+
+    /**
+     * 전체 활동 로그 내보내기
+     */
+    public long exportActivityLogs(ExportFormat format, OutputStream out) {
+        return export("activity_logs", format, out, ACTIVITY_LOG_COLUMNS,
+                activityLogRepository::streamAllOrderById, true);
+    }
+
+    private <T> long export(String name, ExportFormat format, OutputStream out, List<Column<T>> columns,
+            Supplier<Stream<T>> source, boolean managedEntities) {
+        long startedAt = System.currentTimeMillis();
+        Long written = readOnlyTemplate.execute(status -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            try (Stream<T> rows = source.get()) {
+                if (format == ExportFormat.CSV) {
+                    writer.write(UTF8_BOM);
+                    writeCsvRow(writer, columns.stream().map(Column::name).toList());
+                }
+
+                long count = 0;
+                for (T row : (Iterable<T>) rows::iterator) {
+                    writeRow(writer, format, columns, row);
+                    // 영속성 컨텍스트에 엔티티가 쌓이지 않도록 한 행씩 분리
+                    if (managedEntities) {
+                        entityManager.detach(row);
+                    }
+                    if (++count % FLUSH_INTERVAL == 0) {
+                        writer.flush();
+                    }
+                }
+                writer.flush();
+                return count;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        log.info("데이터 내보내기 완료: {} {}건 ({}, {}ms)", name, written, format,
+                System.currentTimeMillis() - startedAt);
+        return written != null ? written : 0L;
+    }
+
+    private <T> void writeRow(Writer writer, ExportFormat format, List<Column<T>> columns, T row)
+            throws IOException {
+        if (format == ExportFormat.NDJSON) {
+            Map<String, Object> values = new LinkedHashMap<>();
+            for (Column<T> column : columns) {
+                values.put(column.name(), column.extractor().apply(row));
+            }
+            objectMapper.writeValue(writer, values);
+            writer.write('\n');
+        } else {
+            writeCsvRow(writer, columns.stream().map(column -> toCsvValue(column.extractor().apply(row))).toList());
+        }
+    }
+
+    private void writeCsvRow(Writer writer, List<String> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(escapeCsv(values.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    private String toCsvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof TemporalAccessor) {
+            return value.toString();
+        }
+        return String.valueOf(value);
+    }
+
+    /**
+     * CSV 값 이스케이프
+     * 스프레드시트가 수식으로 실행하지 않도록 =, +, -, @, 탭, CR로 시작하는 값은 앞에 '를 붙인다. (CSV 인젝션 방지)
+     */
+    private String escapeCsv(String value) {
+        if (!value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+                && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * 내보내기 컬럼 정의 (CSV 헤더/NDJSON 필드 이름과 값 추출 함수)
+     */
+    private record Column<T>(String name, Function<T, Object> extractor) {
+    }
+}
@@ -2,14 +2,18 @@ package com.friendlyI.backend.service;
 
 import com.friendlyI.backend.dto.LocationCreateRequest;
 import com.friendlyI.backend.dto.LocationResponse;
+import com.friendlyI.backend.dto.projection.LocationReservationCount;
 import com.friendlyI.backend.entity.Location;
+import com.friendlyI.backend.event.ReservationChangedEvent;
 import com.friendlyI.backend.repository.LocationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -19,19 +23,14 @@ import java.util.stream.Collectors;
 public class LocationService {
 
     private final LocationRepository locationRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 모든 활성 장소 조회
      */
     public List<LocationResponse> getAllActiveLocations() {
         List<Location> locations = locationRepository.findByIsActiveTrue();
-        return locations.stream()
-                .map(location -> {
-                    Long activeReservationCount = locationRepository
-                            .countActiveReservationsByLocation(location.getId());
-                    return LocationResponse.from(location, activeReservationCount);
-                })
-                .collect(Collectors.toList());
+        return toResponses(locations);
     }
 
     /**
@@ -39,13 +38,7 @@ public class LocationService {
      */
     public List<LocationResponse> getAllLocations() {
         List<Location> locations = locationRepository.findAll();
-        return locations.stream()
-                .map(location -> {
-                    Long activeReservationCount = locationRepository
-                            .countActiveReservationsByLocation(location.getId());
-                    return LocationResponse.from(location, activeReservationCount);
-                })
-                .collect(Collectors.toList());
+        return toResponses(locations);
     }
 
     /**
@@ -98,6 +91,8 @@ public class LocationService {
 
         location.updateLocation(request.getName(), request.getAddress(), request.getDescription(), request.getUrl());
         Location updatedLocation = locationRepository.save(location);
+        // 예약 조회 결과에 장소 정보가 들어가므로 예약 캐시도 무효화
+        eventPublisher.publishEvent(ReservationChangedEvent.all());
 
         log.info("장소가 수정되었습니다: {} (ID: {})", updatedLocation.getName(), updatedLocation.getId());
 
@@ -121,6 +116,7 @@ public class LocationService {
 
         location.deactivate();
         locationRepository.save(location);
+        eventPublisher.publishEvent(ReservationChangedEvent.all());
 
         log.info("장소가 비활성화되었습니다: {} (ID: {})", location.getName(), location.getId());
     }
@@ -135,6 +131,7 @@ public class LocationService {
 
         location.activate();
         locationRepository.save(location);
+        eventPublisher.publishEvent(ReservationChangedEvent.all());
 
         log.info("장소가 활성화되었습니다: {} (ID: {})", location.getName(), location.getId());
     }
@@ -144,13 +141,7 @@ public class LocationService {
      */
     public List<LocationResponse> searchLocations(String keyword) {
         List<Location> locations = locationRepository.findActiveLocationsByKeyword(keyword);
-        return locations.stream()
-                .map(location -> {
-                    Long activeReservationCount = locationRepository
-                            .countActiveReservationsByLocation(location.getId());
-                    return LocationResponse.from(location, activeReservationCount);
-                })
-                .collect(Collectors.toList());
+        return toResponses(locations);
     }
 
     /**
@@ -158,12 +149,24 @@ public class LocationService {
      */
     public List<LocationResponse> getLocationsWithActiveReservations() {
         List<Location> locations = locationRepository.findLocationsWithActiveReservations();
+        return toResponses(locations);
+    }
+
+    /**
+     * 장소 목록 응답 변환 (활성 예약 수는 장소 수와 관계없이 집계 쿼리 한 번으로 조회)
+     */
+    private List<LocationResponse> toResponses(List<Location> locations) {
+        if (locations.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Long> activeCounts = locationRepository.countActiveReservationsByLocations(
+                locations.stream().map(Location::getId).toList()).stream()
+                .collect(Collectors.toMap(LocationReservationCount::getLocationId,
+                        LocationReservationCount::getActiveCount));
+
         return locations.stream()
-                .map(location -> {
-                    Long activeReservationCount = locationRepository
-                            .countActiveReservationsByLocation(location.getId());
-                    return LocationResponse.from(location, activeReservationCount);
-                })
+                .map(location -> LocationResponse.from(location, activeCounts.getOrDefault(location.getId(), 0L)))
                 .collect(Collectors.toList());
     }
-}
\ No newline at end of file
+}
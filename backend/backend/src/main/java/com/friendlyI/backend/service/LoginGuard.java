@@ -0,0 +1,210 @@
+package com.friendlyI.backend.service;
+
+import com.friendlyI.backend.exception.TooManyRequestsException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Locale;
+
+/**
+ * 로그인 무차별 대입 방어
+ * - 로그인 ID별/IP별 슬라이딩 윈도우 실패 횟수를 세고, 한도를 넘으면 지수적으로 늘어나는 시간 동안 차단한다.
+ *   차단된 요청은 DB 조회나 해시 검증 전에 바로 거절된다.
+ * - 존재하지 않는 로그인 ID는 잠시 기억해 DB 조회를 생략한다. (가입 시 즉시 제거)
+ */
+@Slf4j
+@Component
+public class LoginGuard {
+
+    private final int maxFailuresPerLoginId;
+    private final int maxFailuresPerIp;
+    private final long windowMillis;
+    private final long baseLockoutMillis;
+    private final long maxLockoutMillis;
+
+    private final Cache<String, AttemptWindow> windows;
+    private final Cache<String, Boolean> unknownLoginIds;
+
+    private final Counter rejectedByLoginId;
+    private final Counter rejectedByIp;
+    private final Counter failures;
+    private final Counter unknownLoginIdHits;
+    private final Clock clock;
+
+    @Autowired
+    public LoginGuard(MeterRegistry meterRegistry,
+            @Value("${app.security.login.max-failures-per-login-id:5}") int maxFailuresPerLoginId,
+            @Value("${app.security.login.max-failures-per-ip:20}") int maxFailuresPerIp,
+            @Value("${app.security.login.window:15m}") Duration window,
+            @Value("${app.security.login.base-lockout:30s}") Duration baseLockout,
+            @Value("${app.security.login.max-lockout:15m}") Duration maxLockout,
+            @Value("${app.security.login.unknown-login-id-ttl:5m}") Duration unknownLoginIdTtl,
+            @Value("${app.security.login.max-tracked-keys:100000}") long maxTrackedKeys) {
+        this(meterRegistry, maxFailuresPerLoginId, maxFailuresPerIp, window, baseLockout, maxLockout,
+                unknownLoginIdTtl, maxTrackedKeys, Clock.systemUTC());
+    }
+
+    LoginGuard(MeterRegistry meterRegistry, int maxFailuresPerLoginId, int maxFailuresPerIp, Duration window,
+            Duration baseLockout, Duration maxLockout, Duration unknownLoginIdTtl, long maxTrackedKeys, Clock clock) {
+        this.clock = clock;
+        this.maxFailuresPerLoginId = maxFailuresPerLoginId;
+        this.maxFailuresPerIp = maxFailuresPerIp;
+        this.windowMillis = window.toMillis();
+        this.baseLockoutMillis = baseLockout.toMillis();
+        this.maxLockoutMillis = maxLockout.toMillis();
+
+        // 마지막 실패 후 윈도우 + 최대 차단 시간이 지나면 기록을 잊는다
+        this.windows = Caffeine.newBuilder()
+                .maximumSize(maxTrackedKeys)
+                .expireAfterAccess(window.plus(maxLockout))
+                .build();
+        this.unknownLoginIds = Caffeine.newBuilder()
+                .maximumSize(maxTrackedKeys)
+                .expireAfterWrite(unknownLoginIdTtl)
+                .build();
+
+        this.rejectedByLoginId = Counter.builder("auth.login.rejected")
+                .description("횟수 제한으로 거절된 로그인 시도 수")
+                .tag("reason", "login_id")
+                .register(meterRegistry);
+        this.rejectedByIp = Counter.builder("auth.login.rejected")
+                .description("횟수 제한으로 거절된 로그인 시도 수")
+                .tag("reason", "ip")
+                .register(meterRegistry);
+        this.failures = Counter.builder("auth.login.failures")
+                .description("실패한 로그인 시도 수")
+                .register(meterRegistry);
+        this.unknownLoginIdHits = Counter.builder("auth.login.unknown_id.cache_hits")
+                .description("존재하지 않는 로그인 ID 캐시로 DB 조회를 생략한 횟수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 로그인 시도 허용 여부 확인 (차단 중이면 TooManyRequestsException)
+     */
+    public void checkAllowed(String loginId, String ipAddress) {
+        long now = clock.millis();
+        long retryAfter = remainingLockout(loginIdKey(loginId), now);
+        if (retryAfter > 0) {
+            rejectedByLoginId.increment();
+            throw tooManyRequests(retryAfter);
+        }
+        if (ipAddress != null) {
+            retryAfter = remainingLockout(ipKey(ipAddress), now);
+            if (retryAfter > 0) {
+                rejectedByIp.increment();
+                throw tooManyRequests(retryAfter);
+            }
+        }
+    }
+
+    /**
+     * 로그인 실패 기록
+     */
+    public void recordFailure(String loginId, String ipAddress) {
+        failures.increment();
+        long now = clock.millis();
+        if (windows.get(loginIdKey(loginId), key -> new AttemptWindow()).recordFailure(now, maxFailuresPerLoginId)) {
+            log.warn("로그인 실패 누적으로 로그인 ID 차단: {}", loginId);
+        }
+        if (ipAddress != null
+                && windows.get(ipKey(ipAddress), key -> new AttemptWindow()).recordFailure(now, maxFailuresPerIp)) {
+            log.warn("로그인 실패 누적으로 IP 차단: {}", ipAddress);
+        }
+    }
+
+    /**
+     * 로그인 성공 시 로그인 ID 실패 기록 초기화 (IP 기록은 유지)
+     */
+    public void recordSuccess(String loginId) {
+        windows.invalidate(loginIdKey(loginId));
+    }
+
+    /**
+     * 존재하지 않는 것으로 기억된 로그인 ID인지 여부 (로그인 ID는 대소문자를 구분하므로 그대로 비교)
+     */
+    public boolean isKnownUnknown(String loginId) {
+        boolean hit = unknownLoginIds.getIfPresent(loginId) != null;
+        if (hit) {
+            unknownLoginIdHits.increment();
+        }
+        return hit;
+    }
+
+    public void rememberUnknown(String loginId) {
+        unknownLoginIds.put(loginId, Boolean.TRUE);
+    }
+
+    /**
+     * 새로 가입한 로그인 ID를 존재하지 않는 ID 목록에서 제거
+     */
+    public void forgetUnknown(String loginId) {
+        unknownLoginIds.invalidate(loginId);
+    }
+
+    private long remainingLockout(String key, long now) {
+        AttemptWindow window = windows.getIfPresent(key);
+        return window != null ? window.remainingLockout(now) : 0;
+    }
+
+    private TooManyRequestsException tooManyRequests(long retryAfterMillis) {
+        long seconds = Math.max(1, (retryAfterMillis + 999) / 1000);
+        return new TooManyRequestsException(
+                String.format("로그인 시도가 너무 많습니다. %d초 후 다시 시도해 주세요.", seconds), seconds);
+    }
+
+    private static String loginIdKey(String loginId) {
+        return "id:" + normalize(loginId);
+    }
+
+    private static String ipKey(String ipAddress) {
+        return "ip:" + ipAddress;
+    }
+
+    private static String normalize(String loginId) {
+        return loginId == null ? "" : loginId.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 키 하나의 최근 실패 시각 목록과 차단 상태
+     */
+    private final class AttemptWindow {
+        private final Deque<Long> failureTimes = new ArrayDeque<>();
+        private int lockouts;
+        private long lockedUntil;
+
+        synchronized long remainingLockout(long now) {
+            return Math.max(0, lockedUntil - now);
+        }
+
+        /**
+         * 실패 기록 후 한도를 넘었으면 차단하고 true 반환
+         * 차단 시간은 base * 2^(연속 차단 횟수 - 1), 최대 maxLockout
+         */
+        synchronized boolean recordFailure(long now, int maxFailures) {
+            while (!failureTimes.isEmpty() && failureTimes.peekFirst() <= now - windowMillis) {
+                failureTimes.pollFirst();
+            }
+            failureTimes.addLast(now);
+            if (failureTimes.size() < maxFailures) {
+                return false;
+            }
+
+            long lockout = baseLockoutMillis << Math.min(lockouts, 20);
+            lockedUntil = now + Math.min(lockout, maxLockoutMillis);
+            lockouts++;
+            failureTimes.clear();
+            return true;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.friendlyI.backend.service;
+
+import com.friendlyI.backend.config.CacheNames;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 회원 변경 시 회원 캐시 무효화
+ * 단건 캐시(회원 ID, 로그인 ID)는 해당 키만, 목록 캐시는 어떤 회원이 바뀌어도 결과가 달라질 수 있으므로 통째로 비운다.
+ * 트랜잭션 안에서 호출되면 커밋 이후에 지워, 커밋 전 다른 요청이 옛 값을 다시 캐시에 넣는 일을 막는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberCacheInvalidator {
+
+    private final CacheManager cacheManager;
+
+    /**
+     * 회원 한 명이 생성/수정/삭제되었을 때 호출
+     */
+    public void memberChanged(Long memberId, String loginId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(memberId, loginId);
+                }
+            });
+        } else {
+            evict(memberId, loginId);
+        }
+    }
+
+    private void evict(Long memberId, String loginId) {
+        if (memberId != null) {
+            cache(CacheNames.MEMBERS).evict(memberId);
+        }
+        if (loginId != null) {
+            cache(CacheNames.MEMBERS_BY_LOGIN_ID).evict(loginId);
+        }
+        cache(CacheNames.MEMBER_LISTS).clear();
+        log.debug("회원 캐시 무효화: id={}, loginId={}", memberId, loginId);
+    }
+
+    private Cache cache(String name) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache == null) {
+            throw new IllegalStateException("캐시가 설정되지 않았습니다: " + name);
+        }
+        return cache;
+    }
+}
@@ -1,26 +1,32 @@
 package com.friendlyI.backend.service;
 
+import com.friendlyI.backend.config.CacheNames;
 import com.friendlyI.backend.dto.MemberCreateRequest;
 import com.friendlyI.backend.dto.MemberResponse;
 import com.friendlyI.backend.dto.MemberStatsDto;
 import com.friendlyI.backend.dto.MemberUpdateRequest;
+import com.friendlyI.backend.dto.common.PageCursor;
+import com.friendlyI.backend.dto.common.PageResponse;
 import com.friendlyI.backend.entity.ActivityLog;
 import com.friendlyI.backend.entity.Member;
 import com.friendlyI.backend.entity.MemberGrade;
 import com.friendlyI.backend.entity.ReservationStatus;
+import com.friendlyI.backend.event.ReservationChangedEvent;
 import com.friendlyI.backend.exception.MemberNotFoundException;
 import com.friendlyI.backend.repository.MemberRepository;
 import com.friendlyI.backend.repository.ReservationApplicationRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,9 +35,12 @@ import java.util.stream.Collectors;
 public class MemberService {
 
     private final MemberRepository memberRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final LoginGuard loginGuard;
+    private final MemberCacheInvalidator memberCacheInvalidator;
     private final ActivityLogService activityLogService;
     private final ReservationApplicationRepository applicationRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 회원 생성
@@ -44,13 +53,15 @@ public class MemberService {
 
         Member member = Member.builder()
                 .loginId(request.getLoginId())
-                .password(passwordEncoder.encode(request.getPassword())) // 비밀번호 암호화
+                .password(passwordHashingService.encode(request.getPassword())) // 비밀번호 암호화
                 .name(request.getName())
                 .birthYear(request.getBirthYear())
                 .grade(request.getGrade() != null ? request.getGrade() : MemberGrade.EGG)
                 .build();
 
         Member savedMember = memberRepository.save(member);
+        loginGuard.forgetUnknown(savedMember.getLoginId());
+        memberCacheInvalidator.memberChanged(savedMember.getId(), savedMember.getLoginId());
 
         // 활동 로그 기록
         activityLogService.logActivity(
@@ -59,67 +70,92 @@ public class MemberService {
                 ActivityLog.ActivityType.MEMBER_CREATE,
                 String.format("새 회원 가입: %s (%s)", savedMember.getName(), savedMember.getLoginId()));
 
-        return convertToResponse(savedMember);
+        return MemberResponse.from(savedMember);
     }
 
     /**
      * 회원 ID로 조회 (캐싱 적용)
      */
-    @Cacheable(value = "members", key = "#id")
+    @Cacheable(cacheNames = CacheNames.MEMBERS, key = "#id", sync = true)
     public MemberResponse getMemberById(Long id) {
         Member member = memberRepository.findById(id)
                 .orElseThrow(() -> new MemberNotFoundException(id));
-        return convertToResponse(member);
+        return MemberResponse.from(member);
     }
 
     /**
-     * 로그인 ID로 조회
+     * 로그인 ID로 조회 (캐싱 적용)
      */
+    @Cacheable(cacheNames = CacheNames.MEMBERS_BY_LOGIN_ID, key = "#loginId", sync = true)
     public MemberResponse getMemberByLoginId(String loginId) {
         Member member = memberRepository.findByLoginId(loginId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
-        return convertToResponse(member);
+        return MemberResponse.from(member);
     }
 
     /**
-     * 모든 회원 조회
+     * 모든 회원 조회 (캐싱 적용)
      */
+    @Cacheable(cacheNames = CacheNames.MEMBER_LISTS, key = "'all'", sync = true)
     public List<MemberResponse> getAllMembers() {
         return memberRepository.findAll().stream()
-                .map(this::convertToResponse)
+                .map(MemberResponse::from)
                 .collect(Collectors.toList());
     }
 
     /**
      * 모든 회원 조회 (페이징)
      */
-    @Cacheable(value = "members", key = "'paged_' + #pageable.pageNumber + '_' + #pageable.pageSize + '_' + #pageable.sort")
+    @Cacheable(cacheNames = CacheNames.MEMBER_LISTS, key = "'paged_' + #pageable.pageNumber + '_' + #pageable.pageSize + '_' + #pageable.sort", sync = true)
     public Page<MemberResponse> getAllMembersPaged(Pageable pageable) {
         Page<Member> memberPage = memberRepository.findAll(pageable);
-        return memberPage.map(this::convertToResponse);
+        return memberPage.map(MemberResponse::from);
+    }
+
+    /**
+     * 모든 회원 조회 (페이징, COUNT 쿼리 없음, 캐싱 적용)
+     */
+    @Cacheable(cacheNames = CacheNames.MEMBER_LISTS, key = "'slice_' + #pageable.pageNumber + '_' + #pageable.pageSize + '_' + #pageable.sort", sync = true)
+    public Slice<MemberResponse> getAllMembersSlice(Pageable pageable) {
+        return memberRepository.findSliceBy(pageable).map(MemberResponse::from);
+    }
+
+    /**
+     * 회원 커서 페이지 조회 (ID 키셋)
+     */
+    public PageResponse<MemberResponse> getMembersByCursor(String cursor, int size) {
+        int pageSize = PageCursor.normalizeSize(size);
+        Long afterId = PageCursor.isFirstPage(cursor) ? 0L : PageCursor.decode(cursor, 1).getLong(0);
+
+        List<Member> members = memberRepository.findByIdGreaterThanOrderByIdAsc(afterId,
+                PageRequest.of(0, pageSize + 1));
+        return PageResponse.ofKeyset(members, pageSize, PageCursor.isFirstPage(cursor),
+                MemberResponse::from,
+                member -> PageCursor.encode(member.getId()));
     }
 
     /**
      * 회원 등급 업그레이드 (캐시 갱신)
      */
     @Transactional
-    @CacheEvict(value = "members", key = "#memberId")
     public MemberResponse upgradeGrade(Long memberId, MemberGrade newGrade) {
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new MemberNotFoundException(memberId));
 
         member.updateGrade(newGrade);
         Member savedMember = memberRepository.save(member);
-        return convertToResponse(savedMember);
+        memberCacheInvalidator.memberChanged(memberId, savedMember.getLoginId());
+        return MemberResponse.from(savedMember);
     }
 
     /**
-     * 회원 정보 수정
+     * 회원 정보 수정 (캐시 갱신)
      */
     @Transactional
     public MemberResponse updateMember(Long memberId, MemberUpdateRequest updateRequest) {
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new MemberNotFoundException(memberId));
+        String previousName = member.getName();
 
         // 등급이 포함된 경우와 아닌 경우를 구분하여 처리
         if (updateRequest.getGrade() != null) {
@@ -130,20 +166,25 @@ public class MemberService {
         }
 
         Member savedMember = memberRepository.save(member);
-        return convertToResponse(savedMember);
+        memberCacheInvalidator.memberChanged(memberId, savedMember.getLoginId());
+        if (!Objects.equals(savedMember.getName(), previousName)) {
+            // 예약 조회 결과에 생성자 이름이 들어가므로 예약 캐시도 무효화
+            eventPublisher.publishEvent(ReservationChangedEvent.all());
+        }
+        return MemberResponse.from(savedMember);
     }
 
     /**
      * 비밀번호 변경 (암호화 적용)
      */
     @Transactional
-    @CacheEvict(value = "members", key = "#memberId")
     public void updatePassword(Long memberId, String newPassword) {
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new MemberNotFoundException(memberId));
 
-        member.updatePassword(passwordEncoder.encode(newPassword));
+        member.updatePassword(passwordHashingService.encode(newPassword));
         memberRepository.save(member);
+        memberCacheInvalidator.memberChanged(memberId, member.getLoginId());
     }
 
     /**
@@ -153,19 +194,20 @@ public class MemberService {
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(() -> new MemberNotFoundException(memberId));
 
-        return passwordEncoder.matches(rawPassword, member.getPassword());
+        return passwordHashingService.matches(rawPassword, member.getPassword());
     }
 
     /**
      * 회원 삭제
      */
     @Transactional
-    @CacheEvict(value = "members", key = "#memberId")
     public void deleteMember(Long memberId) {
-        if (!memberRepository.existsById(memberId)) {
-            throw new MemberNotFoundException(memberId);
-        }
-        memberRepository.deleteById(memberId);
+        Member member = memberRepository.findById(memberId)
+                .orElseThrow(() -> new MemberNotFoundException(memberId));
+        memberRepository.delete(member);
+        memberCacheInvalidator.memberChanged(memberId, member.getLoginId());
+        // 회원의 신청이 함께 삭제되어 예약 신청 인원이 바뀔 수 있음
+        eventPublisher.publishEvent(ReservationChangedEvent.all());
     }
 
     /**
@@ -178,17 +220,18 @@ public class MemberService {
 
         List<Member> members = memberRepository.findByKeyword(keyword.trim());
         return members.stream()
-                .map(this::convertToResponse)
+                .map(MemberResponse::from)
                 .toList();
     }
 
     /**
-     * 등급별 회원 조회
+     * 등급별 회원 조회 (캐싱 적용)
      */
+    @Cacheable(cacheNames = CacheNames.MEMBER_LISTS, key = "'grade_' + #grade", sync = true)
     public List<MemberResponse> getMembersByGrade(MemberGrade grade) {
         List<Member> members = memberRepository.findByGrade(grade);
         return members.stream()
-                .map(this::convertToResponse)
+                .map(MemberResponse::from)
                 .toList();
     }
 
@@ -225,25 +268,4 @@ public class MemberService {
                 .participationRate(participationRate)
                 .build();
     }
-
-    /**
-     * Entity를 Response DTO로 변환
-     */
-    private MemberResponse convertToResponse(Member member) {
-        MemberResponse response = new MemberResponse();
-        response.setId(member.getId());
-        response.setLoginId(member.getLoginId());
-        response.setName(member.getName());
-        response.setEmail(member.getEmail());
-        response.setPhoneNumber(member.getPhoneNumber());
-        response.setBirthYear(member.getBirthYear());
-        response.setGrade(member.getGrade());
-        response.setGradeEmoji(member.getGrade().getEmoji());
-        response.setGradeDescription(member.getGrade().getDescription());
-        response.setAge(member.getAge());
-        response.setAdmin(member.isAdmin());
-        response.setCreatedAt(member.getCreatedAt());
-        response.setUpdatedAt(member.getUpdatedAt());
-        return response;
-    }
 }
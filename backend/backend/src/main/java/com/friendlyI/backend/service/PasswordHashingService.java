@@ -0,0 +1,145 @@
+package com.friendlyI.backend.service;
+
+import com.friendlyI.backend.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 비밀번호 해시/검증 전용 서비스
+ * 해시 연산은 CPU를 오래 점유하므로 크기가 제한된 전용 스레드 풀에서만 실행하고,
+ * 대기열이 가득 차면 요청 스레드를 붙잡지 않고 바로 503(ServiceBusyException)으로 거절한다.
+ */
+@Slf4j
+@Service
+public class PasswordHashingService {
+
+    private static final String BCRYPT_ID = "{bcrypt}";
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor executor;
+    private final int minimumCost;
+    private final Duration waitTimeout;
+    private final String dummyHash;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejected;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+            @Qualifier("passwordHashingExecutor") ThreadPoolTaskExecutor executor,
+            @Qualifier("bcryptCost") Integer bcryptCost,
+            @Value("${app.security.password.bcrypt-strength:0}") int configuredStrength,
+            @Value("${app.security.password.min-strength:10}") int minStrength,
+            @Value("${app.security.password.wait-timeout:5s}") Duration waitTimeout,
+            MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+        // 기동 시 측정한 비용은 서버마다 다를 수 있으므로 지정한 비용(없으면 최소 비용)보다 낮을 때만 다시 해시
+        this.minimumCost = configuredStrength > 0 ? configuredStrength : minStrength;
+        this.waitTimeout = waitTimeout;
+        this.dummyHash = passwordEncoder.encode("dummy-password-for-timing");
+
+        this.encodeTimer = Timer.builder("password.hash")
+                .description("비밀번호 해시 연산 시간")
+                .tag("operation", "encode")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hash")
+                .description("비밀번호 해시 연산 시간")
+                .tag("operation", "matches")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.rejected = Counter.builder("password.hash.rejected")
+                .description("대기열 초과/대기 시간 초과로 거절된 해시 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.queue", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .description("해시 대기열 길이")
+                .register(meterRegistry);
+        Gauge.builder("password.hash.bcrypt.cost", () -> bcryptCost)
+                .description("현재 BCrypt 비용")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 비밀번호 해시
+     */
+    public String encode(String rawPassword) {
+        return execute(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    /**
+     * 비밀번호 검증
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute(() -> matchesTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    /**
+     * 존재하지 않는 회원의 로그인 시도에도 실제 검증과 같은 비용을 들여 응답 시간으로 회원 존재 여부가 드러나지 않게 함
+     */
+    public void matchesDummy(String rawPassword) {
+        matches(rawPassword != null ? rawPassword : "", dummyHash);
+    }
+
+    /**
+     * 저장된 해시를 현재 설정으로 다시 만들어야 하는지 여부
+     * (알고리즘 접두어가 없는 기존 해시, 또는 지정한 비용/최소 비용보다 낮은 BCrypt 해시)
+     * 더 높은 비용의 해시는 그대로 두어, 비용을 다르게 측정한 서버끼리 번갈아 다시 해시하지 않게 한다.
+     */
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null || !encodedPassword.startsWith(BCRYPT_ID)) {
+            return true;
+        }
+        Matcher matcher = BCRYPT_COST.matcher(encodedPassword.substring(BCRYPT_ID.length()));
+        return !matcher.find() || Integer.parseInt(matcher.group(1)) < minimumCost;
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (TaskRejectedException e) {
+            rejected.increment();
+            log.warn("비밀번호 해시 대기열 초과로 요청 거절 (대기 {}건)",
+                    executor.getThreadPoolExecutor().getQueue().size());
+            throw new ServiceBusyException("요청이 많아 잠시 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+        }
+
+        try {
+            return future.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            log.warn("비밀번호 해시 대기 시간 초과: {}ms", waitTimeout.toMillis());
+            throw new ServiceBusyException("요청이 많아 잠시 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceBusyException("비밀번호 처리가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.friendlyI.backend.service;
+
+import com.friendlyI.backend.entity.RevokedRefreshToken;
+import com.friendlyI.backend.repository.RevokedRefreshTokenRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 리프레시 토큰 폐기 목록
+ * 폐기된 토큰 ID/토큰 묶음 ID를 만료 시각과 함께 메모리에 두어 재발급 시 DB 조회 없이 확인한다.
+ * 재시작에 대비해 DB 테이블에 함께 기록하고, 메모리에 없는 묶음은 다른 인스턴스에서 폐기했을 수 있으므로
+ * Redis 복제본(redis-mirror)이나, 복제를 쓰지 않거나 Redis 조회가 실패하면 DB 테이블에서 확인한다.
+ * 메모리 목록에는 DB에 기록된 항목만 남긴다. (기록이 실패하면 메모리에서도 되돌리고 예외를 그대로 던짐)
+ */
+@Slf4j
+@Service
+public class RefreshTokenRevocationStore {
+
+    private static final String REDIS_KEY_PREFIX = "auth:refresh:revoked:";
+    private static final int PURGE_EVERY = 1000;
+
+    private final RevokedRefreshTokenRepository repository;
+    private final ObjectProvider<StringRedisTemplate> redisTemplateProvider;
+    private final boolean redisMirror;
+    private final Duration familyTtl;
+
+    // 키: 토큰 ID 또는 토큰 묶음 ID, 값: 폐기 항목을 보관해야 하는 시각 (토큰 만료 시각)
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+    private final AtomicInteger revocationsSincePurge = new AtomicInteger();
+
+    public RefreshTokenRevocationStore(RevokedRefreshTokenRepository repository,
+            ObjectProvider<StringRedisTemplate> redisTemplateProvider,
+            @Value("${app.security.refresh-token.redis-mirror:false}") boolean redisMirror,
+            @Value("${jwt.refresh-expiration:604800000}") long refreshExpirationMillis,
+            MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.redisTemplateProvider = redisTemplateProvider;
+        this.redisMirror = redisMirror;
+        this.familyTtl = Duration.ofMillis(refreshExpirationMillis);
+
+        Gauge.builder("auth.refresh.revoked", revoked, Map::size)
+                .description("메모리 폐기 목록 크기")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void load() {
+        LocalDateTime now = LocalDateTime.now();
+        int purged = repository.deleteExpired(now);
+        repository.findByExpiresAtAfter(now).forEach(entry -> revoked.put(entry.getTokenId(),
+                entry.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant()));
+        log.info("리프레시 토큰 폐기 목록 복원: {}건 (만료 항목 {}건 삭제, Redis 복제 {})",
+                revoked.size(), purged, redisMirror ? "사용" : "미사용");
+    }
+
+    /**
+     * 폐기 여부 확인 (메모리에 없으면 Redis 복제본, 복제를 쓰지 않거나 Redis 조회가 실패하면 DB 확인)
+     */
+    public boolean isRevoked(String id) {
+        Instant keepUntil = revoked.get(id);
+        if (keepUntil != null) {
+            return keepUntil.isAfter(Instant.now());
+        }
+        if (redisMirror) {
+            try {
+                return Boolean.TRUE.equals(redisTemplateProvider.getObject().hasKey(REDIS_KEY_PREFIX + id));
+            } catch (RuntimeException e) {
+                log.warn("Redis 폐기 목록 조회 실패, DB에서 확인: {}", e.getMessage());
+            }
+        }
+        return isRevokedInDatabase(id);
+    }
+
+    /**
+     * 다른 인스턴스가 기록한 폐기 항목 확인 (찾으면 메모리 목록에 채워 다음 조회부터는 DB를 읽지 않음)
+     */
+    private boolean isRevokedInDatabase(String id) {
+        return repository.findByTokenIdAndExpiresAtAfter(id, LocalDateTime.now())
+                .map(entry -> {
+                    revoked.put(id, entry.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant());
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    /**
+     * 토큰 ID 폐기 (이미 폐기된 ID였다면 false)
+     * 같은 토큰으로 동시에 재발급하면 메모리 목록에서, 다른 인스턴스와 겹치면 DB 유니크 제약에서 한 번만 성공한다.
+     */
+    public boolean revoke(String tokenId, Long memberId, Instant expiresAt, RevokedRefreshToken.Reason reason) {
+        if (revoked.putIfAbsent(tokenId, expiresAt) != null || !persist(tokenId, memberId, expiresAt, reason)) {
+            return false;
+        }
+        mirrorToRedis(tokenId, expiresAt);
+        purgeExpiredPeriodically();
+        return true;
+    }
+
+    /**
+     * 토큰 묶음 전체 폐기 (묶음의 마지막 토큰이 만료될 때까지 보관)
+     */
+    public void revokeFamily(String familyId, Long memberId, RevokedRefreshToken.Reason reason) {
+        Instant keepUntil = Instant.now().plus(familyTtl);
+        if (revoked.putIfAbsent(familyId, keepUntil) == null && persist(familyId, memberId, keepUntil, reason)) {
+            mirrorToRedis(familyId, keepUntil);
+        }
+    }
+
+    private void mirrorToRedis(String id, Instant keepUntil) {
+        Duration ttl = Duration.between(Instant.now(), keepUntil);
+        if (!redisMirror || ttl.isNegative() || ttl.isZero()) {
+            return;
+        }
+        try {
+            redisTemplateProvider.getObject().opsForValue().set(REDIS_KEY_PREFIX + id, "1", ttl);
+        } catch (RuntimeException e) {
+            log.warn("Redis 폐기 목록 기록 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * DB에 폐기 항목 기록 (다른 인스턴스가 이미 기록했으면 false)
+     * 그 밖의 오류(커넥션 끊김, 풀 대기 시간 초과 등)는 메모리 항목을 되돌린 뒤 그대로 던진다.
+     * (남겨 두면 같은 토큰으로 다시 시도할 때 재사용으로 오인해 묶음 전체를 폐기한다)
+     */
+    private boolean persist(String id, Long memberId, Instant keepUntil, RevokedRefreshToken.Reason reason) {
+        try {
+            repository.save(RevokedRefreshToken.builder()
+                    .tokenId(id)
+                    .memberId(memberId)
+                    .reason(reason)
+                    .expiresAt(LocalDateTime.ofInstant(keepUntil, ZoneId.systemDefault()))
+                    .build());
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            log.debug("이미 폐기된 리프레시 토큰: {}", id);
+            return false;
+        } catch (RuntimeException e) {
+            revoked.remove(id, keepUntil);
+            throw e;
+        }
+    }
+
+    /**
+     * 폐기가 일정 횟수 쌓일 때마다 만료된 항목을 메모리와 DB에서 정리
+     */
+    private void purgeExpiredPeriodically() {
+        if (revocationsSincePurge.incrementAndGet() < PURGE_EVERY) {
+            return;
+        }
+        revocationsSincePurge.set(0);
+        Instant now = Instant.now();
+        revoked.values().removeIf(keepUntil -> !keepUntil.isAfter(now));
+        int purged = repository.deleteExpired(LocalDateTime.ofInstant(now, ZoneId.systemDefault()));
+        log.debug("만료된 리프레시 토큰 폐기 항목 정리: {}건", purged);
+    }
+}
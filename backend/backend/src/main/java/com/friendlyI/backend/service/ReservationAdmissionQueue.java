@@ -0,0 +1,339 @@
+package com.friendlyI.backend.service;
+
+import com.friendlyI.backend.config.RequestMetadata;
+import com.friendlyI.backend.dto.AdmissionTicketResponse;
+import com.friendlyI.backend.dto.ReservationApplicationRequest;
+import com.friendlyI.backend.dto.ReservationApplicationResponse;
+import com.friendlyI.backend.entity.AdmissionTicketStatus;
+import com.friendlyI.backend.exception.ReservationApplicationException;
+import com.friendlyI.backend.exception.ReservationNotFoundException;
+import com.friendlyI.backend.exception.ServiceBusyException;
+import com.friendlyI.backend.repository.ReservationRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 선착순 오픈 예약용 신청 대기열
+ * 요청 스레드는 티켓만 발급받고 바로 반환되며, 워커가 예약별 대기열을 도착 순서대로 묶음 처리한다.
+ * 같은 예약의 대기열은 한 번에 하나의 워커만 처리하고, 예약 사이에는 묶음 단위로 번갈아 처리한다.
+ * 종료 시에는 웹 서버가 멈춘 뒤 새 신청을 받지 않고 남은 신청을 제한 시간까지 처리하며,
+ * 그래도 남은 티켓은 실패로 표시하고 워커를 끝낸다. (워커 실행기보다 먼저 멈춤)
+ */
+@Slf4j
+@Service
+public class ReservationAdmissionQueue implements SmartLifecycle {
+
+    static final String SHUTDOWN_MESSAGE = "서버 종료로 신청이 처리되지 않았습니다. 다시 신청해 주세요.";
+
+    private final ReservationApplicationService applicationService;
+    private final ReservationRepository reservationRepository;
+    private final TaskExecutor admissionExecutor;
+    private final int workerCount;
+    private final int batchSize;
+    private final int maxPendingPerReservation;
+    private final Duration shutdownTimeout;
+
+    private final Map<Long, Lane> lanes = new ConcurrentHashMap<>();
+    private final BlockingQueue<Lane> readyLanes = new LinkedBlockingQueue<>();
+    private final Cache<String, Ticket> tickets;
+    private volatile boolean running;
+    private CountDownLatch workersStopped;
+
+    public ReservationAdmissionQueue(ReservationApplicationService applicationService,
+            ReservationRepository reservationRepository,
+            @Qualifier("admissionQueueExecutor") TaskExecutor admissionExecutor,
+            @Value("${app.reservation.admission.workers:1}") int workerCount,
+            @Value("${app.reservation.admission.batch-size:50}") int batchSize,
+            @Value("${app.reservation.admission.max-pending-per-reservation:10000}") int maxPendingPerReservation,
+            @Value("${app.reservation.admission.ticket-ttl:30m}") Duration ticketTtl,
+            @Value("${app.reservation.admission.max-tickets:100000}") long maxTickets,
+            @Value("${app.reservation.admission.shutdown-timeout:10s}") Duration shutdownTimeout) {
+        this.applicationService = applicationService;
+        this.reservationRepository = reservationRepository;
+        this.admissionExecutor = admissionExecutor;
+        this.workerCount = workerCount;
+        this.batchSize = batchSize;
+        this.maxPendingPerReservation = maxPendingPerReservation;
+        this.shutdownTimeout = shutdownTimeout;
+        this.tickets = Caffeine.newBuilder()
+                .maximumSize(maxTickets)
+                .expireAfterWrite(ticketTtl)
+                .build();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        workersStopped = new CountDownLatch(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            admissionExecutor.execute(() -> {
+                try {
+                    drainLoop();
+                } finally {
+                    workersStopped.countDown();
+                }
+            });
+        }
+        log.info("예약 신청 대기열 워커 시작: workers={}, batchSize={}", workerCount, batchSize);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        boolean drained = false;
+        try {
+            drained = workersStopped.await(shutdownTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        int abandoned = failPending();
+        if (drained && abandoned == 0) {
+            log.info("예약 신청 대기열 종료");
+        } else {
+            log.warn("예약 신청 대기열이 제한 시간 안에 비워지지 않아 남은 티켓 {}건을 실패 처리했습니다.", abandoned);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버(그레이스풀 셧다운 포함)가 멈춘 뒤, 활동 로그 파이프라인보다 먼저 멈추도록 그 사이 단계에서 실행
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 3072;
+    }
+
+    /**
+     * 신청을 대기열에 등록하고 티켓 발급
+     * 처음 들어온 예약은 존재 여부를 확인하고, 종료 중에는 받지 않는다(503).
+     */
+    public AdmissionTicketResponse enqueue(ReservationApplicationRequest request) {
+        Long reservationId = request.getReservationId();
+        if (!lanes.containsKey(reservationId) && !reservationRepository.existsById(reservationId)) {
+            throw new ReservationNotFoundException(reservationId);
+        }
+        while (true) {
+            Lane lane = lanes.computeIfAbsent(reservationId, Lane::new);
+            Ticket ticket;
+            boolean schedule;
+            synchronized (lane) {
+                if (lane.retired) {
+                    continue; // 비어서 정리된 대기열이면 새로 만든다
+                }
+                if (!running) {
+                    throw new ServiceBusyException("서버가 종료 중이라 신청을 받을 수 없습니다. 잠시 후 다시 시도해 주세요.");
+                }
+                if (lane.pending.size() >= maxPendingPerReservation) {
+                    throw new ReservationApplicationException(
+                            String.format("예약 ID %d의 신청 대기열이 가득 찼습니다. 잠시 후 다시 시도해 주세요.",
+                                    reservationId));
+                }
+                ticket = new Ticket(UUID.randomUUID().toString(), request, lane, ++lane.enqueued);
+                tickets.put(ticket.id, ticket);
+                lane.pending.add(ticket);
+                schedule = !lane.scheduled;
+                lane.scheduled = true;
+            }
+            if (schedule) {
+                readyLanes.add(lane);
+            }
+            return toResponse(ticket);
+        }
+    }
+
+    /**
+     * 티켓 처리 결과 조회
+     */
+    public Optional<AdmissionTicketResponse> getTicket(String ticketId) {
+        return Optional.ofNullable(tickets.getIfPresent(ticketId)).map(this::toResponse);
+    }
+
+    /**
+     * 처리 대기 중인 예약별 대기열 수 (비면 정리되므로 처리 중이거나 남은 신청이 있는 예약 수)
+     */
+    int getActiveLaneCount() {
+        return lanes.size();
+    }
+
+    /**
+     * 종료 요청 후에도 남은 신청을 모두 처리할 때까지 실행
+     */
+    private void drainLoop() {
+        while (running || !readyLanes.isEmpty()) {
+            Lane lane;
+            try {
+                lane = readyLanes.poll(running ? 1000 : 100, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (lane != null) {
+                drainBatch(lane);
+            }
+        }
+    }
+
+    /**
+     * 처리하지 못한 티켓을 실패로 표시 (종료 제한 시간 초과 시)
+     */
+    private int failPending() {
+        int abandoned = 0;
+        for (Lane lane : lanes.values()) {
+            synchronized (lane) {
+                Ticket ticket;
+                while ((ticket = lane.pending.poll()) != null) {
+                    ticket.fail(SHUTDOWN_MESSAGE);
+                    lane.processed++;
+                    abandoned++;
+                }
+            }
+        }
+        readyLanes.clear();
+        return abandoned;
+    }
+
+    /**
+     * 한 예약의 대기열에서 최대 batchSize 건을 도착 순서대로 처리
+     */
+    private void drainBatch(Lane lane) {
+        for (int i = 0; i < batchSize; i++) {
+            Ticket ticket;
+            synchronized (lane) {
+                ticket = lane.pending.poll();
+            }
+            if (ticket == null) {
+                break;
+            }
+            process(ticket);
+            synchronized (lane) {
+                lane.processed++;
+            }
+        }
+
+        // 남은 신청이 있으면 다른 예약 뒤로 다시 줄을 세우고, 비었으면 대기열을 정리한다
+        boolean reschedule;
+        synchronized (lane) {
+            reschedule = !lane.pending.isEmpty();
+            lane.scheduled = reschedule;
+            if (!reschedule) {
+                lane.retired = true;
+                lanes.remove(lane.reservationId, lane);
+            }
+        }
+        if (reschedule) {
+            readyLanes.add(lane);
+        }
+    }
+
+    private void process(Ticket ticket) {
+        try {
+            // 워커 스레드에는 요청 컨텍스트가 없으므로 등록 시점의 요청 메타데이터를 연결해 처리
+            ticket.complete(RequestMetadata.callWith(ticket.metadata,
+                    () -> applicationService.applyForReservation(ticket.request)));
+        } catch (RuntimeException e) {
+            log.warn("대기열 신청 처리 실패: ticketId={}, memberId={}, reservationId={}, {}",
+                    ticket.id, ticket.request.getMemberId(), ticket.request.getReservationId(), e.getMessage());
+            ticket.fail(e.getMessage());
+        }
+    }
+
+    private AdmissionTicketResponse toResponse(Ticket ticket) {
+        Long position = null;
+        Lane lane = ticket.lane;
+        if (ticket.status == AdmissionTicketStatus.QUEUED) {
+            synchronized (lane) {
+                position = Math.max(1, ticket.sequence - lane.processed);
+            }
+        }
+        return AdmissionTicketResponse.builder()
+                .ticketId(ticket.id)
+                .reservationId(ticket.request.getReservationId())
+                .memberId(ticket.request.getMemberId())
+                .status(ticket.status)
+                .statusDescription(ticket.status.getDescription())
+                .queuePosition(position)
+                .application(ticket.application)
+                .errorMessage(ticket.errorMessage)
+                .requestedAt(ticket.requestedAt)
+                .processedAt(ticket.processedAt)
+                .build();
+    }
+
+    /**
+     * 예약별 대기열 (순번 계산을 위해 등록/처리 건수를 함께 관리)
+     * 비어서 정리되면 retired로 표시하고, 이후 신청은 새 대기열에 등록한다.
+     */
+    private static final class Lane {
+        private final Long reservationId;
+        private final Queue<Ticket> pending = new ArrayDeque<>();
+        private long enqueued;
+        private long processed;
+        private boolean scheduled;
+        private boolean retired;
+
+        private Lane(Long reservationId) {
+            this.reservationId = reservationId;
+        }
+    }
+
+    private static final class Ticket {
+        private final String id;
+        private final ReservationApplicationRequest request;
+        private final Lane lane;
+        private final long sequence;
+        private final RequestMetadata metadata = RequestMetadata.current();
+        private final LocalDateTime requestedAt = LocalDateTime.now();
+        private volatile AdmissionTicketStatus status = AdmissionTicketStatus.QUEUED;
+        private volatile ReservationApplicationResponse application;
+        private volatile String errorMessage;
+        private volatile LocalDateTime processedAt;
+
+        private Ticket(String id, ReservationApplicationRequest request, Lane lane, long sequence) {
+            this.id = id;
+            this.request = request;
+            this.lane = lane;
+            this.sequence = sequence;
+        }
+
+        private void complete(ReservationApplicationResponse response) {
+            this.application = response;
+            this.processedAt = LocalDateTime.now();
+            this.status = AdmissionTicketStatus.COMPLETED;
+        }
+
+        private void fail(String message) {
+            this.errorMessage = message;
+            this.processedAt = LocalDateTime.now();
+            this.status = AdmissionTicketStatus.FAILED;
+        }
+    }
+}
@@ -1,11 +1,11 @@
 package com.friendlyI.backend.service;
 
-import com.friendlyI.backend.dto.LocationSummary;
-import com.friendlyI.backend.dto.MemberSummary;
 import com.friendlyI.backend.dto.ReservationApplicationRequest;
 import com.friendlyI.backend.dto.ReservationApplicationResponse;
-import com.friendlyI.backend.dto.ReservationSummary;
+import com.friendlyI.backend.dto.common.PageCursor;
+import com.friendlyI.backend.dto.common.PageResponse;
 import com.friendlyI.backend.entity.*;
+import com.friendlyI.backend.event.ReservationChangedEvent;
 import com.friendlyI.backend.exception.MemberNotFoundException;
 import com.friendlyI.backend.exception.ReservationApplicationException;
 import com.friendlyI.backend.exception.ReservationNotFoundException;
@@ -13,13 +13,20 @@ import com.friendlyI.backend.repository.MemberRepository;
 import com.friendlyI.backend.repository.ReservationApplicationRepository;
 import com.friendlyI.backend.repository.ReservationRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -28,12 +35,18 @@ public class ReservationApplicationService {
     private final ReservationApplicationRepository applicationRepository;
     private final MemberRepository memberRepository;
     private final ReservationRepository reservationRepository;
+    private final ReservationSeatAllocator seatAllocator;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * 예약 신청
+     * 예약 신청 (같은 예약에 대한 신청은 좌석 배정기에서 순서대로 처리)
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ReservationApplicationResponse applyForReservation(ReservationApplicationRequest request) {
+        return seatAllocator.allocate(request.getReservationId(), () -> applyWithinAllocation(request));
+    }
+
+    private ReservationApplicationResponse applyWithinAllocation(ReservationApplicationRequest request) {
         Member member = memberRepository.findById(request.getMemberId())
                 .orElseThrow(() -> new MemberNotFoundException(request.getMemberId()));
 
@@ -66,10 +79,8 @@ public class ReservationApplicationService {
      * 새로운 신청 생성
      */
     private ReservationApplicationResponse createNewApplication(Member member, Reservation reservation, String note) {
-        // 예약 상태 결정 (정원 확인) - Repository를 통한 효율적인 조회
-        Long confirmedCount = applicationRepository.countConfirmedByReservation(reservation);
-        ReservationStatus status = reservation.isFullyBooked(confirmedCount.intValue()) ? ReservationStatus.WAITING
-                : ReservationStatus.CONFIRMED;
+        // 예약 상태 결정 (정원 확인) - 조건부 UPDATE 한 번으로 좌석 선점
+        ReservationStatus status = occupySlot(reservation);
 
         ReservationApplication application = ReservationApplication.builder()
                 .member(member)
@@ -79,7 +90,8 @@ public class ReservationApplicationService {
                 .build();
 
         ReservationApplication savedApplication = applicationRepository.save(application);
-        return convertToResponse(savedApplication);
+        publishCountersChanged(reservation);
+        return ReservationApplicationResponse.from(savedApplication);
     }
 
     /**
@@ -87,11 +99,8 @@ public class ReservationApplicationService {
      */
     private ReservationApplicationResponse reactivateApplication(ReservationApplication application, String note) {
         try {
-            // 현재 예약 정원 확인
-            Long confirmedCount = applicationRepository.countConfirmedByReservation(application.getReservation());
-            ReservationStatus newStatus = application.getReservation().isFullyBooked(confirmedCount.intValue())
-                    ? ReservationStatus.WAITING
-                    : ReservationStatus.CONFIRMED;
+            // 현재 예약 정원 확인 및 좌석 선점
+            ReservationStatus newStatus = occupySlot(application.getReservation());
 
             // 로깅 추가
             System.out.println(String.format(
@@ -108,13 +117,14 @@ public class ReservationApplicationService {
             }
 
             ReservationApplication savedApplication = applicationRepository.save(application);
+            publishCountersChanged(savedApplication.getReservation());
 
             System.out.println(String.format(
                     "[ReactivateApplication] Successfully reactivated application %d with status %s",
                     savedApplication.getId(),
                     savedApplication.getStatus()));
 
-            return convertToResponse(savedApplication);
+            return ReservationApplicationResponse.from(savedApplication);
         } catch (Exception e) {
             System.err.println(String.format(
                     "[ReactivateApplication] Failed to reactivate application for member %d, reservation %d: %s",
@@ -126,11 +136,64 @@ public class ReservationApplicationService {
         }
     }
 
+    /**
+     * 확정 좌석을 선점하고, 정원이 찼으면 대기 인원으로 등록
+     */
+    private ReservationStatus occupySlot(Reservation reservation) {
+        loadCounters(reservation);
+        if (reservationRepository.claimConfirmedSeat(reservation.getId()) == 1) {
+            reservation.applyCounterDelta(1, 0);
+            return ReservationStatus.CONFIRMED;
+        }
+        reservationRepository.incrementWaiting(reservation.getId());
+        reservation.applyCounterDelta(0, 1);
+        return ReservationStatus.WAITING;
+    }
+
+    /**
+     * 신청 상태 변경에 따라 예약 카운터 이동
+     */
+    private void moveSlot(Reservation reservation, ReservationStatus from, ReservationStatus to) {
+        if (from == to) {
+            return;
+        }
+        loadCounters(reservation);
+
+        if (from == ReservationStatus.CONFIRMED && reservationRepository.releaseConfirmedSeat(reservation.getId()) == 1) {
+            reservation.applyCounterDelta(-1, 0);
+        } else if (from == ReservationStatus.WAITING && reservationRepository.decrementWaiting(reservation.getId()) == 1) {
+            reservation.applyCounterDelta(0, -1);
+        }
+
+        if (to == ReservationStatus.CONFIRMED) {
+            if (reservationRepository.claimConfirmedSeat(reservation.getId()) == 0) {
+                throw new ReservationApplicationException(
+                        String.format("예약 ID %d의 정원이 가득 찼습니다.", reservation.getId()));
+            }
+            reservation.applyCounterDelta(1, 0);
+        } else if (to == ReservationStatus.WAITING) {
+            reservationRepository.incrementWaiting(reservation.getId());
+            reservation.applyCounterDelta(0, 1);
+        }
+    }
+
+    /**
+     * 지연 로딩 프록시를 카운터 UPDATE 전에 초기화
+     * (UPDATE 이후에 초기화되면 이미 반영된 값에 변경분이 한 번 더 더해진다)
+     */
+    private void loadCounters(Reservation reservation) {
+        Hibernate.initialize(reservation);
+    }
+
     /**
      * 예약 신청 취소
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void cancelApplication(Long applicationId) {
+        seatAllocator.allocate(findReservationIdOf(applicationId), () -> cancelWithinAllocation(applicationId));
+    }
+
+    private void cancelWithinAllocation(Long applicationId) {
         ReservationApplication application = applicationRepository.findById(applicationId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 신청입니다."));
 
@@ -138,13 +201,16 @@ public class ReservationApplicationService {
             throw new IllegalArgumentException("이미 취소된 신청입니다.");
         }
 
+        boolean wasConfirmed = application.isConfirmed();
+        moveSlot(application.getReservation(), application.getStatus(), ReservationStatus.CANCELLED);
+        application.cancel();
+        applicationRepository.save(application);
+        publishCountersChanged(application.getReservation());
+
         // 확정된 신청이었다면 대기자를 확정으로 변경
-        if (application.isConfirmed()) {
+        if (wasConfirmed) {
             promoteWaitingToConfirmed(application.getReservation());
         }
-
-        application.cancel();
-        applicationRepository.save(application);
     }
 
     /**
@@ -155,7 +221,7 @@ public class ReservationApplicationService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 회원입니다."));
 
         return applicationRepository.findByMember(member).stream()
-                .map(this::convertToResponse)
+                .map(ReservationApplicationResponse::from)
                 .collect(Collectors.toList());
     }
 
@@ -167,86 +233,141 @@ public class ReservationApplicationService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 예약입니다."));
 
         return applicationRepository.findByReservation(reservation).stream()
-                .map(this::convertToResponse)
+                .map(ReservationApplicationResponse::from)
                 .collect(Collectors.toList());
     }
 
     /**
-     * 대기자를 확정으로 승격 (선착순)
+     * 회원별 신청 커서 페이지 조회 ((신청 시각, ID) 키셋)
      */
-    @Transactional
-    public void promoteWaitingToConfirmed(Reservation reservation) {
-        List<ReservationApplication> waitingApplications = applicationRepository
-                .findWaitingApplicationsInOrder(reservation);
+    public PageResponse<ReservationApplicationResponse> getApplicationsByMember(Long memberId, String cursor,
+            int size) {
+        if (!memberRepository.existsById(memberId)) {
+            throw new IllegalArgumentException("존재하지 않는 회원입니다.");
+        }
 
+        int pageSize = PageCursor.normalizeSize(size);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<ReservationApplication> applications;
+        if (PageCursor.isFirstPage(cursor)) {
+            applications = applicationRepository.findPageByMemberId(memberId, limit);
+        } else {
+            PageCursor position = PageCursor.decode(cursor, 2);
+            applications = applicationRepository.findPageByMemberIdAfter(memberId, position.getDateTime(0),
+                    position.getLong(1), limit);
+        }
+        return toCursorPage(applications, pageSize, cursor);
+    }
+
+    /**
+     * 예약별 신청 커서 페이지 조회 ((신청 시각, ID) 키셋)
+     */
+    public PageResponse<ReservationApplicationResponse> getApplicationsByReservation(Long reservationId,
+            String cursor, int size) {
+        if (!reservationRepository.existsById(reservationId)) {
+            throw new IllegalArgumentException("존재하지 않는 예약입니다.");
+        }
+
+        int pageSize = PageCursor.normalizeSize(size);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<ReservationApplication> applications;
+        if (PageCursor.isFirstPage(cursor)) {
+            applications = applicationRepository.findPageByReservationId(reservationId, limit);
+        } else {
+            PageCursor position = PageCursor.decode(cursor, 2);
+            applications = applicationRepository.findPageByReservationIdAfter(reservationId,
+                    position.getDateTime(0), position.getLong(1), limit);
+        }
+        return toCursorPage(applications, pageSize, cursor);
+    }
+
+    private PageResponse<ReservationApplicationResponse> toCursorPage(List<ReservationApplication> applications,
+            int pageSize, String cursor) {
+        return PageResponse.ofKeyset(applications, pageSize, PageCursor.isFirstPage(cursor),
+                ReservationApplicationResponse::from,
+                application -> PageCursor.encode(application.getAppliedAt(), application.getId()));
+    }
+
+    /**
+     * 대기자를 확정으로 승격 (선착순, 빈 좌석 수만큼 일괄 처리)
+     * 영속성 컨텍스트가 비워지므로 호출 후에는 필요한 엔티티를 다시 조회해야 한다.
+     *
+     * @return 확정으로 승격된 신청 ID 목록 (신청 순서)
+     */
+    @Transactional
+    public List<Long> promoteWaitingToConfirmed(Reservation reservation) {
         int availableSlots = reservation.getAvailableSlots();
+        if (availableSlots <= 0 || reservation.getWaitingCount() <= 0) {
+            return List.of();
+        }
 
-        for (int i = 0; i < Math.min(availableSlots, waitingApplications.size()); i++) {
-            ReservationApplication waitingApp = waitingApplications.get(i);
-            waitingApp.confirm();
-            applicationRepository.save(waitingApp);
+        List<Long> candidateIds = applicationRepository.findWaitingIdsInOrder(reservation.getId(),
+                PageRequest.of(0, availableSlots));
+        if (candidateIds.isEmpty()) {
+            return List.of();
         }
+
+        int promoted = applicationRepository.confirmWaitingApplications(candidateIds, LocalDateTime.now());
+        if (promoted == 0) {
+            return List.of();
+        }
+
+        // 신청 상태와 카운터를 같은 트랜잭션에서 맞추고, 정원 조건이 깨지면 전체를 롤백
+        if (reservationRepository.promoteWaiting(reservation.getId(), promoted) == 0) {
+            throw new ReservationApplicationException(
+                    String.format("예약 ID %d의 대기자 승격 중 정원이 변경되었습니다. 다시 시도해 주세요.", reservation.getId()));
+        }
+
+        List<Long> promotedIds = promoted == candidateIds.size()
+                ? candidateIds
+                : applicationRepository.findConfirmedIdsIn(candidateIds);
+        log.info("대기자 확정 승격: reservationId={}, applicationIds={}", reservation.getId(), promotedIds);
+        return promotedIds;
     }
 
     /**
      * 관리자용: 신청 상태 변경
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ReservationApplicationResponse updateApplicationStatus(Long applicationId, ReservationStatus newStatus) {
+        return seatAllocator.allocate(findReservationIdOf(applicationId),
+                () -> updateStatusWithinAllocation(applicationId, newStatus));
+    }
+
+    private ReservationApplicationResponse updateStatusWithinAllocation(Long applicationId,
+            ReservationStatus newStatus) {
         ReservationApplication application = applicationRepository.findById(applicationId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 신청입니다."));
 
+        moveSlot(application.getReservation(), application.getStatus(), newStatus);
         application.updateStatus(newStatus);
         ReservationApplication savedApplication = applicationRepository.save(application);
+        publishCountersChanged(savedApplication.getReservation());
 
-        // 상태 변경 후 대기자 처리
+        // 상태 변경 후 대기자 처리 (승격 시 영속성 컨텍스트가 비워지므로 다시 조회)
         if (newStatus == ReservationStatus.CANCELLED || newStatus == ReservationStatus.WAITING) {
-            promoteWaitingToConfirmed(application.getReservation());
+            List<Long> promotedIds = promoteWaitingToConfirmed(savedApplication.getReservation());
+            if (!promotedIds.isEmpty()) {
+                savedApplication = applicationRepository.findById(applicationId)
+                        .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 신청입니다."));
+            }
         }
 
-        return convertToResponse(savedApplication);
+        return ReservationApplicationResponse.from(savedApplication);
     }
 
     /**
-     * Entity를 Response DTO로 변환 (순환 참조 방지)
+     * 예약의 신청 인원이 바뀌었음을 알림 (커밋 후 예약 캐시 무효화, 대기자 승격분도 같은 이벤트로 반영)
      */
-    private ReservationApplicationResponse convertToResponse(ReservationApplication application) {
-        ReservationApplicationResponse response = new ReservationApplicationResponse();
-        response.setId(application.getId());
-
-        // 간단한 회원 정보만 포함 (순환 참조 방지)
-        MemberSummary memberSummary = new MemberSummary();
-        memberSummary.setId(application.getMember().getId());
-        memberSummary.setName(application.getMember().getName());
-        memberSummary.setGradeEmoji(application.getMember().getGrade().getEmoji());
-        memberSummary.setGradeDescription(application.getMember().getGrade().getDescription());
-        response.setMemberSummary(memberSummary);
-
-        // 간단한 예약 정보만 포함 (순환 참조 방지)
-        ReservationSummary reservationSummary = new ReservationSummary();
-        reservationSummary.setId(application.getReservation().getId());
-        reservationSummary.setTitle(application.getReservation().getTitle());
-        reservationSummary.setReservationDate(application.getReservation().getReservationDate());
-
-        // 장소 정보를 LocationSummary로 변환
-        LocationSummary locationSummary = LocationSummary.builder()
-                .id(application.getReservation().getLocation().getId())
-                .name(application.getReservation().getLocation().getName())
-                .address(application.getReservation().getLocation().getAddress())
-                .url(application.getReservation().getLocation().getUrl())
-                .isActive(application.getReservation().getLocation().getIsActive())
-                .build();
-        reservationSummary.setLocation(locationSummary);
-
-        reservationSummary.setMaxCapacity(application.getReservation().getMaxCapacity());
-        reservationSummary.setAvailableSlots(application.getReservation().getAvailableSlots());
-        response.setReservationSummary(reservationSummary);
-
-        response.setStatus(application.getStatus());
-        response.setStatusDescription(application.getStatus().getDescription());
-        response.setNote(application.getNote());
-        response.setAppliedAt(application.getAppliedAt());
-        response.setUpdatedAt(application.getUpdatedAt());
-        return response;
+    private void publishCountersChanged(Reservation reservation) {
+        eventPublisher.publishEvent(ReservationChangedEvent.of(reservation.getId(), reservation.getReservationDate()));
+    }
+
+    /**
+     * 신청이 속한 예약 ID 조회 (좌석 배정 락 선택용)
+     */
+    private Long findReservationIdOf(Long applicationId) {
+        return seatAllocator.read(() -> applicationRepository.findReservationIdById(applicationId))
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 신청입니다."));
     }
 }
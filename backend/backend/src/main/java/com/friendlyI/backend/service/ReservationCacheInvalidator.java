@@ -0,0 +1,46 @@
+package com.friendlyI.backend.service;
+
+import com.friendlyI.backend.config.CacheNames;
+import com.friendlyI.backend.event.ReservationChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 예약 변경 이벤트에 따른 예약 캐시 무효화
+ * 단건/날짜별 캐시는 바뀐 예약과 날짜만, 목록 캐시(전체/예약 가능/미래)는 어떤 예약이 바뀌어도 결과가 달라질 수 있으므로 통째로 비운다.
+ * 커밋 이후에 지워 커밋 전 다른 요청이 옛 값을 다시 캐시에 넣는 일을 막고, 롤백된 변경으로는 지우지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationCacheInvalidator {
+
+    private final CacheManager cacheManager;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onReservationChanged(ReservationChangedEvent event) {
+        if (event.affectsAll()) {
+            cache(CacheNames.RESERVATIONS).clear();
+            cache(CacheNames.RESERVATIONS_BY_DATE).clear();
+        } else {
+            cache(CacheNames.RESERVATIONS).evict(event.reservationId());
+            event.reservationDates().forEach(date -> cache(CacheNames.RESERVATIONS_BY_DATE).evict(date));
+        }
+        cache(CacheNames.RESERVATION_LISTS).clear();
+        log.debug("예약 캐시 무효화: reservationId={}, dates={}",
+                event.affectsAll() ? "*" : event.reservationId(), event.reservationDates());
+    }
+
+    private Cache cache(String name) {
+        Cache cache = cacheManager.getCache(name);
+        if (cache == null) {
+            throw new IllegalStateException("캐시가 설정되지 않았습니다: " + name);
+        }
+        return cache;
+    }
+}
@@ -0,0 +1,99 @@
+package com.friendlyI.backend.service;
+
+import com.friendlyI.backend.exception.ReservationApplicationException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 예약별 좌석 배정 직렬화기
+ * 같은 예약에 대한 좌석 결정은 스트라이프 락으로 순서대로 처리하고, 서로 다른 예약은 병렬로 처리한다.
+ * 락은 트랜잭션 커밋까지 감싸므로 다음 요청은 항상 커밋된 카운터를 본다.
+ * 여러 인스턴스 환경에서는 reservations 테이블의 조건부 UPDATE가 최종 정원 초과 방지선 역할을 한다.
+ */
+@Slf4j
+@Component
+public class ReservationSeatAllocator {
+
+    private final ReentrantLock[] stripes;
+    private final long lockTimeoutMillis;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTemplate;
+
+    public ReservationSeatAllocator(PlatformTransactionManager transactionManager,
+            @Value("${app.reservation.allocation.lock-stripes:64}") int stripeCount,
+            @Value("${app.reservation.allocation.lock-timeout-ms:5000}") long lockTimeoutMillis) {
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("락 스트라이프 수는 1 이상이어야 합니다: " + stripeCount);
+        }
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            this.stripes[i] = new ReentrantLock(true);
+        }
+        this.lockTimeoutMillis = lockTimeoutMillis;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+    }
+
+    /**
+     * 예약 단위 락을 잡은 상태에서 새 트랜잭션으로 작업 실행
+     */
+    public <T> T allocate(Long reservationId, Supplier<T> action) {
+        ReentrantLock lock = stripeFor(reservationId);
+        acquire(lock, reservationId);
+        try {
+            return transactionTemplate.execute(status -> action.get());
+        } catch (DataIntegrityViolationException e) {
+            log.warn("좌석 배정 중 무결성 제약 위반: reservationId={}, {}", reservationId, e.getMessage());
+            throw new ReservationApplicationException("이미 처리된 신청입니다. 신청 내역을 확인해 주세요.");
+        } catch (OptimisticLockingFailureException e) {
+            log.warn("좌석 배정 중 동시 수정 충돌: reservationId={}, {}", reservationId, e.getMessage());
+            throw new ReservationApplicationException("다른 요청과 동시에 처리되었습니다. 잠시 후 다시 시도해 주세요.");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 결과가 없는 작업 실행
+     */
+    public void allocate(Long reservationId, Runnable action) {
+        allocate(reservationId, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * 락 대상 예약 ID 조회 등 락 이전의 짧은 조회를 별도 읽기 트랜잭션으로 실행
+     * (트랜잭션 밖에서 조회하면 락 대기 중에도 DB 커넥션을 붙잡고 있게 된다)
+     */
+    public <T> T read(Supplier<T> query) {
+        return readOnlyTemplate.execute(status -> query.get());
+    }
+
+    private void acquire(ReentrantLock lock, Long reservationId) {
+        try {
+            if (!lock.tryLock(lockTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new ReservationApplicationException(
+                        String.format("예약 ID %d에 신청이 몰려 처리하지 못했습니다. 잠시 후 다시 시도해 주세요.", reservationId));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ReservationApplicationException("예약 신청 처리가 중단되었습니다.");
+        }
+    }
+
+    private ReentrantLock stripeFor(Long reservationId) {
+        return stripes[Math.floorMod(Long.hashCode(reservationId), stripes.length)];
+    }
+}
@@ -1,19 +1,26 @@
 package com.friendlyI.backend.service;
 
-import com.friendlyI.backend.dto.LocationSummary;
+import com.friendlyI.backend.config.CacheNames;
 import com.friendlyI.backend.dto.ReservationApplicantDto;
 import com.friendlyI.backend.dto.ReservationCreateRequest;
 import com.friendlyI.backend.dto.ReservationResponse;
+import com.friendlyI.backend.dto.common.PageCursor;
+import com.friendlyI.backend.dto.common.PageResponse;
+import com.friendlyI.backend.dto.projection.ReservationRow;
 import com.friendlyI.backend.entity.Location;
 import com.friendlyI.backend.entity.Member;
 import com.friendlyI.backend.entity.Reservation;
 import com.friendlyI.backend.entity.ReservationApplication;
 import com.friendlyI.backend.entity.ReservationStatus;
+import com.friendlyI.backend.event.ReservationChangedEvent;
 import com.friendlyI.backend.repository.LocationRepository;
 import com.friendlyI.backend.repository.MemberRepository;
 import com.friendlyI.backend.repository.ReservationApplicationRepository;
 import com.friendlyI.backend.repository.ReservationRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -30,6 +37,7 @@ public class ReservationService {
     private final LocationRepository locationRepository;
     private final MemberRepository memberRepository;
     private final ReservationApplicationRepository reservationApplicationRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 예약 생성 (생성자 자동 신청)
@@ -78,8 +86,12 @@ public class ReservationService {
                 .build();
 
         reservationApplicationRepository.save(creatorApplication);
+        reservationRepository.claimConfirmedSeat(savedReservation.getId());
+        savedReservation.applyCounterDelta(1, 0);
 
-        return convertToResponse(savedReservation);
+        eventPublisher.publishEvent(ReservationChangedEvent.of(savedReservation.getId(),
+                savedReservation.getReservationDate()));
+        return ReservationResponse.from(savedReservation);
     }
 
     /**
@@ -102,48 +114,65 @@ public class ReservationService {
     }
 
     /**
-     * 예약 ID로 조회
+     * 예약 ID로 조회 (캐싱 적용)
      */
+    @Cacheable(cacheNames = CacheNames.RESERVATIONS, key = "#id", sync = true)
     public ReservationResponse getReservationById(Long id) {
-        Reservation reservation = reservationRepository.findById(id)
+        ReservationRow row = reservationRepository.findRowById(id)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 예약입니다."));
-        return convertToResponse(reservation);
+        return ReservationResponse.from(row);
     }
 
     /**
-     * 모든 예약 조회 (날짜순)
+     * 모든 예약 조회 (날짜순, 캐싱 적용)
      */
+    @Cacheable(cacheNames = CacheNames.RESERVATION_LISTS, key = "'all'", sync = true)
     public List<ReservationResponse> getAllReservations() {
-        return reservationRepository.findAllByOrderByReservationDateAsc().stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        return toResponses(reservationRepository.findAllRowsOrderByReservationDateAsc());
     }
 
     /**
-     * 날짜별 예약 조회
+     * 예약 커서 페이지 조회 ((예약 날짜, ID) 키셋, COUNT 쿼리 없음)
      */
+    public PageResponse<ReservationResponse> getReservationsByCursor(String cursor, int size) {
+        int pageSize = PageCursor.normalizeSize(size);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<ReservationRow> rows;
+        if (PageCursor.isFirstPage(cursor)) {
+            rows = reservationRepository.findRowsOrderByDateAndId(limit);
+        } else {
+            PageCursor position = PageCursor.decode(cursor, 2);
+            rows = reservationRepository.findRowsAfterCursor(position.getDate(0), position.getLong(1), limit);
+        }
+
+        return PageResponse.ofKeyset(rows, pageSize, PageCursor.isFirstPage(cursor),
+                row -> ReservationResponse.from(row),
+                row -> PageCursor.encode(row.getReservationDate(), row.getId()));
+    }
+
+    /**
+     * 날짜별 예약 조회 (캐싱 적용)
+     */
+    @Cacheable(cacheNames = CacheNames.RESERVATIONS_BY_DATE, key = "#date", sync = true)
     public List<ReservationResponse> getReservationsByDate(LocalDate date) {
-        return reservationRepository.findByReservationDate(date).stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        return toResponses(reservationRepository.findRowsByReservationDate(date));
     }
 
     /**
-     * 예약 가능한 예약 조회
+     * 예약 가능한 예약 조회 (캐싱 적용)
      */
+    @Cacheable(cacheNames = CacheNames.RESERVATION_LISTS, key = "'available'", sync = true)
     public List<ReservationResponse> getAvailableReservations() {
-        return reservationRepository.findAvailableReservations().stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        return toResponses(reservationRepository.findAvailableRows());
     }
 
     /**
-     * 미래 예약 조회
+     * 미래 예약 조회 (캐싱 적용, 기준 날짜가 바뀌면 다른 키)
      */
+    @Cacheable(cacheNames = CacheNames.RESERVATION_LISTS, key = "'future_' + T(java.time.LocalDate).now()", sync = true)
     public List<ReservationResponse> getFutureReservations() {
-        return reservationRepository.findByReservationDateAfter(LocalDate.now()).stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        return toResponses(reservationRepository.findRowsByReservationDateAfter(LocalDate.now()));
     }
 
     /**
@@ -171,6 +200,7 @@ public class ReservationService {
                 locationInfo.getAddress(),
                 locationInfo.getUrl());
 
+        LocalDate previousDate = reservation.getReservationDate();
         reservation.updateReservation(
                 request.getTitle(),
                 request.getDescription(),
@@ -180,7 +210,9 @@ public class ReservationService {
                 request.getReservationTime());
 
         Reservation savedReservation = reservationRepository.save(reservation);
-        return convertToResponse(savedReservation);
+        eventPublisher.publishEvent(ReservationChangedEvent.of(id, previousDate,
+                savedReservation.getReservationDate()));
+        return ReservationResponse.from(savedReservation);
     }
 
     /**
@@ -188,10 +220,10 @@ public class ReservationService {
      */
     @Transactional
     public void deleteReservation(Long id) {
-        if (!reservationRepository.existsById(id)) {
-            throw new IllegalArgumentException("존재하지 않는 예약입니다.");
-        }
-        reservationRepository.deleteById(id);
+        Reservation reservation = reservationRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 예약입니다."));
+        reservationRepository.delete(reservation);
+        eventPublisher.publishEvent(ReservationChangedEvent.of(id, reservation.getReservationDate()));
     }
 
     // ✅ 예약 수정 (권한 검증 추가)
@@ -205,7 +237,7 @@ public class ReservationService {
 
         // 날짜/장소 검증 + 수정 로직 ...
         // reservation.updateReservation(...);
-        return convertToResponse(reservation);
+        return ReservationResponse.from(reservation);
     }
 
     // ✅ 예약 삭제 (권한 검증 추가)
@@ -218,6 +250,19 @@ public class ReservationService {
         assertEditable(reservation, actorMemberId);
 
         reservationRepository.delete(reservation);
+        eventPublisher.publishEvent(ReservationChangedEvent.of(id, reservation.getReservationDate()));
+    }
+
+    /**
+     * 신청 현황 카운터를 신청 테이블 기준으로 재계산 (기존 데이터 보정용)
+     */
+    @Transactional
+    public int synchronizeApplicationCounters() {
+        int updated = reservationRepository.recalculateApplicationCounters();
+        if (updated > 0) {
+            eventPublisher.publishEvent(ReservationChangedEvent.all());
+        }
+        return updated;
     }
 
     /**
@@ -237,40 +282,12 @@ public class ReservationService {
     }
 
     /**
-     * Entity를 Response DTO로 변환
+     * 프로젝션 목록을 Response DTO로 변환
      */
-    private ReservationResponse convertToResponse(Reservation reservation) {
-        ReservationResponse response = new ReservationResponse();
-        response.setId(reservation.getId());
-        response.setTitle(reservation.getTitle());
-        response.setDescription(reservation.getDescription());
-
-        LocationSummary locationSummary = LocationSummary.builder()
-                .id(reservation.getLocation().getId())
-                .name(reservation.getLocation().getName())
-                .address(reservation.getLocation().getAddress())
-                .url(reservation.getLocation().getUrl())
-                .isActive(reservation.getLocation().getIsActive())
-                .build();
-        response.setLocation(locationSummary);
-
-        response.setMaxCapacity(reservation.getMaxCapacity());
-        response.setReservationDate(reservation.getReservationDate());
-        response.setReservationTime(reservation.getReservationTime());
-        response.setConfirmedCount(reservation.getConfirmedCount());
-        response.setWaitingCount(reservation.getWaitingCount());
-        response.setAvailableSlots(reservation.getAvailableSlots());
-        response.setFullyBooked(reservation.isFullyBooked());
-        response.setCreatedAt(reservation.getCreatedAt());
-        response.setUpdatedAt(reservation.getUpdatedAt());
-
-        // ✅ 추가: 생성자 정보 내려주기
-        if (reservation.getCreator() != null) {
-            response.setCreatorId(reservation.getCreator().getId());
-            response.setCreatorName(reservation.getCreator().getName());
-        }
-
-        return response;
+    private List<ReservationResponse> toResponses(List<ReservationRow> rows) {
+        return rows.stream()
+                .map(ReservationResponse::from)
+                .collect(Collectors.toList());
     }
 
     /**
@@ -295,5 +312,4 @@ public class ReservationService {
                         .build())
                 .collect(Collectors.toList());
     }
-
 }
@@ -0,0 +1,22 @@
+-- IDENTITY -> SEQUENCE(pooled, allocationSize = 50) ID 전환 마이그레이션 (PostgreSQL)
+-- 운영(ddl-auto=validate) 배포 전에 한 번 실행한다. 여러 번 실행해도 안전하다.
+-- 시퀀스 증가폭은 엔티티의 allocationSize(50)와 같아야 Hibernate 검증을 통과한다.
+-- 기존 id 컬럼의 IDENTITY 기본값은 그대로 두어도 된다 (Hibernate가 id를 직접 지정해 INSERT).
+
+CREATE SEQUENCE IF NOT EXISTS members_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS locations_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS reservations_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS reservation_applications_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS activity_logs_seq START WITH 1 INCREMENT BY 50;
+
+-- 다음 할당 구간이 기존 최대 id 이후에서 시작하도록 시퀀스 위치 보정 (뒤처진 시퀀스만 앞으로 이동)
+SELECT setval('members_seq', m.max_id) FROM (SELECT MAX(id) AS max_id FROM members) m
+ WHERE m.max_id >= (SELECT last_value FROM members_seq);
+SELECT setval('locations_seq', m.max_id) FROM (SELECT MAX(id) AS max_id FROM locations) m
+ WHERE m.max_id >= (SELECT last_value FROM locations_seq);
+SELECT setval('reservations_seq', m.max_id) FROM (SELECT MAX(id) AS max_id FROM reservations) m
+ WHERE m.max_id >= (SELECT last_value FROM reservations_seq);
+SELECT setval('reservation_applications_seq', m.max_id) FROM (SELECT MAX(id) AS max_id FROM reservation_applications) m
+ WHERE m.max_id >= (SELECT last_value FROM reservation_applications_seq);
+SELECT setval('activity_logs_seq', m.max_id) FROM (SELECT MAX(id) AS max_id FROM activity_logs) m
+ WHERE m.max_id >= (SELECT last_value FROM activity_logs_seq);
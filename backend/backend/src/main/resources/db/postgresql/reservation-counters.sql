@@ -0,0 +1,18 @@
+-- 예약 신청 현황 카운터 컬럼 추가 및 기존 데이터 채우기 (PostgreSQL)
+-- 운영(ddl-auto=validate) 배포 전에 한 번 실행한다. 여러 번 실행해도 안전하다.
+-- 이후 카운터는 애플리케이션의 조건부 UPDATE로만 바뀐다 (ReservationRepository).
+
+ALTER TABLE reservations ADD COLUMN IF NOT EXISTS confirmed_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE reservations ADD COLUMN IF NOT EXISTS waiting_count INTEGER NOT NULL DEFAULT 0;
+
+-- 신청 테이블 기준으로 채우기 (이미 맞는 예약은 건드리지 않음)
+UPDATE reservations r
+   SET confirmed_count = c.confirmed, waiting_count = c.waiting
+  FROM (SELECT res.id,
+               COUNT(a.id) FILTER (WHERE a.status = 'CONFIRMED') AS confirmed,
+               COUNT(a.id) FILTER (WHERE a.status = 'WAITING') AS waiting
+          FROM reservations res
+          LEFT JOIN reservation_applications a ON a.reservation_id = res.id
+         GROUP BY res.id) c
+ WHERE r.id = c.id
+   AND (r.confirmed_count <> c.confirmed OR r.waiting_count <> c.waiting);
@@ -0,0 +1,16 @@
+-- 리프레시 토큰 폐기 목록 테이블 (PostgreSQL)
+-- 운영(ddl-auto=validate) 배포 전에 한 번 실행한다. 여러 번 실행해도 안전하다.
+-- 만료된 행은 애플리케이션이 기동 시와 주기적으로 삭제한다.
+
+CREATE SEQUENCE IF NOT EXISTS revoked_refresh_tokens_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS revoked_refresh_tokens (
+    id         BIGINT       NOT NULL PRIMARY KEY,
+    token_id   VARCHAR(36)  NOT NULL UNIQUE,
+    member_id  BIGINT,
+    reason     VARCHAR(20)  NOT NULL,
+    expires_at TIMESTAMP(6) NOT NULL,
+    revoked_at TIMESTAMP(6)
+);
+
+CREATE INDEX IF NOT EXISTS idx_revoked_refresh_tokens_expires_at ON revoked_refresh_tokens (expires_at);
@@ -0,0 +1,93 @@
+package com.friendlyI.backend.config;
+
+import com.friendlyI.backend.service.MemberService;
+import com.github.benmanes.caffeine.cache.Cache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("캐시별 설정과 캐시 메트릭 테스트")
+class CacheConfigTest {
+
+        @Autowired
+        private CacheManager cacheManager;
+
+        @Autowired
+        @Qualifier("longTermCacheManager")
+        private CacheManager longTermCacheManager;
+
+        @Autowired
+        private MeterRegistry meterRegistry;
+
+        @Autowired
+        private MemberService memberService;
+
+        @Test
+        @DisplayName("캐시마다 프로퍼티에 지정한 크기와 TTL이 적용된다")
+        void appliesPerCacheSpec() {
+                assertThat(expireAfterWrite(cacheManager, CacheNames.MEMBERS)).isEqualTo(Duration.ofMinutes(30));
+                assertThat(expireAfterWrite(cacheManager, CacheNames.RESERVATIONS)).isEqualTo(Duration.ofMinutes(15));
+                assertThat(expireAfterWrite(cacheManager, CacheNames.ACTIVITY_LOGS)).isEqualTo(Duration.ofMinutes(5));
+                assertThat(expireAfterWrite(longTermCacheManager, "dailyStats")).isEqualTo(Duration.ofHours(2));
+                assertThat(nativeCache(cacheManager, CacheNames.MEMBER_LISTS).policy().eviction().orElseThrow()
+                                .getMaximum()).isEqualTo(200);
+        }
+
+        @Test
+        @DisplayName("모든 캐시의 조회/제거/적재 통계가 Micrometer에 등록된다")
+        void bindsEveryCacheToMicrometer() {
+                for (CacheManager manager : new CacheManager[] { cacheManager, longTermCacheManager }) {
+                        for (String cacheName : manager.getCacheNames()) {
+                                assertThat(meterRegistry.find("cache.gets").tag("cache", cacheName).meters())
+                                                .as(cacheName).isNotEmpty();
+                                assertThat(meterRegistry.find("cache.evictions").tag("cache", cacheName).meters())
+                                                .as(cacheName).isNotEmpty();
+                                assertThat(meterRegistry.find("cache.load.duration").tag("cache", cacheName).meters())
+                                                .as(cacheName).isNotEmpty();
+                        }
+                }
+        }
+
+        @Test
+        @DisplayName("캐시 미스로 원본을 읽으면 적중/미스와 적재 횟수가 기록된다")
+        void recordsHitsMissesAndLoads() {
+                cacheManager.getCache(CacheNames.MEMBERS).evict(1L);
+                double hits = gets(CacheNames.MEMBERS, "hit");
+                double misses = gets(CacheNames.MEMBERS, "miss");
+                double loads = meterRegistry.get("cache.load").tag("cache", CacheNames.MEMBERS)
+                                .tag("result", "success").functionCounter().count();
+
+                memberService.getMemberById(1L);
+                memberService.getMemberById(1L);
+
+                assertThat(gets(CacheNames.MEMBERS, "miss")).isEqualTo(misses + 1);
+                assertThat(gets(CacheNames.MEMBERS, "hit")).isEqualTo(hits + 1);
+                assertThat(meterRegistry.get("cache.load").tag("cache", CacheNames.MEMBERS)
+                                .tag("result", "success").functionCounter().count()).isEqualTo(loads + 1);
+        }
+
+        private double gets(String cacheName, String result) {
+                return meterRegistry.get("cache.gets").tag("cache", cacheName).tag("result", result)
+                                .functionCounter().count();
+        }
+
+        private static Duration expireAfterWrite(CacheManager manager, String cacheName) {
+                return nativeCache(manager, cacheName).policy().expireAfterWrite().orElseThrow().getExpiresAfter();
+        }
+
+        @SuppressWarnings("unchecked")
+        private static Cache<Object, Object> nativeCache(CacheManager manager, String cacheName) {
+                return (Cache<Object, Object>) manager.getCache(cacheName).getNativeCache();
+        }
+}
@@ -0,0 +1,152 @@
+package com.friendlyI.backend.config;
+
+import com.friendlyI.backend.dto.ReservationApplicationRequest;
+import com.friendlyI.backend.dto.ReservationApplicationResponse;
+import com.friendlyI.backend.entity.Member;
+import com.friendlyI.backend.entity.MemberGrade;
+import com.friendlyI.backend.repository.MemberRepository;
+import com.friendlyI.backend.service.ReservationApplicationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 부하 테스트 데이터 생성 테스트
+ * 작은 건수로 생성해 건수, 예약 카운터 일관성, 시드 이후 ID 발급을 확인한다.
+ * (다른 테스트와 DB를 공유하지 않도록 별도 인메모리 DB 사용)
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:seedtest;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE")
+@ActiveProfiles("test")
+@DisplayName("부하 테스트 데이터 생성 테스트")
+class LoadTestDataSeederTest {
+
+        private static final int MEMBERS = 300;
+        private static final int LOCATIONS = 7;
+        private static final int RESERVATIONS = 40;
+        private static final int APPLICATIONS = 2_000;
+        private static final int ACTIVITY_LOGS = 500;
+        private static final String PASSWORD = "seedPassword1!";
+
+        @Autowired
+        private DataSource dataSource;
+
+        @Autowired
+        private PlatformTransactionManager transactionManager;
+
+        @Autowired
+        private PasswordEncoder passwordEncoder;
+
+        @Autowired
+        private ConfigurableApplicationContext applicationContext;
+
+        @Autowired
+        private MemberRepository memberRepository;
+
+        @Autowired
+        private ReservationApplicationService applicationService;
+
+        private JdbcTemplate jdbcTemplate;
+
+        @BeforeEach
+        void seed() {
+                jdbcTemplate = new JdbcTemplate(dataSource);
+                // 이미 생성되어 있으면 건너뛰므로 테스트마다 호출해도 한 번만 생성된다
+                new LoadTestDataSeeder(dataSource, transactionManager, passwordEncoder, applicationContext,
+                                MEMBERS, LOCATIONS, RESERVATIONS, APPLICATIONS, ACTIVITY_LOGS, 128, 42L, PASSWORD,
+                                true, false).seed();
+        }
+
+        @Test
+        @DisplayName("설정한 건수만큼 생성하고 다시 실행하면 건너뛴다")
+        void seedsConfiguredVolumesOnce() {
+                assertThat(count("SELECT COUNT(*) FROM members WHERE login_id LIKE 'lt%'")).isEqualTo(MEMBERS);
+                assertThat(count("SELECT COUNT(*) FROM locations WHERE name LIKE '시드 장소%'")).isEqualTo(LOCATIONS);
+                assertThat(count("SELECT COUNT(*) FROM reservations WHERE description = '부하 테스트용 예약입니다.'"))
+                                .isEqualTo(RESERVATIONS);
+                assertThat(count("SELECT COUNT(*) FROM reservation_applications a JOIN members m ON m.id = a.member_id "
+                                + "WHERE m.login_id LIKE 'lt%'")).isEqualTo(APPLICATIONS);
+                assertThat(count("SELECT COUNT(*) FROM activity_logs WHERE member_login_id LIKE 'lt%'"))
+                                .isEqualTo(ACTIVITY_LOGS);
+
+                new LoadTestDataSeeder(dataSource, transactionManager, passwordEncoder, applicationContext,
+                                MEMBERS, LOCATIONS, RESERVATIONS, APPLICATIONS, ACTIVITY_LOGS, 128, 42L, PASSWORD,
+                                true, false).seed();
+                assertThat(count("SELECT COUNT(*) FROM members WHERE login_id LIKE 'lt%'")).isEqualTo(MEMBERS);
+        }
+
+        @Test
+        @DisplayName("예약 카운터가 신청 상태와 일치하고 정원을 넘는 확정은 없다")
+        void reservationCountersMatchApplications() {
+                assertThat(count("SELECT COUNT(*) FROM reservations r WHERE "
+                                + "r.confirmed_count <> (SELECT COUNT(*) FROM reservation_applications a "
+                                + "WHERE a.reservation_id = r.id AND a.status = 'CONFIRMED') OR "
+                                + "r.waiting_count <> (SELECT COUNT(*) FROM reservation_applications a "
+                                + "WHERE a.reservation_id = r.id AND a.status = 'WAITING')")).isZero();
+                assertThat(count("SELECT COUNT(*) FROM reservations WHERE confirmed_count > max_capacity")).isZero();
+                assertThat(count("SELECT COUNT(*) FROM reservations WHERE waiting_count > 0 "
+                                + "AND confirmed_count < max_capacity")).isZero();
+                assertThat(count("SELECT COUNT(*) FROM reservation_applications WHERE status = 'CANCELLED'"))
+                                .isPositive();
+        }
+
+        @Test
+        @DisplayName("시드 회원은 공통 비밀번호로 로그인할 수 있다")
+        void seededMembersShareKnownPassword() {
+                String hash = jdbcTemplate.queryForObject("SELECT password FROM members WHERE login_id = ?",
+                                String.class, LoadTestDataSeeder.loginId(MEMBERS));
+                assertThat(passwordEncoder.matches(PASSWORD, hash)).isTrue();
+        }
+
+        @Test
+        @DisplayName("시드 이후 애플리케이션이 만드는 엔티티는 시드 ID와 겹치지 않는다")
+        void newEntitiesDoNotCollideWithSeededIds() {
+                long seededMin = count("SELECT MIN(id) FROM members WHERE login_id LIKE 'lt%'");
+                long seededMax = count("SELECT MAX(id) FROM members WHERE login_id LIKE 'lt%'");
+                String encoded = passwordEncoder.encode("Password123!");
+
+                // 시퀀스 할당 단위(50)를 넘겨 저장해 시드 이후 새 구간을 받아 오게 한다
+                List<Long> ids = new ArrayList<>();
+                String prefix = "afterseed" + System.nanoTime() % 10_000 + "_";
+                for (int i = 0; i < 60; i++) {
+                        ids.add(memberRepository.save(Member.builder()
+                                        .loginId(prefix + i)
+                                        .password(encoded)
+                                        .name("시드이후")
+                                        .birthYear(1990)
+                                        .grade(MemberGrade.EGG)
+                                        .build()).getId());
+                }
+                assertThat(ids).doesNotHaveDuplicates()
+                                .noneMatch(id -> id >= seededMin && id <= seededMax);
+
+                String seededApplications = "FROM reservation_applications a JOIN members m ON m.id = a.member_id "
+                                + "WHERE m.login_id LIKE 'lt%'";
+                long seededApplicationMin = count("SELECT MIN(a.id) " + seededApplications);
+                long seededApplicationMax = count("SELECT MAX(a.id) " + seededApplications);
+                Long reservationId = jdbcTemplate.queryForObject(
+                                "SELECT MIN(id) FROM reservations WHERE description = '부하 테스트용 예약입니다.'", Long.class);
+                ReservationApplicationRequest request = new ReservationApplicationRequest();
+                request.setMemberId(ids.get(0));
+                request.setReservationId(reservationId);
+                ReservationApplicationResponse application = applicationService.applyForReservation(request);
+                assertThat(application.getId()).matches(id -> id < seededApplicationMin || id > seededApplicationMax);
+        }
+
+        private long count(String sql) {
+                Long value = jdbcTemplate.queryForObject(sql, Long.class);
+                return value != null ? value : 0L;
+        }
+}
@@ -0,0 +1,61 @@
+package com.friendlyI.backend.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 클라이언트 IP 결정 테스트
+ * 신뢰하는 프록시를 거친 요청만 X-Forwarded-For를 보며, 클라이언트가 넣은 왼쪽 값으로 IP를 바꿀 수 없는지 확인한다.
+ */
+@DisplayName("클라이언트 IP 결정 테스트")
+class RequestMetadataTest {
+
+        @Test
+        @DisplayName("직접 접속한 클라이언트의 프록시 헤더는 무시하고 원격 주소를 쓴다")
+        void directClient_IgnoresForwardedHeaders() {
+                MockHttpServletRequest request = request("198.51.100.20", "1.2.3.4");
+                request.addHeader("X-Real-IP", "5.6.7.8");
+
+                assertThat(RequestMetadata.resolveClientIp(request)).isEqualTo("198.51.100.20");
+        }
+
+        @Test
+        @DisplayName("프록시를 거치면 프록시가 덧붙인 가장 오른쪽의 신뢰하지 않는 주소를 쓴다")
+        void proxiedClient_UsesRightMostUntrustedHop() {
+                // 클라이언트가 X-Forwarded-For: 1.2.3.4 를 보내면 nginx가 실제 주소를 뒤에 덧붙인다
+                assertThat(RequestMetadata.resolveClientIp(request("172.18.0.5", "1.2.3.4, 203.0.113.7")))
+                                .isEqualTo("203.0.113.7");
+                assertThat(RequestMetadata.resolveClientIp(request("127.0.0.1", "1.2.3.4, 203.0.113.7, 10.0.0.3")))
+                                .isEqualTo("203.0.113.7");
+        }
+
+        @Test
+        @DisplayName("위조한 X-Forwarded-For 값을 바꿔도 같은 클라이언트는 같은 IP로 본다")
+        void spoofedLeftMostValues_DoNotChangeClientIp() {
+                for (String spoofed : new String[] { "1.1.1.1", "2.2.2.2, 3.3.3.3", "unknown" }) {
+                        assertThat(RequestMetadata.resolveClientIp(request("172.18.0.5", spoofed + ", 203.0.113.7")))
+                                        .isEqualTo("203.0.113.7");
+                }
+        }
+
+        @Test
+        @DisplayName("모든 hop이 내부 주소면 가장 왼쪽 주소를 쓰고, 헤더가 없으면 원격 주소를 쓴다")
+        void internalHopsOnly_UsesLeftMost() {
+                assertThat(RequestMetadata.resolveClientIp(request("172.18.0.5", "10.20.0.7, 192.168.0.2")))
+                                .isEqualTo("10.20.0.7");
+                assertThat(RequestMetadata.resolveClientIp(request("172.18.0.5", null))).isEqualTo("172.18.0.5");
+                assertThat(RequestMetadata.resolveClientIp(request("172.18.0.5", "unknown"))).isEqualTo("172.18.0.5");
+        }
+
+        private static MockHttpServletRequest request(String remoteAddr, String forwardedFor) {
+                MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+                request.setRemoteAddr(remoteAddr);
+                if (forwardedFor != null) {
+                        request.addHeader("X-Forwarded-For", forwardedFor);
+                }
+                return request;
+        }
+}
@@ -0,0 +1,111 @@
+package com.friendlyI.backend.config;
+
+import com.friendlyI.backend.exception.MemberNotFoundException;
+import com.friendlyI.backend.service.MemberService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 가상 스레드 모드 테스트
+ * 실행기와 캐시 적재가 가상 스레드로 바뀌고, 캐리어 스레드 고정이 감시되는지 확인한다.
+ */
+@SpringBootTest(properties = {
+                "spring.threads.virtual.enabled=true",
+                "app.threads.pinning-monitor.threshold=10ms"
+})
+@ActiveProfiles("test")
+@ExtendWith(OutputCaptureExtension.class)
+@DisplayName("가상 스레드 모드 테스트")
+class VirtualThreadModeTest {
+
+        @Autowired
+        private AsyncTaskExecutor applicationTaskExecutor;
+
+        @Autowired
+        @Qualifier("admissionQueueExecutor")
+        private TaskExecutor admissionQueueExecutor;
+
+        @Autowired
+        private CacheManager cacheManager;
+
+        @Autowired
+        private MemberService memberService;
+
+        @Autowired
+        private MeterRegistry meterRegistry;
+
+        @Test
+        @DisplayName("기본 비동기 실행기와 신청 대기열 실행기가 가상 스레드 실행기로 바뀐다")
+        void executorsRunOnVirtualThreads() throws Exception {
+                assertThat(applicationTaskExecutor.submit(() -> Thread.currentThread().isVirtual())
+                                .get(5, TimeUnit.SECONDS)).isTrue();
+
+                // 대기열 워커가 동시 실행 한도를 계속 쓰고 있으므로 설정으로 확인 (워커 수만큼의 가상 스레드)
+                assertThat(admissionQueueExecutor).isInstanceOfSatisfying(SimpleAsyncTaskExecutor.class,
+                                executor -> assertThat(executor.getConcurrencyLimit()).isEqualTo(1));
+        }
+
+        @Test
+        @DisplayName("캐시 미스 적재는 비동기 캐시로 처리되고 결과와 예외는 그대로 전달된다")
+        void cacheLoadsAreAsynchronous(CapturedOutput output) {
+                CaffeineCache members = (CaffeineCache) cacheManager.getCache(CacheNames.MEMBERS);
+                assertThat(members.getAsyncCache()).isNotNull();
+                members.evict(1L);
+
+                assertThat(memberService.getMemberById(1L).getLoginId()).isEqualTo("admin");
+                assertThat(members.get(1L)).isNotNull();
+                assertThatThrownBy(() -> memberService.getMemberById(Long.MAX_VALUE))
+                                .isInstanceOf(MemberNotFoundException.class);
+
+                // 없는 회원은 캐시에 남지 않고, 예상된 예외라 Caffeine 적재 실패 경고도 남기지 않는다
+                assertThat(members.get(Long.MAX_VALUE)).isNull();
+                assertThatThrownBy(() -> memberService.getMemberById(Long.MAX_VALUE))
+                                .isInstanceOf(MemberNotFoundException.class);
+                assertThat(output).doesNotContain("Exception thrown during asynchronous load");
+        }
+
+        @Test
+        @DisplayName("synchronized 안에서 대기한 가상 스레드의 고정 시간이 기록된다")
+        void recordsPinnedVirtualThreads() throws Exception {
+                Object lock = new Object();
+                Thread pinned = Thread.ofVirtual().start(() -> {
+                        synchronized (lock) {
+                                try {
+                                        Thread.sleep(100);
+                                } catch (InterruptedException e) {
+                                        Thread.currentThread().interrupt();
+                                }
+                        }
+                });
+                pinned.join();
+
+                // JFR 이벤트는 약 1초 주기로 전달된다
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+                while (pinnedCount() == 0 && System.nanoTime() < deadline) {
+                        Thread.sleep(100);
+                }
+                assertThat(pinnedCount()).isPositive();
+        }
+
+        private long pinnedCount() {
+                return meterRegistry.get("jvm.threads.virtual.pinned").timer().count();
+        }
+}
@@ -0,0 +1,270 @@
+package com.friendlyI.backend.config.caching;
+
+import com.friendlyI.backend.dto.MemberResponse;
+import com.friendlyI.backend.exception.MemberNotFoundException;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 2단 캐시 동작 테스트
+ * 두 노드가 같은 L2(값 복사 저장 = 직렬화되는 Redis 대역)와 같은 무효화 통로를 공유하는 상황을 만든다.
+ */
+@DisplayName("2단 캐시(L1 Caffeine + L2) 노드 간 무효화 테스트")
+class TwoLevelCacheManagerTest {
+
+        private ConcurrentMapCacheManager sharedRemote;
+        private InMemoryBus bus;
+        private TwoLevelCacheManager nodeA;
+        private TwoLevelCacheManager nodeB;
+
+        @BeforeEach
+        void setUp() {
+                sharedRemote = new ConcurrentMapCacheManager();
+                sharedRemote.setStoreByValue(true);
+                bus = new InMemoryBus();
+                nodeA = new TwoLevelCacheManager(name -> Caffeine.newBuilder(), sharedRemote, bus, List.of("members"));
+                nodeB = new TwoLevelCacheManager(name -> Caffeine.newBuilder(), sharedRemote, bus, List.of("members"));
+        }
+
+        @Test
+        @DisplayName("한 노드가 저장한 값은 다른 노드가 L2에서 읽어 L1에 채운다")
+        void readsThroughSharedTier() {
+                nodeA.getCache("members").put(1L, member("before"));
+
+                assertThat(name(nodeB.getCache("members").get(1L))).isEqualTo("before");
+                assertThat(localSize(nodeB)).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("한 노드에서 삭제하면 다른 노드의 L1에서도 지워진다")
+        void evictionIsBroadcast() {
+                nodeA.getCache("members").put(1L, member("before"));
+                nodeB.getCache("members").get(1L);
+
+                nodeA.getCache("members").evict(1L);
+
+                assertThat(localSize(nodeB)).isZero();
+                assertThat(nodeB.getCache("members").get(1L)).isNull();
+        }
+
+        @Test
+        @DisplayName("한 노드에서 값을 바꾸면 다른 노드는 옛 L1 값 대신 새 값을 읽는다")
+        void updateIsVisibleOnOtherNode() {
+                nodeA.getCache("members").put(1L, member("before"));
+                nodeB.getCache("members").get(1L);
+
+                nodeA.getCache("members").put(1L, member("after"));
+
+                assertThat(name(nodeB.getCache("members").get(1L))).isEqualTo("after");
+        }
+
+        @Test
+        @DisplayName("캐시 비우기는 모든 노드의 L1과 L2를 비운다")
+        void clearIsBroadcast() {
+                nodeA.getCache("members").put(1L, member("one"));
+                nodeA.getCache("members").put("paged_0_20", member("page"));
+                nodeB.getCache("members").get(1L);
+
+                nodeB.getCache("members").clear();
+
+                assertThat(localSize(nodeA)).isZero();
+                assertThat(nodeA.getCache("members").get(1L)).isNull();
+        }
+
+        @Test
+        @DisplayName("L2 장애 시에도 L1만으로 조회/저장이 동작한다")
+        void degradesToLocalWhenRemoteFails() {
+                TwoLevelCacheManager isolated = new TwoLevelCacheManager(name -> Caffeine.newBuilder(), new FailingCacheManager(),
+                                new InMemoryBus(), List.of("members"));
+                Cache cache = isolated.getCache("members");
+
+                cache.put(1L, member("local"));
+
+                assertThat(name(cache.get(1L))).isEqualTo("local");
+                assertThat(cache.get(2L, () -> member("loaded")).getName()).isEqualTo("loaded");
+        }
+
+        @Test
+        @DisplayName("refreshAfterWrite가 있으면 무효화 메시지를 놓쳐도 L1이 L2 값으로 갱신된다")
+        void refreshAfterWriteReloadsFromSharedTier() {
+                AtomicLong nanos = new AtomicLong();
+                CacheInvalidationBus lostMessages = new LostMessagesBus();
+                TwoLevelCacheManager writer = new TwoLevelCacheManager(name -> Caffeine.newBuilder(), sharedRemote,
+                                lostMessages, List.of("members"));
+                TwoLevelCacheManager reader = new TwoLevelCacheManager(name -> Caffeine.newBuilder()
+                                .refreshAfterWrite(Duration.ofMinutes(1))
+                                .executor(Runnable::run)
+                                .ticker(nanos::get), sharedRemote, lostMessages, List.of("members"));
+                writer.getCache("members").put(1L, member("before"));
+                reader.getCache("members").get(1L);
+
+                writer.getCache("members").put(1L, member("after"));
+                assertThat(name(reader.getCache("members").get(1L))).isEqualTo("before");
+
+                nanos.addAndGet(Duration.ofMinutes(2).toNanos());
+                reader.getCache("members").get(1L); // 갱신 시작 (이번 조회는 기존 값)
+                assertThat(name(reader.getCache("members").get(1L))).isEqualTo("after");
+        }
+
+        @Test
+        @DisplayName("적재 중에 다른 노드가 값을 바꾸면 적재한 옛 값을 L2에 쓰지 않는다")
+        void staleLoadNotWrittenWhenInvalidatedDuringLoad() {
+                // 비동기 적재는 Caffeine 락 밖(공용 풀)에서 실행되어 적재 중 무효화 메시지를 바로 받는다
+                TwoLevelCacheManager asyncNode = new TwoLevelCacheManager(name -> Caffeine.newBuilder(), sharedRemote,
+                                bus, List.of("members"), true);
+
+                MemberResponse loaded = asyncNode.getCache("members").get(1L, () -> {
+                        nodeB.getCache("members").put(1L, member("after"));
+                        return member("before");
+                });
+
+                assertThat(loaded.getName()).isEqualTo("before");
+                assertThat(name(sharedRemote.getCache("members").get(1L))).isEqualTo("after");
+                assertThat(name(asyncNode.getCache("members").get(1L))).isEqualTo("after");
+        }
+
+        @Test
+        @DisplayName("무효화 메시지가 늦어 옛 값이 L2에 써져도 잠시 뒤 다시 지워 원본 값을 읽는다")
+        void staleLoadEvictedAgainAfterDelay() throws InterruptedException {
+                TwoLevelCacheManager loader = new TwoLevelCacheManager(name -> Caffeine.newBuilder(), sharedRemote,
+                                new LostMessagesBus(), List.of("members"));
+                TwoLevelCacheManager writer = new TwoLevelCacheManager(name -> Caffeine.newBuilder(), sharedRemote,
+                                new LostMessagesBus(), List.of("members"), false, Duration.ofMillis(50));
+
+                loader.getCache("members").get(1L, () -> {
+                        writer.getCache("members").evict(1L);
+                        return member("before");
+                });
+                assertThat(name(sharedRemote.getCache("members").get(1L))).isEqualTo("before");
+
+                long deadline = System.currentTimeMillis() + 5000;
+                while (sharedRemote.getCache("members").get(1L) != null && System.currentTimeMillis() < deadline) {
+                        Thread.sleep(10);
+                }
+                assertThat(sharedRemote.getCache("members").get(1L)).isNull();
+        }
+
+        @Test
+        @DisplayName("적재 중 난 예상된 예외는 호출자에게 전달하고 L1/L2에 남기지 않는다")
+        void expectedLoadFailureNotCached() {
+                TwoLevelCacheManager asyncNode = new TwoLevelCacheManager(name -> Caffeine.newBuilder(), sharedRemote,
+                                bus, List.of("members"), true);
+                Cache cache = asyncNode.getCache("members");
+
+                assertThatThrownBy(() -> cache.get(404L, () -> {
+                        throw new MemberNotFoundException(404L);
+                }))
+                                .isInstanceOf(Cache.ValueRetrievalException.class)
+                                .hasCauseInstanceOf(MemberNotFoundException.class);
+
+                assertThat(localSize(asyncNode)).isZero();
+                assertThat(sharedRemote.getCache("members").get(404L)).isNull();
+                assertThat(cache.get(404L, () -> member("created")).getName()).isEqualTo("created");
+        }
+
+        private static MemberResponse member(String name) {
+                MemberResponse member = new MemberResponse();
+                member.setId(1L);
+                member.setName(name);
+                return member;
+        }
+
+        private static String name(Cache.ValueWrapper wrapper) {
+                return ((MemberResponse) wrapper.get()).getName();
+        }
+
+        @SuppressWarnings("unchecked")
+        private static long localSize(TwoLevelCacheManager manager) {
+                return ((com.github.benmanes.caffeine.cache.Cache<String, Object>) manager.getCache("members")
+                                .getNativeCache()).estimatedSize();
+        }
+
+        private static class InMemoryBus implements CacheInvalidationBus {
+                private final List<Consumer<CacheInvalidation>> listeners = new CopyOnWriteArrayList<>();
+
+                @Override
+                public void publish(CacheInvalidation invalidation) {
+                        listeners.forEach(listener -> listener.accept(invalidation));
+                }
+
+                @Override
+                public void subscribe(Consumer<CacheInvalidation> listener) {
+                        listeners.add(listener);
+                }
+        }
+
+        /**
+         * 무효화 메시지를 받지 못하는 노드 (메시지 유실/지연)
+         */
+        private static class LostMessagesBus implements CacheInvalidationBus {
+                @Override
+                public void publish(CacheInvalidation invalidation) {
+                }
+
+                @Override
+                public void subscribe(Consumer<CacheInvalidation> listener) {
+                }
+        }
+
+        private static class FailingCacheManager implements CacheManager {
+                @Override
+                public Cache getCache(String name) {
+                        return new AbstractValueAdaptingCache(true) {
+                                @Override
+                                protected Object lookup(Object key) {
+                                        throw new IllegalStateException("redis down");
+                                }
+
+                                @Override
+                                public String getName() {
+                                        return name;
+                                }
+
+                                @Override
+                                public Object getNativeCache() {
+                                        return this;
+                                }
+
+                                @Override
+                                public <T> T get(Object key, java.util.concurrent.Callable<T> valueLoader) {
+                                        throw new IllegalStateException("redis down");
+                                }
+
+                                @Override
+                                public void put(Object key, Object value) {
+                                        throw new IllegalStateException("redis down");
+                                }
+
+                                @Override
+                                public void evict(Object key) {
+                                        throw new IllegalStateException("redis down");
+                                }
+
+                                @Override
+                                public void clear() {
+                                        throw new IllegalStateException("redis down");
+                                }
+                        };
+                }
+
+                @Override
+                public java.util.Collection<String> getCacheNames() {
+                        return List.of();
+                }
+        }
+}
@@ -0,0 +1,100 @@
+package com.friendlyI.backend.config.caching;
+
+import com.friendlyI.backend.dto.MemberResponse;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 Redis(컨테이너)로 2단 캐시 노드 간 무효화 확인 (Docker가 없으면 건너뜀)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("2단 캐시 Redis 연동 테스트")
+class TwoLevelCacheRedisIntegrationTest {
+
+        @Container
+        private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+        private final List<AutoCloseable> resources = new ArrayList<>();
+
+        private TwoLevelCacheManager nodeA;
+        private TwoLevelCacheManager nodeB;
+
+        @BeforeEach
+        void setUp() throws Exception {
+                nodeA = node();
+                nodeB = node();
+        }
+
+        @AfterEach
+        void tearDown() throws Exception {
+                for (AutoCloseable resource : resources) {
+                        resource.close();
+                }
+        }
+
+        @Test
+        @DisplayName("한 노드의 삭제가 pub/sub 으로 다른 노드 L1에 전파된다")
+        void evictionIsBroadcastThroughRedis() throws Exception {
+                MemberResponse member = new MemberResponse();
+                member.setId(1L);
+                member.setName("before");
+                nodeA.getCache("members").put(1L, member);
+                assertThat(nodeB.getCache("members").get(1L)).isNotNull();
+
+                nodeA.getCache("members").evict(1L);
+
+                long deadline = System.currentTimeMillis() + 5000;
+                while (localSize(nodeB) > 0 && System.currentTimeMillis() < deadline) {
+                        Thread.sleep(20);
+                }
+                assertThat(localSize(nodeB)).isZero();
+                assertThat(nodeB.getCache("members").get(1L)).isNull();
+        }
+
+        private TwoLevelCacheManager node() throws Exception {
+                LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(
+                                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+                connectionFactory.afterPropertiesSet();
+                connectionFactory.start();
+                resources.add(connectionFactory::destroy);
+
+                StringRedisTemplate redisTemplate = new StringRedisTemplate(connectionFactory);
+                RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+                container.setConnectionFactory(connectionFactory);
+                container.afterPropertiesSet();
+                container.start();
+                resources.add(0, container::destroy);
+
+                RedisCacheManager remote = RedisCacheManager.builder(connectionFactory)
+                                .cacheDefaults(RedisCacheConfiguration.defaultCacheConfig().prefixCacheNameWith("cache:"))
+                                .build();
+                remote.afterPropertiesSet();
+                return new TwoLevelCacheManager(name -> Caffeine.newBuilder(), remote,
+                                new RedisCacheInvalidationBus(redisTemplate, container, "cache:invalidation"),
+                                List.of("members"));
+        }
+
+        @SuppressWarnings("unchecked")
+        private static long localSize(TwoLevelCacheManager manager) {
+                Cache cache = manager.getCache("members");
+                return ((com.github.benmanes.caffeine.cache.Cache<String, Object>) cache.getNativeCache()).estimatedSize();
+        }
+}
@@ -0,0 +1,112 @@
+package com.friendlyI.backend.config.metrics;
+
+import com.friendlyI.backend.config.security.JwtTokenUtil;
+import com.friendlyI.backend.entity.MemberGrade;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 엔드포인트 메트릭 테스트
+ * 요청 지연 타이머의 컨트롤러 메서드 태그와 히스토그램, 요청별 SQL 문/엔티티 로드 수, 관리자 전용 Prometheus 스크레이프를 확인한다.
+ */
+// Prometheus 노출은 docker 프로필 설정과 같게
+@SpringBootTest(properties = "management.endpoints.web.exposure.include=health,info,metrics,prometheus")
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+@DisplayName("엔드포인트 메트릭 테스트")
+class RequestMetricsTest {
+
+        private static final String CURSOR_URI = "/api/members/cursor";
+        private static final String CURSOR_HANDLER = "MemberController.getMembersByCursor";
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Autowired
+        private MeterRegistry meterRegistry;
+
+        @Autowired
+        private JwtTokenUtil jwtTokenUtil;
+
+        @Test
+        @DisplayName("요청 지연은 컨트롤러 메서드 태그와 백분위 히스토그램으로 기록된다")
+        void requestTimerHasHandlerTagAndHistogram() throws Exception {
+                mockMvc.perform(get(CURSOR_URI).param("size", "3")).andExpect(status().isOk());
+
+                Timer timer = meterRegistry.get("http.server.requests")
+                                .tags("uri", CURSOR_URI, "handler", CURSOR_HANDLER)
+                                .timer();
+                assertThat(timer.count()).isPositive();
+                assertThat(timer.takeSnapshot().histogramCounts()).isNotEmpty();
+        }
+
+        @Test
+        @DisplayName("요청마다 실행한 SQL 문 수와 엔티티 로드 수가 엔드포인트 태그로 기록된다")
+        void recordsSqlStatementsAndEntityLoadsPerRequest() throws Exception {
+                mockMvc.perform(get(CURSOR_URI).param("size", "3")).andExpect(status().isOk());
+
+                DistributionSummary statements = summary("http.server.sql.statements");
+                DistributionSummary entityLoads = summary("http.server.entity.loads");
+                long requests = statements.count();
+                double statementTotal = statements.totalAmount();
+                double loadTotal = entityLoads.totalAmount();
+
+                mockMvc.perform(get(CURSOR_URI).param("size", "3")).andExpect(status().isOk());
+
+                // 커서 조회 1회 (캐시 없음), 다음 페이지 확인용 1명을 포함해 회원 4명 로드
+                assertThat(statements.count()).isEqualTo(requests + 1);
+                assertThat(statements.totalAmount() - statementTotal).isEqualTo(1.0);
+                assertThat(entityLoads.totalAmount() - loadTotal).isEqualTo(4.0);
+        }
+
+        @Test
+        @DisplayName("Prometheus 스크레이프 엔드포인트는 관리자에게 히스토그램을 내보낸다")
+        void exposesPrometheusScrapeEndpoint() throws Exception {
+                mockMvc.perform(get(CURSOR_URI).param("size", "3")).andExpect(status().isOk());
+
+                String body = mockMvc.perform(get("/actuator/prometheus")
+                                .header(HttpHeaders.AUTHORIZATION, bearer(MemberGrade.ROOSTER)))
+                                .andExpect(status().isOk())
+                                .andReturn().getResponse().getContentAsString();
+
+                assertThat(body).contains("http_server_requests_seconds_bucket{")
+                                .contains("handler=\"" + CURSOR_HANDLER + "\"")
+                                .contains("http_server_sql_statements_bucket{")
+                                .contains("http_server_entity_loads_count{");
+        }
+
+        @Test
+        @DisplayName("메트릭과 Prometheus 스크레이프는 익명이면 401, 관리자가 아니면 403")
+        void metricsEndpointsRequireAdmin() throws Exception {
+                for (String uri : new String[] { "/actuator/prometheus", "/actuator/metrics" }) {
+                        mockMvc.perform(get(uri)).andExpect(status().isUnauthorized());
+                        mockMvc.perform(get(uri).header(HttpHeaders.AUTHORIZATION, bearer(MemberGrade.EGG)))
+                                        .andExpect(status().isForbidden());
+                }
+        }
+
+        private String bearer(MemberGrade grade) {
+                return "Bearer " + jwtTokenUtil.generateToken("metrics-" + grade.name().toLowerCase(), 1L, grade);
+        }
+
+        private DistributionSummary summary(String name) {
+                return meterRegistry.get(name)
+                                .tags("method", "GET", "uri", CURSOR_URI, "handler", CURSOR_HANDLER)
+                                .summary();
+        }
+}
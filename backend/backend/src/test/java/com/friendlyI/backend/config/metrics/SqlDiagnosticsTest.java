@@ -0,0 +1,192 @@
+package com.friendlyI.backend.config.metrics;
+
+import com.friendlyI.backend.dto.ReservationApplicationRequest;
+import com.friendlyI.backend.dto.ReservationCreateRequest;
+import com.friendlyI.backend.entity.Member;
+import com.friendlyI.backend.entity.MemberGrade;
+import com.friendlyI.backend.repository.MemberRepository;
+import com.friendlyI.backend.service.LocationService;
+import com.friendlyI.backend.service.ReservationApplicationService;
+import com.friendlyI.backend.service.ReservationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * SQL 진단 테스트 (테스트 프로필은 fail-fast)
+ * 의도적인 N+1이 호출 위치와 함께 실패로 잡히는지, 예약/장소/신청 서비스의 주요 조회가
+ * 임계값보다 많은 데이터에서도 같은 형태의 SQL을 반복하지 않는지 확인한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("SQL 진단 테스트")
+class SqlDiagnosticsTest {
+
+        private static final Long ADMIN_ID = 1L;
+        private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+        @Value("${app.sql.diagnostics.repeat-threshold}")
+        private int repeatThreshold;
+
+        @Autowired
+        private SqlDiagnostics sqlDiagnostics;
+
+        @Autowired
+        private MemberRepository memberRepository;
+
+        @Autowired
+        private ReservationService reservationService;
+
+        @Autowired
+        private LocationService locationService;
+
+        @Autowired
+        private ReservationApplicationService applicationService;
+
+        @Test
+        @DisplayName("리터럴과 IN 목록 길이가 달라도 같은 SQL 형태로 본다")
+        void normalizesLiteralsAndInLists() {
+                assertThat(SqlShapeInspector.normalize("select * from member m where m.id = 12 and m.name = 'a''b'"))
+                                .isEqualTo(SqlShapeInspector.normalize("select *  from member m\n where m.id = 7 and m.name = 'c'"));
+                assertThat(SqlShapeInspector.normalize("select * from member where id in (?, ?, ?)"))
+                                .isEqualTo("select * from member where id in (?)");
+        }
+
+        @Test
+        @DisplayName("같은 형태의 SQL이 임계값 이상 반복되면 호출 위치와 함께 실패한다")
+        void repeatedQueriesFailFast() {
+                List<Long> memberIds = createMembers(repeatThreshold);
+
+                RequestSqlStatistics statistics = sqlDiagnostics.begin();
+                try {
+                        memberIds.forEach(memberRepository::findById); // 의도적인 N+1
+                } finally {
+                        RequestSqlStatistics.end();
+                }
+
+                assertThatThrownBy(() -> sqlDiagnostics.report(statistics, "N+1 테스트"))
+                                .isInstanceOfSatisfying(RepeatedQueryException.class, e -> {
+                                        assertThat(e.getScope()).isEqualTo("N+1 테스트");
+                                        assertThat(e.getRepeatedQueries()).singleElement().satisfies(query -> {
+                                                assertThat(query.count()).isEqualTo(repeatThreshold);
+                                                assertThat(query.sql()).containsIgnoringCase("member");
+                                                assertThat(query.callSite())
+                                                                .startsWith("SqlDiagnosticsTest.repeatedQueriesFailFast:");
+                                        });
+                                });
+        }
+
+        @Test
+        @DisplayName("임계값보다 적게 반복되면 통과한다")
+        void belowThresholdPasses() {
+                List<Long> memberIds = createMembers(repeatThreshold - 1);
+
+                RequestSqlStatistics statistics = sqlDiagnostics.begin();
+                try {
+                        memberIds.forEach(memberRepository::findById);
+                } finally {
+                        RequestSqlStatistics.end();
+                }
+
+                assertThat(statistics.getRepeatedQueries()).isEmpty();
+                sqlDiagnostics.report(statistics, "임계값 미만");
+        }
+
+        @Test
+        @DisplayName("임계 시간 이상 걸린 SQL은 느린 SQL로 기록된다")
+        void recordsSlowQueries() {
+                RequestSqlStatistics statistics = RequestSqlStatistics.begin(repeatThreshold, 1);
+                try {
+                        memberRepository.count();
+                } finally {
+                        RequestSqlStatistics.end();
+                }
+
+                assertThat(statistics.getSlowQueries()).singleElement()
+                                .satisfies(slow -> assertThat(slow.sql()).containsIgnoringCase("count"));
+        }
+
+        @Test
+        @DisplayName("예약/장소/신청 서비스의 주요 조회는 데이터가 많아도 SQL을 반복하지 않는다")
+        void serviceReadsDoNotRepeatQueries() {
+                // given - 임계값보다 많은 예약, 예약마다 임계값보다 많은 신청자
+                int count = repeatThreshold + 2;
+                List<Long> memberIds = createMembers(count);
+                List<Long> reservationIds = new ArrayList<>();
+                for (int i = 0; i < count; i++) {
+                        Long reservationId = reservationService.createReservation(request("진단 " + i), ADMIN_ID).getId();
+                        for (Long memberId : memberIds) {
+                                ReservationApplicationRequest application = new ReservationApplicationRequest();
+                                application.setMemberId(memberId);
+                                application.setReservationId(reservationId);
+                                applicationService.applyForReservation(application);
+                        }
+                        reservationIds.add(reservationId);
+                }
+                Long reservationId = reservationIds.get(0);
+                Long memberId = memberIds.get(0);
+
+                // when & then - 범위 하나에 모아 반복 여부 확인 (fail-fast라 서비스 범위에서 반복되면 여기서 예외)
+                assertNoRepeats(() -> reservationService.getAllReservations());
+                assertNoRepeats(() -> reservationService.getReservationsByCursor(null, count));
+                assertNoRepeats(() -> reservationService.getFutureReservations());
+                assertNoRepeats(() -> reservationService.getReservationApplicants(reservationId));
+                assertNoRepeats(() -> locationService.getAllLocations());
+                assertNoRepeats(() -> locationService.getLocationsWithActiveReservations());
+                assertNoRepeats(() -> applicationService.getApplicationsByReservation(reservationId));
+                assertNoRepeats(() -> applicationService.getApplicationsByReservation(reservationId, null, count));
+                assertNoRepeats(() -> applicationService.getApplicationsByMember(memberId));
+                assertNoRepeats(() -> applicationService.getApplicationsByMember(memberId, null, count));
+        }
+
+        private void assertNoRepeats(Runnable action) {
+                RequestSqlStatistics statistics = sqlDiagnostics.begin();
+                try {
+                        action.run();
+                } finally {
+                        RequestSqlStatistics.end();
+                }
+                assertThat(statistics.getRepeatedQueries()).isEmpty();
+        }
+
+        private List<Long> createMembers(int count) {
+                List<Long> ids = new ArrayList<>();
+                for (int i = 0; i < count; i++) {
+                        ids.add(memberRepository.save(Member.builder()
+                                        .loginId("sqldiag_" + SEQUENCE.incrementAndGet() + "_" + System.nanoTime())
+                                        .password("encoded-password")
+                                        .name("진단")
+                                        .birthYear(1995)
+                                        .grade(MemberGrade.EGG)
+                                        .build()).getId());
+                }
+                return ids;
+        }
+
+        private static ReservationCreateRequest request(String title) {
+                ReservationCreateRequest.LocationInfo location = new ReservationCreateRequest.LocationInfo();
+                location.setName(title + " 회의실");
+                location.setAddress("서울시 강남구 테헤란로 123번길 1층");
+                location.setUrl("https://naver.me/IgJGvT1Y");
+
+                ReservationCreateRequest request = new ReservationCreateRequest();
+                request.setTitle(title);
+                request.setMaxCapacity(100);
+                request.setReservationDate(LocalDate.now().plusDays(3));
+                request.setReservationTime(LocalTime.of(10, 0));
+                request.setLocations(List.of(location));
+                return request;
+        }
+}
@@ -0,0 +1,111 @@
+package com.friendlyI.backend.config.security;
+
+import com.friendlyI.backend.entity.MemberGrade;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Bearer 토큰 인증 API 테스트
+ * JwtAuthenticationFilter가 채운 인증 정보로 현재 사용자 조회, 토큰 검증, 등급별(관리자) 접근이 결정되는지 확인한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("Bearer 토큰 인증 API 테스트")
+class AuthenticationApiTest {
+
+        private static final Long ADMIN_ID = 1L;
+        private static final String ADMIN_LOGIN_ID = "admin";
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Autowired
+        private JwtTokenUtil jwtTokenUtil;
+
+        @Test
+        @DisplayName("리프레시 토큰을 Bearer로 보내면 인증되지 않는다")
+        void refreshTokenAsBearer_Unauthorized() throws Exception {
+                String refreshToken = jwtTokenUtil.generateRefreshToken(ADMIN_LOGIN_ID, ADMIN_ID,
+                                UUID.randomUUID().toString());
+
+                mockMvc.perform(get("/api/auth/me").header(HttpHeaders.AUTHORIZATION, bearer(refreshToken)))
+                                .andExpect(status().isUnauthorized());
+                mockMvc.perform(get("/api/auth/validate").header(HttpHeaders.AUTHORIZATION, bearer(refreshToken)))
+                                .andExpect(status().isUnauthorized());
+        }
+
+        @Test
+        @DisplayName("같은 회원의 액세스 토큰은 인증된다")
+        void accessTokenAsBearer_Authenticated() throws Exception {
+                String accessToken = jwtTokenUtil.generateToken(ADMIN_LOGIN_ID, ADMIN_ID, MemberGrade.ROOSTER);
+
+                mockMvc.perform(get("/api/auth/validate").header(HttpHeaders.AUTHORIZATION, bearer(accessToken)))
+                                .andExpect(status().isOk());
+        }
+
+        @Test
+        @DisplayName("현재 사용자 조회는 액세스 토큰의 회원 정보를 돌려준다")
+        void me_ReturnsCurrentUser() throws Exception {
+                String accessToken = jwtTokenUtil.generateToken(ADMIN_LOGIN_ID, ADMIN_ID, MemberGrade.ROOSTER);
+
+                mockMvc.perform(get("/api/auth/me").header(HttpHeaders.AUTHORIZATION, bearer(accessToken)))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.id").value(ADMIN_ID))
+                                .andExpect(jsonPath("$.loginId").value(ADMIN_LOGIN_ID))
+                                .andExpect(jsonPath("$.grade").value(MemberGrade.ROOSTER.name()));
+        }
+
+        @Test
+        @DisplayName("토큰이 없거나 잘못되었으면 현재 사용자 조회와 토큰 검증은 401")
+        void missingOrInvalidToken_Unauthorized() throws Exception {
+                for (String uri : new String[] { "/api/auth/me", "/api/auth/validate" }) {
+                        mockMvc.perform(get(uri)).andExpect(status().isUnauthorized());
+                        mockMvc.perform(get(uri).header(HttpHeaders.AUTHORIZATION, bearer("not-a-jwt")))
+                                        .andExpect(status().isUnauthorized());
+                        mockMvc.perform(get(uri).header(HttpHeaders.AUTHORIZATION, "Basic YWRtaW46cGFzcw=="))
+                                        .andExpect(status().isUnauthorized());
+                }
+        }
+
+        @Test
+        @DisplayName("탈퇴 등으로 없는 회원의 토큰이면 현재 사용자 조회는 401")
+        void me_UnknownMember_Unauthorized() throws Exception {
+                String accessToken = jwtTokenUtil.generateToken("ghost", Long.MAX_VALUE, MemberGrade.EGG);
+
+                mockMvc.perform(get("/api/auth/me").header(HttpHeaders.AUTHORIZATION, bearer(accessToken)))
+                                .andExpect(status().isUnauthorized());
+        }
+
+        @Test
+        @DisplayName("Prometheus 스크레이프는 docker 프로필에서만 노출되고, 메트릭은 관리자만 조회한다")
+        void actuatorMetricsAdminOnly_PrometheusNotExposedByDefault() throws Exception {
+                String adminToken = jwtTokenUtil.generateToken(ADMIN_LOGIN_ID, ADMIN_ID, MemberGrade.ROOSTER);
+                String memberToken = jwtTokenUtil.generateToken("member", 2L, MemberGrade.CHICK);
+
+                mockMvc.perform(get("/actuator").header(HttpHeaders.AUTHORIZATION, bearer(adminToken)))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$._links.metrics").exists())
+                                .andExpect(jsonPath("$._links.prometheus").doesNotExist());
+                mockMvc.perform(get("/actuator/metrics").header(HttpHeaders.AUTHORIZATION, bearer(memberToken)))
+                                .andExpect(status().isForbidden());
+                mockMvc.perform(get("/actuator/metrics").header(HttpHeaders.AUTHORIZATION, bearer(adminToken)))
+                                .andExpect(status().isOk());
+        }
+
+        private static String bearer(String token) {
+                return "Bearer " + token;
+        }
+}
@@ -0,0 +1,128 @@
+package com.friendlyI.backend.config.security;
+
+import com.friendlyI.backend.entity.MemberGrade;
+import com.friendlyI.backend.exception.UnauthorizedException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * @RequireAuth 권한 확인 테스트
+ * 요청의 Bearer 토큰 종류와 회원 등급에 따라 통과/거부되는지 확인한다.
+ */
+@DisplayName("@RequireAuth 권한 확인 테스트")
+class AuthorizationAspectTest {
+
+        private JwtTokenUtil jwtTokenUtil;
+        private AuthorizationAspect aspect;
+        private MockHttpServletRequest request;
+
+        @BeforeEach
+        void setUp() {
+                jwtTokenUtil = JwtTokenUtilTest.jwtTokenUtil(Duration.ofMinutes(10));
+                aspect = new AuthorizationAspect(jwtTokenUtil);
+                request = new MockHttpServletRequest("PUT", "/api/members/7");
+                RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        }
+
+        @AfterEach
+        void tearDown() {
+                RequestContextHolder.resetRequestAttributes();
+        }
+
+        @Test
+        @DisplayName("리프레시 토큰으로는 인증이 필요한 메서드를 호출할 수 없다")
+        void refreshToken_Rejected() {
+                bearer(jwtTokenUtil.generateRefreshToken("member7", 7L, UUID.randomUUID().toString()));
+
+                assertThatThrownBy(() -> aspect.checkAuthorization(null, requireAuth("authenticated")))
+                                .isInstanceOf(UnauthorizedException.class);
+        }
+
+        @Test
+        @DisplayName("액세스 토큰이면 인증이 필요한 메서드를 호출할 수 있다")
+        void accessToken_Allowed() {
+                bearer(jwtTokenUtil.generateToken("member7", 7L, MemberGrade.EGG));
+
+                assertThatCode(() -> aspect.checkAuthorization(null, requireAuth("authenticated")))
+                                .doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("토큰이 없으면 거부한다")
+        void missingToken_Rejected() {
+                assertThatThrownBy(() -> aspect.checkAuthorization(null, requireAuth("authenticated")))
+                                .isInstanceOf(UnauthorizedException.class)
+                                .hasMessage("인증이 필요합니다.");
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @EnumSource(MemberGrade.class)
+        @DisplayName("관리자 전용 메서드는 관리자 등급만 호출할 수 있다")
+        void adminOnly_AllowsOnlyRooster(MemberGrade grade) {
+                bearer(jwtTokenUtil.generateToken("member7", 7L, grade));
+
+                if (grade == MemberGrade.ROOSTER) {
+                        assertThatCode(() -> aspect.checkAuthorization(null, requireAuth("adminOnly")))
+                                        .doesNotThrowAnyException();
+                } else {
+                        assertThatThrownBy(() -> aspect.checkAuthorization(null, requireAuth("adminOnly")))
+                                        .isInstanceOf(UnauthorizedException.class)
+                                        .hasMessage("관리자 권한이 필요합니다.");
+                }
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @EnumSource(MemberGrade.class)
+        @DisplayName("역할을 지정한 메서드는 해당 등급만 호출할 수 있다")
+        void roles_AllowOnlyListedGrades(MemberGrade grade) {
+                bearer(jwtTokenUtil.generateToken("member7", 7L, grade));
+
+                if (grade == MemberGrade.CHICK || grade == MemberGrade.YOUNG_BIRD) {
+                        assertThatCode(() -> aspect.checkAuthorization(null, requireAuth("chickOrYoungBird")))
+                                        .doesNotThrowAnyException();
+                } else {
+                        assertThatThrownBy(() -> aspect.checkAuthorization(null, requireAuth("chickOrYoungBird")))
+                                        .isInstanceOf(UnauthorizedException.class)
+                                        .hasMessage("권한이 부족합니다.");
+                }
+        }
+
+        private void bearer(String token) {
+                request.addHeader("Authorization", "Bearer " + token);
+        }
+
+        private static RequireAuth requireAuth(String methodName) {
+                try {
+                        return AnnotationUtils.findAnnotation(
+                                        AuthorizationAspectTest.class.getDeclaredMethod(methodName), RequireAuth.class);
+                } catch (NoSuchMethodException e) {
+                        throw new IllegalStateException(e);
+                }
+        }
+
+        @RequireAuth
+        private static void authenticated() {
+        }
+
+        @RequireAuth(adminOnly = true)
+        private static void adminOnly() {
+        }
+
+        @RequireAuth(roles = { "CHICK", "YOUNG_BIRD" })
+        private static void chickOrYoungBird() {
+        }
+}
@@ -0,0 +1,142 @@
+package com.friendlyI.backend.config.security;
+
+import com.friendlyI.backend.entity.MemberGrade;
+import com.github.benmanes.caffeine.cache.Cache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JWT 검증과 검증 캐시 테스트
+ * 잘못된/만료된 토큰 거부, 검증 캐시가 토큰 만료 시각과 max-ttl 중 이른 시점까지만 보관되는지 확인한다.
+ */
+@DisplayName("JWT 검증과 검증 캐시 테스트")
+class JwtTokenUtilTest {
+
+        @Test
+        @DisplayName("액세스 토큰의 회원 정보를 꺼내고, 두 번째 검증은 캐시에서 같은 인증 정보를 돌려준다")
+        void authenticate_ReturnsPrincipalAndCachesIt() {
+                JwtTokenUtil util = jwtTokenUtil(Duration.ofMinutes(10));
+                String token = util.generateToken("member7", 7L, MemberGrade.CHICK);
+
+                JwtPrincipal first = util.authenticate(token).orElseThrow();
+                JwtPrincipal second = util.authenticate(token).orElseThrow();
+
+                assertThat(first.loginId()).isEqualTo("member7");
+                assertThat(first.memberId()).isEqualTo(7L);
+                assertThat(first.grade()).isEqualTo(MemberGrade.CHICK);
+                assertThat(first.isRefreshToken()).isFalse();
+                assertThat(second).isSameAs(first);
+                assertThat(verifiedTokens(util).estimatedSize()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("비었거나 형식이 틀렸거나 다른 키로 서명된 토큰은 거부한다")
+        void invalidTokens_Rejected() {
+                JwtTokenUtil util = jwtTokenUtil(Duration.ofMinutes(10));
+                JwtTokenUtil otherKey = jwtTokenUtil(Duration.ofMinutes(10));
+                ReflectionTestUtils.setField(otherKey, "secretKey", "another-secret-key-for-signature-mismatch-tests!!");
+                otherKey.init();
+                String valid = util.generateToken("member7", 7L, MemberGrade.EGG);
+                String tampered = valid.substring(0, valid.length() - 2)
+                                + (valid.endsWith("A") ? "BB" : "AA");
+
+                assertThat(util.authenticate((String) null)).isEmpty();
+                assertThat(util.authenticate(" ")).isEmpty();
+                assertThat(util.authenticate("not-a-jwt")).isEmpty();
+                assertThat(util.authenticate(tampered)).isEmpty();
+                assertThat(util.authenticate(otherKey.generateToken("member7", 7L, MemberGrade.ROOSTER))).isEmpty();
+                assertThat(util.validateToken(tampered)).isFalse();
+                assertThat(util.isAdmin(tampered)).isFalse();
+                assertThat(verifiedTokens(util).estimatedSize()).isZero();
+        }
+
+        @Test
+        @DisplayName("만료된 토큰은 거부한다")
+        void expiredToken_Rejected() {
+                JwtTokenUtil util = jwtTokenUtil(Duration.ofMinutes(10));
+                ReflectionTestUtils.setField(util, "expirationTime", -60_000L);
+                String expired = util.generateToken("member7", 7L, MemberGrade.EGG);
+
+                assertThat(util.authenticate(expired)).isEmpty();
+                assertThat(util.isTokenExpired(expired)).isTrue();
+        }
+
+        @Test
+        @DisplayName("캐시에 있던 토큰도 만료 시각이 지나면 거부한다")
+        void cachedToken_RejectedAfterExpiry() throws InterruptedException {
+                JwtTokenUtil util = jwtTokenUtil(Duration.ofMinutes(10));
+                ReflectionTestUtils.setField(util, "expirationTime", 1_000L);
+                String token = util.generateToken("member7", 7L, MemberGrade.EGG);
+                assertThat(util.authenticate(token)).isPresent();
+
+                // exp 클레임은 초 단위이므로 다음 초가 지날 때까지 대기
+                Thread.sleep(2_100);
+
+                assertThat(util.authenticate(token)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("검증 캐시 항목은 토큰 만료 시각과 max-ttl 중 이른 시점까지만 보관된다")
+        void cacheEntry_ExpiresAtEarlierOfTokenExpiryAndMaxTtl() {
+                JwtTokenUtil util = jwtTokenUtil(Duration.ofMinutes(10));
+                util.authenticate(util.generateToken("long-lived", 7L, MemberGrade.EGG)); // 1시간 유효
+                ReflectionTestUtils.setField(util, "expirationTime", 60_000L);
+                util.authenticate(util.generateToken("short-lived", 8L, MemberGrade.EGG)); // 1분 유효
+
+                assertThat(cachedTtl(util, "long-lived")).isEqualTo(Duration.ofMinutes(10));
+                assertThat(cachedTtl(util, "short-lived")).isLessThanOrEqualTo(Duration.ofMinutes(1))
+                                .isGreaterThan(Duration.ofSeconds(55));
+        }
+
+        @Test
+        @DisplayName("리프레시 토큰은 리프레시 전용 검증으로만 읽힌다")
+        void refreshToken_ParsedOnlyAsRefresh() {
+                JwtTokenUtil util = jwtTokenUtil(Duration.ofMinutes(10));
+                String family = UUID.randomUUID().toString();
+                String refresh = util.generateRefreshToken("member7", 7L, family);
+                String access = util.generateToken("member7", 7L, MemberGrade.EGG);
+
+                assertThat(util.parseRefreshToken(refresh)).hasValueSatisfying(claims -> {
+                        assertThat(claims.memberId()).isEqualTo(7L);
+                        assertThat(claims.familyId()).isEqualTo(family);
+                });
+                assertThat(util.parseRefreshToken(access)).isEmpty();
+                assertThat(util.authenticate(refresh)).hasValueSatisfying(
+                                principal -> assertThat(principal.isRefreshToken()).isTrue());
+        }
+
+        /**
+         * 서명 키만 설정해 만든 JwtTokenUtil (스프링 컨텍스트 없이)
+         */
+        static JwtTokenUtil jwtTokenUtil(Duration claimsCacheMaxTtl) {
+                JwtTokenUtil util = new JwtTokenUtil();
+                ReflectionTestUtils.setField(util, "secretKey", "jwt-token-util-test-secret-key-at-least-256-bits!!");
+                ReflectionTestUtils.setField(util, "expirationTime", 3_600_000L);
+                ReflectionTestUtils.setField(util, "refreshExpirationTime", 604_800_000L);
+                ReflectionTestUtils.setField(util, "claimsCacheMaximumSize", 100L);
+                ReflectionTestUtils.setField(util, "claimsCacheMaxTtl", claimsCacheMaxTtl);
+                util.init();
+                return util;
+        }
+
+        private static Duration cachedTtl(JwtTokenUtil util, String loginId) {
+                Cache<String, JwtPrincipal> cache = verifiedTokens(util);
+                String key = cache.asMap().entrySet().stream()
+                                .filter(entry -> entry.getValue().loginId().equals(loginId))
+                                .findFirst().orElseThrow().getKey();
+                // 생성 직후 조회하므로 남은 시간은 설정된 보관 시간과 거의 같음 (1초 단위로 비교)
+                Duration remaining = cache.policy().expireVariably().orElseThrow().getExpiresAfter(key).orElseThrow();
+                return Duration.ofSeconds(Math.round(remaining.toMillis() / 1000.0));
+        }
+
+        @SuppressWarnings("unchecked")
+        private static Cache<String, JwtPrincipal> verifiedTokens(JwtTokenUtil util) {
+                return (Cache<String, JwtPrincipal>) ReflectionTestUtils.getField(util, "verifiedTokens");
+        }
+}
@@ -0,0 +1,149 @@
+package com.friendlyI.backend.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.friendlyI.backend.config.security.JwtTokenUtil;
+import com.friendlyI.backend.entity.Member;
+import com.friendlyI.backend.entity.MemberGrade;
+import com.friendlyI.backend.repository.MemberRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 관리자 데이터 내보내기 API 테스트
+ * 관리자만 내보낼 수 있는지, 전체 행이 스트리밍되는지, CSV 값이 수식으로 실행되지 않게 이스케이프되는지 확인한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("관리자 데이터 내보내기 API 테스트")
+class AdminExportControllerTest {
+
+        private static final Long ADMIN_ID = 1L;
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Autowired
+        private JwtTokenUtil jwtTokenUtil;
+
+        @Autowired
+        private MemberRepository memberRepository;
+
+        @Autowired
+        private ObjectMapper objectMapper;
+
+        @Test
+        @DisplayName("토큰이 없으면 401, 관리자가 아니면 403")
+        void export_AdminOnly() throws Exception {
+                String memberToken = jwtTokenUtil.generateToken("member", 2L, MemberGrade.YOUNG_BIRD);
+
+                for (String uri : new String[] { "/api/admin/exports/members", "/api/admin/exports/reservations",
+                                "/api/admin/exports/activity-logs" }) {
+                        mockMvc.perform(get(uri)).andExpect(status().isUnauthorized());
+                        mockMvc.perform(get(uri).header(HttpHeaders.AUTHORIZATION, bearer(memberToken)))
+                                        .andExpect(status().isForbidden());
+                }
+        }
+
+        @Test
+        @DisplayName("NDJSON으로 모든 회원을 한 줄씩 스트리밍하고 비밀번호는 내보내지 않는다")
+        void exportMembers_StreamsAllRowsAsNdjson() throws Exception {
+                Member member = save("ndjson");
+
+                MvcResult result = export("/api/admin/exports/members?format=ndjson");
+
+                List<String> lines = lines(result);
+                assertThat(lines).hasSize((int) memberRepository.count());
+                JsonNode last = objectMapper.readTree(lines.get(lines.size() - 1));
+                assertThat(last.get("id").asLong()).isEqualTo(member.getId());
+                assertThat(last.get("loginId").asText()).isEqualTo(member.getLoginId());
+                assertThat(last.has("password")).isFalse();
+                assertThat(result.getResponse().getContentType()).startsWith("application/x-ndjson");
+                assertThat(result.getResponse().getHeader(HttpHeaders.CONTENT_DISPOSITION))
+                                .startsWith("attachment; filename=\"members-").endsWith(".ndjson\"");
+        }
+
+        @Test
+        @DisplayName("CSV는 수식으로 시작하는 값 앞에 '를 붙이고, 쉼표와 따옴표가 든 값은 따옴표로 감싼다")
+        void exportMembersCsv_EscapesFormulasAndDelimiters() throws Exception {
+                Member member = save("csv");
+
+                List<String> lines = lines(export("/api/admin/exports/members?format=csv"));
+
+                assertThat(lines.get(0)).isEqualTo("﻿id,loginId,name,email,phoneNumber,birthYear,grade,"
+                                + "createdAt,updatedAt");
+                String row = lines.stream().filter(line -> line.startsWith(member.getId() + ",")).findFirst()
+                                .orElseThrow();
+                assertThat(row).startsWith(member.getId() + "," + member.getLoginId()
+                                + ",\"'=HYPERLINK(\"\"http://evil.example\"\",\"\"x\"\")\","
+                                + "'@evil.example,'+82-10-1234-5678,1995,EGG,");
+        }
+
+        @Test
+        @DisplayName("내보내기 응답에만 긴 비동기 제한 시간을 준다")
+        void export_UsesPerResponseTimeout() throws Exception {
+                MvcResult result = mockMvc.perform(get("/api/admin/exports/reservations")
+                                .header(HttpHeaders.AUTHORIZATION, bearer(adminToken())))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+
+                assertThat(result.getRequest().getAsyncContext().getTimeout())
+                                .isEqualTo(Duration.ofMinutes(30).toMillis());
+                mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+        }
+
+        private MvcResult export(String uri) throws Exception {
+                MvcResult started = mockMvc.perform(get(uri).header(HttpHeaders.AUTHORIZATION, bearer(adminToken())))
+                                .andExpect(request().asyncStarted())
+                                .andReturn();
+                return mockMvc.perform(asyncDispatch(started))
+                                .andExpect(status().isOk())
+                                .andExpect(header().exists(HttpHeaders.CONTENT_DISPOSITION))
+                                .andReturn();
+        }
+
+        private Member save(String prefix) {
+                return memberRepository.save(Member.builder()
+                                .loginId("export_" + prefix + "_" + System.nanoTime())
+                                .password("encoded-password")
+                                .name("=HYPERLINK(\"http://evil.example\",\"x\")")
+                                .email("@evil.example")
+                                .phoneNumber("+82-10-1234-5678")
+                                .birthYear(1995)
+                                .grade(MemberGrade.EGG)
+                                .build());
+        }
+
+        private static List<String> lines(MvcResult result) throws Exception {
+                String body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+                return Arrays.stream(body.split("\r?\n")).filter(line -> !line.isEmpty()).toList();
+        }
+
+        private String adminToken() {
+                return jwtTokenUtil.generateToken("admin", ADMIN_ID, MemberGrade.ROOSTER);
+        }
+
+        private static String bearer(String token) {
+                return "Bearer " + token;
+        }
+}
@@ -0,0 +1,202 @@
+package com.friendlyI.backend.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.friendlyI.backend.dto.ReservationApplicationRequest;
+import com.friendlyI.backend.dto.ReservationCreateRequest;
+import com.friendlyI.backend.dto.common.PageCursor;
+import com.friendlyI.backend.entity.Member;
+import com.friendlyI.backend.entity.MemberGrade;
+import com.friendlyI.backend.repository.MemberRepository;
+import com.friendlyI.backend.service.ReservationApplicationService;
+import com.friendlyI.backend.service.ReservationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 커서 조회 API 테스트
+ * 정렬 키가 같은 항목도 ID로 순서를 정해 빠짐없이 한 번씩 돌려주는지, 마지막 페이지, 잘못된 커서, 페이지 크기 상한을 확인한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("커서 조회 API 테스트")
+class CursorPaginationApiTest {
+
+        private static final Long ADMIN_ID = 1L;
+        // 다른 테스트의 예약보다 뒤에 오도록 먼 날짜에 같은 날짜로 만든다
+        private static final LocalDate SAME_DATE = LocalDate.of(2999, 1, 1);
+        private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Autowired
+        private ObjectMapper objectMapper;
+
+        @Autowired
+        private ReservationService reservationService;
+
+        @Autowired
+        private ReservationApplicationService applicationService;
+
+        @Autowired
+        private MemberRepository memberRepository;
+
+        @Autowired
+        private JdbcTemplate jdbcTemplate;
+
+        @Test
+        @DisplayName("같은 날짜의 예약도 ID 순으로 빠짐없이 한 번씩 조회되고 마지막 페이지에는 nextCursor가 없다")
+        void reservations_TiesOnDateOrderedById() throws Exception {
+                List<Long> created = new ArrayList<>();
+                for (int i = 0; i < 5; i++) {
+                        created.add(reservationService.createReservation(reservationRequest("같은 날 " + i), ADMIN_ID)
+                                        .getId());
+                }
+
+                List<JsonNode> items = walk("/api/reservations/cursor", 2);
+
+                List<Long> ids = items.stream().map(item -> item.get("id").asLong()).toList();
+                assertThat(ids).doesNotHaveDuplicates();
+                assertThat(items).isSortedAccordingTo(Comparator
+                                .<JsonNode, LocalDate>comparing(item -> LocalDate.parse(item.get("reservationDate").asText()))
+                                .thenComparing(item -> item.get("id").asLong()));
+                assertThat(ids.stream().filter(created::contains).toList()).containsExactlyElementsOf(created);
+        }
+
+        @Test
+        @DisplayName("같은 시각에 신청한 신청도 ID 순으로 빠짐없이 한 번씩 조회된다")
+        void applications_TiesOnAppliedAtOrderedById() throws Exception {
+                Long reservationId = reservationService.createReservation(reservationRequest("동시 신청"), ADMIN_ID)
+                                .getId();
+                for (int i = 0; i < 4; i++) {
+                        apply(reservationId);
+                }
+                jdbcTemplate.update("UPDATE reservation_applications SET applied_at = ? WHERE reservation_id = ?",
+                                Timestamp.valueOf(LocalDateTime.of(2025, 1, 1, 9, 0)), reservationId);
+                List<Long> expected = jdbcTemplate.queryForList(
+                                "SELECT id FROM reservation_applications WHERE reservation_id = ? ORDER BY id", Long.class,
+                                reservationId);
+
+                List<JsonNode> items = walk("/api/reservation-applications/reservation/" + reservationId + "/cursor", 2);
+
+                // 생성자 자동 신청 + 4건
+                assertThat(expected).hasSize(5);
+                assertThat(items).extracting(item -> item.get("id").asLong()).containsExactlyElementsOf(expected);
+        }
+
+        @Test
+        @DisplayName("잘못된 커서는 400")
+        void malformedCursor_BadRequest() throws Exception {
+                String wrongShape = PageCursor.encode("not-a-date", "x");
+                Long reservationId = reservationService.createReservation(reservationRequest("커서 오류"), ADMIN_ID)
+                                .getId();
+                for (String uri : new String[] { "/api/members/cursor", "/api/reservations/cursor",
+                                "/api/reservation-applications/reservation/" + reservationId + "/cursor" }) {
+                        mockMvc.perform(get(uri)).andExpect(status().isOk());
+                        mockMvc.perform(get(uri).param("cursor", "!!!")).andExpect(status().isBadRequest());
+                        mockMvc.perform(get(uri).param("cursor", wrongShape)).andExpect(status().isBadRequest());
+                }
+        }
+
+        @Test
+        @DisplayName("페이지 크기는 최대 MAX_PAGE_SIZE, 최소 1로 보정한다")
+        void size_ClampedToMaxPageSize() throws Exception {
+                for (int i = 0; i <= PageCursor.MAX_PAGE_SIZE; i++) {
+                        saveMember("cursor_size");
+                }
+
+                mockMvc.perform(get("/api/members/cursor").param("size", "1000"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.size").value(PageCursor.MAX_PAGE_SIZE))
+                                .andExpect(jsonPath("$.content.length()").value(PageCursor.MAX_PAGE_SIZE))
+                                .andExpect(jsonPath("$.hasNext").value(true))
+                                .andExpect(jsonPath("$.nextCursor").isNotEmpty());
+                mockMvc.perform(get("/api/members/cursor").param("size", "0"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.size").value(1))
+                                .andExpect(jsonPath("$.content.length()").value(1));
+        }
+
+        /**
+         * nextCursor가 없을 때까지 모든 페이지를 읽는다 (마지막 페이지는 last=true, nextCursor 없음)
+         */
+        private List<JsonNode> walk(String uri, int size) throws Exception {
+                List<JsonNode> items = new ArrayList<>();
+                String cursor = null;
+                for (int page = 0; page < 10_000; page++) {
+                        MockHttpServletRequestBuilder request = get(uri).param("size", String.valueOf(size));
+                        if (cursor != null) {
+                                request.param("cursor", cursor);
+                        }
+                        JsonNode body = objectMapper.readTree(mockMvc.perform(request)
+                                        .andExpect(status().isOk())
+                                        .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8));
+                        body.get("content").forEach(items::add);
+                        assertThat(body.get("content").size()).isLessThanOrEqualTo(size);
+                        assertThat(body.get("first").asBoolean()).isEqualTo(cursor == null);
+                        if (!body.get("hasNext").asBoolean()) {
+                                assertThat(body.get("last").asBoolean()).isTrue();
+                                assertThat(body.has("nextCursor")).isFalse();
+                                return items;
+                        }
+                        cursor = body.get("nextCursor").asText();
+                }
+                throw new AssertionError("마지막 페이지에 도달하지 못했습니다: " + uri);
+        }
+
+        private void apply(Long reservationId) {
+                ReservationApplicationRequest request = new ReservationApplicationRequest();
+                request.setMemberId(saveMember("cursor_apply").getId());
+                request.setReservationId(reservationId);
+                applicationService.applyForReservation(request);
+        }
+
+        private Member saveMember(String prefix) {
+                return memberRepository.save(Member.builder()
+                                .loginId(prefix + "_" + SEQUENCE.incrementAndGet() + "_" + System.nanoTime())
+                                .password("encoded-password")
+                                .name("커서")
+                                .birthYear(1995)
+                                .grade(MemberGrade.EGG)
+                                .build());
+        }
+
+        private static ReservationCreateRequest reservationRequest(String title) {
+                ReservationCreateRequest.LocationInfo location = new ReservationCreateRequest.LocationInfo();
+                location.setName("회의실 A");
+                location.setAddress("서울시 강남구 테헤란로 123번길 1층");
+                location.setUrl("https://naver.me/IgJGvT1Y");
+
+                ReservationCreateRequest request = new ReservationCreateRequest();
+                request.setTitle(title);
+                request.setMaxCapacity(10);
+                request.setReservationDate(SAME_DATE);
+                request.setReservationTime(LocalTime.of(10, 0));
+                request.setLocations(List.of(location));
+                return request;
+        }
+}
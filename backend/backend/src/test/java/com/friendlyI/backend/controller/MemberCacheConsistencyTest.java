@@ -0,0 +1,202 @@
+package com.friendlyI.backend.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.friendlyI.backend.dto.MemberCreateRequest;
+import com.friendlyI.backend.dto.MemberUpdateRequest;
+import com.friendlyI.backend.entity.MemberGrade;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+/**
+ * 회원 조회 API의 쓰기 후 읽기 일관성 테스트
+ * 조회 API마다 캐시를 먼저 채운 뒤 생성/수정/등급 변경/삭제를 하고, 바로 다음 조회에 변경이 보이는지 확인한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("회원 캐시 쓰기 후 읽기 일관성 테스트")
+class MemberCacheConsistencyTest {
+
+        private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Autowired
+        private ObjectMapper objectMapper;
+
+        /**
+         * MemberController 조회 API 목록 (회원이 보이면 그 이름, 안 보이면 null)
+         */
+        enum Read {
+                BY_ID, BY_LOGIN_ID, ALL, PAGED, PAGED_WITHOUT_COUNT, CURSOR, BY_GRADE, SEARCH
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @EnumSource(Read.class)
+        @DisplayName("회원 생성 후 바로 조회된다")
+        void createIsVisible(Read read) throws Exception {
+                // 새 회원이 들어갈 목록 캐시를 먼저 채움
+                String warmLoginId = nextLoginId();
+                long warmId = create(warmLoginId, "기존회원");
+                read(read, warmId, warmLoginId, MemberGrade.EGG);
+
+                String loginId = nextLoginId();
+                long id = create(loginId, "새회원");
+
+                assertThat(read(read, id, loginId, MemberGrade.EGG)).isEqualTo("새회원");
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @EnumSource(Read.class)
+        @DisplayName("회원 정보 수정 후 바로 새 정보가 조회된다")
+        void updateIsVisible(Read read) throws Exception {
+                String loginId = nextLoginId();
+                long id = create(loginId, "수정전");
+                assertThat(read(read, id, loginId, MemberGrade.EGG)).isEqualTo("수정전");
+
+                MemberUpdateRequest update = MemberUpdateRequest.builder()
+                                .name("수정후")
+                                .email(loginId + "@example.com")
+                                .phoneNumber("010-1234-5678")
+                                .build();
+                mockMvc.perform(put("/api/members/{id}", id)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(update)))
+                                .andReturn();
+
+                assertThat(read(read, id, loginId, MemberGrade.EGG)).isEqualTo("수정후");
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @EnumSource(Read.class)
+        @DisplayName("등급 변경 후 바로 새 등급으로 조회된다")
+        void gradeChangeIsVisible(Read read) throws Exception {
+                String loginId = nextLoginId();
+                long id = create(loginId, "등급변경");
+                read(read, id, loginId, MemberGrade.EGG);
+                read(read, id, loginId, MemberGrade.CHICK);
+
+                mockMvc.perform(put("/api/members/{id}/grade", id).param("grade", MemberGrade.CHICK.name()))
+                                .andReturn();
+
+                assertThat(gradeOf(id)).isEqualTo(MemberGrade.CHICK.name());
+                assertThat(read(read, id, loginId, MemberGrade.CHICK)).isEqualTo("등급변경");
+                if (read == Read.BY_GRADE) {
+                        assertThat(read(read, id, loginId, MemberGrade.EGG)).isNull();
+                }
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @EnumSource(Read.class)
+        @DisplayName("회원 삭제 후 바로 조회되지 않는다")
+        void deleteIsVisible(Read read) throws Exception {
+                String loginId = nextLoginId();
+                long id = create(loginId, "삭제대상");
+                assertThat(read(read, id, loginId, MemberGrade.EGG)).isEqualTo("삭제대상");
+
+                mockMvc.perform(delete("/api/members/{id}", id)).andReturn();
+
+                assertThat(read(read, id, loginId, MemberGrade.EGG)).isNull();
+        }
+
+        private String read(Read read, long id, String loginId, MemberGrade grade) throws Exception {
+                return switch (read) {
+                        case BY_ID -> single(get("/api/members/{id}", id));
+                        case BY_LOGIN_ID -> single(get("/api/members/login/{loginId}", loginId));
+                        case ALL -> find(json(get("/api/members")), id);
+                        case PAGED -> find(json(get("/api/members/paged").param("size", "100")).get("content"), id);
+                        case PAGED_WITHOUT_COUNT -> find(json(get("/api/members/paged")
+                                        .param("size", "100").param("withCount", "false")).get("content"), id);
+                        case CURSOR -> findByCursor(id);
+                        case BY_GRADE -> find(json(get("/api/members/grade/{grade}", grade)), id);
+                        case SEARCH -> find(json(get("/api/members/search").param("keyword", loginId)), id);
+                };
+        }
+
+        private String gradeOf(long id) throws Exception {
+                return json(get("/api/members/{id}", id)).get("grade").asText();
+        }
+
+        private String single(RequestBuilder request) throws Exception {
+                MockHttpServletResponse response = mockMvc.perform(request).andReturn().getResponse();
+                if (response.getStatus() != 200) {
+                        return null;
+                }
+                return objectMapper.readTree(response.getContentAsString(StandardCharsets.UTF_8)).get("name").asText();
+        }
+
+        private JsonNode json(RequestBuilder request) throws Exception {
+                MockHttpServletResponse response = mockMvc.perform(request).andReturn().getResponse();
+                assertThat(response.getStatus()).isEqualTo(200);
+                return objectMapper.readTree(response.getContentAsString(StandardCharsets.UTF_8));
+        }
+
+        /**
+         * 커서 페이지를 끝까지 따라가며 찾음 (ID 오름차순이라 새 회원은 뒤쪽 페이지에 있음)
+         */
+        private String findByCursor(long id) throws Exception {
+                String cursor = null;
+                do {
+                        MockHttpServletRequestBuilder request = get("/api/members/cursor").param("size", "100");
+                        if (cursor != null) {
+                                request.param("cursor", cursor);
+                        }
+                        JsonNode page = json(request);
+                        String name = find(page.get("content"), id);
+                        if (name != null) {
+                                return name;
+                        }
+                        cursor = page.path("nextCursor").isTextual() ? page.get("nextCursor").asText() : null;
+                } while (cursor != null);
+                return null;
+        }
+
+        private static String find(JsonNode members, long id) {
+                for (JsonNode member : members) {
+                        if (member.get("id").asLong() == id) {
+                                return member.get("name").asText();
+                        }
+                }
+                return null;
+        }
+
+        private long create(String loginId, String name) throws Exception {
+                MemberCreateRequest request = MemberCreateRequest.builder()
+                                .loginId(loginId)
+                                .password("Password123!")
+                                .name(name)
+                                .birthYear(1995)
+                                .build();
+                MockHttpServletResponse response = mockMvc.perform(post("/api/members")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(request)))
+                                .andReturn().getResponse();
+                assertThat(response.getStatus()).isEqualTo(201);
+                return objectMapper.readTree(response.getContentAsString(StandardCharsets.UTF_8)).get("id").asLong();
+        }
+
+        private static String nextLoginId() {
+                return "cache" + SEQUENCE.incrementAndGet();
+        }
+}
@@ -6,13 +6,13 @@ import com.friendlyI.backend.dto.MemberCreateRequest;
 import com.friendlyI.backend.dto.MemberResponse;
 import com.friendlyI.backend.dto.MemberUpdateRequest;
 import com.friendlyI.backend.entity.MemberGrade;
-import com.friendlyI.backend.exception.DuplicateResourceException;
-import com.friendlyI.backend.exception.ResourceNotFoundException;
+import com.friendlyI.backend.exception.MemberNotFoundException;
 import com.friendlyI.backend.service.MemberService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
@@ -29,6 +29,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(MemberController.class)
+@AutoConfigureMockMvc(addFilters = false)
 @ActiveProfiles("test")
 @DisplayName("MemberController 테스트")
 class MemberControllerTest {
@@ -46,13 +47,27 @@ class MemberControllerTest {
 
         @BeforeEach
         void setUp() {
-                testMemberDto = MemberResponse.builder()
-                                .id(1L)
-                                .loginId("testuser")
-                                .name("테스트유저")
-                                .email("test@example.com")
-                                .phoneNumber("010-1234-5678")
-                                .grade(MemberGrade.EGG)
+                testMemberDto = member(1L, "testuser", "테스트유저", MemberGrade.EGG);
+                testMemberDto.setEmail("test@example.com");
+                testMemberDto.setPhoneNumber("010-1234-5678");
+        }
+
+        private static MemberResponse member(Long id, String loginId, String name, MemberGrade grade) {
+                MemberResponse response = new MemberResponse();
+                response.setId(id);
+                response.setLoginId(loginId);
+                response.setName(name);
+                response.setBirthYear(1995);
+                response.setGrade(grade);
+                return response;
+        }
+
+        private static MemberCreateRequest validCreateRequest(String loginId) {
+                return MemberCreateRequest.builder()
+                                .loginId(loginId)
+                                .password("Password123!")
+                                .name("새유저")
+                                .birthYear(1995)
                                 .build();
         }
 
@@ -60,33 +75,28 @@ class MemberControllerTest {
         @DisplayName("회원 생성 - 성공")
         void createMember_Success() throws Exception {
                 // given
-                MemberCreateDto createDto = MemberCreateDto.builder()
-                                .loginId("newuser")
-                                .password("password123")
-                                .name("새유저")
-                                .birthYear(1995)
-                                .build();
+                MemberCreateRequest createRequest = validCreateRequest("newuser");
 
-                given(memberService.createMember(any(MemberCreateDto.class))).willReturn(testMemberDto);
+                given(memberService.createMember(any(MemberCreateRequest.class))).willReturn(testMemberDto);
 
                 // when & then
                 mockMvc.perform(post("/api/members")
                                 .contentType(MediaType.APPLICATION_JSON)
-                                .content(objectMapper.writeValueAsString(createDto)))
+                                .content(objectMapper.writeValueAsString(createRequest)))
                                 .andDo(print())
                                 .andExpect(status().isCreated())
-                                .andExpected(jsonPath("$.loginId").value("testuser"))
+                                .andExpect(jsonPath("$.loginId").value("testuser"))
                                 .andExpect(jsonPath("$.name").value("테스트유저"))
                                 .andExpect(jsonPath("$.grade").value("EGG"));
 
-                verify(memberService).createMember(any(MemberCreateDto.class));
+                verify(memberService).createMember(any(MemberCreateRequest.class));
         }
 
         @Test
         @DisplayName("회원 생성 - 실패 (잘못된 입력)")
         void createMember_InvalidInput() throws Exception {
                 // given
-                MemberCreateDto invalidDto = MemberCreateDto.builder()
+                MemberCreateRequest invalidRequest = MemberCreateRequest.builder()
                                 .loginId("") // 빈 값
                                 .password("123") // 너무 짧음
                                 .name("") // 빈 값
@@ -96,7 +106,7 @@ class MemberControllerTest {
                 // when & then
                 mockMvc.perform(post("/api/members")
                                 .contentType(MediaType.APPLICATION_JSON)
-                                .content(objectMapper.writeValueAsString(invalidDto)))
+                                .content(objectMapper.writeValueAsString(invalidRequest)))
                                 .andDo(print())
                                 .andExpect(status().isBadRequest())
                                 .andExpect(jsonPath("$.errors").exists());
@@ -108,23 +118,18 @@ class MemberControllerTest {
         @DisplayName("회원 생성 - 실패 (중복된 로그인 ID)")
         void createMember_DuplicateLoginId() throws Exception {
                 // given
-                MemberCreateDto createDto = MemberCreateDto.builder()
-                                .loginId("existinguser")
-                                .password("password123")
-                                .name("새유저")
-                                .birthYear(1995)
-                                .build();
+                MemberCreateRequest createRequest = validCreateRequest("existinguser");
 
-                given(memberService.createMember(any(MemberCreateDto.class)))
-                                .willThrow(new DuplicateResourceException("이미 존재하는 로그인 ID입니다"));
+                given(memberService.createMember(any(MemberCreateRequest.class)))
+                                .willThrow(new IllegalArgumentException("이미 존재하는 로그인 ID입니다."));
 
                 // when & then
                 mockMvc.perform(post("/api/members")
                                 .contentType(MediaType.APPLICATION_JSON)
-                                .content(objectMapper.writeValueAsString(createDto)))
+                                .content(objectMapper.writeValueAsString(createRequest)))
                                 .andDo(print())
-                                .andExpect(status().isConflict())
-                                .andExpect(jsonPath("$.message").value("이미 존재하는 로그인 ID입니다"));
+                                .andExpect(status().isBadRequest())
+                                .andExpect(content().string("이미 존재하는 로그인 ID입니다."));
         }
 
         @Test
@@ -139,7 +144,7 @@ class MemberControllerTest {
                                 .andDo(print())
                                 .andExpect(status().isOk())
                                 .andExpect(jsonPath("$.id").value(1))
-                                .andExpected(jsonPath("$.loginId").value("testuser"))
+                                .andExpect(jsonPath("$.loginId").value("testuser"))
                                 .andExpect(jsonPath("$.name").value("테스트유저"));
 
                 verify(memberService).getMemberById(memberId);
@@ -151,13 +156,13 @@ class MemberControllerTest {
                 // given
                 Long memberId = 999L;
                 given(memberService.getMemberById(memberId))
-                                .willThrow(new ResourceNotFoundException("회원을 찾을 수 없습니다"));
+                                .willThrow(new MemberNotFoundException(memberId));
 
                 // when & then
                 mockMvc.perform(get("/api/members/{id}", memberId))
                                 .andDo(print())
                                 .andExpect(status().isNotFound())
-                                .andExpect(jsonPath("$.message").value("회원을 찾을 수 없습니다"));
+                                .andExpect(jsonPath("$.error").value("MEMBER_NOT_FOUND"));
         }
 
         @Test
@@ -171,7 +176,7 @@ class MemberControllerTest {
                 mockMvc.perform(get("/api/members/login/{loginId}", loginId))
                                 .andDo(print())
                                 .andExpect(status().isOk())
-                                .andExpected(jsonPath("$.loginId").value("testuser"))
+                                .andExpect(jsonPath("$.loginId").value("testuser"))
                                 .andExpect(jsonPath("$.name").value("테스트유저"));
 
                 verify(memberService).getMemberByLoginId(loginId);
@@ -181,15 +186,9 @@ class MemberControllerTest {
         @DisplayName("전체 회원 조회")
         void getAllMembers_Success() throws Exception {
                 // given
-                MemberSummaryDto member2 = MemberSummaryDto.builder()
-                                .id(2L)
-                                .loginId("user2")
-                                .name("유저2")
-                                .birthYear(1985)
-                                .grade(MemberGrade.HATCHING_CHICK)
-                                .build();
+                MemberResponse member2 = member(2L, "user2", "유저2", MemberGrade.HATCHING);
 
-                List<MemberSummaryDto> members = Arrays.asList(testMemberDto, member2);
+                List<MemberResponse> members = Arrays.asList(testMemberDto, member2);
                 given(memberService.getAllMembers()).willReturn(members);
 
                 // when & then
@@ -209,34 +208,46 @@ class MemberControllerTest {
         void updateMember_Success() throws Exception {
                 // given
                 Long memberId = 1L;
-                MemberUpdateDto updateDto = MemberUpdateDto.builder()
+                MemberUpdateRequest updateRequest = MemberUpdateRequest.builder()
                                 .name("수정된이름")
-                                .birthYear(1992)
-                                .grade(MemberGrade.HATCHING_CHICK)
+                                .email("updated@example.com")
+                                .phoneNumber("010-9876-5432")
                                 .build();
 
-                MemberSummaryDto updatedMember = MemberSummaryDto.builder()
-                                .id(memberId)
-                                .loginId("testuser")
-                                .name("수정된이름")
-                                .birthYear(1992)
-                                .grade(MemberGrade.HATCHING_CHICK)
-                                .build();
+                MemberResponse updatedMember = member(memberId, "testuser", "수정된이름", MemberGrade.EGG);
+                updatedMember.setEmail("updated@example.com");
 
-                given(memberService.updateMember(eq(memberId), any(MemberUpdateDto.class)))
+                given(memberService.updateMember(eq(memberId), any(MemberUpdateRequest.class)))
                                 .willReturn(updatedMember);
 
                 // when & then
                 mockMvc.perform(put("/api/members/{id}", memberId)
                                 .contentType(MediaType.APPLICATION_JSON)
-                                .content(objectMapper.writeValueAsString(updateDto)))
+                                .content(objectMapper.writeValueAsString(updateRequest)))
                                 .andDo(print())
                                 .andExpect(status().isOk())
                                 .andExpect(jsonPath("$.name").value("수정된이름"))
-                                .andExpect(jsonPath("$.birthYear").value(1992))
-                                .andExpect(jsonPath("$.grade").value("HATCHING_CHICK"));
+                                .andExpect(jsonPath("$.email").value("updated@example.com"));
 
-                verify(memberService).updateMember(eq(memberId), any(MemberUpdateDto.class));
+                verify(memberService).updateMember(eq(memberId), any(MemberUpdateRequest.class));
+        }
+
+        @Test
+        @DisplayName("회원 등급 변경 - 성공")
+        void upgradeGrade_Success() throws Exception {
+                // given
+                Long memberId = 1L;
+                MemberResponse upgradedMember = member(memberId, "testuser", "테스트유저", MemberGrade.CHICK);
+                given(memberService.upgradeGrade(memberId, MemberGrade.CHICK)).willReturn(upgradedMember);
+
+                // when & then
+                mockMvc.perform(put("/api/members/{id}/grade", memberId)
+                                .param("grade", "CHICK"))
+                                .andDo(print())
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.grade").value("CHICK"));
+
+                verify(memberService).upgradeGrade(memberId, MemberGrade.CHICK);
         }
 
         @Test
@@ -259,7 +270,7 @@ class MemberControllerTest {
         void getMembersByGrade_Success() throws Exception {
                 // given
                 MemberGrade grade = MemberGrade.EGG;
-                List<MemberSummaryDto> members = Arrays.asList(testMemberDto);
+                List<MemberResponse> members = Arrays.asList(testMemberDto);
                 given(memberService.getMembersByGrade(grade)).willReturn(members);
 
                 // when & then
@@ -274,87 +285,23 @@ class MemberControllerTest {
         }
 
         @Test
-        @DisplayName("이름으로 회원 검색")
-        void searchMembersByName_Success() throws Exception {
+        @DisplayName("키워드로 회원 검색")
+        void searchMembers_Success() throws Exception {
                 // given
-                String searchTerm = "테스트";
-                List<MemberSummaryDto> searchResults = Arrays.asList(testMemberDto);
-                given(memberService.searchMembersByName(searchTerm)).willReturn(searchResults);
+                String keyword = "테스트";
+                List<MemberResponse> searchResults = Arrays.asList(testMemberDto);
+                given(memberService.searchMembers(keyword)).willReturn(searchResults);
 
                 // when & then
                 mockMvc.perform(get("/api/members/search")
-                                .param("name", searchTerm))
-                                .andDo(print())
-                                .andExpect(status().isOk())
-                                .andExpected(jsonPath("$").isArray())
-                                .andExpect(jsonPath("$.length()").value(1))
-                                .andExpect(jsonPath("$[0].name").value("테스트유저"));
-
-                verify(memberService).searchMembersByName(searchTerm);
-        }
-
-        @Test
-        @DisplayName("관리자 회원 조회")
-        void getAdminMembers_Success() throws Exception {
-                // given
-                MemberSummaryDto adminMember = MemberSummaryDto.builder()
-                                .id(2L)
-                                .loginId("admin")
-                                .name("관리자")
-                                .birthYear(1980)
-                                .grade(MemberGrade.ROOSTER)
-                                .build();
-
-                List<MemberSummaryDto> admins = Arrays.asList(adminMember);
-                given(memberService.getAdminMembers()).willReturn(admins);
-
-                // when & then
-                mockMvc.perform(get("/api/members/admins"))
+                                .param("keyword", keyword))
                                 .andDo(print())
                                 .andExpect(status().isOk())
                                 .andExpect(jsonPath("$").isArray())
                                 .andExpect(jsonPath("$.length()").value(1))
-                                .andExpect(jsonPath("$[0].grade").value("ROOSTER"));
-
-                verify(memberService).getAdminMembers();
-        }
-
-        @Test
-        @DisplayName("로그인 검증")
-        void validateLogin_Success() throws Exception {
-                // given
-                String loginId = "testuser";
-                String password = "password123";
-                given(memberService.validateLogin(loginId, password)).willReturn(true);
-
-                // when & then
-                mockMvc.perform(post("/api/members/login")
-                                .param("loginId", loginId)
-                                .param("password", password))
-                                .andDo(print())
-                                .andExpect(status().isOk())
-                                .andExpect(jsonPath("$.success").value(true));
-
-                verify(memberService).validateLogin(loginId, password);
-        }
-
-        @Test
-        @DisplayName("로그인 검증 - 실패")
-        void validateLogin_Failed() throws Exception {
-                // given
-                String loginId = "testuser";
-                String password = "wrongpassword";
-                given(memberService.validateLogin(loginId, password)).willReturn(false);
-
-                // when & then
-                mockMvc.perform(post("/api/members/login")
-                                .param("loginId", loginId)
-                                .param("password", password))
-                                .andDo(print())
-                                .andExpect(status().isUnauthorized())
-                                .andExpect(jsonPath("$.success").value(false));
+                                .andExpect(jsonPath("$[0].name").value("테스트유저"));
 
-                verify(memberService).validateLogin(loginId, password);
+                verify(memberService).searchMembers(keyword);
         }
 
         @Test
@@ -372,16 +319,11 @@ class MemberControllerTest {
         @DisplayName("Content-Type 누락")
         void createMember_MissingContentType() throws Exception {
                 // given
-                MemberCreateDto createDto = MemberCreateDto.builder()
-                                .loginId("newuser")
-                                .password("password123")
-                                .name("새유저")
-                                .birthYear(1995)
-                                .build();
+                MemberCreateRequest createRequest = validCreateRequest("newuser");
 
                 // when & then
                 mockMvc.perform(post("/api/members")
-                                .content(objectMapper.writeValueAsString(createDto)))
+                                .content(objectMapper.writeValueAsString(createRequest)))
                                 .andDo(print())
                                 .andExpect(status().isUnsupportedMediaType());
 
@@ -400,4 +342,4 @@ class MemberControllerTest {
 
                 verify(memberService, never()).createMember(any());
         }
-}
\ No newline at end of file
+}
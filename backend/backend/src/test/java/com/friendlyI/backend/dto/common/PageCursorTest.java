@@ -0,0 +1,121 @@
+package com.friendlyI.backend.dto.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 커서 토큰과 키셋 페이지 응답 테스트
+ * 정렬 키 왕복 변환, 잘못된 커서 거절, 페이지 크기 보정, 마지막 페이지의 nextCursor를 확인한다.
+ */
+@DisplayName("커서 페이지네이션 테스트")
+class PageCursorTest {
+
+        @Test
+        @DisplayName("날짜/일시와 ID로 만든 커서는 같은 값으로 해석된다")
+        void encodeDecode_RoundTrip() {
+                LocalDate date = LocalDate.of(2025, 3, 1);
+                LocalDateTime appliedAt = LocalDateTime.of(2025, 3, 1, 10, 15, 30, 123_456_000);
+
+                PageCursor byDate = PageCursor.decode(PageCursor.encode(date, 42L), 2);
+                PageCursor byDateTime = PageCursor.decode(PageCursor.encode(appliedAt, 7L), 2);
+
+                assertThat(byDate.getDate(0)).isEqualTo(date);
+                assertThat(byDate.getLong(1)).isEqualTo(42L);
+                assertThat(byDateTime.getDateTime(0)).isEqualTo(appliedAt);
+                assertThat(byDateTime.getLong(1)).isEqualTo(7L);
+        }
+
+        @Test
+        @DisplayName("커서는 URL에 그대로 쓸 수 있는 문자만 쓴다")
+        void encode_UrlSafe() {
+                String token = PageCursor.encode(LocalDateTime.of(2025, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+                assertThat(token).matches("[A-Za-z0-9_-]+");
+        }
+
+        @ParameterizedTest
+        @ValueSource(strings = { "!!!", "not base64", "%ZZ" })
+        @DisplayName("Base64가 아닌 커서는 IllegalArgumentException")
+        void decode_NotBase64_Rejected(String token) {
+                assertThatThrownBy(() -> PageCursor.decode(token, 1))
+                                .isInstanceOf(IllegalArgumentException.class)
+                                .hasMessage("잘못된 커서입니다.");
+        }
+
+        @Test
+        @DisplayName("정렬 키 개수가 다르거나 값 형식이 틀린 커서는 IllegalArgumentException")
+        void decode_WrongShape_Rejected() {
+                assertThatThrownBy(() -> PageCursor.decode(PageCursor.encode(1L), 2))
+                                .isInstanceOf(IllegalArgumentException.class);
+                assertThatThrownBy(() -> PageCursor.decode(PageCursor.encode("a", "b", "c"), 2))
+                                .isInstanceOf(IllegalArgumentException.class);
+                assertThatThrownBy(() -> PageCursor.decode(raw("abc"), 1).getLong(0))
+                                .isInstanceOf(IllegalArgumentException.class);
+                assertThatThrownBy(() -> PageCursor.decode(raw("2025-13-01|1"), 2).getDate(0))
+                                .isInstanceOf(IllegalArgumentException.class);
+                assertThatThrownBy(() -> PageCursor.decode(raw("yesterday|1"), 2).getDateTime(0))
+                                .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @ParameterizedTest(name = "{0} -> {1}")
+        @CsvSource({ "-5, 1", "0, 1", "1, 1", "20, 20", "100, 100", "101, 100", "10000, 100" })
+        @DisplayName("페이지 크기는 1 ~ MAX_PAGE_SIZE로 보정한다")
+        void normalizeSize_Clamped(int requested, int expected) {
+                assertThat(PageCursor.normalizeSize(requested)).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("빈 커서는 첫 페이지다")
+        void isFirstPage_BlankCursor() {
+                assertThat(PageCursor.isFirstPage(null)).isTrue();
+                assertThat(PageCursor.isFirstPage(" ")).isTrue();
+                assertThat(PageCursor.isFirstPage(PageCursor.encode(1L))).isFalse();
+        }
+
+        @Test
+        @DisplayName("size + 1 건을 읽었으면 size 건만 담고 마지막 항목으로 다음 커서를 만든다")
+        void ofKeyset_MoreRows_HasNextCursor() {
+                PageResponse<String> page = PageResponse.ofKeyset(List.of(1L, 2L, 3L), 2, true,
+                                id -> "item" + id, id -> PageCursor.encode(id));
+
+                assertThat(page.getContent()).containsExactly("item1", "item2");
+                assertThat(page.isHasNext()).isTrue();
+                assertThat(page.isLast()).isFalse();
+                assertThat(page.isFirst()).isTrue();
+                assertThat(page.isHasPrevious()).isFalse();
+                assertThat(PageCursor.decode(page.getNextCursor(), 1).getLong(0)).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("마지막 페이지는 nextCursor가 없다 (딱 size 건이어도)")
+        void ofKeyset_LastPage_NoNextCursor() {
+                PageResponse<String> exact = PageResponse.ofKeyset(List.of(3L, 4L), 2, false,
+                                id -> "item" + id, id -> PageCursor.encode(id));
+                PageResponse<String> empty = PageResponse.ofKeyset(List.<Long>of(), 2, false,
+                                id -> "item" + id, id -> PageCursor.encode(id));
+
+                assertThat(exact.getContent()).containsExactly("item3", "item4");
+                assertThat(exact.getNextCursor()).isNull();
+                assertThat(exact.isLast()).isTrue();
+                assertThat(exact.isHasNext()).isFalse();
+                assertThat(exact.isHasPrevious()).isTrue();
+                assertThat(empty.getContent()).isEmpty();
+                assertThat(empty.getNextCursor()).isNull();
+        }
+
+        private static String raw(String value) {
+                return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+        }
+}
@@ -0,0 +1,134 @@
+package com.friendlyI.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.friendlyI.backend.dto.MemberCreateRequest;
+import com.friendlyI.backend.entity.ActivityLog;
+import com.friendlyI.backend.entity.MemberGrade;
+import com.friendlyI.backend.repository.ActivityLogRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.friendlyI.backend.support.ConcurrentRunner.runConcurrently;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("활동 로그 파이프라인 부하 테스트")
+class ActivityLogPipelineLoadTest {
+
+        private static final int REQUESTS = 60;
+        private static final int CLIENT_THREADS = 16;
+
+        @Autowired
+        private MockMvc mockMvc;
+
+        @Autowired
+        private ObjectMapper objectMapper;
+
+        @Autowired
+        private ActivityLogRepository activityLogRepository;
+
+        @Autowired
+        private ActivityLogWriter activityLogWriter;
+
+        @Autowired
+        private MeterRegistry meterRegistry;
+
+        @Test
+        @DisplayName("동시 회원 가입 요청의 활동 로그가 모두 요청별 메타데이터와 함께 기록된다")
+        void concurrentSignups_AllActivityLogsPersistedWithOwnMetadata() throws Exception {
+                // given
+                String suffix = Long.toString(System.nanoTime(), 36);
+                suffix = suffix.substring(suffix.length() - 5);
+                double droppedBefore = droppedCount();
+
+                List<String> loginIds = new ArrayList<>();
+                List<Runnable> requests = new ArrayList<>();
+                for (int i = 0; i < REQUESTS; i++) {
+                        String loginId = "log_" + suffix + "_" + i;
+                        String clientIp = "10.20.0." + i;
+                        String userAgent = "load-client/" + i;
+                        loginIds.add(loginId);
+                        requests.add(() -> signUp(loginId, clientIp, userAgent));
+                }
+
+                // when
+                List<Throwable> failures = runConcurrently(requests, CLIENT_THREADS);
+                awaitFlushed(loginIds.size(), suffix);
+
+                // then
+                Map<String, ActivityLog> logs = findLogs(suffix).stream()
+                                .collect(Collectors.toMap(ActivityLog::getMemberLoginId, Function.identity()));
+
+                assertThat(failures).isEmpty();
+                assertThat(logs).hasSize(REQUESTS);
+                assertThat(droppedCount()).isEqualTo(droppedBefore);
+                for (int i = 0; i < REQUESTS; i++) {
+                        ActivityLog log = logs.get(loginIds.get(i));
+                        assertThat(log.getActivityType()).isEqualTo(ActivityLog.ActivityType.MEMBER_CREATE);
+                        assertThat(log.getIpAddress()).isEqualTo("10.20.0." + i);
+                        assertThat(log.getUserAgent()).isEqualTo("load-client/" + i);
+                        assertThat(log.getRequestUri()).isEqualTo("/api/members");
+                        assertThat(log.getHttpMethod()).isEqualTo("POST");
+                }
+        }
+
+        private void signUp(String loginId, String clientIp, String userAgent) {
+                MemberCreateRequest request = MemberCreateRequest.builder()
+                                .loginId(loginId)
+                                .password("Password123!")
+                                .name("부하테스트")
+                                .birthYear(1995)
+                                .grade(MemberGrade.EGG)
+                                .build();
+                try {
+                        mockMvc.perform(post("/api/members")
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .header("X-Forwarded-For", clientIp + ", 172.16.0.1")
+                                        .header("User-Agent", userAgent)
+                                        .content(objectMapper.writeValueAsString(request)))
+                                        .andExpect(status().isCreated());
+                } catch (Exception e) {
+                        throw new IllegalStateException(e);
+                }
+        }
+
+        private void awaitFlushed(int expected, String suffix) throws InterruptedException {
+                long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(30);
+                while (System.currentTimeMillis() < deadline) {
+                        if (activityLogWriter.getBacklog() == 0 && findLogs(suffix).size() >= expected) {
+                                return;
+                        }
+                        Thread.sleep(100);
+                }
+        }
+
+        private List<ActivityLog> findLogs(String suffix) {
+                return activityLogRepository.findAll().stream()
+                                .filter(log -> log.getMemberLoginId().startsWith("log_" + suffix + "_"))
+                                .toList();
+        }
+
+        private double droppedCount() {
+                return meterRegistry.find("activity_log.dropped").counters().stream()
+                                .mapToDouble(counter -> counter.count())
+                                .sum();
+        }
+}
@@ -0,0 +1,145 @@
+package com.friendlyI.backend.service;
+
+import com.friendlyI.backend.config.RequestMetadata;
+import com.friendlyI.backend.entity.ActivityLog;
+import com.friendlyI.backend.repository.ActivityLogRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 활동 로그 기록 테스트
+ * 컬럼보다 긴 요청 메타데이터는 잘라서 기록하고, 묶음 기록이 실패하면 문제 있는 로그만 버리는지,
+ * 늦게 저장돼도 기록 요청 시각을 유지하는지 확인한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("활동 로그 기록 테스트")
+class ActivityLogWriterTest {
+
+        @Autowired
+        private ActivityLogService activityLogService;
+
+        @Autowired
+        private ActivityLogWriter activityLogWriter;
+
+        @Autowired
+        private ActivityLogRepository activityLogRepository;
+
+        @Autowired
+        private MeterRegistry meterRegistry;
+
+        @Test
+        @DisplayName("컬럼 길이를 넘는 User-Agent와 IP는 잘라서 기록한다")
+        void longRequestMetadata_Truncated() throws InterruptedException {
+                String loginId = uniqueLoginId("truncate");
+                String userAgent = "Mozilla/5.0 ".repeat(100);
+                String ipAddress = "2001:0db8:85a3:0000:0000:8a2e:0370:7334, 203.0.113.7";
+                RequestMetadata metadata = new RequestMetadata(ipAddress, userAgent, "/api/members", "POST");
+
+                RequestMetadata.callWith(metadata, () -> {
+                        activityLogService.logActivity(1L, loginId, ActivityLog.ActivityType.MEMBER_CREATE, "회원 가입");
+                        return null;
+                });
+
+                ActivityLog log = awaitLogs(loginId, 1).get(0);
+                assertThat(log.getUserAgent()).hasSize(500).isEqualTo(userAgent.substring(0, 500));
+                assertThat(log.getIpAddress()).hasSize(45).isEqualTo(ipAddress.substring(0, 45));
+                assertThat(log.getRequestUri()).isEqualTo("/api/members");
+        }
+
+        @Test
+        @DisplayName("묶음 기록이 실패하면 한 건씩 다시 기록해 문제 있는 로그만 버린다")
+        void failedBatch_RetriedRowByRow() throws InterruptedException {
+                String loginId = uniqueLoginId("retry");
+                double droppedBefore = droppedByFlushError();
+
+                // 회원 ID가 없는 로그는 NOT NULL 제약으로 실패한다
+                activityLogWriter.submit(log(1L, loginId));
+                activityLogWriter.submit(log(null, loginId));
+                activityLogWriter.submit(log(2L, loginId));
+
+                List<ActivityLog> logs = awaitLogs(loginId, 2);
+                awaitDropped(droppedBefore + 1);
+
+                assertThat(logs).extracting(ActivityLog::getMemberId).containsExactlyInAnyOrder(1L, 2L);
+                // 기록 요청 시각 없이 넣은 로그는 저장 시각으로 채운다
+                assertThat(logs).extracting(ActivityLog::getCreatedAt).doesNotContainNull();
+                assertThat(droppedByFlushError()).isEqualTo(droppedBefore + 1);
+        }
+
+        @Test
+        @DisplayName("버퍼에서 늦게 저장돼도 created_at은 기록 요청 시각이다")
+        void delayedFlush_KeepsSubmitTime() throws InterruptedException {
+                String serviceLoginId = uniqueLoginId("submit_time");
+                LocalDateTime before = LocalDateTime.now();
+                activityLogService.logActivity(1L, serviceLoginId, ActivityLog.ActivityType.VIEW, "조회");
+                LocalDateTime after = LocalDateTime.now();
+
+                // 저장이 한참 늦어진 경우 (밀린 버퍼, 한 건씩 재시도)
+                String writerLoginId = uniqueLoginId("submitted_earlier");
+                LocalDateTime submittedAt = LocalDateTime.of(2025, 1, 1, 9, 0, 0);
+                activityLogWriter.submit(ActivityLog.builder()
+                                .memberId(1L)
+                                .memberLoginId(writerLoginId)
+                                .activityType(ActivityLog.ActivityType.VIEW)
+                                .description("조회")
+                                .createdAt(submittedAt)
+                                .build());
+
+                assertThat(awaitLogs(serviceLoginId, 1).get(0).getCreatedAt())
+                                .isBetween(before.truncatedTo(ChronoUnit.MILLIS), after.plus(1, ChronoUnit.MILLIS));
+                assertThat(awaitLogs(writerLoginId, 1).get(0).getCreatedAt()).isEqualTo(submittedAt);
+        }
+
+        private static ActivityLog log(Long memberId, String loginId) {
+                return ActivityLog.builder()
+                                .memberId(memberId)
+                                .memberLoginId(loginId)
+                                .activityType(ActivityLog.ActivityType.VIEW)
+                                .description("조회")
+                                .build();
+        }
+
+        private List<ActivityLog> awaitLogs(String loginId, int expected) throws InterruptedException {
+                long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+                List<ActivityLog> logs = findLogs(loginId);
+                while (logs.size() < expected && System.currentTimeMillis() < deadline) {
+                        Thread.sleep(50);
+                        logs = findLogs(loginId);
+                }
+                assertThat(logs).hasSize(expected);
+                return logs;
+        }
+
+        private void awaitDropped(double expected) throws InterruptedException {
+                long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+                while (droppedByFlushError() < expected && System.currentTimeMillis() < deadline) {
+                        Thread.sleep(50);
+                }
+        }
+
+        private List<ActivityLog> findLogs(String loginId) {
+                return activityLogRepository.findAll().stream()
+                                .filter(log -> log.getMemberLoginId().equals(loginId))
+                                .toList();
+        }
+
+        private double droppedByFlushError() {
+                return meterRegistry.counter("activity_log.dropped", "reason", "flush_error").count();
+        }
+
+        private static String uniqueLoginId(String prefix) {
+                return "writer_" + prefix + "_" + System.nanoTime();
+        }
+}
@@ -0,0 +1,127 @@
+package com.friendlyI.backend.service;
+
+import com.friendlyI.backend.config.security.JwtTokenUtil;
+import com.friendlyI.backend.dto.LoginRequest;
+import com.friendlyI.backend.dto.LoginResponse;
+import com.friendlyI.backend.entity.RevokedRefreshToken;
+import com.friendlyI.backend.exception.UnauthorizedException;
+import com.friendlyI.backend.repository.RevokedRefreshTokenRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.reset;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("리프레시 토큰 회전/폐기 테스트")
+class AuthServiceRefreshTokenTest {
+
+        @Autowired
+        private AuthService authService;
+
+        @Autowired
+        private JwtTokenUtil jwtTokenUtil;
+
+        @SpyBean
+        private RevokedRefreshTokenRepository revokedRefreshTokenRepository;
+
+        @Test
+        @DisplayName("재발급하면 새 토큰을 받고, 사용한 리프레시 토큰은 다시 쓸 수 없다")
+        void refreshRotatesToken() {
+                LoginResponse login = login();
+
+                LoginResponse refreshed = authService.refresh(login.getRefreshToken());
+
+                assertThat(refreshed.getToken()).isNotBlank();
+                assertThat(refreshed.getRefreshToken()).isNotEqualTo(login.getRefreshToken());
+                assertThat(refreshed.getUser().getLoginId()).isEqualTo("admin");
+                assertThatThrownBy(() -> authService.refresh(login.getRefreshToken()))
+                                .isInstanceOf(UnauthorizedException.class);
+        }
+
+        @Test
+        @DisplayName("폐기된 리프레시 토큰이 재사용되면 같은 묶음의 최신 토큰도 폐기된다")
+        void reuseRevokesFamily() {
+                LoginResponse login = login();
+                LoginResponse refreshed = authService.refresh(login.getRefreshToken());
+
+                assertThatThrownBy(() -> authService.refresh(login.getRefreshToken()))
+                                .isInstanceOf(UnauthorizedException.class);
+                assertThatThrownBy(() -> authService.refresh(refreshed.getRefreshToken()))
+                                .isInstanceOf(UnauthorizedException.class);
+        }
+
+        @Test
+        @DisplayName("로그아웃한 리프레시 토큰으로는 재발급할 수 없고, 다른 로그인 세션은 영향받지 않는다")
+        void logoutRevokesOnlyItsFamily() {
+                LoginResponse loggedOut = login();
+                LoginResponse other = login();
+
+                authService.logout(loggedOut.getRefreshToken());
+
+                assertThatThrownBy(() -> authService.refresh(loggedOut.getRefreshToken()))
+                                .isInstanceOf(UnauthorizedException.class);
+                assertThat(authService.refresh(other.getRefreshToken()).getRefreshToken()).isNotBlank();
+        }
+
+        @Test
+        @DisplayName("액세스 토큰이나 위조된 토큰으로는 재발급할 수 없다")
+        void rejectsNonRefreshTokens() {
+                LoginResponse login = login();
+
+                assertThatThrownBy(() -> authService.refresh(login.getToken()))
+                                .isInstanceOf(UnauthorizedException.class);
+                assertThatThrownBy(() -> authService.refresh(login.getRefreshToken() + "x"))
+                                .isInstanceOf(UnauthorizedException.class);
+        }
+
+        @Test
+        @DisplayName("폐기 기록이 DB 오류로 실패하면 같은 토큰으로 다시 재발급할 수 있다 (재사용으로 오인하지 않음)")
+        void persistFailureDoesNotLeaveTokenRevoked() {
+                LoginResponse login = login();
+                willThrow(new DataAccessResourceFailureException("connection reset"))
+                                .given(revokedRefreshTokenRepository).save(any());
+
+                assertThatThrownBy(() -> authService.refresh(login.getRefreshToken()))
+                                .isInstanceOf(DataAccessResourceFailureException.class);
+                reset(revokedRefreshTokenRepository);
+
+                LoginResponse refreshed = authService.refresh(login.getRefreshToken());
+                assertThat(refreshed.getRefreshToken()).isNotBlank();
+                assertThat(authService.refresh(refreshed.getRefreshToken()).getRefreshToken()).isNotBlank();
+        }
+
+        @Test
+        @DisplayName("다른 인스턴스가 DB에만 기록한 묶음 폐기도 재발급을 막는다 (Redis 복제 미사용)")
+        void familyRevokedOnlyInDatabaseIsRejected() {
+                LoginResponse login = login();
+                String familyId = jwtTokenUtil.parseRefreshToken(login.getRefreshToken()).orElseThrow().familyId();
+                revokedRefreshTokenRepository.save(RevokedRefreshToken.builder()
+                                .tokenId(familyId)
+                                .memberId(1L)
+                                .reason(RevokedRefreshToken.Reason.LOGOUT)
+                                .expiresAt(LocalDateTime.now().plusHours(1))
+                                .build());
+
+                assertThatThrownBy(() -> authService.refresh(login.getRefreshToken()))
+                                .isInstanceOf(UnauthorizedException.class);
+        }
+
+        private LoginResponse login() {
+                LoginRequest request = new LoginRequest();
+                request.setLoginId("admin");
+                request.setPassword("friendlyi2025!");
+                return authService.login(request);
+        }
+}
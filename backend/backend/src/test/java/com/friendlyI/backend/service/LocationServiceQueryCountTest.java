@@ -0,0 +1,140 @@
+package com.friendlyI.backend.service;
+
+import com.friendlyI.backend.config.metrics.RequestSqlStatistics;
+import com.friendlyI.backend.dto.LocationResponse;
+import com.friendlyI.backend.entity.Location;
+import com.friendlyI.backend.entity.Member;
+import com.friendlyI.backend.entity.MemberGrade;
+import com.friendlyI.backend.entity.Reservation;
+import com.friendlyI.backend.repository.LocationRepository;
+import com.friendlyI.backend.repository.MemberRepository;
+import com.friendlyI.backend.repository.ReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("장소 목록 조회 쿼리 수 회귀 테스트")
+class LocationServiceQueryCountTest {
+
+        /** 장소 목록 1회 + 장소별 활성 예약 수 집계 1회 */
+        private static final long LISTING_STATEMENTS = 2;
+
+        @Autowired
+        private LocationService locationService;
+
+        @Autowired
+        private LocationRepository locationRepository;
+
+        @Autowired
+        private ReservationRepository reservationRepository;
+
+        @Autowired
+        private MemberRepository memberRepository;
+
+        private String keyword;
+        private Member creator;
+
+        @BeforeEach
+        void setUp() {
+                keyword = "qc" + Long.toString(System.nanoTime(), 36);
+                creator = memberRepository.save(Member.builder()
+                                .loginId(keyword)
+                                .password("encoded-password")
+                                .name("쿼리수테스트")
+                                .birthYear(1995)
+                                .grade(MemberGrade.EGG)
+                                .build());
+        }
+
+        @Test
+        @DisplayName("장소 수가 늘어도 목록 조회 쿼리 수는 일정하다")
+        void listingStatementCount_IndependentOfLocationCount() {
+                // given
+                createLocations(0, 3);
+                long fewLocationsStatements = countStatements(() -> locationService.searchLocations(keyword));
+
+                createLocations(3, 30);
+                long manyLocationsStatements = countStatements(() -> locationService.searchLocations(keyword));
+
+                // then
+                assertThat(fewLocationsStatements).isEqualTo(LISTING_STATEMENTS);
+                assertThat(manyLocationsStatements).isEqualTo(LISTING_STATEMENTS);
+                assertThat(countStatements(locationService::getAllActiveLocations)).isEqualTo(LISTING_STATEMENTS);
+                assertThat(countStatements(locationService::getAllLocations)).isEqualTo(LISTING_STATEMENTS);
+                assertThat(countStatements(locationService::getLocationsWithActiveReservations))
+                                .isEqualTo(LISTING_STATEMENTS);
+        }
+
+        @Test
+        @DisplayName("집계 쿼리로 조회한 활성 예약 수가 장소별 단건 조회 결과와 같다")
+        void groupedCounts_MatchPerLocationCounts() {
+                // given - 장소 i 에는 i % 3 개의 예약 (예약이 없는 장소 포함)
+                List<Location> locations = createLocations(0, 6);
+
+                // when
+                Map<Long, Long> counts = locationService.searchLocations(keyword).stream()
+                                .collect(Collectors.toMap(LocationResponse::getId,
+                                                LocationResponse::getActiveReservationCount));
+
+                // then
+                assertThat(counts).hasSize(locations.size());
+                for (Location location : locations) {
+                        assertThat(counts.get(location.getId()))
+                                        .isEqualTo(locationRepository.countActiveReservationsByLocation(location.getId()));
+                }
+                List<Long> inUse = locationService.getLocationsWithActiveReservations().stream()
+                                .map(LocationResponse::getId)
+                                .filter(counts::containsKey)
+                                .toList();
+                assertThat(inUse).hasSize(4).allSatisfy(id -> assertThat(counts.get(id)).isPositive());
+        }
+
+        private List<Location> createLocations(int from, int to) {
+                List<Location> locations = new ArrayList<>();
+                for (int i = from; i < to; i++) {
+                        Location location = locationRepository.save(Location.builder()
+                                        .name(keyword + " 회의실 " + i)
+                                        .address("서울시 강남구 테헤란로 123번길 " + i + "층")
+                                        .url("https://naver.me/IgJGvT1Y")
+                                        .isActive(true)
+                                        .build());
+                        for (int r = 0; r < i % 3; r++) {
+                                reservationRepository.save(Reservation.builder()
+                                                .title("쿼리 수 테스트 " + i + "-" + r)
+                                                .location(location)
+                                                .maxCapacity(10)
+                                                .reservationDate(LocalDate.now().plusDays(1 + r))
+                                                .reservationTime(LocalTime.of(10, 0))
+                                                .creator(creator)
+                                                .build());
+                        }
+                        locations.add(location);
+                }
+                return locations;
+        }
+
+        private long countStatements(Supplier<?> action) {
+                RequestSqlStatistics statistics = RequestSqlStatistics.begin();
+                try {
+                        action.get();
+                } finally {
+                        RequestSqlStatistics.end();
+                }
+                return statistics.getStatements();
+        }
+}
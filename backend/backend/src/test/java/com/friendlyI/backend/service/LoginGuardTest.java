@@ -0,0 +1,179 @@
+package com.friendlyI.backend.service;
+
+import com.friendlyI.backend.exception.GlobalExceptionHandler;
+import com.friendlyI.backend.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로그인 무차별 대입 방어 테스트
+ * 윈도우 내 실패 횟수에 따른 차단, 차단 시간 두 배 증가와 상한, 429 + Retry-After 응답을 확인한다.
+ */
+@DisplayName("로그인 무차별 대입 방어 테스트")
+class LoginGuardTest {
+
+        private static final int MAX_FAILURES_PER_LOGIN_ID = 3;
+        private static final int MAX_FAILURES_PER_IP = 5;
+        private static final Duration WINDOW = Duration.ofMinutes(15);
+        private static final Duration BASE_LOCKOUT = Duration.ofSeconds(30);
+        private static final Duration MAX_LOCKOUT = Duration.ofMinutes(2);
+        private static final String IP = "203.0.113.7";
+
+        private MutableClock clock;
+        private LoginGuard loginGuard;
+
+        @BeforeEach
+        void setUp() {
+                clock = new MutableClock();
+                loginGuard = new LoginGuard(new SimpleMeterRegistry(), MAX_FAILURES_PER_LOGIN_ID, MAX_FAILURES_PER_IP,
+                                WINDOW, BASE_LOCKOUT, MAX_LOCKOUT, Duration.ofMinutes(5), 1_000, clock);
+        }
+
+        @Test
+        @DisplayName("윈도우 안에서 한도만큼 실패하면 base-lockout 동안 차단되고, 지나면 다시 허용된다")
+        void lockoutAfterMaxFailures_ReleasedAfterBaseLockout() {
+                fail("member1", MAX_FAILURES_PER_LOGIN_ID - 1);
+                assertThatCode(() -> loginGuard.checkAllowed("member1", IP)).doesNotThrowAnyException();
+
+                fail("member1", 1);
+                assertRetryAfter("member1", BASE_LOCKOUT.toSeconds());
+
+                clock.advance(BASE_LOCKOUT.minusSeconds(10));
+                assertRetryAfter("member1", 10);
+
+                clock.advance(Duration.ofSeconds(10));
+                assertThatCode(() -> loginGuard.checkAllowed("member1", IP)).doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("윈도우가 지난 실패는 세지 않는다")
+        void failuresOutsideWindow_NotCounted() {
+                fail("member1", MAX_FAILURES_PER_LOGIN_ID - 1);
+                clock.advance(WINDOW);
+                fail("member1", 1);
+
+                assertThatCode(() -> loginGuard.checkAllowed("member1", IP)).doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("연속 차단마다 차단 시간이 두 배로 늘고 max-lockout에서 멈춘다")
+        void repeatedLockouts_DoubleUpToMaxLockout() {
+                long[] expectedSeconds = { 30, 60, 120, 120 };
+                for (long expected : expectedSeconds) {
+                        fail("member1", MAX_FAILURES_PER_LOGIN_ID);
+                        assertRetryAfter("member1", expected);
+                        clock.advance(Duration.ofSeconds(expected));
+                }
+        }
+
+        @Test
+        @DisplayName("로그인 성공은 로그인 ID의 실패 기록만 지운다")
+        void success_ResetsLoginIdFailuresOnly() {
+                fail("member1", MAX_FAILURES_PER_LOGIN_ID - 1);
+                loginGuard.recordSuccess("member1");
+                fail("member1", MAX_FAILURES_PER_LOGIN_ID - 1);
+                assertThatCode(() -> loginGuard.checkAllowed("member1", IP)).doesNotThrowAnyException();
+
+                // 이 IP의 실패는 이미 (한도 - 1) * 2 = 4번, 한 번 더 실패하면 IP 차단
+                fail("member2", 1);
+                assertRetryAfter("other-member", BASE_LOCKOUT.toSeconds());
+        }
+
+        @Test
+        @DisplayName("로그인 ID를 바꿔 가며 실패해도 같은 IP는 차단되고, 다른 IP는 영향받지 않는다")
+        void ipLockout_AppliesAcrossLoginIds() {
+                for (int i = 0; i < MAX_FAILURES_PER_IP; i++) {
+                        loginGuard.recordFailure("member" + i, IP);
+                }
+
+                assertRetryAfter("fresh-member", BASE_LOCKOUT.toSeconds());
+                assertThatCode(() -> loginGuard.checkAllowed("fresh-member", "198.51.100.9"))
+                                .doesNotThrowAnyException();
+        }
+
+        @Test
+        @DisplayName("로그인 ID 차단은 대소문자를 구분하지 않는다")
+        void loginIdLockout_CaseInsensitive() {
+                fail("Member1", MAX_FAILURES_PER_LOGIN_ID);
+
+                assertThatThrownBy(() -> loginGuard.checkAllowed("MEMBER1", "198.51.100.9"))
+                                .isInstanceOf(TooManyRequestsException.class);
+        }
+
+        @Test
+        @DisplayName("차단된 로그인은 429와 남은 초를 담은 Retry-After로 응답한다")
+        void lockout_MapsTo429WithRetryAfter() {
+                fail("member1", MAX_FAILURES_PER_LOGIN_ID);
+                clock.advance(Duration.ofMillis(20_500));
+
+                TooManyRequestsException exception = catchTooManyRequests("member1", IP);
+                ResponseEntity<Map<String, Object>> response = new GlobalExceptionHandler()
+                                .handleTooManyRequests(exception);
+
+                assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+                // 남은 9.5초는 올림해 10초
+                assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("10");
+                assertThat(response.getBody()).containsEntry("error", "TOO_MANY_REQUESTS");
+        }
+
+        private void fail(String loginId, int times) {
+                for (int i = 0; i < times; i++) {
+                        loginGuard.recordFailure(loginId, IP);
+                }
+        }
+
+        private void assertRetryAfter(String loginId, long expectedSeconds) {
+                assertThat(catchTooManyRequests(loginId, IP).getRetryAfterSeconds()).isEqualTo(expectedSeconds);
+        }
+
+        private TooManyRequestsException catchTooManyRequests(String loginId, String ipAddress) {
+                try {
+                        loginGuard.checkAllowed(loginId, ipAddress);
+                } catch (TooManyRequestsException e) {
+                        return e;
+                }
+                throw new AssertionError("차단되어야 합니다: " + loginId);
+        }
+
+        /**
+         * 테스트에서 직접 앞으로 돌리는 시계
+         */
+        private static final class MutableClock extends Clock {
+                private Instant now = Instant.parse("2025-01-01T00:00:00Z");
+
+                void advance(Duration duration) {
+                        now = now.plus(duration);
+                }
+
+                @Override
+                public ZoneId getZone() {
+                        return ZoneOffset.UTC;
+                }
+
+                @Override
+                public Clock withZone(ZoneId zone) {
+                        return this;
+                }
+
+                @Override
+                public Instant instant() {
+                        return now;
+                }
+        }
+}
@@ -0,0 +1,183 @@
+package com.friendlyI.backend.service;
+
+import com.friendlyI.backend.exception.GlobalExceptionHandler;
+import com.friendlyI.backend.exception.ServiceBusyException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 비밀번호 해시 서비스 테스트
+ * 다시 해시할 대상 판단, 크기가 제한된 해시 스레드 풀의 거절/대기 시간 초과와 503 응답을 확인한다.
+ * 해시 연산은 gate가 열릴 때까지 멈추는 인코더로 대신해 풀이 가득 찬 상태를 만든다.
+ */
+@DisplayName("비밀번호 해시 서비스 테스트")
+class PasswordHashingServiceTest {
+
+        private static final int MIN_STRENGTH = 10;
+
+        private final BlockingEncoder encoder = new BlockingEncoder();
+        private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        private ThreadPoolTaskExecutor executor;
+
+        @AfterEach
+        void tearDown() {
+                encoder.gate.countDown();
+                if (executor != null) {
+                        executor.shutdown();
+                }
+        }
+
+        @ParameterizedTest(name = "{0} -> {1}")
+        @CsvSource(nullValues = "null", value = {
+                        "null, true",
+                        "$2a$12$abcdefghijklmnopqrstuu, true", // 알고리즘 접두어 없는 기존 해시
+                        "{noop}password, true",
+                        "{bcrypt}not-a-bcrypt-hash, true",
+                        "{bcrypt}$2a$04$abcdefghijklmnopqrstuu, true", // 최소 비용보다 낮음
+                        "{bcrypt}$2a$09$abcdefghijklmnopqrstuu, true",
+                        "{bcrypt}$2a$10$abcdefghijklmnopqrstuu, false",
+                        "{bcrypt}$2b$13$abcdefghijklmnopqrstuu, false" // 더 높은 비용은 그대로 둔다
+        })
+        @DisplayName("측정한 비용과 상관없이 최소 비용보다 낮은 해시와 접두어 없는 해시만 다시 해시한다")
+        void needsRehash_OnlyBelowMinimumCost(String encodedPassword, boolean expected) {
+                // 이 서버가 측정한 비용이 12여도 10 이상인 해시는 다시 만들지 않는다
+                PasswordHashingService service = service(12, 0, 1, 1, Duration.ofSeconds(5));
+
+                assertThat(service.needsRehash(encodedPassword)).isEqualTo(expected);
+        }
+
+        @Test
+        @DisplayName("비용을 지정하면 지정한 비용보다 낮은 해시만 다시 해시한다")
+        void needsRehash_BelowConfiguredStrength() {
+                PasswordHashingService service = service(12, 12, 1, 1, Duration.ofSeconds(5));
+
+                assertThat(service.needsRehash("{bcrypt}$2a$11$abcdefghijklmnopqrstuu")).isTrue();
+                assertThat(service.needsRehash("{bcrypt}$2a$12$abcdefghijklmnopqrstuu")).isFalse();
+                assertThat(service.needsRehash("{bcrypt}$2a$14$abcdefghijklmnopqrstuu")).isFalse();
+        }
+
+        @Test
+        @DisplayName("해시 스레드와 대기열이 모두 차면 기다리지 않고 바로 ServiceBusyException으로 거절한다")
+        void fullPool_RejectsImmediately() throws Exception {
+                PasswordHashingService service = service(10, 0, 1, 1, Duration.ofSeconds(30));
+                encoder.block();
+
+                CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> service.encode("first"));
+                assertThat(encoder.started.await(5, TimeUnit.SECONDS)).isTrue();
+                CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> service.encode("second"));
+                awaitQueued(1);
+
+                long startedAt = System.nanoTime();
+                assertThatThrownBy(() -> service.matches("third", "{bcrypt}hash"))
+                                .isInstanceOf(ServiceBusyException.class);
+                assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(1));
+                assertThat(rejectedCount()).isEqualTo(1);
+
+                encoder.gate.countDown();
+                assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("encoded:first");
+                assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("encoded:second");
+        }
+
+        @Test
+        @DisplayName("대기 시간 안에 해시가 끝나지 않으면 ServiceBusyException으로 거절한다")
+        void waitTimeout_Rejected() {
+                PasswordHashingService service = service(10, 0, 1, 1, Duration.ofMillis(100));
+                encoder.block();
+
+                assertThatThrownBy(() -> service.encode("slow"))
+                                .isInstanceOf(ServiceBusyException.class);
+                assertThat(rejectedCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("ServiceBusyException은 503과 Retry-After로 응답한다")
+        void serviceBusy_MapsTo503WithRetryAfter() {
+                ResponseEntity<Map<String, Object>> response = new GlobalExceptionHandler()
+                                .handleServiceBusy(new ServiceBusyException("요청이 많습니다."));
+
+                assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+                assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+                assertThat(response.getBody()).containsEntry("error", "SERVICE_BUSY");
+        }
+
+        private PasswordHashingService service(int calibratedCost, int configuredStrength, int threads,
+                        int queueCapacity, Duration waitTimeout) {
+                executor = new ThreadPoolTaskExecutor();
+                executor.setCorePoolSize(threads);
+                executor.setMaxPoolSize(threads);
+                executor.setQueueCapacity(queueCapacity);
+                executor.setThreadNamePrefix("PasswordHashingTest-");
+                executor.initialize();
+                return new PasswordHashingService(encoder, executor, calibratedCost, configuredStrength, MIN_STRENGTH,
+                                waitTimeout, meterRegistry);
+        }
+
+        private void awaitQueued(int expected) throws InterruptedException {
+                long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(5);
+                while (executor.getThreadPoolExecutor().getQueue().size() < expected
+                                && System.currentTimeMillis() < deadline) {
+                        Thread.sleep(10);
+                }
+                assertThat(executor.getThreadPoolExecutor().getQueue()).hasSize(expected);
+        }
+
+        private double rejectedCount() {
+                return meterRegistry.counter("password.hash.rejected").count();
+        }
+
+        /**
+         * block() 이후의 해시 연산은 gate가 열릴 때까지 멈추는 인코더
+         */
+        private static final class BlockingEncoder implements PasswordEncoder {
+                private final CountDownLatch started = new CountDownLatch(1);
+                private final CountDownLatch gate = new CountDownLatch(1);
+                private volatile boolean blocking;
+
+                void block() {
+                        blocking = true;
+                }
+
+                @Override
+                public String encode(CharSequence rawPassword) {
+                        await();
+                        return "encoded:" + rawPassword;
+                }
+
+                @Override
+                public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                        await();
+                        return encodedPassword.equals("encoded:" + rawPassword);
+                }
+
+                private void await() {
+                        if (!blocking) {
+                                return;
+                        }
+                        started.countDown();
+                        try {
+                                gate.await(30, TimeUnit.SECONDS);
+                        } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                        }
+                }
+        }
+}
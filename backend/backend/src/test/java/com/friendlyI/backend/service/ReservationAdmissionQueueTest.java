@@ -0,0 +1,250 @@
+package com.friendlyI.backend.service;
+
+import com.friendlyI.backend.dto.AdmissionTicketResponse;
+import com.friendlyI.backend.dto.ReservationApplicationRequest;
+import com.friendlyI.backend.dto.ReservationApplicationResponse;
+import com.friendlyI.backend.entity.AdmissionTicketStatus;
+import com.friendlyI.backend.exception.ReservationApplicationException;
+import com.friendlyI.backend.exception.ReservationNotFoundException;
+import com.friendlyI.backend.exception.ServiceBusyException;
+import com.friendlyI.backend.repository.ReservationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 예약 신청 대기열 테스트
+ * 도착 순서 처리와 대기 순번, 대기열 한도, 티켓 상태, 종료 시 남은 티켓 처리를 확인한다.
+ * 신청 처리는 목으로 대신하고, 첫 신청에서 워커를 멈춰 대기 중인 상태를 만든다.
+ */
+@DisplayName("예약 신청 대기열 테스트")
+class ReservationAdmissionQueueTest {
+
+        private static final Long RESERVATION_ID = 10L;
+        private static final Long OTHER_RESERVATION_ID = 20L;
+        private static final Long MISSING_RESERVATION_ID = 99L;
+
+        private final List<Long> processedMemberIds = new CopyOnWriteArrayList<>();
+        private final CountDownLatch firstStarted = new CountDownLatch(1);
+        private final CountDownLatch gate = new CountDownLatch(1);
+
+        private ReservationApplicationService applicationService;
+        private ReservationRepository reservationRepository;
+        private ThreadPoolTaskExecutor executor;
+        private ReservationAdmissionQueue queue;
+
+        @BeforeEach
+        void setUp() {
+                applicationService = mock(ReservationApplicationService.class);
+                reservationRepository = mock(ReservationRepository.class);
+                given(reservationRepository.existsById(anyLong()))
+                                .willAnswer(invocation -> !MISSING_RESERVATION_ID.equals(invocation.getArgument(0)));
+                // 첫 신청은 gate가 열릴 때까지 처리 중에 머문다
+                given(applicationService.applyForReservation(any())).willAnswer(invocation -> {
+                        ReservationApplicationRequest request = invocation.getArgument(0);
+                        if (firstStarted.getCount() > 0) {
+                                firstStarted.countDown();
+                                gate.await(30, TimeUnit.SECONDS);
+                        }
+                        if (request.getMemberId() < 0) {
+                                throw new ReservationApplicationException("이미 신청한 예약입니다.");
+                        }
+                        processedMemberIds.add(request.getMemberId());
+                        ReservationApplicationResponse response = new ReservationApplicationResponse();
+                        response.setId(request.getMemberId());
+                        return response;
+                });
+
+                executor = new ThreadPoolTaskExecutor();
+                executor.setCorePoolSize(1);
+                executor.setMaxPoolSize(1);
+                executor.setQueueCapacity(0);
+                executor.setThreadNamePrefix("AdmissionQueueTest-");
+                executor.initialize();
+        }
+
+        @AfterEach
+        void tearDown() {
+                gate.countDown();
+                if (queue != null) {
+                        queue.stop();
+                }
+                executor.shutdown();
+        }
+
+        @Test
+        @DisplayName("신청은 도착 순서대로 처리되고, 대기 중인 티켓은 앞선 신청 수로 순번을 알려준다")
+        void processesInArrivalOrder_ReportsQueuePosition() throws InterruptedException {
+                queue = start(2, 100, Duration.ofSeconds(10));
+
+                List<AdmissionTicketResponse> tickets = new ArrayList<>();
+                for (long memberId = 1; memberId <= 5; memberId++) {
+                        tickets.add(queue.enqueue(request(memberId, RESERVATION_ID)));
+                }
+                assertThat(firstStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+                for (int i = 0; i < tickets.size(); i++) {
+                        AdmissionTicketResponse ticket = queue.getTicket(tickets.get(i).getTicketId()).orElseThrow();
+                        assertThat(ticket.getStatus()).isEqualTo(AdmissionTicketStatus.QUEUED);
+                        assertThat(ticket.getQueuePosition()).isEqualTo(i + 1);
+                }
+
+                gate.countDown();
+                for (AdmissionTicketResponse ticket : tickets) {
+                        AdmissionTicketResponse done = awaitProcessed(ticket.getTicketId());
+                        assertThat(done.getStatus()).isEqualTo(AdmissionTicketStatus.COMPLETED);
+                        assertThat(done.getQueuePosition()).isNull();
+                        assertThat(done.getApplication().getId()).isEqualTo(done.getMemberId());
+                }
+                assertThat(processedMemberIds).containsExactly(1L, 2L, 3L, 4L, 5L);
+                awaitNoActiveLanes();
+        }
+
+        @Test
+        @DisplayName("예약별 대기열이 가득 차면 거절하고, 다른 예약은 영향받지 않는다")
+        void rejectsWhenLaneFull() throws InterruptedException {
+                queue = start(1, 2, Duration.ofSeconds(10));
+
+                queue.enqueue(request(1L, RESERVATION_ID));
+                assertThat(firstStarted.await(5, TimeUnit.SECONDS)).isTrue();
+                queue.enqueue(request(2L, RESERVATION_ID));
+                queue.enqueue(request(3L, RESERVATION_ID));
+
+                assertThatThrownBy(() -> queue.enqueue(request(4L, RESERVATION_ID)))
+                                .isInstanceOf(ReservationApplicationException.class)
+                                .hasMessageContaining("가득 찼습니다");
+                AdmissionTicketResponse other = queue.enqueue(request(5L, OTHER_RESERVATION_ID));
+
+                gate.countDown();
+                assertThat(awaitProcessed(other.getTicketId()).getStatus()).isEqualTo(AdmissionTicketStatus.COMPLETED);
+                assertThat(processedMemberIds).containsExactlyInAnyOrder(1L, 2L, 3L, 5L);
+        }
+
+        @Test
+        @DisplayName("처리에 실패한 티켓은 사유와 함께 실패로, 없는 티켓은 빈 결과로, 없는 예약은 등록 시 거절한다")
+        void ticketStatus_FailedUnknownAndMissingReservation() {
+                queue = start(50, 100, Duration.ofSeconds(10));
+                gate.countDown();
+
+                AdmissionTicketResponse ok = queue.enqueue(request(1L, RESERVATION_ID));
+                AdmissionTicketResponse duplicate = queue.enqueue(request(-1L, RESERVATION_ID));
+
+                assertThat(awaitProcessed(ok.getTicketId()).getStatus()).isEqualTo(AdmissionTicketStatus.COMPLETED);
+                AdmissionTicketResponse failed = awaitProcessed(duplicate.getTicketId());
+                assertThat(failed.getStatus()).isEqualTo(AdmissionTicketStatus.FAILED);
+                assertThat(failed.getErrorMessage()).isEqualTo("이미 신청한 예약입니다.");
+                assertThat(failed.getProcessedAt()).isNotNull();
+
+                assertThat(queue.getTicket("unknown-ticket")).isEmpty();
+                assertThatThrownBy(() -> queue.enqueue(request(2L, MISSING_RESERVATION_ID)))
+                                .isInstanceOf(ReservationNotFoundException.class);
+                awaitNoActiveLanes();
+        }
+
+        @Test
+        @DisplayName("종료하면 대기 중인 신청을 처리한 뒤 멈춘다")
+        void stop_DrainsQueuedTickets() throws InterruptedException {
+                queue = start(1, 100, Duration.ofSeconds(10));
+                List<String> ticketIds = LongStream.rangeClosed(1, 4)
+                                .mapToObj(memberId -> queue.enqueue(request(memberId, RESERVATION_ID)).getTicketId())
+                                .toList();
+                assertThat(firstStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+                Thread.ofPlatform().start(() -> {
+                        sleep(200);
+                        gate.countDown();
+                });
+                queue.stop();
+
+                assertThat(queue.isRunning()).isFalse();
+                assertThat(ticketIds).allSatisfy(ticketId -> assertThat(queue.getTicket(ticketId).orElseThrow()
+                                .getStatus()).isEqualTo(AdmissionTicketStatus.COMPLETED));
+                assertThat(processedMemberIds).containsExactly(1L, 2L, 3L, 4L);
+        }
+
+        @Test
+        @DisplayName("제한 시간 안에 처리하지 못한 티켓은 실패로 표시하고, 종료 후 신청은 거절한다")
+        void stop_FailsUnprocessedTicketsAfterTimeout() throws InterruptedException {
+                queue = start(1, 100, Duration.ofMillis(200));
+                String inFlight = queue.enqueue(request(1L, RESERVATION_ID)).getTicketId();
+                assertThat(firstStarted.await(5, TimeUnit.SECONDS)).isTrue();
+                List<String> waiting = List.of(
+                                queue.enqueue(request(2L, RESERVATION_ID)).getTicketId(),
+                                queue.enqueue(request(3L, OTHER_RESERVATION_ID)).getTicketId());
+
+                long startedAt = System.nanoTime();
+                queue.stop();
+
+                assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofSeconds(5));
+                assertThat(waiting).allSatisfy(ticketId -> {
+                        AdmissionTicketResponse ticket = queue.getTicket(ticketId).orElseThrow();
+                        assertThat(ticket.getStatus()).isEqualTo(AdmissionTicketStatus.FAILED);
+                        assertThat(ticket.getErrorMessage()).isEqualTo(ReservationAdmissionQueue.SHUTDOWN_MESSAGE);
+                });
+                assertThatThrownBy(() -> queue.enqueue(request(4L, RESERVATION_ID)))
+                                .isInstanceOf(ServiceBusyException.class);
+
+                // 처리 중이던 신청은 끝까지 처리된다
+                gate.countDown();
+                assertThat(awaitProcessed(inFlight).getStatus()).isEqualTo(AdmissionTicketStatus.COMPLETED);
+                assertThat(processedMemberIds).containsExactly(1L);
+        }
+
+        private ReservationAdmissionQueue start(int batchSize, int maxPending, Duration shutdownTimeout) {
+                ReservationAdmissionQueue started = new ReservationAdmissionQueue(applicationService,
+                                reservationRepository, executor, 1, batchSize, maxPending, Duration.ofMinutes(30),
+                                1_000, shutdownTimeout);
+                started.start();
+                return started;
+        }
+
+        private AdmissionTicketResponse awaitProcessed(String ticketId) {
+                long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+                AdmissionTicketResponse ticket = queue.getTicket(ticketId).orElseThrow();
+                while (ticket.getStatus() == AdmissionTicketStatus.QUEUED && System.currentTimeMillis() < deadline) {
+                        sleep(20);
+                        ticket = queue.getTicket(ticketId).orElseThrow();
+                }
+                return ticket;
+        }
+
+        private void awaitNoActiveLanes() {
+                long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+                while (queue.getActiveLaneCount() > 0 && System.currentTimeMillis() < deadline) {
+                        sleep(20);
+                }
+                assertThat(queue.getActiveLaneCount()).isZero();
+        }
+
+        private static ReservationApplicationRequest request(Long memberId, Long reservationId) {
+                ReservationApplicationRequest request = new ReservationApplicationRequest();
+                request.setMemberId(memberId);
+                request.setReservationId(reservationId);
+                return request;
+        }
+
+        private static void sleep(long millis) {
+                try {
+                        Thread.sleep(millis);
+                } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                }
+        }
+}
@@ -0,0 +1,201 @@
+package com.friendlyI.backend.service;
+
+import com.friendlyI.backend.dto.ReservationApplicationRequest;
+import com.friendlyI.backend.dto.ReservationCreateRequest;
+import com.friendlyI.backend.dto.ReservationResponse;
+import com.friendlyI.backend.entity.Member;
+import com.friendlyI.backend.entity.MemberGrade;
+import com.friendlyI.backend.entity.ReservationStatus;
+import com.friendlyI.backend.repository.MemberRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 예약 조회 캐시의 쓰기 후 읽기 일관성 테스트
+ * 조회마다 캐시를 먼저 채운 뒤 예약 생성/수정/삭제, 신청/취소/상태 변경을 하고 바로 다음 조회에 변경이 보이는지 확인한다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("예약 캐시 쓰기 후 읽기 일관성 테스트")
+class ReservationCacheConsistencyTest {
+
+        private static final Long ADMIN_ID = 1L;
+        private static final LocalDate DATE = LocalDate.now().plusDays(7);
+        private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+        @Autowired
+        private ReservationService reservationService;
+
+        @Autowired
+        private ReservationApplicationService applicationService;
+
+        @Autowired
+        private MemberRepository memberRepository;
+
+        /**
+         * 캐시되는 예약 조회 목록 (예약이 보이면 그 응답, 안 보이면 null)
+         */
+        enum Read {
+                BY_ID, BY_DATE, ALL, AVAILABLE, FUTURE
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @EnumSource(Read.class)
+        @DisplayName("예약 생성 후 바로 조회된다")
+        void createIsVisible(Read read) {
+                Long warmId = createReservation("기존 예약", 5);
+                read(read, warmId, DATE);
+
+                Long id = createReservation("새 예약", 5);
+
+                assertThat(read(read, id, DATE).getTitle()).isEqualTo("새 예약");
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @EnumSource(Read.class)
+        @DisplayName("예약 수정 후 바로 새 정보와 새 날짜로 조회된다")
+        void updateIsVisible(Read read) {
+                Long id = createReservation("수정 전", 5);
+                LocalDate movedDate = DATE.plusDays(1);
+                read(read, id, DATE);
+                read(read, id, movedDate);
+
+                reservationService.updateReservation(id, request("수정 후", 5, movedDate));
+
+                assertThat(read(read, id, movedDate).getTitle()).isEqualTo("수정 후");
+                if (read == Read.BY_DATE) {
+                        assertThat(read(read, id, DATE)).isNull();
+                }
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @EnumSource(Read.class)
+        @DisplayName("예약 삭제 후 바로 조회되지 않는다")
+        void deleteIsVisible(Read read) {
+                Long id = createReservation("삭제 대상", 5);
+                assertThat(read(read, id, DATE)).isNotNull();
+
+                reservationService.deleteReservation(id);
+
+                assertThat(read(read, id, DATE)).isNull();
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @EnumSource(Read.class)
+        @DisplayName("신청으로 마지막 좌석이 차면 바로 확정 인원과 예약 가능 목록에 반영된다")
+        void applyIsVisible(Read read) {
+                Long id = createReservation("신청 대상", 2);
+                assertThat(read(read, id, DATE).getConfirmedCount()).isEqualTo(1);
+
+                apply(id);
+
+                if (read == Read.AVAILABLE) {
+                        assertThat(read(read, id, DATE)).isNull();
+                } else {
+                        assertThat(read(read, id, DATE).getConfirmedCount()).isEqualTo(2);
+                        assertThat(read(read, id, DATE).isFullyBooked()).isTrue();
+                }
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @EnumSource(Read.class)
+        @DisplayName("신청 취소 후 바로 확정 인원이 줄고 다시 예약 가능 목록에 보인다")
+        void cancelIsVisible(Read read) {
+                Long id = createReservation("취소 대상", 2);
+                Long applicationId = apply(id);
+                read(read, id, DATE);
+
+                applicationService.cancelApplication(applicationId);
+
+                assertThat(read(read, id, DATE).getConfirmedCount()).isEqualTo(1);
+        }
+
+        @ParameterizedTest(name = "{0}")
+        @EnumSource(Read.class)
+        @DisplayName("신청 상태 변경으로 대기자가 승격되면 바로 확정/대기 인원이 바뀐다")
+        void statusChangeIsVisible(Read read) {
+                Long id = createReservation("상태 변경 대상", 2);
+                Long confirmedId = apply(id);
+                apply(id); // 대기
+                read(read, id, DATE);
+
+                applicationService.updateApplicationStatus(confirmedId, ReservationStatus.CANCELLED);
+
+                if (read == Read.AVAILABLE) {
+                        assertThat(read(read, id, DATE)).isNull();
+                } else {
+                        ReservationResponse reservation = read(read, id, DATE);
+                        assertThat(reservation.getConfirmedCount()).isEqualTo(2);
+                        assertThat(reservation.getWaitingCount()).isZero();
+                }
+        }
+
+        private ReservationResponse read(Read read, Long id, LocalDate date) {
+                return switch (read) {
+                        case BY_ID -> byId(id);
+                        case BY_DATE -> find(reservationService.getReservationsByDate(date), id);
+                        case ALL -> find(reservationService.getAllReservations(), id);
+                        case AVAILABLE -> find(reservationService.getAvailableReservations(), id);
+                        case FUTURE -> find(reservationService.getFutureReservations(), id);
+                };
+        }
+
+        private ReservationResponse byId(Long id) {
+                try {
+                        return reservationService.getReservationById(id);
+                } catch (IllegalArgumentException e) {
+                        return null;
+                }
+        }
+
+        private static ReservationResponse find(List<ReservationResponse> reservations, Long id) {
+                return reservations.stream()
+                                .filter(reservation -> reservation.getId().equals(id))
+                                .findFirst()
+                                .orElse(null);
+        }
+
+        private Long createReservation(String title, int maxCapacity) {
+                return reservationService.createReservation(request(title, maxCapacity, DATE), ADMIN_ID).getId();
+        }
+
+        private Long apply(Long reservationId) {
+                Member member = memberRepository.save(Member.builder()
+                                .loginId("rescache_" + SEQUENCE.incrementAndGet() + "_" + System.nanoTime())
+                                .password("encoded-password")
+                                .name("신청자")
+                                .birthYear(1995)
+                                .grade(MemberGrade.EGG)
+                                .build());
+                ReservationApplicationRequest request = new ReservationApplicationRequest();
+                request.setMemberId(member.getId());
+                request.setReservationId(reservationId);
+                return applicationService.applyForReservation(request).getId();
+        }
+
+        private static ReservationCreateRequest request(String title, int maxCapacity, LocalDate date) {
+                ReservationCreateRequest.LocationInfo location = new ReservationCreateRequest.LocationInfo();
+                location.setName("회의실 A");
+                location.setAddress("서울시 강남구 테헤란로 123번길 1층");
+                location.setUrl("https://naver.me/IgJGvT1Y");
+
+                ReservationCreateRequest request = new ReservationCreateRequest();
+                request.setTitle(title);
+                request.setMaxCapacity(maxCapacity);
+                request.setReservationDate(date);
+                request.setReservationTime(LocalTime.of(10, 0));
+                request.setLocations(List.of(location));
+                return request;
+        }
+}
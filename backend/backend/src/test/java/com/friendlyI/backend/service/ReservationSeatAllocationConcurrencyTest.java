@@ -0,0 +1,197 @@
+package com.friendlyI.backend.service;
+
+import com.friendlyI.backend.dto.ReservationApplicationRequest;
+import com.friendlyI.backend.dto.ReservationApplicationResponse;
+import com.friendlyI.backend.dto.ReservationCreateRequest;
+import com.friendlyI.backend.dto.ReservationResponse;
+import com.friendlyI.backend.entity.Member;
+import com.friendlyI.backend.entity.MemberGrade;
+import com.friendlyI.backend.entity.Reservation;
+import com.friendlyI.backend.entity.ReservationApplication;
+import com.friendlyI.backend.entity.ReservationStatus;
+import com.friendlyI.backend.exception.ReservationApplicationException;
+import com.friendlyI.backend.repository.MemberRepository;
+import com.friendlyI.backend.repository.ReservationApplicationRepository;
+import com.friendlyI.backend.repository.ReservationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.friendlyI.backend.support.ConcurrentRunner.runConcurrently;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("예약 좌석 배정 동시성 테스트")
+class ReservationSeatAllocationConcurrencyTest {
+
+        private static final int APPLICANTS = 500;
+        private static final int MAX_CAPACITY = 20;
+
+        @Autowired
+        private ReservationApplicationService applicationService;
+
+        @Autowired
+        private ReservationService reservationService;
+
+        @Autowired
+        private MemberRepository memberRepository;
+
+        @Autowired
+        private ReservationRepository reservationRepository;
+
+        @Autowired
+        private ReservationApplicationRepository applicationRepository;
+
+        @Test
+        @DisplayName("500명이 동시에 신청해도 정원을 초과해 확정되지 않는다")
+        void concurrentApplicants_NeverOverbook() throws Exception {
+                // given
+                List<Member> applicants = createMembers("stress", APPLICANTS);
+                Long reservationId = createReservation(applicants.get(0).getId(), "동시 신청 테스트");
+
+                // when
+                List<Throwable> failures = runConcurrently(applicants.subList(1, applicants.size()).stream()
+                                .map(member -> (Runnable) () -> apply(member.getId(), reservationId))
+                                .toList());
+
+                // then
+                Reservation reservation = reservationRepository.findById(reservationId).orElseThrow();
+                long confirmed = countByStatus(reservation, ReservationStatus.CONFIRMED);
+                long waiting = countByStatus(reservation, ReservationStatus.WAITING);
+
+                assertThat(failures).isEmpty();
+                assertThat(confirmed).isEqualTo(MAX_CAPACITY);
+                assertThat(waiting).isEqualTo(APPLICANTS - MAX_CAPACITY);
+                assertThat(reservation.getConfirmedCount()).isEqualTo(confirmed);
+                assertThat(reservation.getWaitingCount()).isEqualTo(waiting);
+        }
+
+        @Test
+        @DisplayName("같은 회원의 동시 중복 신청은 한 건만 처리된다")
+        void duplicateConcurrentApplications_OnlyOneSucceeds() throws Exception {
+                // given
+                Member creator = createMembers("dup_creator", 1).get(0);
+                Member applicant = createMembers("dup_applicant", 1).get(0);
+                Long reservationId = createReservation(creator.getId(), "중복 신청 테스트");
+                AtomicInteger rejected = new AtomicInteger();
+
+                List<Runnable> tasks = new ArrayList<>();
+                for (int i = 0; i < 50; i++) {
+                        tasks.add(() -> {
+                                try {
+                                        apply(applicant.getId(), reservationId);
+                                } catch (ReservationApplicationException e) {
+                                        rejected.incrementAndGet();
+                                }
+                        });
+                }
+
+                // when
+                List<Throwable> failures = runConcurrently(tasks);
+
+                // then
+                Reservation reservation = reservationRepository.findById(reservationId).orElseThrow();
+                assertThat(failures).isEmpty();
+                assertThat(rejected.get()).isEqualTo(49);
+                assertThat(countByStatus(reservation, ReservationStatus.CONFIRMED)).isEqualTo(2);
+                assertThat(reservation.getConfirmedCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("확정/대기 신청이 동시에 취소되어도 빈 좌석만큼 선착순으로 승격된다")
+        void concurrentCancellations_PromoteWaitingInOrder() throws Exception {
+                // given - 확정 20명(생성자 포함), 대기 40명
+                List<Member> applicants = createMembers("promote", 60);
+                Long reservationId = createReservation(applicants.get(0).getId(), "대기자 승격 테스트");
+
+                List<ReservationApplicationResponse> confirmedApplications = new ArrayList<>();
+                List<ReservationApplicationResponse> waitingApplications = new ArrayList<>();
+                for (Member member : applicants.subList(1, applicants.size())) {
+                        ReservationApplicationResponse response = apply(member.getId(), reservationId);
+                        (response.getStatus() == ReservationStatus.CONFIRMED ? confirmedApplications : waitingApplications)
+                                        .add(response);
+                }
+
+                List<Runnable> cancellations = new ArrayList<>();
+                confirmedApplications.subList(0, 10)
+                                .forEach(a -> cancellations.add(() -> applicationService.cancelApplication(a.getId())));
+                waitingApplications.subList(waitingApplications.size() - 10, waitingApplications.size())
+                                .forEach(a -> cancellations.add(() -> applicationService.cancelApplication(a.getId())));
+
+                // when
+                List<Throwable> failures = runConcurrently(cancellations);
+
+                // then
+                Reservation reservation = reservationRepository.findById(reservationId).orElseThrow();
+                List<ReservationApplication> confirmed = applicationRepository.findByReservationAndStatus(reservation,
+                                ReservationStatus.CONFIRMED);
+                List<ReservationApplication> waiting = applicationRepository.findByReservationAndStatus(reservation,
+                                ReservationStatus.WAITING);
+
+                assertThat(failures).isEmpty();
+                assertThat(confirmed).hasSize(MAX_CAPACITY);
+                assertThat(waiting).hasSize(20);
+                assertThat(reservation.getConfirmedCount()).isEqualTo(MAX_CAPACITY);
+                assertThat(reservation.getWaitingCount()).isEqualTo(20);
+
+                Comparator<ReservationApplication> arrivalOrder = Comparator
+                                .comparing(ReservationApplication::getAppliedAt)
+                                .thenComparing(ReservationApplication::getId);
+                ReservationApplication lastConfirmed = confirmed.stream().max(arrivalOrder).orElseThrow();
+                ReservationApplication firstWaiting = waiting.stream().min(arrivalOrder).orElseThrow();
+                assertThat(arrivalOrder.compare(lastConfirmed, firstWaiting)).isNegative();
+        }
+
+        private ReservationApplicationResponse apply(Long memberId, Long reservationId) {
+                ReservationApplicationRequest request = new ReservationApplicationRequest();
+                request.setMemberId(memberId);
+                request.setReservationId(reservationId);
+                return applicationService.applyForReservation(request);
+        }
+
+        private List<Member> createMembers(String prefix, int count) {
+                String suffix = Long.toString(System.nanoTime(), 36);
+                List<Member> members = new ArrayList<>();
+                for (int i = 0; i < count; i++) {
+                        members.add(Member.builder()
+                                        .loginId(prefix + "_" + suffix + "_" + i)
+                                        .password("encoded-password")
+                                        .name("부하테스트" + i)
+                                        .birthYear(1995)
+                                        .grade(MemberGrade.EGG)
+                                        .build());
+                }
+                return memberRepository.saveAll(members);
+        }
+
+        private Long createReservation(Long creatorId, String title) {
+                ReservationCreateRequest.LocationInfo location = new ReservationCreateRequest.LocationInfo();
+                location.setName("회의실 A");
+                location.setAddress("서울시 강남구 테헤란로 123번길 1층");
+                location.setUrl("https://naver.me/IgJGvT1Y");
+
+                ReservationCreateRequest request = new ReservationCreateRequest();
+                request.setTitle(title);
+                request.setMaxCapacity(MAX_CAPACITY);
+                request.setReservationDate(LocalDate.now().plusDays(7));
+                request.setReservationTime(LocalTime.of(10, 0));
+                request.setLocations(List.of(location));
+
+                ReservationResponse response = reservationService.createReservation(request, creatorId);
+                return response.getId();
+        }
+
+        private long countByStatus(Reservation reservation, ReservationStatus status) {
+                return applicationRepository.findByReservationAndStatus(reservation, status).size();
+        }
+}
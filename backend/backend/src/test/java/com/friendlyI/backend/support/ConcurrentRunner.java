@@ -0,0 +1,63 @@
+package com.friendlyI.backend.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시성/부하 테스트용 작업 동시 실행
+ * 스레드가 모두 준비된 뒤 한꺼번에 출발시키고, 작업별 실패(예외)를 모아 돌려준다.
+ */
+public final class ConcurrentRunner {
+
+        private static final long READY_TIMEOUT_SECONDS = 30;
+        private static final long TASK_TIMEOUT_SECONDS = 120;
+
+        private ConcurrentRunner() {
+        }
+
+        /**
+         * 작업마다 스레드 하나씩 동시에 실행
+         */
+        public static List<Throwable> runConcurrently(List<Runnable> tasks) throws InterruptedException {
+                return runConcurrently(tasks, tasks.size());
+        }
+
+        /**
+         * 스레드 threads개로 작업을 동시에 실행 (작업이 스레드보다 많으면 나머지는 차례로 이어서 실행)
+         */
+        public static List<Throwable> runConcurrently(List<Runnable> tasks, int threads) throws InterruptedException {
+                ExecutorService executor = Executors.newFixedThreadPool(threads);
+                CountDownLatch ready = new CountDownLatch(Math.min(threads, tasks.size()));
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<?>> futures = new ArrayList<>();
+                try {
+                        for (Runnable task : tasks) {
+                                futures.add(executor.submit(() -> {
+                                        ready.countDown();
+                                        start.await();
+                                        task.run();
+                                        return null;
+                                }));
+                        }
+                        ready.await(READY_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                        start.countDown();
+
+                        List<Throwable> failures = new ArrayList<>();
+                        for (Future<?> future : futures) {
+                                try {
+                                        future.get(TASK_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                                } catch (Exception e) {
+                                        failures.add(e.getCause() != null ? e.getCause() : e);
+                                }
+                        }
+                        return failures;
+                } finally {
+                        executor.shutdownNow();
+                }
+        }
+}
@@ -0,0 +1,92 @@
+#!/bin/bash
+# 플랫폼 스레드 모드와 가상 스레드 모드를 같은 부하(thread-modes.js)로 차례로 측정해 비교한다.
+# 모드마다 애플리케이션을 새로 띄우고, 부하 중 2초마다 /actuator/metrics 에서 라이브 스레드 수와 힙/비힙 사용량을 모아 최대값을 기록한다.
+#
+# 사용법:
+#   ./compare-thread-modes.sh                  # backend/backend/target/*.jar, 프로필 docker (PostgreSQL/Redis 필요)
+#   JAR=app.jar PROFILE=dev VUS=1000 DURATION=2m ./compare-thread-modes.sh
+# 필요: k6, curl, jq, java 21
+set -euo pipefail
+
+SCRIPT_DIR="$(cd "$(dirname "$0")" && pwd)"
+JAR="${JAR:-$(ls "$SCRIPT_DIR"/../backend/target/backend-*.jar | grep -v original | head -1)}"
+PROFILE="${PROFILE:-docker}"
+PORT="${PORT:-8080}"
+BASE_URL="http://localhost:$PORT"
+VUS="${VUS:-1000}"
+DURATION="${DURATION:-2m}"
+JAVA_OPTS="${JAVA_OPTS:--Xmx768m -Xms256m -XX:+UseG1GC}"
+LOGIN_ID="${LOGIN_ID:-admin}"
+PASSWORD="${PASSWORD:-friendlyi2025!}"
+OUT_DIR="${OUT_DIR:-$SCRIPT_DIR/results/$(date +%Y%m%d-%H%M%S)}"
+
+mkdir -p "$OUT_DIR"
+
+metric() {
+    # metric <이름> [태그] -> 측정값 (VALUE)
+    local query="$1"
+    [ -n "${2:-}" ] && query="$query?tag=$2"
+    curl -sf -H "Authorization: Bearer $TOKEN" "$BASE_URL/actuator/metrics/$query" \
+        | jq '[.measurements[] | select(.statistic == "VALUE")][0].value // 0'
+}
+
+run_mode() {
+    local mode="$1" virtual="$2"
+    local log="$OUT_DIR/$mode-app.log" samples="$OUT_DIR/$mode-samples.csv"
+
+    echo "=== $mode (VIRTUAL_THREADS_ENABLED=$virtual) ==="
+    VIRTUAL_THREADS_ENABLED="$virtual" java $JAVA_OPTS -jar "$JAR" \
+        --spring.profiles.active="$PROFILE" --server.port="$PORT" > "$log" 2>&1 &
+    local app_pid=$!
+    trap "kill $app_pid 2>/dev/null || true" EXIT
+
+    until curl -sf "$BASE_URL/actuator/health" > /dev/null; do
+        kill -0 "$app_pid" 2>/dev/null || { echo "애플리케이션 기동 실패: $log"; exit 1; }
+        sleep 2
+    done
+    TOKEN=$(curl -sf -H 'Content-Type: application/json' \
+        -d "{\"loginId\":\"$LOGIN_ID\",\"password\":\"$PASSWORD\"}" "$BASE_URL/api/auth/login" | jq -r .token)
+
+    echo "time,threads_live,heap_used_bytes,nonheap_used_bytes" > "$samples"
+    (
+        while kill -0 "$app_pid" 2>/dev/null; do
+            echo "$(date +%s),$(metric jvm.threads.live),$(metric jvm.memory.used area:heap),$(metric jvm.memory.used area:nonheap)" >> "$samples" || true
+            sleep 2
+        done
+    ) &
+    local sampler_pid=$!
+
+    k6 run --quiet -e BASE_URL="$BASE_URL" -e VUS="$VUS" -e DURATION="$DURATION" \
+        -e LOGIN_ID="$LOGIN_ID" -e PASSWORD="$PASSWORD" \
+        --summary-export "$OUT_DIR/$mode-k6.json" "$SCRIPT_DIR/thread-modes.js" || true
+
+    kill "$sampler_pid" 2>/dev/null || true
+    kill "$app_pid"
+    wait "$app_pid" 2>/dev/null || true
+    trap - EXIT
+}
+
+summary_row() {
+    local mode="$1" k6="$OUT_DIR/$1-k6.json" samples="$OUT_DIR/$1-samples.csv"
+    printf "%-9s %10s %10s %10s %10s %12s %14s\n" "$mode" \
+        "$(jq '.metrics.http_req_duration["p(95)"] | floor' "$k6")" \
+        "$(jq '.metrics.http_req_duration["p(99)"] | floor' "$k6")" \
+        "$(jq '.metrics.http_reqs.rate | floor' "$k6")" \
+        "$(jq '.metrics.http_req_failed.value * 100 | . * 100 | floor / 100' "$k6")" \
+        "$(tail -n +2 "$samples" | cut -d, -f2 | sort -n | tail -1 | cut -d. -f1)" \
+        "$(tail -n +2 "$samples" | awk -F, '{ m = $3 + $4; if (m > max) max = m } END { printf "%.0f", max / 1048576 }')"
+}
+
+run_mode platform false
+run_mode virtual true
+
+{
+    echo "VUS=$VUS DURATION=$DURATION PROFILE=$PROFILE JAVA_OPTS=$JAVA_OPTS"
+    printf "%-9s %10s %10s %10s %10s %12s %14s\n" mode "p95(ms)" "p99(ms)" "req/s" "fail(%)" "threads(max)" "memory(MB,max)"
+    summary_row platform
+    summary_row virtual
+} | tee "$OUT_DIR/summary.txt"
+
+echo
+echo "가상 스레드 고정 경고:"
+grep -c "가상 스레드 고정" "$OUT_DIR/virtual-app.log" || true
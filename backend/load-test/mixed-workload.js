@@ -0,0 +1,230 @@
+// 시드 데이터(loadtest 프로필) 위에서 신청/취소/목록/검색을 섞어 보내는 부하 시나리오 (k6)
+// VU마다 서로 다른 시드 회원(lt0000001 ~)으로 로그인해 자기 신청을 만들고 취소한다.
+// 요청마다 name 태그를 붙여 엔드포인트별 처리량과 지연 백분위(p50/p95/p99)를 요약에 출력한다.
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e VUS=200 -e DURATION=5m -e SEED_MEMBERS=100000 mixed-workload.js
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+import exec from 'k6/execution';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = parseInt(__ENV.VUS || '200', 10);
+const DURATION = __ENV.DURATION || '5m';
+const SEED_MEMBERS = parseInt(__ENV.SEED_MEMBERS || '100000', 10);
+const SEED_PASSWORD = __ENV.SEED_PASSWORD || 'loadtest2025!';
+const RESERVATION_SAMPLE = parseInt(__ENV.RESERVATION_SAMPLE || '2000', 10);
+const THINK_TIME = parseFloat(__ENV.THINK_TIME || '0.5');
+const SUMMARY_JSON = __ENV.SUMMARY_JSON || '';
+
+// 시드 회원 이름(성 + 이름)으로 검색. 성 + 이름 조합은 300가지라 한 번에 전체 회원의 약 0.3%가 걸린다.
+const SURNAMES = ['김', '이', '박', '최', '정', '강', '조', '윤', '장', '임', '한', '오', '서', '신', '권'];
+const GIVEN_NAMES = ['민준', '서연', '도윤', '하은', '시우', '지유', '예준', '서윤', '하준', '지우',
+    '주원', '수아', '지호', '하린', '준서', '지민', '현우', '채원', '건우', '다은'];
+
+const ENDPOINTS = [
+    { weight: 15, name: 'apply', run: apply },
+    { weight: 10, name: 'cancel', run: cancel },
+    { weight: 15, name: 'reservations_cursor', run: reservationsCursor },
+    { weight: 10, name: 'reservation_detail', run: reservationDetail },
+    { weight: 15, name: 'my_applications', run: myApplications },
+    { weight: 10, name: 'reservation_applicants', run: reservationApplicants },
+    { weight: 15, name: 'member_search', run: memberSearch },
+    { weight: 10, name: 'reservations_by_date', run: reservationsByDate },
+];
+const TOTAL_WEIGHT = ENDPOINTS.reduce((sum, endpoint) => sum + endpoint.weight, 0);
+// 신청은 이미 신청한 예약이면 400, 취소는 이미 취소된 신청이면 400을 돌려주므로 실패로 세지 않는다
+const APPLY_STATUSES = http.expectedStatuses(201, 400);
+const CANCEL_STATUSES = http.expectedStatuses({ min: 200, max: 204 }, 400);
+
+const thresholds = {
+    http_req_failed: ['rate<0.01'],
+};
+for (const endpoint of ENDPOINTS.concat([{ name: 'login' }])) {
+    // 엔드포인트별 하위 메트릭을 요약에 남기기 위해 태그마다 임계값을 둔다
+    thresholds[`http_req_duration{name:${endpoint.name}}`] = ['p(95)<1000'];
+    thresholds[`http_reqs{name:${endpoint.name}}`] = ['count>=0'];
+    thresholds[`http_req_failed{name:${endpoint.name}}`] = ['rate<0.05'];
+}
+
+export const options = {
+    scenarios: {
+        mixed: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: VUS },
+                { duration: DURATION, target: VUS },
+                { duration: '10s', target: 0 },
+            ],
+            gracefulRampDown: '10s',
+        },
+    },
+    summaryTrendStats: ['avg', 'med', 'p(95)', 'p(99)', 'max'],
+    thresholds,
+};
+
+export function setup() {
+    const token = login(1);
+    // 신청 대상 예약 ID를 커서 목록으로 모은다
+    const reservationIds = [];
+    let cursor = '';
+    while (reservationIds.length < RESERVATION_SAMPLE) {
+        const res = http.get(`${BASE_URL}/api/reservations/cursor?size=100${cursor ? `&cursor=${cursor}` : ''}`,
+            { headers: auth(token), tags: { name: 'setup' } });
+        check(res, { 'reservation cursor 200': (r) => r.status === 200 });
+        const page = res.json();
+        page.content.forEach((reservation) => reservationIds.push(reservation.id));
+        if (!page.hasNext) {
+            break;
+        }
+        cursor = encodeURIComponent(page.nextCursor);
+    }
+    if (reservationIds.length === 0) {
+        throw new Error('예약이 없습니다. loadtest 프로필로 시드 데이터를 먼저 생성하세요.');
+    }
+    return { reservationIds };
+}
+
+// VU마다 한 번 로그인한 회원과 만든 신청 ID
+const session = { token: null, memberId: null, applications: [] };
+
+export default function (data) {
+    if (!session.token) {
+        const member = 1 + ((exec.vu.idInTest - 1) % SEED_MEMBERS);
+        session.token = login(member);
+        const me = http.get(`${BASE_URL}/api/auth/me`, { headers: auth(session.token), tags: { name: 'login' } });
+        session.memberId = me.json('id');
+    }
+    pick().run(data);
+    sleep(Math.random() * THINK_TIME);
+}
+
+function apply(data) {
+    const res = http.post(`${BASE_URL}/api/reservation-applications`,
+        JSON.stringify({ memberId: session.memberId, reservationId: randomReservation(data), note: 'k6' }),
+        { headers: json(auth(session.token)), tags: { name: 'apply' }, responseCallback: APPLY_STATUSES });
+    check(res, { 'apply 201/400': (r) => r.status === 201 || r.status === 400 });
+    if (res.status === 201) {
+        session.applications.push(res.json('id'));
+    }
+}
+
+function cancel(data) {
+    if (session.applications.length === 0) {
+        apply(data);
+        return;
+    }
+    const applicationId = session.applications.splice(Math.floor(Math.random() * session.applications.length), 1)[0];
+    const res = http.del(`${BASE_URL}/api/reservation-applications/${applicationId}`, null,
+        { headers: auth(session.token), tags: { name: 'cancel' }, responseCallback: CANCEL_STATUSES });
+    check(res, { 'cancel 2xx/400': (r) => (r.status >= 200 && r.status < 300) || r.status === 400 });
+}
+
+function reservationsCursor() {
+    get('/api/reservations/cursor?size=20', 'reservations_cursor');
+}
+
+function reservationDetail(data) {
+    get(`/api/reservations/${randomReservation(data)}`, 'reservation_detail');
+}
+
+function myApplications() {
+    get(`/api/reservation-applications/member/${session.memberId}/cursor?size=20`, 'my_applications');
+}
+
+function reservationApplicants(data) {
+    get(`/api/reservation-applications/reservation/${randomReservation(data)}/cursor?size=20`, 'reservation_applicants');
+}
+
+function memberSearch() {
+    const keyword = Math.random() < 0.2
+        ? `lt${String(1 + Math.floor(Math.random() * SEED_MEMBERS)).padStart(7, '0')}`
+        : randomItem(SURNAMES) + randomItem(GIVEN_NAMES);
+    get(`/api/members/search?keyword=${encodeURIComponent(keyword)}`, 'member_search');
+}
+
+function reservationsByDate() {
+    const days = Math.floor(Math.random() * 361) - 180;
+    const date = new Date(Date.now() + days * 24 * 60 * 60 * 1000).toISOString().slice(0, 10);
+    get(`/api/reservations/date/${date}`, 'reservations_by_date');
+}
+
+function get(path, name) {
+    const res = http.get(`${BASE_URL}${path}`, { headers: auth(session.token), tags: { name } });
+    check(res, { [`${name} 200`]: (r) => r.status === 200 });
+}
+
+function login(member) {
+    const loginId = `lt${String(member).padStart(7, '0')}`;
+    const res = http.post(`${BASE_URL}/api/auth/login`,
+        JSON.stringify({ loginId, password: SEED_PASSWORD }),
+        { headers: json({}), tags: { name: 'login' } });
+    check(res, { 'login 200': (r) => r.status === 200 });
+    return res.json('token');
+}
+
+function auth(token) {
+    return { Authorization: `Bearer ${token}` };
+}
+
+function json(headers) {
+    return Object.assign({ 'Content-Type': 'application/json' }, headers);
+}
+
+function randomReservation(data) {
+    return randomItem(data.reservationIds);
+}
+
+function randomItem(items) {
+    return items[Math.floor(Math.random() * items.length)];
+}
+
+function pick() {
+    let roll = Math.random() * TOTAL_WEIGHT;
+    for (const endpoint of ENDPOINTS) {
+        roll -= endpoint.weight;
+        if (roll < 0) {
+            return endpoint;
+        }
+    }
+    return ENDPOINTS[ENDPOINTS.length - 1];
+}
+
+// 엔드포인트별 요청 수, 처리량, 지연 백분위, 실패율 표
+export function handleSummary(data) {
+    const seconds = data.state.testRunDurationMs / 1000;
+    const rows = [];
+    for (const endpoint of ENDPOINTS.concat([{ name: 'login' }])) {
+        const duration = data.metrics[`http_req_duration{name:${endpoint.name}}`];
+        const count = data.metrics[`http_reqs{name:${endpoint.name}}`];
+        const failed = data.metrics[`http_req_failed{name:${endpoint.name}}`];
+        if (!duration || !count || count.values.count === 0) {
+            continue;
+        }
+        rows.push({
+            name: endpoint.name,
+            count: count.values.count,
+            rps: count.values.count / seconds,
+            avg: duration.values.avg,
+            p50: duration.values.med,
+            p95: duration.values['p(95)'],
+            p99: duration.values['p(99)'],
+            failPct: failed ? failed.values.rate * 100 : 0,
+        });
+    }
+
+    const header = ['endpoint'.padEnd(24), 'count', 'req/s', 'avg(ms)', 'p50(ms)', 'p95(ms)', 'p99(ms)', 'fail(%)']
+        .map((cell, i) => (i === 0 ? cell : cell.padStart(9))).join(' ');
+    const lines = rows.map((row) => [row.name.padEnd(24), row.count, row.rps.toFixed(1), row.avg.toFixed(1),
+        row.p50.toFixed(1), row.p95.toFixed(1), row.p99.toFixed(1), row.failPct.toFixed(2)]
+        .map((cell, i) => (i === 0 ? cell : String(cell).padStart(9))).join(' '));
+    const total = data.metrics.http_reqs.values;
+    const table = [header, ...lines, '',
+        `total ${total.count} requests, ${total.rate.toFixed(1)} req/s, ${seconds.toFixed(0)}s`, ''].join('\n');
+
+    const output = { stdout: table };
+    if (SUMMARY_JSON) {
+        output[SUMMARY_JSON] = JSON.stringify({ endpoints: rows, k6: data }, null, 2);
+    }
+    return output;
+}
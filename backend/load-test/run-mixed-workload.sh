@@ -0,0 +1,50 @@
+#!/bin/bash
+# 시드 데이터 위에서 신청/취소/목록/검색 혼합 부하(mixed-workload.js)를 실행한다.
+# 1) 시드 데이터가 없으면 loadtest 프로필로 한 번 띄워 생성하고 종료 (LoadTestDataSeeder, 이미 있으면 건너뜀)
+# 2) 같은 DB로 애플리케이션을 다시 띄워 k6를 실행하고 엔드포인트별 처리량/지연 백분위 표를 남긴다.
+#
+# 사용법:
+#   ./run-mixed-workload.sh                                   # H2 파일 DB, 기본 건수 (회원 10만, 예약 5만, 신청 200만, 활동 로그 1000만)
+#   SEED_MEMBERS=20000 SEED_APPLICATIONS=200000 SEED_ACTIVITY_LOGS=500000 VUS=100 DURATION=2m ./run-mixed-workload.sh
+#   LOADTEST_DB_URL='jdbc:postgresql://localhost:5432/friendlyi_loadtest?reWriteBatchedInserts=true' \
+#     LOADTEST_DB_USERNAME=friendlyi LOADTEST_DB_PASSWORD=friendlyi123 ./run-mixed-workload.sh
+# 필요: k6, curl, java 21
+set -euo pipefail
+
+SCRIPT_DIR="$(cd "$(dirname "$0")" && pwd)"
+JAR="${JAR:-$(ls "$SCRIPT_DIR"/../backend/target/backend-*.jar | grep -v original | head -1)}"
+PORT="${PORT:-8080}"
+BASE_URL="http://localhost:$PORT"
+VUS="${VUS:-200}"
+DURATION="${DURATION:-5m}"
+JAVA_OPTS="${JAVA_OPTS:--Xmx1g -Xms512m -XX:+UseG1GC}"
+OUT_DIR="${OUT_DIR:-$SCRIPT_DIR/results/mixed-$(date +%Y%m%d-%H%M%S)}"
+
+export SPRING_PROFILES_ACTIVE=loadtest
+export LOADTEST_DB_URL="${LOADTEST_DB_URL:-jdbc:h2:file:$SCRIPT_DIR/../backend/target/loadtest-db;DB_CLOSE_ON_EXIT=FALSE}"
+export SEED_MEMBERS="${SEED_MEMBERS:-100000}"
+export SEED_PASSWORD="${SEED_MEMBER_PASSWORD:-loadtest2025!}"
+
+mkdir -p "$OUT_DIR"
+
+echo "=== 시드 데이터 생성 ($LOADTEST_DB_URL) ==="
+SEED_ENABLED=true SEED_EXIT=true java $JAVA_OPTS -jar "$JAR" --server.port="$PORT" > "$OUT_DIR/seed.log" 2>&1 \
+    || { echo "시드 실패: $OUT_DIR/seed.log"; exit 1; }
+grep -a "LoadTestDataSeeder" "$OUT_DIR/seed.log" | tail -3
+
+echo "=== 애플리케이션 기동 ==="
+java $JAVA_OPTS -jar "$JAR" --server.port="$PORT" > "$OUT_DIR/app.log" 2>&1 &
+APP_PID=$!
+trap "kill $APP_PID 2>/dev/null || true" EXIT
+until curl -sf "$BASE_URL/actuator/health" > /dev/null; do
+    kill -0 "$APP_PID" 2>/dev/null || { echo "애플리케이션 기동 실패: $OUT_DIR/app.log"; exit 1; }
+    sleep 2
+done
+
+echo "=== 혼합 부하 (VUS=$VUS, DURATION=$DURATION) ==="
+k6 run --quiet -e BASE_URL="$BASE_URL" -e VUS="$VUS" -e DURATION="$DURATION" \
+    -e SEED_MEMBERS="$SEED_MEMBERS" -e SEED_PASSWORD="$SEED_PASSWORD" \
+    -e SUMMARY_JSON="$OUT_DIR/mixed-k6.json" \
+    "$SCRIPT_DIR/mixed-workload.js" | tee "$OUT_DIR/summary.txt" || true
+
+echo "결과: $OUT_DIR"
@@ -0,0 +1,75 @@
+// 플랫폼 스레드 / 가상 스레드 모드 비교용 부하 시나리오 (k6)
+// 동시 사용자 VUS명(기본 1000)이 조회 위주 요청을 보낸다. p99 지연을 보기 위해 summaryTrendStats에 p(99)를 포함한다.
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e VUS=1000 -e DURATION=2m thread-modes.js
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = parseInt(__ENV.VUS || '1000', 10);
+const DURATION = __ENV.DURATION || '2m';
+const LOGIN_ID = __ENV.LOGIN_ID || 'admin';
+const PASSWORD = __ENV.PASSWORD || 'friendlyi2025!';
+
+export const options = {
+    scenarios: {
+        reads: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: VUS },
+                { duration: DURATION, target: VUS },
+                { duration: '10s', target: 0 },
+            ],
+            gracefulRampDown: '10s',
+        },
+    },
+    summaryTrendStats: ['avg', 'med', 'p(90)', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+export function setup() {
+    const res = http.post(`${BASE_URL}/api/auth/login`,
+        JSON.stringify({ loginId: LOGIN_ID, password: PASSWORD }),
+        { headers: { 'Content-Type': 'application/json' } });
+    check(res, { 'login 200': (r) => r.status === 200 });
+    return { token: res.json('token') };
+}
+
+const READS = [
+    { weight: 35, name: 'available', path: () => '/api/reservations/available' },
+    { weight: 20, name: 'future', path: () => '/api/reservations/future' },
+    { weight: 15, name: 'byDate', path: () => `/api/reservations/date/${dateInDays(Math.floor(Math.random() * 14))}` },
+    { weight: 15, name: 'members', path: () => '/api/members/paged?size=20&withCount=false' },
+    { weight: 15, name: 'me', path: () => '/api/auth/me', auth: true },
+];
+const TOTAL_WEIGHT = READS.reduce((sum, read) => sum + read.weight, 0);
+
+export default function (data) {
+    const read = pick();
+    const params = { tags: { name: read.name } };
+    if (read.auth) {
+        params.headers = { Authorization: `Bearer ${data.token}` };
+    }
+    const res = http.get(`${BASE_URL}${read.path()}`, params);
+    check(res, { 'status 200': (r) => r.status === 200 });
+    sleep(Math.random() * 0.5);
+}
+
+function pick() {
+    let roll = Math.random() * TOTAL_WEIGHT;
+    for (const read of READS) {
+        roll -= read.weight;
+        if (roll < 0) {
+            return read;
+        }
+    }
+    return READS[READS.length - 1];
+}
+
+function dateInDays(days) {
+    const date = new Date(Date.now() + days * 24 * 60 * 60 * 1000);
+    return date.toISOString().slice(0, 10);
+}
@@ -1,4 +1,4 @@
-import { LoginRequest, LoginResponse } from '../types';
+import { LoginRequest, LoginResponse, User } from '../types';
 import { apiClient } from './client';
 
 export const authService = {
@@ -8,9 +8,9 @@ export const authService = {
     return response.data;
   },
 
-  // 로그아웃 (서버에 알림)
-  logout: async (): Promise<void> => {
-    await apiClient.post('/auth/logout');
+  // 로그아웃 (서버에 알리고 리프레시 토큰 폐기)
+  logout: async (refreshToken?: string | null): Promise<void> => {
+    await apiClient.post('/auth/logout', refreshToken ? { refreshToken } : undefined);
   },
 
   // 토큰 검증
@@ -24,8 +24,8 @@ export const authService = {
   },
 
   // 현재 사용자 정보 조회
-  getCurrentUser: async (): Promise<LoginResponse> => {
-    const response = await apiClient.get<LoginResponse>('/auth/me');
+  getCurrentUser: async (): Promise<User> => {
+    const response = await apiClient.get<User>('/auth/me');
     return response.data;
   }
 };
\ No newline at end of file
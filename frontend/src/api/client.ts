@@ -1,4 +1,4 @@
-import axios from 'axios';
+import axios, { AxiosRequestConfig } from 'axios';
 
 const api = axios.create({
   baseURL: process.env.REACT_APP_API_BASE_URL || '/api',
@@ -27,20 +27,57 @@ api.interceptors.request.use(
   }
 );
 
+const clearAuthAndRedirect = () => {
+  localStorage.removeItem('authToken');
+  localStorage.removeItem('authRefreshToken');
+  localStorage.removeItem('authUser');
+  window.location.href = '/login';
+};
+
+// 동시에 여러 요청이 401을 받아도 재발급은 한 번만 (리프레시 토큰은 한 번 쓰면 폐기됨)
+let refreshing: Promise<string> | null = null;
+
+const refreshAccessToken = (refreshToken: string): Promise<string> => {
+  if (!refreshing) {
+    refreshing = axios
+      .post(`${api.defaults.baseURL}/auth/refresh`, { refreshToken })
+      .then((response) => {
+        localStorage.setItem('authToken', response.data.token);
+        localStorage.setItem('authRefreshToken', response.data.refreshToken);
+        localStorage.setItem('authUser', JSON.stringify(response.data.user));
+        return response.data.token as string;
+      })
+      .finally(() => {
+        refreshing = null;
+      });
+  }
+  return refreshing;
+};
+
 // 응답 인터셉터
 api.interceptors.response.use(
   (response) => {
     console.log(`API 응답: ${response.status} ${response.config.url}`);
     return response;
   },
-  (error) => {
+  async (error) => {
     console.error('응답 오류:', error.response?.data || error.message);
     
-    // 인증 토큰이 만료된 경우 자동 로그아웃
+    // 액세스 토큰이 만료된 경우 리프레시 토큰으로 한 번 재발급 후 재시도, 실패하면 자동 로그아웃
     if (error.response?.status === 401) {
-      localStorage.removeItem('authToken');
-      localStorage.removeItem('authUser');
-      window.location.href = '/login';
+      const original = error.config as AxiosRequestConfig & { _retried?: boolean };
+      const refreshToken = localStorage.getItem('authRefreshToken');
+      if (refreshToken && original && !original._retried) {
+        original._retried = true;
+        try {
+          // 재시도 요청에는 요청 인터셉터가 새 토큰을 붙임
+          await refreshAccessToken(refreshToken);
+          return api(original);
+        } catch {
+          // 재발급 실패 시 아래에서 로그아웃 처리
+        }
+      }
+      clearAuthAndRedirect();
     }
     
     return Promise.reject(error);
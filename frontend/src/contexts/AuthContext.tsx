@@ -24,6 +24,7 @@ export const AuthProvider: React.FC<AuthProviderProps> = ({ children }) => {
       } catch (error) {
         console.error('사용자 정보 파싱 오류:', error);
         localStorage.removeItem('authToken');
+        localStorage.removeItem('authRefreshToken');
         localStorage.removeItem('authUser');
       }
     }
@@ -37,6 +38,7 @@ export const AuthProvider: React.FC<AuthProviderProps> = ({ children }) => {
       
       // 토큰과 사용자 정보를 localStorage에 저장
       localStorage.setItem('authToken', response.token);
+      localStorage.setItem('authRefreshToken', response.refreshToken);
       localStorage.setItem('authUser', JSON.stringify(response.user));
       
       setUser(response.user);
@@ -49,7 +51,13 @@ export const AuthProvider: React.FC<AuthProviderProps> = ({ children }) => {
   };
 
   const logout = (): void => {
+    // 리프레시 토큰 폐기는 실패해도 로그아웃은 진행
+    const refreshToken = localStorage.getItem('authRefreshToken');
+    if (refreshToken) {
+      authService.logout(refreshToken).catch((error) => console.error('로그아웃 알림 실패:', error));
+    }
     localStorage.removeItem('authToken');
+    localStorage.removeItem('authRefreshToken');
     localStorage.removeItem('authUser');
     setUser(null);
   };